@@ -0,0 +1,107 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+
+import dev.abelab.crms.api.controller.RestControllerExceptionAdvice;
+import dev.abelab.crms.ratelimit.ErrorLogRateLimiter;
+import dev.abelab.crms.exception.ErrorMessageCache;
+import dev.abelab.crms.config.MessageSourceConfig;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.NotFoundException;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * エラーレスポンスの処理性能（例外の生成からエラーレスポンスの作成まで）
+ *
+ * スタックトレースを取得する例外との比較のため，コントローラまでの呼び出しの深さを変えて例外を投げる。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    /**
+     * 例外を投げるまでの呼び出しの深さ
+     */
+    @Param({"10", "100"})
+    int depth;
+
+    MessageSource messageSource;
+
+    ErrorMessageCache errorMessageCache;
+
+    RestControllerExceptionAdvice restControllerExceptionAdvice;
+
+    @Setup
+    public void setup() {
+        this.messageSource = new MessageSourceConfig().messageSource("i18n/messages", "UTF-8");
+        this.errorMessageCache = new ErrorMessageCache(this.messageSource);
+        this.restControllerExceptionAdvice =
+            new RestControllerExceptionAdvice(this.errorMessageCache, new ErrorLogRateLimiter(new CrmsProperty()));
+    }
+
+    @Benchmark
+    public Object throwStacklessException() {
+        try {
+            return this.throwAt(this.depth, true);
+        } catch (NotFoundException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    @Benchmark
+    public Object throwStackTraceException() {
+        try {
+            return this.throwAt(this.depth, false);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String resolveMessageFromMessageSource() {
+        return this.messageSource.getMessage(ErrorCode.NOT_FOUND_USER.getMessageKey(), null, Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public String resolveMessageFromCache() {
+        return this.errorMessageCache.getMessage(ErrorCode.NOT_FOUND_USER);
+    }
+
+    @Benchmark
+    public Object handleClientError() {
+        try {
+            return this.throwAt(this.depth, true);
+        } catch (NotFoundException e) {
+            return this.restControllerExceptionAdvice.handleBaseException(e);
+        }
+    }
+
+    /**
+     * 指定の深さで例外を投げる
+     *
+     * @param depth     呼び出しの深さ
+     *
+     * @param stackless スタックトレースを取得しない例外（NotFoundException）を投げるか
+     *
+     * @return 返らない
+     */
+    private Object throwAt(final int depth, final boolean stackless) {
+        if (depth > 0) {
+            return this.throwAt(depth - 1, stackless);
+        }
+        if (stackless) {
+            throw new NotFoundException(ErrorCode.NOT_FOUND_USER);
+        }
+        throw new IllegalStateException(HttpStatus.NOT_FOUND.getReasonPhrase());
+    }
+
+}
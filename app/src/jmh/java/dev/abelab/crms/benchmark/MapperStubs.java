@@ -0,0 +1,56 @@
+package dev.abelab.crms.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * DBに接続せずにリポジトリを組み立てるためのマッパースタブ
+ */
+final class MapperStubs {
+
+    private MapperStubs() {}
+
+    /**
+     * マッパーのスタブを作成
+     *
+     * @param type     マッパーの型
+     *
+     * @param handlers メソッド名と引数から戻り値を返す関数（未登録のメソッドはnull/false/0を返す）
+     *
+     * @return マッパーのスタブ
+     */
+    static <T> T create(final Class<T> type, final Map<String, Function<Object[], Object>> handlers) {
+        final var proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return self == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(self);
+                    default:
+                        return type.getSimpleName() + "Stub";
+                }
+            }
+
+            final var handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.apply(args);
+            }
+
+            final var returnType = method.getReturnType();
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            return null;
+        });
+        return type.cast(proxy);
+    }
+
+}
@@ -0,0 +1,118 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.api.request.ReservationCreateRequest;
+import dev.abelab.crms.api.response.ReservationResponse;
+import dev.abelab.crms.api.response.UserResponse;
+import dev.abelab.crms.converter.UserConverter;
+import dev.abelab.crms.converter.UserConverterImpl;
+import dev.abelab.crms.converter.ReservationConverter;
+import dev.abelab.crms.converter.ReservationConverterImpl;
+
+/**
+ * 1行あたりのマッピング性能（ModelMapper vs MapStruct）
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    ModelMapper modelMapper;
+
+    UserConverter userConverter;
+
+    ReservationConverter reservationConverter;
+
+    User user;
+
+    ReservationWithUserModel reservation;
+
+    ReservationCreateRequest reservationCreateRequest;
+
+    @Setup
+    public void setup() {
+        this.modelMapper = new ModelMapper();
+        this.userConverter = new UserConverterImpl();
+        this.reservationConverter = new ReservationConverterImpl(this.userConverter);
+
+        final var now = new Date();
+        this.user = User.builder() //
+            .id(1) //
+            .firstName("Taro") //
+            .lastName("Yamada") //
+            .email("taro@abelab.dev") //
+            .password("password") //
+            .roleId(2) //
+            .admissionYear(2020) //
+            .createdAt(now) //
+            .updatedAt(now) //
+            .build();
+
+        this.reservation = new ReservationWithUserModel(this.user);
+        this.reservation.setId(1);
+        this.reservation.setUserId(this.user.getId());
+        this.reservation.setStartAt(now);
+        this.reservation.setFinishAt(new Date(now.getTime() + 60 * 60 * 1000));
+        this.reservation.setCreatedAt(now);
+        this.reservation.setUpdatedAt(now);
+
+        this.reservationCreateRequest = ReservationCreateRequest.builder() //
+            .startAt(this.reservation.getStartAt()) //
+            .finishAt(this.reservation.getFinishAt()) //
+            .build();
+
+        // 型マップの初回構築は計測対象外
+        this.modelMapper.map(this.user, UserResponse.class);
+        this.modelMapper.map(this.reservationCreateRequest, Reservation.class);
+    }
+
+    @Benchmark
+    public UserResponse userResponseByModelMapper() {
+        return this.modelMapper.map(this.user, UserResponse.class);
+    }
+
+    @Benchmark
+    public UserResponse userResponseByConverter() {
+        return this.userConverter.toResponse(this.user);
+    }
+
+    /**
+     * 変更前のReservationServiceと同じ変換（予約者のみModelMapper）
+     */
+    @Benchmark
+    public ReservationResponse reservationResponseByModelMapper() {
+        return ReservationResponse.builder() //
+            .id(this.reservation.getId()) //
+            .user(this.modelMapper.map(this.reservation.getUser(), UserResponse.class)) //
+            .startAt(this.reservation.getStartAt()) //
+            .finishAt(this.reservation.getFinishAt()) //
+            .build();
+    }
+
+    @Benchmark
+    public ReservationResponse reservationResponseByConverter() {
+        return this.reservationConverter.toResponse(this.reservation);
+    }
+
+    @Benchmark
+    public Reservation reservationEntityByModelMapper() {
+        return this.modelMapper.map(this.reservationCreateRequest, Reservation.class);
+    }
+
+    @Benchmark
+    public Reservation reservationEntityByConverter() {
+        return this.reservationConverter.toEntity(this.reservationCreateRequest);
+    }
+
+}
@@ -0,0 +1,57 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.abelab.crms.config.PasswordEncoderConfig;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * パスワードの検証時間（アルゴリズム/コストごと）
+ *
+ * ログインの目標レイテンシに合わせて crms.password のパラメータを選ぶために使う。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "f4BabxEr7xA6";
+
+    /**
+     * エンコーダID:コスト（pbkdf2-sha256は反復回数，bcryptはlog rounds）
+     */
+    @Param({"pbkdf2-sha256:100000", "pbkdf2-sha256:185000", "pbkdf2-sha256:310000", "bcrypt:10", "bcrypt:11", "bcrypt:12"})
+    String encoder;
+
+    PasswordEncoder passwordEncoder;
+
+    String encodedPassword;
+
+    @Setup
+    public void setup() {
+        final var id = this.encoder.substring(0, this.encoder.indexOf(':'));
+        final var cost = Integer.parseInt(this.encoder.substring(this.encoder.indexOf(':') + 1));
+
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getPassword().setEncoder(id);
+        if (PasswordEncoderConfig.BCRYPT_ID.equals(id)) {
+            crmsProperty.getPassword().setBcryptStrength(cost);
+        } else {
+            crmsProperty.getPassword().setPbkdf2Iterations(cost);
+        }
+        this.passwordEncoder = new PasswordEncoderConfig(crmsProperty).passwordEncoder();
+        this.encodedPassword = this.passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return this.passwordEncoder.matches(PASSWORD, this.encodedPassword);
+    }
+
+}
@@ -0,0 +1,113 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.db.mapper.ReservationMapper;
+import dev.abelab.crms.db.mapper.ReservationCustomMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesCustomMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesCancellationMapper;
+import dev.abelab.crms.db.mapper.ResourceVersionCustomMapper;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.cache.ReservationAvailabilityIndex;
+import dev.abelab.crms.model.TimeIntervalModel;
+import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * 空き状況の取得性能（1日あたりの予約数，定期予約数ごと）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationAvailabilityIndexBenchmark {
+
+    /**
+     * 予約を入れる日数
+     */
+    private static final int DAYS = 30;
+
+    @Param({"1", "10", "50"})
+    int reservationsPerDay;
+
+    @Param({"0", "20"})
+    int seriesCount;
+
+    ReservationAvailabilityIndex reservationAvailabilityIndex;
+
+    Date date;
+
+    int nextId;
+
+    @Setup
+    public void setup() {
+        final var reservationMapper = MapperStubs.create(ReservationMapper.class, Map.of());
+        final var reservationCustomMapper = MapperStubs.create(ReservationCustomMapper.class, Map.of());
+        final var resourceVersionRegistry = new ResourceVersionRegistry(MapperStubs.create(ResourceVersionCustomMapper.class, Map.of()));
+        final var reservationRepository = new ReservationRepository(reservationMapper, reservationCustomMapper, resourceVersionRegistry);
+        final var reservationSeriesRepository = new ReservationSeriesRepository( //
+            MapperStubs.create(ReservationSeriesMapper.class, Map.of()), //
+            MapperStubs.create(ReservationSeriesCustomMapper.class, Map.of()), //
+            MapperStubs.create(ReservationSeriesCancellationMapper.class, Map.of()), //
+            resourceVersionRegistry);
+        this.reservationAvailabilityIndex = new ReservationAvailabilityIndex(reservationRepository, reservationSeriesRepository);
+
+        // 明日から毎日，09:00から15分ずつずらして1時間の予約を入れる
+        final var tomorrow = DateTimeUtil.getStartOfDay(DateTimeUtil.getTomorrow());
+        for (var day = 0; day < DAYS; day++) {
+            final var date = DateTimeUtil.addDateTime(tomorrow, Calendar.DAY_OF_MONTH, day);
+            for (var i = 0; i < this.reservationsPerDay; i++) {
+                final var startAt = DateTimeUtil.editDateTimeHourAndMinute(date, 9, (i * 15) % (12 * 60));
+                this.reservationAvailabilityIndex.put(Reservation.builder() //
+                    .id(++this.nextId) //
+                    .userId(1) //
+                    .startAt(startAt) //
+                    .finishAt(DateTimeUtil.addDateTime(startAt, Calendar.HOUR_OF_DAY, 1)) //
+                    .build());
+            }
+        }
+
+        // 明日から毎週，21:00から1時間の定期予約を入れる（空き状況の取得時に展開される）
+        for (var i = 0; i < this.seriesCount; i++) {
+            final var startAt = DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.addDateTime(tomorrow, Calendar.DAY_OF_MONTH, i % 7), 21, 0);
+            this.reservationAvailabilityIndex.putSeries(ReservationSeries.builder() //
+                .id(i + 1) //
+                .userId(1) //
+                .startAt(startAt) //
+                .finishAt(DateTimeUtil.addDateTime(startAt, Calendar.HOUR_OF_DAY, 1)) //
+                .untilAt(DateTimeUtil.addDateTime(tomorrow, Calendar.DAY_OF_MONTH, DAYS)) //
+                .build());
+        }
+        this.date = DateTimeUtil.addDateTime(tomorrow, Calendar.DAY_OF_MONTH, DAYS / 2);
+    }
+
+    @Benchmark
+    public List<TimeIntervalModel> getFreeIntervals() {
+        return this.reservationAvailabilityIndex.getFreeIntervals(this.date);
+    }
+
+    @Benchmark
+    public void updateReservation() {
+        // 予約の更新（同じIDの予約を置き換え）
+        final var startAt = DateTimeUtil.editDateTimeHourAndMinute(this.date, 20, 0);
+        this.reservationAvailabilityIndex.put(Reservation.builder() //
+            .id(1) //
+            .userId(1) //
+            .startAt(startAt) //
+            .finishAt(DateTimeUtil.addDateTime(startAt, Calendar.HOUR_OF_DAY, 1)) //
+            .build());
+    }
+
+}
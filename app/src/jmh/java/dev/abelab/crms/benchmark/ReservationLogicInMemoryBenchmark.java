@@ -0,0 +1,122 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.db.mapper.ReservationMapper;
+import dev.abelab.crms.db.mapper.ReservationCustomMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesCustomMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesCancellationMapper;
+import dev.abelab.crms.db.mapper.ResourceVersionCustomMapper;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
+import dev.abelab.crms.logic.ReservationLogic;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * 予約時間のバリデーションロジックの性能（ユーザの予約履歴の件数ごと，DBを使わないインメモリのベンチマーク）
+ *
+ * existsByConditionはメモリ上のTreeMapの範囲検索に置き換えており，DBのインデックスやクエリの性能は計測しない。
+ * 計測するのはロジックが検索条件を組み立てて範囲を絞る分の処理で，比較として旧実装と同じく全予約を走査する重複チェックも計測する。
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationLogicInMemoryBenchmark {
+
+    private static final int USER_ID = 1;
+
+    @Param({"10", "100", "1000", "10000"})
+    int historySize;
+
+    ReservationLogic reservationLogic;
+
+    /**
+     * 予約履歴（開始時刻 -> 予約）
+     */
+    TreeMap<Long, Reservation> history;
+
+    List<Reservation> allReservations;
+
+    Date startAt;
+
+    Date finishAt;
+
+    @Setup
+    public void setup() {
+        // 本日以前の毎日09:00〜11:00に予約履歴がある
+        this.history = new TreeMap<>();
+        final var today = DateTimeUtil.getToday();
+        for (int i = 0; i < this.historySize; i++) {
+            final var day = DateTimeUtil.addDateTime(today, Calendar.DATE, -i);
+            final var reservation = Reservation.builder() //
+                .id(i + 1) //
+                .userId(USER_ID) //
+                .startAt(DateTimeUtil.editDateTimeHourAndMinute(day, 9, 0)) //
+                .finishAt(DateTimeUtil.editDateTimeHourAndMinute(day, 11, 0)) //
+                .build();
+            this.history.put(reservation.getStartAt().getTime(), reservation);
+        }
+        this.allReservations = new ArrayList<>(this.history.values());
+
+        final var reservationCustomMapper = MapperStubs.create(ReservationCustomMapper.class, Map.of( //
+            "existsByCondition", args -> this.existsInIndexRange((ReservationSearchConditionModel) args[0]) //
+        ));
+        final var reservationMapper = MapperStubs.create(ReservationMapper.class, Map.of());
+        final var resourceVersionRegistry = new ResourceVersionRegistry(MapperStubs.create(ResourceVersionCustomMapper.class, Map.of()));
+        // 定期予約はない
+        final var reservationSeriesRepository = new ReservationSeriesRepository( //
+            MapperStubs.create(ReservationSeriesMapper.class, Map.of()), //
+            MapperStubs.create(ReservationSeriesCustomMapper.class, Map.of("selectWithUserByCondition", args -> List.of())), //
+            MapperStubs.create(ReservationSeriesCancellationMapper.class, Map.of()), //
+            resourceVersionRegistry);
+        this.reservationLogic = new ReservationLogic(new ReservationRepository(reservationMapper, reservationCustomMapper, resourceVersionRegistry),
+            reservationSeriesRepository);
+
+        // 明日の12:00〜14:00に予約
+        final var tomorrow = DateTimeUtil.getTomorrow();
+        this.startAt = DateTimeUtil.editDateTimeHourAndMinute(tomorrow, 12, 0);
+        this.finishAt = DateTimeUtil.editDateTimeHourAndMinute(tomorrow, 14, 0);
+    }
+
+    /**
+     * [minStartAt, to)の範囲の予約だけを調べる（インデックスの範囲検索の代わり）
+     */
+    private boolean existsInIndexRange(final ReservationSearchConditionModel condition) {
+        return this.history.subMap(condition.getMinStartAt().getTime(), true, condition.getTo().getTime(), false).values().stream() //
+            .anyMatch(reservation -> reservation.getFinishAt().after(condition.getFrom()));
+    }
+
+    @Benchmark
+    public boolean validateReservationTime() {
+        this.reservationLogic.validateReservationTime(this.startAt, this.finishAt, USER_ID, 0);
+        return true;
+    }
+
+    @Benchmark
+    public boolean existsOverlapping() {
+        return this.reservationLogic.existsOverlapping(USER_ID, this.startAt, this.finishAt, 0);
+    }
+
+    @Benchmark
+    public boolean existsOverlappingByFullScan() {
+        return this.allReservations.stream() //
+            .filter(reservation -> reservation.getUserId() == USER_ID) //
+            .anyMatch(reservation -> reservation.getStartAt().before(this.finishAt) && reservation.getFinishAt().after(this.startAt));
+    }
+
+}
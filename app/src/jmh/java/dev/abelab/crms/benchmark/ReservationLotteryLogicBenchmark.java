@@ -0,0 +1,70 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.logic.ReservationLotteryLogic;
+import dev.abelab.crms.model.LotteryResultModel;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * 予約の抽選性能（1日あたりの予約数ごと）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationLotteryLogicBenchmark {
+
+    /**
+     * 予約するユーザ数
+     */
+    private static final int USER_COUNT = 200;
+
+    @Param({"100", "1000", "10000"})
+    int requestsPerDay;
+
+    ReservationLotteryLogic reservationLotteryLogic;
+
+    List<ReservationWithUserModel> requests;
+
+    @Setup
+    public void setup() {
+        this.reservationLotteryLogic = new ReservationLotteryLogic();
+
+        // 明日の09:00〜22:00に15分単位で30分〜3時間の予約
+        final var openAt = DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.getTomorrow(), 9, 0).getTime();
+        final var random = new Random(0);
+        this.requests = IntStream.range(0, this.requestsPerDay).mapToObj(i -> {
+            final var user = User.builder() //
+                .id(i % USER_COUNT + 1) //
+                .firstName("Taro") //
+                .lastName("Yamada") //
+                .build();
+            final var slots = 2 + random.nextInt(11);
+            final var startSlot = random.nextInt(13 * 4 - slots + 1);
+            final var reservation = new ReservationWithUserModel(user);
+            reservation.setId(i + 1);
+            reservation.setUserId(user.getId());
+            reservation.setStartAt(new Date(openAt + startSlot * 15 * 60 * 1000L));
+            reservation.setFinishAt(new Date(openAt + (startSlot + slots) * 15 * 60 * 1000L));
+            return reservation;
+        }).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public LotteryResultModel draw() {
+        return this.reservationLotteryLogic.draw(this.requests, 0);
+    }
+
+}
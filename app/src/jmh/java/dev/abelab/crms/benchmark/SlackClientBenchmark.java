@@ -0,0 +1,68 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.property.SlackProperty;
+import dev.abelab.crms.client.SlackClient;
+
+/**
+ * Slackメッセージの作成性能（送信は計測対象外）
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlackClientBenchmark {
+
+    @Param({"1", "10", "50"})
+    int reservationCount;
+
+    SlackClient slackClient;
+
+    List<ReservationWithUserModel> reservations;
+
+    @Setup
+    public void setup() {
+        final var slackProperty = new SlackProperty();
+        slackProperty.setEnabled(false);
+        this.slackClient = new SlackClient(slackProperty, new SimpleMeterRegistry());
+
+        final var now = new Date();
+        this.reservations = IntStream.range(0, this.reservationCount).mapToObj(i -> {
+            final var user = User.builder() //
+                .id(i + 1) //
+                .firstName("Taro") //
+                .lastName("Yamada") //
+                .build();
+            final var reservation = new ReservationWithUserModel(user);
+            reservation.setId(i + 1);
+            reservation.setUserId(user.getId());
+            reservation.setStartAt(now);
+            reservation.setFinishAt(new Date(now.getTime() + 60 * 60 * 1000));
+            return reservation;
+        }).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public String buildLotteryResultMessage() {
+        return this.slackClient.buildLotteryResultMessage(this.reservations, List.of());
+    }
+
+    @Benchmark
+    public String buildEditReservationMessage() {
+        return this.slackClient.buildEditReservationMessage(this.reservations.get(0), ReservationActionEnum.CHANGED);
+    }
+
+}
@@ -0,0 +1,103 @@
+package dev.abelab.crms.benchmark;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.mapper.UserMapper;
+import dev.abelab.crms.db.mapper.UserCustomMapper;
+import dev.abelab.crms.db.mapper.ResourceVersionCustomMapper;
+import dev.abelab.crms.config.PasswordEncoderConfig;
+import dev.abelab.crms.cache.AccessTokenCache;
+import dev.abelab.crms.cache.LocalUserCache;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.property.CrmsProperty;
+import dev.abelab.crms.property.JwtProperty;
+import dev.abelab.crms.logic.UserLogic;
+
+/**
+ * 認証まわりの性能（JWTの発行/検証、パスワードの検証）
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserLogicBenchmark {
+
+    private static final String PASSWORD = "f4BabxEr";
+
+    UserLogic userLogic;
+
+    AccessTokenCache accessTokenCache;
+
+    LocalUserCache userCache;
+
+    User user;
+
+    String credentials;
+
+    @Setup
+    public void setup() {
+        final var jwtProperty = new JwtProperty();
+        jwtProperty.setSecret("benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret");
+        jwtProperty.setIssuer("benchmark");
+        this.accessTokenCache = new AccessTokenCache(jwtProperty);
+
+        final var passwordEncoder = new PasswordEncoderConfig(new CrmsProperty()).passwordEncoder();
+        final var now = new Date();
+        this.user = User.builder() //
+            .id(1) //
+            .firstName("Taro") //
+            .lastName("Yamada") //
+            .email("taro@abelab.dev") //
+            .password(passwordEncoder.encode(PASSWORD)) //
+            .roleId(2) //
+            .admissionYear(2020) //
+            .createdAt(now) //
+            .updatedAt(now) //
+            .build();
+
+        final var userMapper = MapperStubs.create(UserMapper.class, Map.of( //
+            "selectByPrimaryKey", args -> this.user //
+        ));
+        final var userCustomMapper = MapperStubs.create(UserCustomMapper.class, Map.of());
+        this.userCache = new LocalUserCache(new CrmsProperty());
+        final var userRepository = new UserRepository(userMapper, userCustomMapper, new ResourceVersionRegistry(MapperStubs.create(ResourceVersionCustomMapper.class, Map.of())), this.userCache);
+        this.userLogic = new UserLogic(userRepository, jwtProperty, passwordEncoder, this.accessTokenCache);
+
+        this.credentials = "Bearer " + this.userLogic.generateJwt(this.user);
+    }
+
+    @Benchmark
+    public String generateJwt() {
+        return this.userLogic.generateJwt(this.user);
+    }
+
+    @Benchmark
+    public User getLoginUserCached() {
+        return this.userLogic.getLoginUser(this.credentials);
+    }
+
+    @Benchmark
+    public User getLoginUserUncached() {
+        // 署名の検証とユーザの取得を毎回行う
+        this.accessTokenCache.invalidateAll();
+        this.userCache.evict(this.user.getId());
+        return this.userLogic.getLoginUser(this.credentials);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean verifyPassword() {
+        this.userLogic.verifyPassword(this.user, PASSWORD);
+        return true;
+    }
+
+}
@@ -1,9 +1,7 @@
 package dev.abelab.crms.api.controller;
 
-import java.util.Locale;
-
-import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.BaseException;
 import dev.abelab.crms.api.response.ErrorResponse;
+import dev.abelab.crms.ratelimit.ErrorLogRateLimiter;
+import dev.abelab.crms.exception.ErrorMessageCache;
 
 /**
  * Rest controller exception advice
@@ -24,19 +24,28 @@ import dev.abelab.crms.api.response.ErrorResponse;
 @RequiredArgsConstructor
 public class RestControllerExceptionAdvice extends ResponseEntityExceptionHandler {
 
-    private final MessageSource messageSource;
+    private final ErrorMessageCache errorMessageCache;
+
+    private final ErrorLogRateLimiter errorLogRateLimiter;
 
     /**
-     * エラーメッセージを取得
+     * クライアントエラーのログを出力（ErrorCodeごとに出力回数を制限）
      *
-     * @param exception exception
+     * @param errorCode エラーコード
      *
-     * @return エラーメッセージ
+     * @param message   エラーメッセージ
      */
-    private String getErrorMessage(final BaseException exception) {
-        final var messageKey = exception.getErrorCode().getMessageKey();
-        final var args = exception.getArgs();
-        return this.messageSource.getMessage(messageKey, args, Locale.ENGLISH);
+    private void logClientError(final ErrorCode errorCode, final String message) {
+        final var suppressed = this.errorLogRateLimiter.tryAcquire(errorCode);
+        if (suppressed == ErrorLogRateLimiter.SUPPRESSED) {
+            return;
+        }
+
+        if (suppressed > 0) {
+            log.warn("{}: {} ({} similar errors suppressed)", errorCode.getCode(), message, suppressed);
+        } else {
+            log.warn("{}: {}", errorCode.getCode(), message);
+        }
     }
 
     /**
@@ -49,10 +58,10 @@ public class RestControllerExceptionAdvice extends ResponseEntityExceptionHandle
     @RequestMapping("/api/**")
     public ResponseEntity<ErrorResponse> handleApiNotFoundException() {
         final var errorCode = ErrorCode.NOT_FOUND_API;
-        final var message = messageSource.getMessage(errorCode.getMessageKey(), null, Locale.ENGLISH);
+        final var message = this.errorMessageCache.getMessage(errorCode);
         final var errorResponse = ErrorResponse.builder().message(message).code(errorCode.getCode()).build();
 
-        log.warn(message);
+        this.logClientError(errorCode, message);
 
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
@@ -67,12 +76,12 @@ public class RestControllerExceptionAdvice extends ResponseEntityExceptionHandle
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(final Exception exception) {
         final var errorCode = ErrorCode.UNEXPECTED_ERROR;
-        final var message = messageSource.getMessage(errorCode.getMessageKey(), null, Locale.ENGLISH);
+        final var message = this.errorMessageCache.getMessage(errorCode);
         final var errorResponse = ErrorResponse.builder().message(message).code(errorCode.getCode()).build();
 
         log.error(exception.getMessage(), exception);
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
     }
 
     /**
@@ -84,17 +93,18 @@ public class RestControllerExceptionAdvice extends ResponseEntityExceptionHandle
      */
     @ExceptionHandler(BaseException.class)
     public ResponseEntity<ErrorResponse> handleBaseException(final BaseException exception) {
-        final var message = this.getErrorMessage(exception);
+        final var message = this.errorMessageCache.getMessage(exception);
         final var errorCode = exception.getErrorCode();
         final var errorResponse = ErrorResponse.builder().message(message).code(errorCode.getCode()).build();
 
         if (exception.getHttpStatus().is4xxClientError()) {
-            log.warn(String.format("%d: %s", errorCode.getCode(), message));
+            this.logClientError(errorCode, message);
         } else if (exception.getHttpStatus().is5xxServerError()) {
-            log.error(String.format("%d: %s", errorCode.getCode(), message));
+            log.error("{}: {}", errorCode.getCode(), message);
         }
 
-        return new ResponseEntity<>(errorResponse, exception.getHttpStatus());
+        // NDJSONなどを要求された場合もエラーはJSONで返す
+        return ResponseEntity.status(exception.getHttpStatus()).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
     }
 
 }
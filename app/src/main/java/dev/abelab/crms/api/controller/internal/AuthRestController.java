@@ -1,14 +1,18 @@
 package dev.abelab.crms.api.controller.internal;
 
+import javax.servlet.http.HttpServletRequest;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.validation.annotation.Validated;
 
 import io.swagger.annotations.*;
+import springfox.documentation.annotations.ApiIgnore;
 import lombok.RequiredArgsConstructor;
 import dev.abelab.crms.api.request.LoginRequest;
 import dev.abelab.crms.api.response.AccessTokenResponse;
+import dev.abelab.crms.ratelimit.ClientAddressResolver;
 import dev.abelab.crms.service.AuthService;
 
 @Api(tags = "Auth")
@@ -20,27 +24,34 @@ public class AuthRestController {
 
     private final AuthService authService;
 
+    private final ClientAddressResolver clientAddressResolver;
+
     /**
      * ログイン処理API
      *
      * @param requestBody ログイン情報
      *
+     * @param request     HTTPリクエスト
+     *
      * @return アクセストークンレスポンス
      */
     @ApiOperation(value = "ログイン", //
-        notes = "ユーザのログイン処理を行う。" //
+        notes = "ユーザのログイン処理を行う。メールアドレス/IPアドレスごとの試行回数の上限を超えた場合，" //
+            + "またはログインが混雑している場合は429を返す。" //
     )
     @ApiResponses(value = { //
             @ApiResponse(code = 200, message = "ログイン成功"), //
             @ApiResponse(code = 401, message = "パスワードが間違っている"), //
             @ApiResponse(code = 404, message = "ユーザが存在しない"), //
+            @ApiResponse(code = 429, message = "試行回数の上限を超えた/ログインが混雑している"), //
     })
     @PostMapping(value = "/login")
     @ResponseStatus(HttpStatus.OK)
     public AccessTokenResponse login( //
-        @Validated @ApiParam(name = "body", required = true, value = "ログイン情報") @RequestBody final LoginRequest requestBody //
+        @Validated @ApiParam(name = "body", required = true, value = "ログイン情報") @RequestBody final LoginRequest requestBody, //
+        @ApiIgnore final HttpServletRequest request //
     ) {
-        return this.authService.login(requestBody);
+        return this.authService.login(requestBody, this.clientAddressResolver.resolve(request));
     }
 
 }
@@ -0,0 +1,56 @@
+package dev.abelab.crms.api.controller.internal;
+
+import java.util.Date;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.validation.annotation.Validated;
+
+import io.swagger.annotations.*;
+import lombok.*;
+import dev.abelab.crms.api.response.AvailabilityResponse;
+import dev.abelab.crms.service.ReservationService;
+
+@Api(tags = "Availability")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(path = "/api/availability", produces = MediaType.APPLICATION_JSON_VALUE)
+@Validated
+public class AvailabilityRestController {
+
+    /**
+     * クエリパラメータの日付フォーマット
+     */
+    private static final String DATE_FORMAT = "yyyy-MM-dd";
+
+    private final ReservationService reservationService;
+
+    /**
+     * 空き状況取得API
+     *
+     * @param date 日付
+     *
+     * @return 空き状況レスポンス
+     */
+    @ApiOperation( //
+        value = "空き状況の取得", //
+        notes = "予約可能時間帯（09:00〜22:00）のうち，予約のない時間帯を15分単位で取得する。" //
+    )
+    @ApiResponses( //
+        value = { //
+                @ApiResponse(code = 200, message = "取得成功", response = AvailabilityResponse.class), //
+                @ApiResponse(code = 400, message = "過去の日付"), //
+                @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+        })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public AvailabilityResponse getAvailability( //
+        @ApiParam(name = "date", required = true, value = "日付") //
+        @RequestParam(name = "date") @DateTimeFormat(pattern = DATE_FORMAT) final Date date //
+    ) {
+        return this.reservationService.getAvailability(date);
+    }
+
+}
@@ -23,13 +23,14 @@ public class BatchRestController {
      */
     @ApiOperation( //
         value = "予約の抽選", //
-        notes = "予約を抽選する。" //
+        notes = "翌日の予約のうち時間が重なるものを抽選し，落選した予約を削除する。" //
+            + "乱数のシードは翌日の日付から決めるため，同じ日は何度実行しても同じ結果になる。" //
     )
     @ApiResponses(value = { //
             @ApiResponse(code = 200, message = "成功"), //
     } //
     )
-    @GetMapping("/reservations/lottery")
+    @PostMapping("/reservations/lottery")
     @ResponseStatus(HttpStatus.OK)
     public void lotteryReservations() {
         this.reservationService.lotteryReservations();
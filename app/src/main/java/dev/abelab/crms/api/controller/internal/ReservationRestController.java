@@ -1,17 +1,30 @@
 package dev.abelab.crms.api.controller.internal;
 
+import java.io.IOException;
+import java.util.Date;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.annotations.*;
+import springfox.documentation.annotations.ApiIgnore;
 import lombok.*;
 import dev.abelab.crms.api.request.ReservationCreateRequest;
 import dev.abelab.crms.api.request.ReservationUpdateRequest;
+import dev.abelab.crms.api.request.ReservationBulkRequest;
+import dev.abelab.crms.api.response.ReservationResponse;
 import dev.abelab.crms.api.response.ReservationsResponse;
+import dev.abelab.crms.api.response.ReservationDeltaResponse;
+import dev.abelab.crms.api.response.ReservationBulkResponse;
 import dev.abelab.crms.service.ReservationService;
+import dev.abelab.crms.util.ConditionalRequestUtil;
 
 @Api(tags = "Reservation")
 @RequiredArgsConstructor
@@ -20,36 +33,128 @@ import dev.abelab.crms.service.ReservationService;
 @Validated
 public class ReservationRestController {
 
+    /**
+     * クエリパラメータの日時フォーマット
+     */
+    private static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
+
     private final ReservationService reservationService;
 
     /**
      * 予約一覧取得API
      *
-     * @param credentials 資格情報
+     * @param from       期間の開始日時
+     *
+     * @param to         期間の終了日時
+     *
+     * @param userId     ユーザID
+     *
+     * @param cursor     このカーソルの次から取得する
+     *
+     * @param limit      取得件数
+     *
+     * @param webRequest リクエスト
      *
      * @return 予約一覧レスポンス
      */
     @ApiOperation( //
         value = "予約一覧の取得", //
-        notes = "予約一覧を取得する。" //
+        notes = "予約一覧を開始時刻順に取得する。期間を指定した場合は，期間と重複する予約のみを取得する。" //
+            + "limitを指定した場合は，レスポンスのnextCursorをcursorに指定して次ページを取得する。" //
+            + "定期予約の回（seriesIdあり）も含め，同時刻は単発の予約の後に並べる。ページングした場合も回は展開して含める。" //
+            + "If-None-MatchのETagが一致する場合は304を返す。" //
     )
     @ApiResponses( //
         value = { //
                 @ApiResponse(code = 200, message = "取得成功", response = ReservationsResponse.class), //
+                @ApiResponse(code = 304, message = "前回から変更なし"), //
+                @ApiResponse(code = 400, message = "期間・取得件数・カーソルが無効"), //
                 @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
         })
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
     public ReservationsResponse getReservations( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials //
+        @ApiParam(name = "from", required = false, value = "期間の開始日時") //
+        @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = DATE_TIME_FORMAT) final Date from, //
+        @ApiParam(name = "to", required = false, value = "期間の終了日時") //
+        @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = DATE_TIME_FORMAT) final Date to, //
+        @ApiParam(name = "user_id", required = false, value = "ユーザID") //
+        @RequestParam(name = "user_id", required = false) final Integer userId, //
+        @ApiParam(name = "cursor", required = false, value = "このカーソルの次から取得する") //
+        @RequestParam(name = "cursor", required = false) final String cursor, //
+        @ApiParam(name = "limit", required = false, value = "取得件数") //
+        @RequestParam(name = "limit", required = false) final Integer limit, //
+        @ApiIgnore final ServletWebRequest webRequest //
     ) {
-        return this.reservationService.getReservations(credentials);
+        // 変更がなければ予約を取得しない
+        if (ConditionalRequestUtil.checkNotModified(webRequest, this.reservationService.getReservationsETag())) {
+            return null;
+        }
+        return this.reservationService.getReservations(from, to, userId, cursor, limit);
     }
 
     /**
-     * 予約作成API
+     * 予約一覧エクスポートAPI
+     *
+     * @param from     期間の開始日時
+     *
+     * @param to       期間の終了日時
      *
-     * @param credentials 資格情報
+     * @param userId   ユーザID
+     *
+     * @param response HTTPレスポンス
+     */
+    @ApiOperation( //
+        value = "予約一覧のエクスポート", //
+        notes = "予約一覧を開始時刻順に1行1件のNDJSON形式で出力する。定期予約の回（seriesIdあり）も含める。" //
+    )
+    @ApiResponses( //
+        value = { //
+                @ApiResponse(code = 200, message = "取得成功", response = ReservationResponse.class), //
+                @ApiResponse(code = 400, message = "期間が無効"), //
+                @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+        })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportReservations( //
+        @ApiParam(name = "from", required = false, value = "期間の開始日時") //
+        @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = DATE_TIME_FORMAT) final Date from, //
+        @ApiParam(name = "to", required = false, value = "期間の終了日時") //
+        @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = DATE_TIME_FORMAT) final Date to, //
+        @ApiParam(name = "user_id", required = false, value = "ユーザID") //
+        @RequestParam(name = "user_id", required = false) final Integer userId, //
+        final HttpServletResponse response //
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        this.reservationService.exportReservations(from, to, userId, response.getOutputStream());
+    }
+
+    /**
+     * 予約変更フィードAPI
+     *
+     * @param lastEventId 最後に受信した変更シーケンス
+     *
+     * @return SSE Emitter
+     */
+    @ApiOperation( //
+        value = "予約変更フィードの購読", //
+        notes = "予約の作成/更新/削除をServer-Sent Eventsで配信する。changeイベントのIDは変更シーケンス。" //
+            + "Last-Event-IDを指定して再接続すると，取りこぼした変更から再開する。" //
+            + "再開できない場合はresetイベントを送信するので，予約一覧を取得し直す。" //
+    )
+    @ApiResponses( //
+        value = { //
+                @ApiResponse(code = 200, message = "購読成功", response = ReservationDeltaResponse.class), //
+                @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+        })
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getReservationChanges( //
+        @ApiParam(name = "Last-Event-ID", required = false, value = "最後に受信した変更シーケンス") //
+        @RequestHeader(name = "Last-Event-ID", required = false) final Long lastEventId //
+    ) {
+        return this.reservationService.subscribeReservationChanges(lastEventId);
+    }
+
+    /**
+     * 予約作成API
      *
      * @param requestBody 予約作成リクエスト
      */
@@ -68,16 +173,40 @@ public class ReservationRestController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public void createReservation( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @Validated @ApiParam(name = "body", required = true, value = "新規予約情報") @RequestBody final ReservationCreateRequest requestBody //
     ) {
-        this.reservationService.createReservation(credentials, requestBody);
+        this.reservationService.createReservation(requestBody);
     }
 
     /**
-     * 予約更新API
+     * 予約一括操作API
+     *
+     * @param requestBody 予約一括操作リクエスト
      *
-     * @param credentials 資格情報
+     * @return 予約一括操作レスポンス
+     */
+    @ApiOperation( //
+        value = "予約の一括操作", //
+        notes = "予約の作成/更新/削除をまとめて行う。項目は先頭から順に適用し，一括操作内の予約との重複もチェックする。" //
+            + "失敗した項目は適用せず，項目ごとの結果（HTTPステータスとエラー情報）を返す。" //
+    )
+    @ApiResponses( //
+        value = { //
+                @ApiResponse(code = 200, message = "処理成功（項目ごとの結果はレスポンスを参照）", response = ReservationBulkResponse.class), //
+                @ApiResponse(code = 400, message = "項目数が無効"), //
+                @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+        } //
+    )
+    @PostMapping(value = "/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    public ReservationBulkResponse bulkReservations( //
+        @Validated @ApiParam(name = "body", required = true, value = "予約一括操作") @RequestBody final ReservationBulkRequest requestBody //
+    ) {
+        return this.reservationService.bulkReservations(requestBody);
+    }
+
+    /**
+     * 予約更新API
      *
      * @param requestBody 予約更新リクエスト
      */
@@ -97,18 +226,15 @@ public class ReservationRestController {
     @PutMapping(value = "/{reservation_id}")
     @ResponseStatus(HttpStatus.OK)
     public void updateReservation( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @ApiParam(name = "reservation_id", required = true, value = "予約ID") @PathVariable("reservation_id") final int reservationId, //
         @Validated @ApiParam(name = "body", required = true, value = "予約更新情報") @RequestBody final ReservationUpdateRequest requestBody //
     ) {
-        this.reservationService.updateReservation(credentials, reservationId, requestBody);
+        this.reservationService.updateReservation(reservationId, requestBody);
     }
 
     /**
      * 予約削除API
      *
-     * @param credentials   資格情報
-     *
      * @param reservationId 予約ID
      */
     @ApiOperation( //
@@ -125,10 +251,9 @@ public class ReservationRestController {
     @DeleteMapping(value = "/{reservation_id}")
     @ResponseStatus(HttpStatus.OK)
     public void deleteReservation( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @ApiParam(name = "reservation_id", required = true, value = "予約ID") @PathVariable("reservation_id") final int reservationId //
     ) {
-        this.reservationService.deleteReservation(credentials, reservationId);
+        this.reservationService.deleteReservation(reservationId);
     }
 
 }
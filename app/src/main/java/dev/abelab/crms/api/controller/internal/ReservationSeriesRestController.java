@@ -0,0 +1,103 @@
+package dev.abelab.crms.api.controller.internal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.validation.annotation.Validated;
+
+import io.swagger.annotations.*;
+import lombok.*;
+import dev.abelab.crms.api.request.ReservationSeriesCreateRequest;
+import dev.abelab.crms.api.request.ReservationSeriesCancelRequest;
+import dev.abelab.crms.service.ReservationSeriesService;
+
+@Api(tags = "Reservation Series")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(path = "/api/reservation-series", produces = MediaType.APPLICATION_JSON_VALUE)
+@Validated
+public class ReservationSeriesRestController {
+
+    private final ReservationSeriesService reservationSeriesService;
+
+    /**
+     * 定期予約作成API
+     *
+     * @param requestBody 定期予約作成リクエスト
+     */
+    @ApiOperation( //
+        value = "定期予約の作成", //
+        notes = "初回から最終日まで，毎週同じ曜日・時刻の予約を作成する。" //
+            + "回は保存せず，予約一覧の取得時に期間内の分だけを展開する（seriesIdが定期予約ID）。" //
+    )
+    @ApiResponses( //
+        value = { //
+                @ApiResponse(code = 201, message = "作成成功"), //
+                @ApiResponse(code = 400, message = "指定時刻・期間が無効"), //
+                @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+                @ApiResponse(code = 409, message = "いずれかの回の時刻の予約が既に存在している"), //
+        } //
+    )
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public void createReservationSeries( //
+        @Validated @ApiParam(name = "body", required = true, value = "新規定期予約情報") @RequestBody final ReservationSeriesCreateRequest requestBody //
+    ) {
+        this.reservationSeriesService.createReservationSeries(requestBody);
+    }
+
+    /**
+     * 定期予約削除API
+     *
+     * @param seriesId 定期予約ID
+     */
+    @ApiOperation( //
+        value = "定期予約の削除", //
+        notes = "定期予約を削除する。開始済みの場合は，過去の回を残して終了する。" //
+    )
+    @ApiResponses( //
+        value = { //
+                @ApiResponse(code = 200, message = "削除成功"), //
+                @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+                @ApiResponse(code = 403, message = "ユーザに権限がない"), //
+                @ApiResponse(code = 404, message = "定期予約が存在しない"), //
+        } //
+    )
+    @DeleteMapping(value = "/{series_id}")
+    @ResponseStatus(HttpStatus.OK)
+    public void deleteReservationSeries( //
+        @ApiParam(name = "series_id", required = true, value = "定期予約ID") @PathVariable("series_id") final int seriesId //
+    ) {
+        this.reservationSeriesService.deleteReservationSeries(seriesId);
+    }
+
+    /**
+     * 定期予約の回のキャンセルAPI
+     *
+     * @param seriesId    定期予約ID
+     *
+     * @param requestBody 定期予約の回のキャンセルリクエスト
+     */
+    @ApiOperation( //
+        value = "定期予約の回のキャンセル", //
+        notes = "定期予約の1回分をキャンセルする。" //
+    )
+    @ApiResponses( //
+        value = { //
+                @ApiResponse(code = 201, message = "キャンセル成功"), //
+                @ApiResponse(code = 400, message = "過去の回"), //
+                @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+                @ApiResponse(code = 403, message = "ユーザに権限がない"), //
+                @ApiResponse(code = 404, message = "定期予約・回が存在しない"), //
+        } //
+    )
+    @PostMapping(value = "/{series_id}/cancellations")
+    @ResponseStatus(HttpStatus.CREATED)
+    public void cancelReservationOccurrence( //
+        @ApiParam(name = "series_id", required = true, value = "定期予約ID") @PathVariable("series_id") final int seriesId, //
+        @Validated @ApiParam(name = "body", required = true, value = "キャンセルする回") @RequestBody final ReservationSeriesCancelRequest requestBody //
+    ) {
+        this.reservationSeriesService.cancelReservationOccurrence(seriesId, requestBody);
+    }
+
+}
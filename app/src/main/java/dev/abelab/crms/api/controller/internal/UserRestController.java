@@ -1,12 +1,13 @@
 package dev.abelab.crms.api.controller.internal;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import io.swagger.annotations.*;
+import springfox.documentation.annotations.ApiIgnore;
 import lombok.*;
 import dev.abelab.crms.api.request.UserCreateRequest;
 import dev.abelab.crms.api.request.UserUpdateRequest;
@@ -15,6 +16,7 @@ import dev.abelab.crms.api.request.LoginUserPasswordUpdateRequest;
 import dev.abelab.crms.api.response.UsersResponse;
 import dev.abelab.crms.api.response.UserResponse;
 import dev.abelab.crms.service.UserService;
+import dev.abelab.crms.util.ConditionalRequestUtil;
 
 @Api(tags = "User")
 @RequiredArgsConstructor
@@ -28,32 +30,32 @@ public class UserRestController {
     /**
      * ユーザ一覧取得API
      *
-     * @param credentials 資格情報
+     * @param webRequest リクエスト
      *
      * @return ユーザ一覧レスポンス
      */
     @ApiOperation( //
         value = "ユーザ一覧の取得", //
-        notes = "ユーザ一覧を取得する。" //
+        notes = "ユーザ一覧を取得する。If-None-MatchのETagが一致する場合は304を返す。" //
     )
     @ApiResponses( //
         value = { //
                 @ApiResponse(code = 200, message = "取得成功", response = UsersResponse.class), //
+                @ApiResponse(code = 304, message = "前回から変更なし"), //
                 @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
         })
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public UsersResponse getUsers( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials //
-    ) {
-        return this.userService.getUsers(credentials);
+    public UsersResponse getUsers(@ApiIgnore final ServletWebRequest webRequest) {
+        // 変更がなければユーザを取得しない
+        if (ConditionalRequestUtil.checkNotModified(webRequest, this.userService.getUsersETag())) {
+            return null;
+        }
+        return this.userService.getUsers();
     }
 
     /**
      * ユーザ作成API
      *
-     * @param credentials 資格情報
-     *
      * @param requestBody ユーザ作成リクエスト
      */
     @ApiOperation( //
@@ -71,17 +73,14 @@ public class UserRestController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public void createUser( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @Validated @ApiParam(name = "body", required = true, value = "新規ユーザ情報") @RequestBody final UserCreateRequest requestBody //
     ) {
-        this.userService.createUser(requestBody, credentials);
+        this.userService.createUser(requestBody);
     }
 
     /**
      * ユーザ更新API
      *
-     * @param credentials 資格情報
-     *
      * @param userId      ユーザID
      *
      * @param requestBody ユーザ更新リクエスト
@@ -96,23 +95,21 @@ public class UserRestController {
                 @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
                 @ApiResponse(code = 403, message = "ユーザに権限がない"), //
                 @ApiResponse(code = 404, message = "ユーザが存在しない"), //
+                @ApiResponse(code = 409, message = "メールアドレスが既に使われている"), //
         } //
     )
     @PutMapping(value = "/{user_id}")
     @ResponseStatus(HttpStatus.OK)
     public void updateUser( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @ApiParam(name = "user_id", required = true, value = "ユーザID") @PathVariable("user_id") final int userId, //
         @Validated @ApiParam(name = "body", required = true, value = "ユーザ更新情報") @RequestBody final UserUpdateRequest requestBody //
     ) {
-        this.userService.updateUser(userId, requestBody, credentials);
+        this.userService.updateUser(userId, requestBody);
     }
 
     /**
      * ユーザ削除API
      *
-     * @param credentials 資格情報
-     *
      * @param userId      ユーザID
      */
     @ApiOperation( //
@@ -130,17 +127,14 @@ public class UserRestController {
     @DeleteMapping(value = "/{user_id}")
     @ResponseStatus(HttpStatus.OK)
     public void deleteUser( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @ApiParam(name = "user_id", required = true, value = "ユーザID") @PathVariable("user_id") final int userId //
     ) {
-        this.userService.deleteUser(userId, credentials);
+        this.userService.deleteUser(userId);
     }
 
     /**
      * ログインユーザ詳細取得API
      *
-     * @param credentials 資格情報
-     *
      * @return ユーザ詳細レスポンス
      */
     @ApiOperation( //
@@ -155,17 +149,13 @@ public class UserRestController {
         })
     @GetMapping(value = "/me")
     @ResponseStatus(HttpStatus.OK)
-    public UserResponse getLoginUser( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials //
-    ) {
-        return this.userService.getLoginUser(credentials);
+    public UserResponse getLoginUser() {
+        return this.userService.getLoginUser();
     }
 
     /**
      * ログインユーザ更新API
      *
-     * @param credentials 資格情報
-     *
      * @param requestBody ログインユーザ更新リクエスト
      */
     @ApiOperation( //
@@ -176,22 +166,20 @@ public class UserRestController {
         value = { //
                 @ApiResponse(code = 200, message = "更新成功"), //
                 @ApiResponse(code = 401, message = "ユーザがログインしていない"), //
+                @ApiResponse(code = 409, message = "メールアドレスが既に使われている"), //
         } //
     )
     @PutMapping(value = "/me")
     @ResponseStatus(HttpStatus.OK)
     public void updateLoginUser( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @Validated @ApiParam(name = "body", required = true, value = "ユーザ更新情報") @RequestBody final LoginUserUpdateRequest requestBody //
     ) {
-        this.userService.updateLoginUser(requestBody, credentials);
+        this.userService.updateLoginUser(requestBody);
     }
 
     /**
      * ログインユーザのパスワード更新API
      *
-     * @param credentials 資格情報
-     *
      * @param requestBody ログインユーザのパスワード更新リクエスト
      */
     @ApiOperation( //
@@ -207,11 +195,10 @@ public class UserRestController {
     @PutMapping(value = "/me/password")
     @ResponseStatus(HttpStatus.OK)
     public void updateLoginUserPassword( //
-        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = true) final String credentials, //
         @Validated @ApiParam(name = "body", required = true, value = "パスワード更新情報")
         @RequestBody final LoginUserPasswordUpdateRequest requestBody //
     ) {
-        this.userService.updateLoginPasswordUser(requestBody, credentials);
+        this.userService.updateLoginPasswordUser(requestBody);
     }
 
 }
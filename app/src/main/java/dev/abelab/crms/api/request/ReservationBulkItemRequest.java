@@ -0,0 +1,40 @@
+package dev.abelab.crms.api.request;
+
+import java.util.Date;
+
+import javax.validation.constraints.NotNull;
+
+import lombok.*;
+import dev.abelab.crms.enums.ReservationActionEnum;
+
+/**
+ * 予約一括操作の項目リクエスト
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationBulkItemRequest {
+
+    /**
+     * 予約アクション（REGISTERED/CHANGED/DELETED）
+     */
+    @NotNull
+    ReservationActionEnum action;
+
+    /**
+     * 予約ID（CHANGED/DELETEDのみ）
+     */
+    Integer id;
+
+    /**
+     * 開始時刻（REGISTERED/CHANGEDのみ）
+     */
+    Date startAt;
+
+    /**
+     * 終了時刻（REGISTERED/CHANGEDのみ）
+     */
+    Date finishAt;
+
+}
@@ -0,0 +1,33 @@
+package dev.abelab.crms.api.request;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+import lombok.*;
+
+/**
+ * 予約一括操作リクエスト
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationBulkRequest {
+
+    /**
+     * 一度に操作可能な最大件数
+     */
+    public static final int MAX_ITEMS = 500;
+
+    /**
+     * 操作リスト（先頭から順に適用）
+     */
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    List<ReservationBulkItemRequest> items;
+
+}
@@ -0,0 +1,24 @@
+package dev.abelab.crms.api.request;
+
+import java.util.Date;
+
+import javax.validation.constraints.NotNull;
+
+import lombok.*;
+
+/**
+ * 定期予約の回のキャンセルリクエスト
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationSeriesCancelRequest {
+
+    /**
+     * キャンセルする回の開始時刻
+     */
+    @NotNull
+    Date startAt;
+
+}
@@ -0,0 +1,36 @@
+package dev.abelab.crms.api.request;
+
+import java.util.Date;
+
+import javax.validation.constraints.NotNull;
+
+import lombok.*;
+
+/**
+ * 定期予約作成リクエスト
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationSeriesCreateRequest {
+
+    /**
+     * 初回の開始時刻（毎週同じ曜日・時刻に予約する）
+     */
+    @NotNull
+    Date startAt;
+
+    /**
+     * 初回の終了時刻
+     */
+    @NotNull
+    Date finishAt;
+
+    /**
+     * 最終日（この日時までに開始する回を予約する）
+     */
+    @NotNull
+    Date untilAt;
+
+}
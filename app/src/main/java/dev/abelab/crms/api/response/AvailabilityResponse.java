@@ -0,0 +1,21 @@
+package dev.abelab.crms.api.response;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * 空き状況レスポンス
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityResponse {
+
+    /**
+     * 予約のない時間帯（開始時刻順）
+     */
+    List<TimeIntervalResponse> freeIntervals;
+
+}
@@ -0,0 +1,34 @@
+package dev.abelab.crms.api.response;
+
+import lombok.*;
+
+/**
+ * 予約一括操作の項目レスポンス
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationBulkItemResponse {
+
+    /**
+     * リクエストの項目番号
+     */
+    int index;
+
+    /**
+     * 予約ID
+     */
+    Integer id;
+
+    /**
+     * HTTPステータス
+     */
+    int status;
+
+    /**
+     * エラー情報（null: 成功）
+     */
+    ErrorResponse error;
+
+}
@@ -0,0 +1,21 @@
+package dev.abelab.crms.api.response;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * 予約一括操作レスポンス
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationBulkResponse {
+
+    /**
+     * 項目ごとの結果（リクエストの順）
+     */
+    List<ReservationBulkItemResponse> results;
+
+}
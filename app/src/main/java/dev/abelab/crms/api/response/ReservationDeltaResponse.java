@@ -0,0 +1,52 @@
+package dev.abelab.crms.api.response;
+
+import java.util.Date;
+
+import lombok.*;
+import dev.abelab.crms.enums.ReservationActionEnum;
+
+/**
+ * 予約の差分レスポンス
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationDeltaResponse {
+
+    /**
+     * 予約アクション
+     */
+    ReservationActionEnum action;
+
+    /**
+     * 予約ID（null: 定期予約，定期予約の回）
+     */
+    Integer id;
+
+    /**
+     * 定期予約ID（null: 単発の予約）
+     */
+    Integer seriesId;
+
+    /**
+     * 予約者ID
+     */
+    Integer userId;
+
+    /**
+     * 開始時刻
+     */
+    Date startAt;
+
+    /**
+     * 終了時刻
+     */
+    Date finishAt;
+
+    /**
+     * 定期予約の最終日（定期予約の変更のみ）
+     */
+    Date untilAt;
+
+}
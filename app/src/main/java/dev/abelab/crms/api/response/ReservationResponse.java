@@ -18,6 +18,11 @@ public class ReservationResponse {
      */
     Integer id;
 
+    /**
+     * 定期予約ID（null: 単発の予約）
+     */
+    Integer seriesId;
+
     /**
      * 予約者
      */
@@ -18,4 +18,9 @@ public class ReservationsResponse {
      */
     List<ReservationResponse> reservations;
 
+    /**
+     * 次ページのカーソル（null: 次ページなし）
+     */
+    String nextCursor;
+
 }
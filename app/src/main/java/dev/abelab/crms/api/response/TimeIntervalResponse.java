@@ -0,0 +1,26 @@
+package dev.abelab.crms.api.response;
+
+import java.util.Date;
+
+import lombok.*;
+
+/**
+ * 時間帯レスポンス
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeIntervalResponse {
+
+    /**
+     * 開始時刻
+     */
+    Date startAt;
+
+    /**
+     * 終了時刻
+     */
+    Date finishAt;
+
+}
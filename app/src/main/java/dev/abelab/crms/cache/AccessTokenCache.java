@@ -0,0 +1,289 @@
+package dev.abelab.crms.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.property.JwtProperty;
+
+/**
+ * 検証済みアクセストークンのキャッシュ
+ *
+ * トークンはダイジェストをキーとして保持する。ダイジェストは呼び出し側で1度だけ計算し，ロックの外で求める。
+ * 最大エントリ数を超えた場合は，最も長く使われていないトークンを破棄する（LRU）。期限切れのトークンは参照時に破棄する。
+ */
+@Component
+public class AccessTokenCache {
+
+    private final JwtProperty jwtProperty;
+
+    /**
+     * トークンのダイジェスト -> 検証済みトークン（LRU）
+     */
+    private final Map<String, VerifiedToken> tokens;
+
+    /**
+     * 破棄した回数（読み込み中に破棄されたユーザを登録しないために使う）
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong userHitCount = new AtomicLong();
+
+    private final AtomicLong userMissCount = new AtomicLong();
+
+    public AccessTokenCache(final JwtProperty jwtProperty) {
+        this.jwtProperty = jwtProperty;
+        final var maxSize = jwtProperty.getCache().getMaxSize();
+        this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, VerifiedToken> eldest) {
+                return this.size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 検証済みトークンのユーザIDを取得
+     *
+     * @param key トークンのダイジェスト
+     *
+     * @return ユーザID（未検証/期限切れ: empty）
+     */
+    public synchronized Optional<Integer> getUserId(final String key) {
+        final var token = this.getVerifiedToken(key);
+        if (token == null) {
+            this.missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        this.hitCount.incrementAndGet();
+        return Optional.of(token.userId);
+    }
+
+    /**
+     * 検証済みトークンのユーザを取得
+     *
+     * @param key トークンのダイジェスト
+     *
+     * @return ユーザのスナップショット（未検証/期限切れ: empty）
+     */
+    public synchronized Optional<User> getUser(final String key) {
+        final var token = this.getVerifiedToken(key);
+        final var snapshot = token == null ? null : token.snapshot;
+        if (snapshot == null || System.currentTimeMillis() >= snapshot.expiresAt) {
+            this.userMissCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        this.userHitCount.incrementAndGet();
+        return Optional.of(copy(snapshot.user));
+    }
+
+    /**
+     * 検証済みトークンを登録
+     *
+     * @param key       トークンのダイジェスト
+     *
+     * @param userId    ユーザID
+     *
+     * @param expiresAt トークンの有効期限
+     */
+    public synchronized void put(final String key, final int userId, final Date expiresAt) {
+        // 有効期限のないトークンはキャッシュしない
+        if (expiresAt == null) {
+            return;
+        }
+        this.tokens.put(key, new VerifiedToken(userId, expiresAt.getTime()));
+    }
+
+    /**
+     * 現在の世代を取得（ユーザを読み込む前に取得し，putUserに渡す）
+     *
+     * @return 世代
+     */
+    public long getGeneration() {
+        return this.generation.get();
+    }
+
+    /**
+     * 検証済みトークンにユーザのスナップショットを登録
+     *
+     * 読み込み中にキャッシュが破棄された場合は，古いユーザの可能性があるため登録しない。
+     *
+     * @param key        トークンのダイジェスト
+     *
+     * @param user       ユーザ
+     *
+     * @param generation 読み込み前に取得した世代
+     */
+    public synchronized void putUser(final String key, final User user, final long generation) {
+        final var snapshot = new UserSnapshot(copy(user), //
+            System.currentTimeMillis() + this.jwtProperty.getCache().getUserTtlSeconds() * 1000);
+        this.tokens.computeIfPresent(key, (k, token) -> {
+            // 破棄は世代を進めてからトークンを削除するため，ここで世代が一致すれば破棄より前に登録される
+            if (this.generation.get() == generation && token.userId.equals(user.getId())) {
+                token.snapshot = snapshot;
+            }
+            return token;
+        });
+    }
+
+    /**
+     * ユーザのトークンを全て破棄
+     *
+     * @param userId ユーザID
+     */
+    public synchronized void invalidateUser(final int userId) {
+        this.generation.incrementAndGet();
+        this.tokens.values().removeIf(token -> token.userId == userId);
+    }
+
+    /**
+     * キャッシュを全て破棄
+     */
+    public synchronized void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.tokens.clear();
+    }
+
+    /**
+     * @return 署名検証を省略できた回数
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * @return 署名検証が必要だった回数
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * @return ユーザ取得を省略できた回数
+     */
+    public long getUserHitCount() {
+        return this.userHitCount.get();
+    }
+
+    /**
+     * @return ユーザ取得が必要だった回数
+     */
+    public long getUserMissCount() {
+        return this.userMissCount.get();
+    }
+
+    /**
+     * @return エントリ数
+     */
+    public synchronized int size() {
+        return this.tokens.size();
+    }
+
+    /**
+     * JWTのダイジェストを計算（トークン自体はメモリに保持しない）
+     *
+     * @param jwt JWT
+     *
+     * @return ダイジェスト
+     */
+    public static String digest(final String jwt) {
+        try {
+            final var hash = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 有効期限内の検証済みトークンを取得
+     *
+     * @param key トークンのダイジェスト
+     *
+     * @return 検証済みトークン（未検証/期限切れ: null）
+     */
+    private VerifiedToken getVerifiedToken(final String key) {
+        final var token = this.tokens.get(key);
+        if (token == null) {
+            return null;
+        }
+
+        // 期限切れのトークンは破棄し，改めて検証させる
+        if (System.currentTimeMillis() >= token.expiresAt) {
+            this.tokens.remove(key);
+            return null;
+        }
+        return token;
+    }
+
+    /**
+     * 呼び出し側の変更がキャッシュに波及しないようユーザを複製
+     *
+     * @param user ユーザ
+     *
+     * @return 複製したユーザ
+     */
+    private static User copy(final User user) {
+        return User.builder() //
+            .id(user.getId()) //
+            .firstName(user.getFirstName()) //
+            .lastName(user.getLastName()) //
+            .email(user.getEmail()) //
+            .password(user.getPassword()) //
+            .roleId(user.getRoleId()) //
+            .admissionYear(user.getAdmissionYear()) //
+            .createdAt(user.getCreatedAt()) //
+            .updatedAt(user.getUpdatedAt()) //
+            .build();
+    }
+
+    /**
+     * 検証済みトークン
+     */
+    private static class VerifiedToken {
+
+        final Integer userId;
+
+        final long expiresAt;
+
+        UserSnapshot snapshot;
+
+        VerifiedToken(final Integer userId, final long expiresAt) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+    /**
+     * ユーザのスナップショット
+     */
+    private static class UserSnapshot {
+
+        final User user;
+
+        final long expiresAt;
+
+        UserSnapshot(final User user, final long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
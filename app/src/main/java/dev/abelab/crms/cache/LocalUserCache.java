@@ -0,0 +1,175 @@
+package dev.abelab.crms.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * プロセス内のユーザキャッシュ（LRU）
+ *
+ * 世代の確認をすり抜けた古いユーザが残り続けないよう，登録から一定時間で期限切れにする。
+ */
+@Component
+@ConditionalOnProperty(prefix = "crms.user-cache", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalUserCache implements UserCache {
+
+    /**
+     * ユーザID -> ユーザ（LRU）
+     */
+    private final Map<Integer, CachedUser> users;
+
+    /**
+     * メールアドレス -> ユーザID
+     */
+    private final Map<String, Integer> userIds = new HashMap<>();
+
+    /**
+     * 有効期間 [ms]
+     */
+    private final long ttlMillis;
+
+    private long generation;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public LocalUserCache(final CrmsProperty crmsProperty) {
+        final var maxSize = crmsProperty.getUserCache().getMaxSize();
+        this.ttlMillis = crmsProperty.getUserCache().getTtlSeconds() * 1000L;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, CachedUser> eldest) {
+                if (this.size() > maxSize) {
+                    userIds.remove(eldest.getValue().user.getEmail());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<User> get(final int userId) {
+        return this.count(this.getCachedUser(userId));
+    }
+
+    @Override
+    public synchronized Optional<User> getByEmail(final String email) {
+        return this.count(Optional.ofNullable(this.userIds.get(email)).flatMap(this::getCachedUser));
+    }
+
+    @Override
+    public synchronized long getGeneration() {
+        return this.generation;
+    }
+
+    @Override
+    public synchronized void put(final User user, final long generation) {
+        if (this.generation != generation) {
+            return;
+        }
+        this.remove(user.getId());
+        this.users.put(user.getId(), new CachedUser(copy(user), System.currentTimeMillis() + this.ttlMillis));
+        this.userIds.put(user.getEmail(), user.getId());
+    }
+
+    @Override
+    public synchronized void evict(final int userId) {
+        this.generation++;
+        this.remove(userId);
+    }
+
+    @Override
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.users.size();
+    }
+
+    private Optional<User> count(final Optional<User> user) {
+        if (user.isPresent()) {
+            this.hitCount.incrementAndGet();
+        } else {
+            this.missCount.incrementAndGet();
+        }
+        return user.map(LocalUserCache::copy);
+    }
+
+    /**
+     * 有効期間内のユーザを取得（期限切れのユーザは破棄）
+     *
+     * @param userId ユーザID
+     *
+     * @return ユーザ
+     */
+    private Optional<User> getCachedUser(final int userId) {
+        final var cachedUser = this.users.get(userId);
+        if (cachedUser == null) {
+            return Optional.empty();
+        }
+        if (System.currentTimeMillis() >= cachedUser.expiresAt) {
+            this.remove(userId);
+            return Optional.empty();
+        }
+        return Optional.of(cachedUser.user);
+    }
+
+    private void remove(final int userId) {
+        Optional.ofNullable(this.users.remove(userId)).ifPresent(cachedUser -> this.userIds.remove(cachedUser.user.getEmail()));
+    }
+
+    /**
+     * 呼び出し側の変更がキャッシュに波及しないようユーザを複製
+     *
+     * @param user ユーザ
+     *
+     * @return 複製したユーザ
+     */
+    private static User copy(final User user) {
+        return User.builder() //
+            .id(user.getId()) //
+            .firstName(user.getFirstName()) //
+            .lastName(user.getLastName()) //
+            .email(user.getEmail()) //
+            .password(user.getPassword()) //
+            .roleId(user.getRoleId()) //
+            .admissionYear(user.getAdmissionYear()) //
+            .createdAt(user.getCreatedAt()) //
+            .updatedAt(user.getUpdatedAt()) //
+            .build();
+    }
+
+    /**
+     * キャッシュしたユーザ
+     */
+    private static class CachedUser {
+
+        final User user;
+
+        final long expiresAt;
+
+        CachedUser(final User user, final long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
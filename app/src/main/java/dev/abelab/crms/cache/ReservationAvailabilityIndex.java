@@ -0,0 +1,517 @@
+package dev.abelab.crms.cache;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.db.entity.ReservationSeriesCancellation;
+import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.event.ReservationChangedEvent;
+import dev.abelab.crms.event.ReservationSeriesChangedEvent;
+import dev.abelab.crms.logic.ReservationLogic;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.model.TimeIntervalModel;
+import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * 日ごとの予約状況（予約可能時間帯を15分枠に区切った予約数）
+ *
+ * 起動時にDBから構築し，以降は予約の変更をコミット後に反映する。空き状況の取得ではDBを参照しない。
+ * 定期予約は定義とキャンセルした回だけを保持し，空き状況の取得時にその日の回を展開する。
+ * イベントはコミット後に別々のスレッドから届くため，予約ごとに通し番号が古いイベントは反映しない。
+ * 再構築中に届いたイベントは溜めておき，構築後に反映する。他のノードでの変更は定期的な再構築で取り込む。
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReservationAvailabilityIndex {
+
+    /**
+     * 枠の長さ [min]
+     */
+    public static final int SLOT_MINUTES = 15;
+
+    private static final long SLOT_MILLIS = SLOT_MINUTES * 60 * 1000L;
+
+    /**
+     * 1日の枠数（09:00〜22:00）
+     */
+    private static final int SLOT_COUNT =
+        (int) ((ReservationLogic.RESERVABLE_FINISH_HOUR - ReservationLogic.RESERVABLE_START_HOUR) * 60 / SLOT_MINUTES);
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private static final long WEEK_MILLIS = 7 * DAY_MILLIS;
+
+    private final ReservationRepository reservationRepository;
+
+    private final ReservationSeriesRepository reservationSeriesRepository;
+
+    /**
+     * 予約ID -> 予約（反映済みの期間）
+     */
+    private final Map<Integer, Reservation> reservations = new HashMap<>();
+
+    /**
+     * 日付の0:00 -> 枠ごとの予約数
+     */
+    private final TreeMap<Long, int[]> occupancies = new TreeMap<>();
+
+    /**
+     * 定期予約ID -> 定期予約（反映済みの期間）
+     */
+    private final Map<Integer, ReservationSeries> seriesMap = new HashMap<>();
+
+    /**
+     * 定期予約ID -> キャンセルした回の開始時刻 [ms]
+     */
+    private final Map<Integer, Set<Long>> cancellations = new HashMap<>();
+
+    /**
+     * 予約ID -> 反映した最新のイベントの通し番号（削除した予約を含む）
+     */
+    private final Map<Integer, Long> reservationSequences = new HashMap<>();
+
+    /**
+     * 定期予約ID -> 反映した最新のイベントの通し番号（削除した定期予約を含む）
+     */
+    private final Map<Integer, Long> seriesSequences = new HashMap<>();
+
+    /**
+     * 再構築中に届いた変更（null: 再構築中でない）
+     */
+    private List<Runnable> pendingChanges;
+
+    /**
+     * 過去の日付を最後に破棄した日
+     */
+    private long purgedDay;
+
+    /**
+     * 今日以降の予約から構築
+     *
+     * DBから読み込む間は構築前の状態で空き状況を返し，届いた変更は構築後に反映する。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${crms.availability-index.rebuild-interval-millis}",
+        initialDelayString = "${crms.availability-index.rebuild-interval-millis}")
+    public void rebuild() {
+        synchronized (this) {
+            if (this.pendingChanges != null) {
+                return;
+            }
+            this.pendingChanges = new ArrayList<>();
+        }
+
+        List<ReservationWithUserModel> loadedReservations = null;
+        List<ReservationSeriesWithUserModel> loadedSeries = null;
+        List<ReservationSeriesCancellation> loadedCancellations = null;
+        final var today = DateTimeUtil.getStartOfDay(new Date()).getTime();
+        try {
+            final var condition = ReservationSearchConditionModel.builder() //
+                .from(new Date(today)) //
+                .build();
+            loadedReservations = this.reservationRepository.selectWithUserByCondition(condition);
+
+            // 昨日以降に回が残っている定期予約と，そのキャンセルした回
+            final var seriesCondition = ReservationSearchConditionModel.builder() //
+                .minStartAt(new Date(today - DAY_MILLIS)) //
+                .build();
+            loadedSeries = this.reservationSeriesRepository.selectWithUserByCondition(seriesCondition);
+            loadedCancellations = List.of();
+            if (!loadedSeries.isEmpty()) {
+                final var seriesIds = loadedSeries.stream().map(ReservationSeries::getId).collect(Collectors.toList());
+                final var lastUntilAt = loadedSeries.stream() //
+                    .map(ReservationSeries::getUntilAt) //
+                    .max(Comparator.naturalOrder()) //
+                    .get();
+                loadedCancellations = this.reservationSeriesRepository.selectCancellations(seriesIds, new Date(today - DAY_MILLIS),
+                    new Date(lastUntilAt.getTime() + DAY_MILLIS));
+            }
+        } finally {
+            synchronized (this) {
+                if (loadedCancellations != null) {
+                    this.reservations.clear();
+                    this.occupancies.clear();
+                    this.seriesMap.clear();
+                    this.cancellations.clear();
+                    this.purgedDay = today;
+                    loadedReservations.forEach(this::put);
+                    loadedSeries.forEach(this::putSeries);
+                    loadedCancellations.forEach(cancellation -> this.cancelOccurrence(cancellation.getSeriesId(), cancellation.getOccurrenceAt()));
+                }
+
+                // 読み込み中に届いた変更を反映（読み込み前にコミットされた変更は，同じ状態をもう一度反映するだけ）
+                final var changes = this.pendingChanges;
+                this.pendingChanges = null;
+                changes.forEach(Runnable::run);
+            }
+        }
+        log.info("Built reservation availability index with {} reservations and {} series.", this.size(), this.seriesMap.size());
+    }
+
+    /**
+     * コミット後に予約の変更を反映
+     *
+     * @param event 予約変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        this.applyOrDefer(() -> {
+            final var reservation = event.getReservation();
+            if (reservation.getSeriesId() != null) {
+                // 定期予約の回はキャンセルのみ
+                if (event.getAction() == ReservationActionEnum.DELETED) {
+                    this.cancelOccurrence(reservation.getSeriesId(), reservation.getStartAt());
+                }
+            } else if (!this.isLatest(this.reservationSequences, reservation.getId(), event.getSequence())) {
+                return;
+            } else if (event.getAction() == ReservationActionEnum.DELETED) {
+                this.remove(reservation.getId());
+            } else {
+                this.put(reservation);
+            }
+        });
+    }
+
+    /**
+     * コミット後に定期予約の変更を反映
+     *
+     * @param event 定期予約変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationSeriesChanged(final ReservationSeriesChangedEvent event) {
+        this.applyOrDefer(() -> {
+            final var series = event.getSeries();
+            if (!this.isLatest(this.seriesSequences, series.getId(), event.getSequence())) {
+                return;
+            }
+            if (event.getAction() == ReservationActionEnum.DELETED) {
+                this.removeSeries(series.getId());
+            } else {
+                this.putSeries(series);
+            }
+        });
+    }
+
+    /**
+     * 予約を反映（同じIDの予約は置き換える）
+     *
+     * @param reservation 予約
+     */
+    public synchronized void put(final Reservation reservation) {
+        this.purgePastDays();
+        this.remove(reservation.getId());
+
+        final var snapshot = Reservation.builder() //
+            .id(reservation.getId()) //
+            .userId(reservation.getUserId()) //
+            .startAt(reservation.getStartAt()) //
+            .finishAt(reservation.getFinishAt()) //
+            .build();
+        this.reservations.put(snapshot.getId(), snapshot);
+        this.addOccupancy(snapshot, 1);
+    }
+
+    /**
+     * 予約を削除
+     *
+     * @param reservationId 予約ID
+     */
+    public synchronized void remove(final int reservationId) {
+        final var reservation = this.reservations.remove(reservationId);
+        if (reservation != null) {
+            this.addOccupancy(reservation, -1);
+        }
+    }
+
+    /**
+     * 定期予約を反映（同じIDの定期予約は置き換える）
+     *
+     * @param series 定期予約
+     */
+    public synchronized void putSeries(final ReservationSeries series) {
+        this.purgePastDays();
+        this.seriesMap.put(series.getId(), ReservationSeries.builder() //
+            .id(series.getId()) //
+            .userId(series.getUserId()) //
+            .startAt(series.getStartAt()) //
+            .finishAt(series.getFinishAt()) //
+            .untilAt(series.getUntilAt()) //
+            .build());
+    }
+
+    /**
+     * 定期予約を削除
+     *
+     * @param seriesId 定期予約ID
+     */
+    public synchronized void removeSeries(final int seriesId) {
+        this.seriesMap.remove(seriesId);
+        this.cancellations.remove(seriesId);
+    }
+
+    /**
+     * 定期予約の回のキャンセルを反映
+     *
+     * @param seriesId     定期予約ID
+     *
+     * @param occurrenceAt 回の開始時刻
+     */
+    public synchronized void cancelOccurrence(final int seriesId, final Date occurrenceAt) {
+        this.cancellations.computeIfAbsent(seriesId, key -> new HashSet<>()).add(occurrenceAt.getTime());
+    }
+
+    /**
+     * ユーザの予約と定期予約を全て削除（トランザクション中であればコミット後）
+     *
+     * ユーザを削除すると予約と定期予約はカスケード削除され，予約変更イベントは発行されない。
+     *
+     * @param userId ユーザID
+     */
+    public void removeByUserId(final int userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeByUserIdNow(userId);
+                }
+            });
+        } else {
+            this.removeByUserIdNow(userId);
+        }
+    }
+
+    /**
+     * 変更を反映（再構築中であれば構築後に反映）
+     *
+     * @param change 変更
+     */
+    private synchronized void applyOrDefer(final Runnable change) {
+        if (this.pendingChanges != null) {
+            this.pendingChanges.add(change);
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * 反映済みのイベントより新しいか（新しければ通し番号を記録）
+     *
+     * @param sequences ID -> 反映した最新のイベントの通し番号
+     *
+     * @param id        ID
+     *
+     * @param sequence  イベントの通し番号
+     *
+     * @return 新しいか
+     */
+    private boolean isLatest(final Map<Integer, Long> sequences, final int id, final long sequence) {
+        final var latest = sequences.get(id);
+        if (latest != null && latest >= sequence) {
+            return false;
+        }
+        sequences.put(id, sequence);
+        return true;
+    }
+
+    /**
+     * 予約のない時間帯を取得（定期予約の回を含む）
+     *
+     * @param date 日付
+     *
+     * @return 予約のない時間帯（開始時刻順）
+     */
+    public synchronized List<TimeIntervalModel> getFreeIntervals(final Date date) {
+        final var day = DateTimeUtil.getStartOfDay(date);
+        final var counts = this.occupancies.getOrDefault(day.getTime(), new int[SLOT_COUNT]).clone();
+        final var openAt = this.getOpenAt(day);
+        this.seriesMap.values().forEach(series -> this.addSeriesOccupancy(counts, openAt, day, series));
+
+        final var freeIntervals = new ArrayList<TimeIntervalModel>();
+        var slot = 0;
+        while (slot < SLOT_COUNT) {
+            if (counts[slot] > 0) {
+                slot++;
+                continue;
+            }
+
+            // 空いている枠をまとめる
+            final var firstSlot = slot;
+            while (slot < SLOT_COUNT && counts[slot] == 0) {
+                slot++;
+            }
+            freeIntervals.add(TimeIntervalModel.builder() //
+                .startAt(new Date(openAt + firstSlot * SLOT_MILLIS)) //
+                .finishAt(new Date(openAt + slot * SLOT_MILLIS)) //
+                .build());
+        }
+        return freeIntervals;
+    }
+
+    /**
+     * @return 反映済みの予約数
+     */
+    public synchronized int size() {
+        return this.reservations.size();
+    }
+
+    private synchronized void removeByUserIdNow(final int userId) {
+        if (this.pendingChanges != null) {
+            this.pendingChanges.add(() -> this.removeByUserIdNow(userId));
+            return;
+        }
+        this.reservations.values().stream() //
+            .filter(reservation -> reservation.getUserId().equals(userId)) //
+            .map(Reservation::getId) //
+            .collect(Collectors.toList()) //
+            .forEach(this::remove);
+        this.seriesMap.values().stream() //
+            .filter(series -> series.getUserId().equals(userId)) //
+            .map(ReservationSeries::getId) //
+            .collect(Collectors.toList()) //
+            .forEach(this::removeSeries);
+    }
+
+    /**
+     * 定期予約のその日の回（キャンセルした回を除く）が重なる枠の予約数を加算
+     *
+     * 回の展開はReservationLogic.expandSeriesと同じく，初回から毎週同じ曜日・時刻に最終日までに開始する回とする。
+     *
+     * @param counts 枠ごとの予約数
+     *
+     * @param openAt 予約可能開始時刻 [ms]
+     *
+     * @param day    日付の0:00
+     *
+     * @param series 定期予約
+     */
+    private void addSeriesOccupancy(final int[] counts, final long openAt, final Date day, final ReservationSeries series) {
+        final var dayStart = day.getTime();
+        final var dayEnd = dayStart + DAY_MILLIS;
+        final var cancelled = this.cancellations.getOrDefault(series.getId(), Set.of());
+
+        // その日より前に終わる回は飛ばす（端数は下のループで除外）
+        var week = (int) Math.max(0, (dayStart - series.getFinishAt().getTime()) / WEEK_MILLIS);
+        while (true) {
+            final var startAt = DateTimeUtil.addDateTime(series.getStartAt(), Calendar.DAY_OF_MONTH, 7 * week);
+            if (startAt.after(series.getUntilAt()) || startAt.getTime() >= dayEnd) {
+                break;
+            }
+            final var finishAt = DateTimeUtil.addDateTime(series.getFinishAt(), Calendar.DAY_OF_MONTH, 7 * week);
+            week++;
+            if (finishAt.getTime() > dayStart && !cancelled.contains(startAt.getTime())) {
+                this.addOccupancy(counts, openAt, startAt.getTime(), finishAt.getTime(), 1);
+            }
+        }
+    }
+
+    /**
+     * 予約が重なる枠の予約数を加算
+     *
+     * 枠の途中から始まる/終わる予約は，その枠全体を占有するものとする。
+     *
+     * @param reservation 予約
+     *
+     * @param delta       加算量
+     */
+    private void addOccupancy(final Reservation reservation, final int delta) {
+        final var startAt = reservation.getStartAt().getTime();
+        final var finishAt = reservation.getFinishAt().getTime();
+
+        // 日をまたぐ予約は日ごとに分けて反映
+        var day = DateTimeUtil.getStartOfDay(reservation.getStartAt());
+        while (day.getTime() < finishAt) {
+            final var openAt = this.getOpenAt(day);
+            final var from = Math.max(startAt, openAt) - openAt;
+            final var to = Math.min(finishAt, openAt + SLOT_COUNT * SLOT_MILLIS) - openAt;
+
+            // 破棄済みの過去の日付には反映しない
+            if (from < to && day.getTime() >= this.purgedDay) {
+                final var counts = this.occupancies.computeIfAbsent(day.getTime(), key -> new int[SLOT_COUNT]);
+                this.addOccupancy(counts, openAt, startAt, finishAt, delta);
+            }
+            day = DateTimeUtil.getStartOfDay(DateTimeUtil.addDateTime(day, Calendar.DAY_OF_MONTH, 1));
+        }
+    }
+
+    /**
+     * 1日分の枠のうち，予約が重なる枠の予約数を加算
+     *
+     * @param counts   枠ごとの予約数
+     *
+     * @param openAt   予約可能開始時刻 [ms]
+     *
+     * @param startAt  予約の開始時刻 [ms]
+     *
+     * @param finishAt 予約の終了時刻 [ms]
+     *
+     * @param delta    加算量
+     */
+    private void addOccupancy(final int[] counts, final long openAt, final long startAt, final long finishAt, final int delta) {
+        final var from = Math.max(startAt, openAt) - openAt;
+        final var to = Math.min(finishAt, openAt + SLOT_COUNT * SLOT_MILLIS) - openAt;
+        if (from >= to) {
+            return;
+        }
+        final var firstSlot = (int) (from / SLOT_MILLIS);
+        final var lastSlot = (int) ((to + SLOT_MILLIS - 1) / SLOT_MILLIS);
+        for (var slot = firstSlot; slot < lastSlot; slot++) {
+            counts[slot] += delta;
+        }
+    }
+
+    /**
+     * 日付が変わっていれば，昨日以前の予約状況を破棄
+     */
+    private void purgePastDays() {
+        final var today = DateTimeUtil.getStartOfDay(new Date()).getTime();
+        if (today == this.purgedDay) {
+            return;
+        }
+        this.purgedDay = today;
+        this.occupancies.headMap(today).clear();
+        this.reservations.values().removeIf(reservation -> reservation.getFinishAt().getTime() <= today);
+        this.seriesMap.values().removeIf(series -> series.getUntilAt().getTime() + DAY_MILLIS <= today);
+        this.cancellations.keySet().retainAll(this.seriesMap.keySet());
+        this.reservationSequences.keySet().retainAll(this.reservations.keySet());
+        this.seriesSequences.keySet().retainAll(this.seriesMap.keySet());
+    }
+
+    /**
+     * 予約可能開始時刻を取得
+     *
+     * @param day 日付の0:00
+     *
+     * @return 予約可能開始時刻 [ms]
+     */
+    private long getOpenAt(final Date day) {
+        return day.getTime() + (long) (ReservationLogic.RESERVABLE_START_HOUR * 60 * 60 * 1000);
+    }
+
+}
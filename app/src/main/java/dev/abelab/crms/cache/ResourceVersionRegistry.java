@@ -0,0 +1,79 @@
+package dev.abelab.crms.cache;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.*;
+import dev.abelab.crms.db.mapper.ResourceVersionCustomMapper;
+import dev.abelab.crms.enums.VersionedResourceEnum;
+
+/**
+ * 一覧リソースのバージョン（ETag）
+ *
+ * 書き込みのたびにバージョンを進め，変更がなければ一覧を取得せずに304を返せるようにする。
+ * バージョンはDBに保持し，書き込みと同じトランザクションで進めるため，複数ノードで動かしても同じETagになる。
+ */
+@RequiredArgsConstructor
+@Component
+public class ResourceVersionRegistry {
+
+    private final ResourceVersionCustomMapper resourceVersionCustomMapper;
+
+    /**
+     * ETagを取得
+     *
+     * 一覧より先に取得する。取得後にコミットされた変更は，次のリクエストでETagが一致しなくなる。
+     *
+     * @param resource リソース
+     *
+     * @return ETag
+     */
+    public String getETag(final VersionedResourceEnum resource) {
+        return String.valueOf(this.resourceVersionCustomMapper.selectVersion(resource.name()));
+    }
+
+    /**
+     * リソースが変更されたことを記録
+     *
+     * トランザクション中はリソースごとに1回だけバージョンを進め，一括操作で同じ行を何度も更新しない。
+     *
+     * @param resources リソース
+     */
+    public void bump(final VersionedResourceEnum... resources) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.increment(Arrays.stream(resources).collect(Collectors.toSet()));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var bumped = (Set<VersionedResourceEnum>) TransactionSynchronizationManager.getResource(this);
+        if (bumped == null) {
+            bumped = EnumSet.noneOf(VersionedResourceEnum.class);
+            TransactionSynchronizationManager.bindResource(this, bumped);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ResourceVersionRegistry.this);
+                }
+            });
+        }
+        this.increment(Arrays.stream(resources).filter(bumped::add).collect(Collectors.toSet()));
+    }
+
+    private void increment(final Set<VersionedResourceEnum> resources) {
+        if (resources.isEmpty()) {
+            return;
+        }
+        this.resourceVersionCustomMapper.increment(resources.stream() //
+            .sorted() //
+            .map(VersionedResourceEnum::name) //
+            .collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,80 @@
+package dev.abelab.crms.cache;
+
+import java.util.Optional;
+
+import dev.abelab.crms.db.entity.User;
+
+/**
+ * ユーザのキャッシュ
+ *
+ * 単一ノードではLocalUserCacheを使う。複数ノード構成では共有キャッシュの実装を登録し，crms.user-cache.typeで切り替える。
+ */
+public interface UserCache {
+
+    /**
+     * IDからユーザを取得
+     *
+     * @param userId ユーザID
+     *
+     * @return ユーザの複製（未キャッシュ: empty）
+     */
+    Optional<User> get(int userId);
+
+    /**
+     * メールアドレスからユーザを取得
+     *
+     * @param email メールアドレス
+     *
+     * @return ユーザの複製（未キャッシュ: empty）
+     */
+    Optional<User> getByEmail(String email);
+
+    /**
+     * 世代を取得（破棄のたびに進む）
+     *
+     * @return 世代
+     */
+    long getGeneration();
+
+    /**
+     * ユーザを登録
+     *
+     * 読み込みを始めてから破棄が起きていれば登録しない（古いユーザを残さない）。
+     *
+     * @param user       ユーザ
+     *
+     * @param generation 読み込み前に取得した世代
+     */
+    void put(User user, long generation);
+
+    /**
+     * ユーザを破棄
+     *
+     * @param userId ユーザID
+     */
+    void evict(int userId);
+
+    /**
+     * @return キャッシュから取得できた回数
+     */
+    long getHitCount();
+
+    /**
+     * @return キャッシュから取得できなかった回数
+     */
+    long getMissCount();
+
+    /**
+     * @return ヒット率
+     */
+    default double getHitRatio() {
+        final var total = this.getHitCount() + this.getMissCount();
+        return total == 0 ? 0.0 : (double) this.getHitCount() / total;
+    }
+
+    /**
+     * @return エントリ数
+     */
+    int size();
+
+}
@@ -1,14 +1,18 @@
 package dev.abelab.crms.client;
 
 import java.util.List;
+import java.util.Map;
 import java.lang.StringBuilder;
 
 import org.springframework.stereotype.Component;
 import com.slack.api.Slack;
 import com.slack.api.webhook.Payload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import lombok.extern.slf4j.Slf4j;
 import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
 import dev.abelab.crms.enums.ReservationActionEnum;
 import dev.abelab.crms.property.SlackProperty;
 import dev.abelab.crms.exception.ErrorCode;
@@ -20,70 +24,186 @@ import dev.abelab.crms.util.DateTimeUtil;
 @Component
 public class SlackClient {
 
+    /**
+     * 一括操作/抽選の通知で予約アクションごとに列挙する最大件数
+     */
+    static final int MAX_BULK_MESSAGE_LINES = 30;
+
     private final Slack slack;
 
     private final SlackProperty slackProperty;
 
-    public SlackClient(SlackProperty slackProperty) {
+    private final MeterRegistry meterRegistry;
+
+    public SlackClient(SlackProperty slackProperty, MeterRegistry meterRegistry) {
         this.slackProperty = slackProperty;
+        this.meterRegistry = meterRegistry;
         this.slack = Slack.getInstance();
     }
 
     /**
-     * 抽選結果を送信
+     * 抽選結果のメッセージを作成
      *
-     * @param reservations 予約（+ユーザ）一覧
+     * 当選/落選ごとに予約を列挙する（多すぎる分は件数のみ）
+     *
+     * @param winners 当選した予約（+ユーザ）一覧
+     *
+     * @param losers  落選した予約（+ユーザ）一覧
+     *
+     * @return メッセージ
      */
-    public void sendLotteryResult(final List<ReservationWithUserModel> reservations) {
+    public String buildLotteryResultMessage(final List<ReservationWithUserModel> winners, final List<ReservationWithUserModel> losers) {
         final var builder = new StringBuilder();
 
         builder.append("【明日の予約】\n");
 
         // 予約一覧
-        if (reservations.isEmpty()) {
+        if (winners.isEmpty()) {
             builder.append("この日の予約はありません");
         } else {
-            reservations.stream().forEach(reservation -> {
+            this.appendLotteryLines(builder, winners);
+        }
+
+        // 落選した予約一覧
+        if (!losers.isEmpty()) {
+            builder.append("【落選】\n");
+            this.appendLotteryLines(builder, losers);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * 抽選結果の予約を列挙（多すぎる分は件数のみ）
+     *
+     * @param builder      メッセージ
+     *
+     * @param reservations 予約（+ユーザ）一覧
+     */
+    private void appendLotteryLines(final StringBuilder builder, final List<ReservationWithUserModel> reservations) {
+        reservations.stream().limit(MAX_BULK_MESSAGE_LINES).forEach(reservation -> {
+            builder.append(UserUtil.getFullName(reservation.getUser())).append("  ");
+            builder.append(DateTimeUtil.convertTimeToString(reservation.getStartAt())).append(" - ");
+            builder.append(DateTimeUtil.convertTimeToString(reservation.getFinishAt())).append("\n");
+        });
+        if (reservations.size() > MAX_BULK_MESSAGE_LINES) {
+            builder.append("ほか").append(reservations.size() - MAX_BULK_MESSAGE_LINES).append("件\n");
+        }
+    }
+
+    /**
+     * 予約変更のメッセージを作成
+     *
+     * @param reservation 予約（+ユーザ）
+     *
+     * @param action      予約アクション
+     *
+     * @return メッセージ
+     */
+    public String buildEditReservationMessage(final ReservationWithUserModel reservation, final ReservationActionEnum action) {
+        final var builder = new StringBuilder();
+
+        builder.append(this.getActionTitle(action)).append("\n");
+        builder.append(DateTimeUtil.convertDateToString(reservation.getStartAt())).append("\n");
+        builder.append(UserUtil.getFullName(reservation.getUser())).append("  ");
+        builder.append(DateTimeUtil.convertTimeToString(reservation.getStartAt())).append(" - ");
+        builder.append(DateTimeUtil.convertTimeToString(reservation.getFinishAt())).append("\n");
+
+        return builder.toString();
+    }
+
+    /**
+     * 予約の一括操作のメッセージを作成
+     *
+     * 予約アクションごとに件数と予約を列挙する（多すぎる分は件数のみ）
+     *
+     * @param reservations 予約アクション -> 予約（+ユーザ）一覧
+     *
+     * @return メッセージ
+     */
+    public String buildBulkReservationMessage(final Map<ReservationActionEnum, List<ReservationWithUserModel>> reservations) {
+        final var builder = new StringBuilder();
+
+        reservations.forEach((action, actionReservations) -> {
+            if (actionReservations.isEmpty()) {
+                return;
+            }
+
+            builder.append(this.getActionTitle(action)).append(actionReservations.size()).append("件\n");
+            actionReservations.stream().limit(MAX_BULK_MESSAGE_LINES).forEach(reservation -> {
+                builder.append(DateTimeUtil.convertDateToString(reservation.getStartAt())).append("  ");
                 builder.append(UserUtil.getFullName(reservation.getUser())).append("  ");
                 builder.append(DateTimeUtil.convertTimeToString(reservation.getStartAt())).append(" - ");
                 builder.append(DateTimeUtil.convertTimeToString(reservation.getFinishAt())).append("\n");
             });
-        }
+            if (actionReservations.size() > MAX_BULK_MESSAGE_LINES) {
+                builder.append("ほか").append(actionReservations.size() - MAX_BULK_MESSAGE_LINES).append("件\n");
+            }
+        });
 
-        this.sendMessage(builder.toString());
+        return builder.toString();
     }
 
     /**
-     * 予約変更を通知
+     * 定期予約変更のメッセージを作成
      *
-     * @param reservation 予約（+ユーザ）
+     * @param series 定期予約（+ユーザ）
      *
-     * @param action      予約アクション
+     * @param action 予約アクション
+     *
+     * @return メッセージ
      */
-    public void sendEditReservationNotification(final ReservationWithUserModel reservation, final ReservationActionEnum action) {
+    public String buildEditReservationSeriesMessage(final ReservationSeriesWithUserModel series, final ReservationActionEnum action) {
         final var builder = new StringBuilder();
 
+        builder.append(this.getSeriesActionTitle(action)).append("\n");
+        builder.append("毎週 ").append(DateTimeUtil.convertDateToString(series.getStartAt())).append(" - ");
+        builder.append(DateTimeUtil.convertDateToString(series.getUntilAt())).append("\n");
+        builder.append(UserUtil.getFullName(series.getUser())).append("  ");
+        builder.append(DateTimeUtil.convertTimeToString(series.getStartAt())).append(" - ");
+        builder.append(DateTimeUtil.convertTimeToString(series.getFinishAt())).append("\n");
+
+        return builder.toString();
+    }
+
+    /**
+     * 予約アクションの見出しを取得
+     *
+     * @param action 予約アクション
+     *
+     * @return 見出し
+     */
+    private String getActionTitle(final ReservationActionEnum action) {
         switch (action) {
             case REGISTERED:
-                builder.append("【予約追加】\n");
-                break;
+                return "【予約追加】";
             case CHANGED:
-                builder.append("【予約変更】\n");
-                break;
+                return "【予約変更】";
             case DELETED:
-                builder.append("【予約削除】\n");
-                break;
+                return "【予約削除】";
             default:
-                break;
+                return "";
         }
+    }
 
-        builder.append(DateTimeUtil.convertDateToString(reservation.getStartAt())).append("\n");
-        builder.append(UserUtil.getFullName(reservation.getUser())).append("  ");
-        builder.append(DateTimeUtil.convertTimeToString(reservation.getStartAt())).append(" - ");
-        builder.append(DateTimeUtil.convertTimeToString(reservation.getFinishAt())).append("\n");
-
-        this.sendMessage(builder.toString());
-
+    /**
+     * 定期予約アクションの見出しを取得
+     *
+     * @param action 予約アクション
+     *
+     * @return 見出し
+     */
+    private String getSeriesActionTitle(final ReservationActionEnum action) {
+        switch (action) {
+            case REGISTERED:
+                return "【定期予約追加】";
+            case CHANGED:
+                return "【定期予約変更】";
+            case DELETED:
+                return "【定期予約削除】";
+            default:
+                return "";
+        }
     }
 
     /**
@@ -97,12 +217,20 @@ public class SlackClient {
         }
 
         final var payload = Payload.builder().text(message).build();
+        final var sample = Timer.start(this.meterRegistry);
+        var status = "error";
         try {
             final var response = this.slack.send(this.slackProperty.getWebhookUrl(), payload);
+            status = String.valueOf(response.getCode());
+            if (response.getCode() != 200) {
+                throw new IllegalStateException("Slack webhook responded with status " + response.getCode());
+            }
             log.info(response.getMessage());
         } catch (Exception e) {
             log.error(e.getMessage(), e);
             throw new InternalServerErrorException(ErrorCode.FAILED_TO_SEND_SLACK);
+        } finally {
+            sample.stop(this.meterRegistry.timer("crms.slack.webhook", "status", status));
         }
     }
 
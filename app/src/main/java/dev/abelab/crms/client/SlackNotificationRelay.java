@@ -0,0 +1,243 @@
+package dev.abelab.crms.client;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import dev.abelab.crms.db.entity.NotificationOutbox;
+import dev.abelab.crms.repository.NotificationOutboxRepository;
+import dev.abelab.crms.property.SlackProperty;
+
+/**
+ * 通知アウトボックスを取り出してSlackに送信する
+ *
+ * 予約の書き込みと同じトランザクションで積まれた通知を，コミット後にバッチで送信する。
+ * 通知は短いトランザクションで確保してから送信し，送信中は行ロックを持たない。
+ * まとめて送信できなかった場合は1件ずつ送り直し，失敗した通知は間隔を倍にしながら再送する。
+ * 最大試行回数に達した通知はデッドレターとして送信を諦める。
+ */
+@Slf4j
+@Component
+public class SlackNotificationRelay {
+
+    /**
+     * 送信済みの通知を1回に削除する件数
+     */
+    static final int DELETE_BATCH_SIZE = 1000;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    private final SlackClient slackClient;
+
+    private final SlackProperty.Outbox outboxProperty;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong sentCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    private final AtomicLong deadLetters = new AtomicLong();
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public SlackNotificationRelay(final NotificationOutboxRepository notificationOutboxRepository, final SlackClient slackClient,
+        final SlackProperty slackProperty, final PlatformTransactionManager transactionManager) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.slackClient = slackClient;
+        this.outboxProperty = slackProperty.getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 未送信の通知がなくなるまで送信
+     */
+    @Scheduled(fixedDelayString = "${slack.outbox.poll-interval-millis}")
+    public void relay() {
+        if (!this.outboxProperty.isEnabled()) {
+            return;
+        }
+
+        // 取り出した件数がバッチサイズに達していれば続けて送信
+        var hasNext = true;
+        while (hasNext) {
+            final var notifications = this.transactionTemplate.execute(status -> this.claimBatch());
+            hasNext = !notifications.isEmpty() && this.relayBatch(notifications) //
+                && notifications.size() >= this.outboxProperty.getBatchSize();
+        }
+        this.updateMetrics();
+    }
+
+    /**
+     * 保持期間を過ぎた送信済みの通知を削除
+     */
+    @Scheduled(fixedDelayString = "${slack.outbox.cleanup-interval-millis}")
+    public void deleteExpired() {
+        if (!this.outboxProperty.isEnabled()) {
+            return;
+        }
+
+        // 1回の削除を小さくし，ロックを長く持たない
+        final var sentBefore = new Date(System.currentTimeMillis() - this.outboxProperty.getRetentionMillis());
+        var deleted = DELETE_BATCH_SIZE;
+        while (deleted >= DELETE_BATCH_SIZE) {
+            deleted = this.notificationOutboxRepository.deleteSentBefore(sentBefore, DELETE_BATCH_SIZE);
+        }
+    }
+
+    /**
+     * 1バッチ分の通知を確保（トランザクション内で呼び出す）
+     *
+     * @return 確保した通知一覧
+     */
+    private List<NotificationOutbox> claimBatch() {
+        final var notifications = this.notificationOutboxRepository.selectPendingForUpdate(this.outboxProperty.getBatchSize());
+        if (!notifications.isEmpty()) {
+            final var ids = notifications.stream().map(NotificationOutbox::getId).collect(Collectors.toList());
+            this.notificationOutboxRepository.claim(ids, new Date(System.currentTimeMillis() + this.outboxProperty.getClaimTimeoutMillis()));
+        }
+        return notifications;
+    }
+
+    /**
+     * 確保した通知を1つのペイロードにまとめて送信
+     *
+     * @param notifications 通知一覧
+     *
+     * @return まとめて送信できたか
+     */
+    private boolean relayBatch(final List<NotificationOutbox> notifications) {
+        final var ids = notifications.stream().map(NotificationOutbox::getId).collect(Collectors.toList());
+        final var message = notifications.stream().map(NotificationOutbox::getMessage).collect(Collectors.joining("\n"));
+        try {
+            this.slackClient.sendMessage(message);
+        } catch (RuntimeException e) {
+            this.failedCount.incrementAndGet();
+            if (notifications.size() == 1) {
+                this.markFailed(notifications.get(0));
+            } else {
+                // 1件の不正な通知が他の通知を止めないよう，1件ずつ送り直す
+                log.warn("Failed to relay {} Slack notifications at once, retrying one by one", ids.size());
+                notifications.forEach(this::relayOne);
+            }
+            return false;
+        }
+
+        this.notificationOutboxRepository.markSent(ids);
+        this.sentCount.addAndGet(ids.size());
+        return true;
+    }
+
+    /**
+     * 通知を1件送信
+     *
+     * @param notification 通知
+     */
+    private void relayOne(final NotificationOutbox notification) {
+        try {
+            this.slackClient.sendMessage(notification.getMessage());
+        } catch (RuntimeException e) {
+            this.markFailed(notification);
+            return;
+        }
+
+        this.notificationOutboxRepository.markSent(List.of(notification.getId()));
+        this.sentCount.incrementAndGet();
+    }
+
+    /**
+     * 送信の失敗を記録し，最大試行回数に達していれば送信を諦める
+     *
+     * @param notification 通知（確保する前の値）
+     */
+    private void markFailed(final NotificationOutbox notification) {
+        // 試行回数は確保したときに増やしている
+        final var attempts = notification.getAttempts() + 1;
+        if (attempts >= this.outboxProperty.getMaxAttempts()) {
+            this.notificationOutboxRepository.markDeadLettered(List.of(notification.getId()));
+            log.error("Gave up relaying Slack notification {} after {} attempts", notification.getId(), attempts);
+            return;
+        }
+
+        final var availableAt = new Date(System.currentTimeMillis() + this.getBackoffMillis(notification.getAttempts()));
+        this.notificationOutboxRepository.markFailed(List.of(notification.getId()), availableAt);
+    }
+
+    /**
+     * 再送までの待機時間を取得
+     *
+     * @param attempts これまでの送信試行回数
+     *
+     * @return 待機時間 [ms]
+     */
+    private long getBackoffMillis(final int attempts) {
+        final var backoff = this.outboxProperty.getInitialBackoffMillis() << Math.min(attempts, 30);
+        return Math.min(backoff, this.outboxProperty.getMaxBackoffMillis());
+    }
+
+    /**
+     * 滞留数と遅延を更新
+     */
+    private void updateMetrics() {
+        this.backlog.set(this.notificationOutboxRepository.countPending());
+        this.deadLetters.set(this.notificationOutboxRepository.countDeadLettered());
+        this.lagMillis.set(this.notificationOutboxRepository.selectOldestPendingCreatedAt() //
+            .map(createdAt -> Math.max(System.currentTimeMillis() - createdAt.getTime(), 0)) //
+            .orElse(0L));
+    }
+
+    /**
+     * 送信した通知数を取得
+     *
+     * @return 送信数
+     */
+    public long getSentCount() {
+        return this.sentCount.get();
+    }
+
+    /**
+     * 送信に失敗したバッチ数を取得
+     *
+     * @return 失敗数
+     */
+    public long getFailedCount() {
+        return this.failedCount.get();
+    }
+
+    /**
+     * 未送信の通知数を取得
+     *
+     * @return 滞留数
+     */
+    public long getBacklog() {
+        return this.backlog.get();
+    }
+
+    /**
+     * 送信を諦めた通知数を取得
+     *
+     * @return デッドレター数
+     */
+    public long getDeadLetters() {
+        return this.deadLetters.get();
+    }
+
+    /**
+     * 最も古い未送信の通知が積まれてからの経過時間を取得
+     *
+     * @return 遅延 [ms]
+     */
+    public long getLagMillis() {
+        return this.lagMillis.get();
+    }
+
+}
@@ -0,0 +1,82 @@
+package dev.abelab.crms.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import dev.abelab.crms.config.metrics.MyBatisTimingInterceptor;
+import dev.abelab.crms.config.metrics.ServiceTimingInterceptor;
+import dev.abelab.crms.property.CrmsProperty;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * HTTPリクエストのメトリクス名
+     */
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    /**
+     * サービスのメソッドの処理時間を計測するAdvisor
+     *
+     * トランザクションより外側で計測し，コミットにかかる時間も含める。
+     *
+     * @param meterRegistryProvider MeterRegistry
+     *
+     * @return Advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        final var advisor = new DefaultPointcutAdvisor(ServiceTimingInterceptor.POINTCUT, new ServiceTimingInterceptor(meterRegistryProvider));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * マッパーのステートメントの処理時間を計測するインターセプタ
+     *
+     * @param meterRegistryProvider MeterRegistry
+     *
+     * @return MyBatisインターセプタ
+     */
+    @Bean
+    public MyBatisTimingInterceptor myBatisTimingInterceptor(final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new MyBatisTimingInterceptor(meterRegistryProvider);
+    }
+
+    /**
+     * 指定したエンドポイントのレイテンシをパーセンタイルのヒストグラムで記録
+     *
+     * @param crmsProperty CRMS property
+     *
+     * @return MeterFilter
+     */
+    @Bean
+    public MeterFilter httpServerRequestsHistogramFilter(final CrmsProperty crmsProperty) {
+        final var uriPrefixes = crmsProperty.getMetrics().getHistogramUriPrefixes();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+                final var uri = id.getTag("uri");
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || uri == null || uriPrefixes.stream().noneMatch(uri::startsWith)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder() //
+                    .percentilesHistogram(true) //
+                    .build() //
+                    .merge(config);
+            }
+        };
+    }
+
+}
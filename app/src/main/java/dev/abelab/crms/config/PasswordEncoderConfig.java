@@ -0,0 +1,51 @@
+package dev.abelab.crms.config;
+
+import java.util.Map;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.*;
+import dev.abelab.crms.config.security.IterationAwarePbkdf2PasswordEncoder;
+import dev.abelab.crms.property.CrmsProperty;
+
+@RequiredArgsConstructor
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * 接頭辞のない従来のハッシュ（Pbkdf2PasswordEncoderの既定値）
+     */
+    public static final String LEGACY_PBKDF2_ID = "pbkdf2";
+
+    public static final String PBKDF2_SHA256_ID = "pbkdf2-sha256";
+
+    public static final String BCRYPT_ID = "bcrypt";
+
+    private final CrmsProperty crmsProperty;
+
+    /**
+     * ハッシュの接頭辞 "{id}" でアルゴリズムを選ぶエンコーダ
+     *
+     * 新しいハッシュは設定したアルゴリズム/コストで計算し，接頭辞のない従来のハッシュも検証できる。
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        final var passwordProperty = this.crmsProperty.getPassword();
+        final var legacyEncoder = new Pbkdf2PasswordEncoder();
+        final Map<String, PasswordEncoder> encoders = Map.of( //
+            LEGACY_PBKDF2_ID, legacyEncoder, //
+            PBKDF2_SHA256_ID, new IterationAwarePbkdf2PasswordEncoder(passwordProperty.getPbkdf2Iterations()), //
+            BCRYPT_ID, new BCryptPasswordEncoder(passwordProperty.getBcryptStrength()) //
+        );
+
+        final var passwordEncoder = new DelegatingPasswordEncoder(passwordProperty.getEncoder(), encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(legacyEncoder);
+        return passwordEncoder;
+    }
+
+}
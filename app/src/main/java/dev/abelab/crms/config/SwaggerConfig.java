@@ -1,13 +1,17 @@
 package dev.abelab.crms.config;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.RequestHandlerSelectors;
+import springfox.documentation.builders.RequestParameterBuilder;
 import springfox.documentation.service.ApiInfo;
+import springfox.documentation.service.ParameterType;
 import springfox.documentation.service.Tag;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.plugins.Docket;
@@ -28,6 +32,12 @@ public class SwaggerConfig {
             .useDefaultResponseMessages(false) //
             .protocols(Collections.singleton(this.crmsProperty.getProtocol())) //
             .host(this.crmsProperty.getHostname()) //
+            .globalRequestParameters(List.of(new RequestParameterBuilder() //
+                .name(HttpHeaders.AUTHORIZATION) //
+                .description("資格情報（Bearer {アクセストークン}）") //
+                .in(ParameterType.HEADER) //
+                .required(false) //
+                .build())) //
             .select() //
             .apis(RequestHandlerSelectors.basePackage("dev.abelab.crms.api.controller.internal")) //
             .build() //
@@ -0,0 +1,51 @@
+package dev.abelab.crms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import lombok.*;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.config.security.StompAuthenticationInterceptor;
+
+@RequiredArgsConstructor
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    /**
+     * STOMPエンドポイント
+     */
+    public static final String STOMP_ENDPOINT = "/ws";
+
+    private final UserLogic userLogic;
+
+    @Override
+    public void registerStompEndpoints(final StompEndpointRegistry registry) {
+        registry.addEndpoint(STOMP_ENDPOINT).setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(final MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(final ChannelRegistration registration) {
+        registration.interceptors(new StompAuthenticationInterceptor(this.userLogic));
+    }
+
+    @Override
+    public void configureWebSocketTransport(final WebSocketTransportRegistration registration) {
+        // 遅い購読者が送信スレッドを塞がないよう，送信の待ち時間と滞留量を制限する
+        registration //
+            .setSendTimeLimit(10 * 1000) //
+            .setSendBufferSizeLimit(512 * 1024);
+    }
+
+}
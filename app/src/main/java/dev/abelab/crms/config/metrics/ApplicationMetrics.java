@@ -0,0 +1,83 @@
+package dev.abelab.crms.config.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import dev.abelab.crms.cache.AccessTokenCache;
+import dev.abelab.crms.cache.UserCache;
+import dev.abelab.crms.client.SlackNotificationRelay;
+import dev.abelab.crms.logic.PasswordVerificationLogic;
+
+/**
+ * アプリケーション固有のメトリクス（キャッシュ，通知アウトボックス，ログインのスレッドプール）
+ *
+ * 各コンポーネントが持つカウンタを読み出して公開する。
+ * MeterBinderにするとMeterRegistryの作成時にコンポーネントを作成するため，登録時に読み出す。
+ */
+@Component
+public class ApplicationMetrics {
+
+    public ApplicationMetrics(final MeterRegistry meterRegistry, final UserCache userCache, final AccessTokenCache accessTokenCache,
+        final SlackNotificationRelay slackNotificationRelay, final PasswordVerificationLogic passwordVerificationLogic) {
+        // キャッシュ
+        FunctionCounter.builder("crms.cache.hits", userCache, UserCache::getHitCount) //
+            .tag("cache", "user") //
+            .register(meterRegistry);
+        FunctionCounter.builder("crms.cache.misses", userCache, UserCache::getMissCount) //
+            .tag("cache", "user") //
+            .register(meterRegistry);
+        Gauge.builder("crms.cache.size", userCache, UserCache::size) //
+            .tag("cache", "user") //
+            .register(meterRegistry);
+        FunctionCounter.builder("crms.cache.hits", accessTokenCache, AccessTokenCache::getHitCount) //
+            .tag("cache", "access_token") //
+            .register(meterRegistry);
+        FunctionCounter.builder("crms.cache.misses", accessTokenCache, AccessTokenCache::getMissCount) //
+            .tag("cache", "access_token") //
+            .register(meterRegistry);
+        FunctionCounter.builder("crms.cache.hits", accessTokenCache, AccessTokenCache::getUserHitCount) //
+            .tag("cache", "access_token_user") //
+            .register(meterRegistry);
+        FunctionCounter.builder("crms.cache.misses", accessTokenCache, AccessTokenCache::getUserMissCount) //
+            .tag("cache", "access_token_user") //
+            .register(meterRegistry);
+        Gauge.builder("crms.cache.size", accessTokenCache, AccessTokenCache::size) //
+            .tag("cache", "access_token") //
+            .register(meterRegistry);
+
+        // 通知アウトボックス
+        FunctionCounter.builder("crms.slack.outbox.sent", slackNotificationRelay, SlackNotificationRelay::getSentCount) //
+            .description("Number of relayed notifications") //
+            .register(meterRegistry);
+        FunctionCounter.builder("crms.slack.outbox.failures", slackNotificationRelay, SlackNotificationRelay::getFailedCount) //
+            .description("Number of batches that failed to be relayed") //
+            .register(meterRegistry);
+        Gauge.builder("crms.slack.outbox.backlog", slackNotificationRelay, SlackNotificationRelay::getBacklog) //
+            .description("Number of pending notifications") //
+            .register(meterRegistry);
+        Gauge.builder("crms.slack.outbox.dead_letters", slackNotificationRelay, SlackNotificationRelay::getDeadLetters) //
+            .description("Number of notifications given up after max attempts") //
+            .register(meterRegistry);
+        TimeGauge.builder("crms.slack.outbox.lag", slackNotificationRelay, TimeUnit.MILLISECONDS, SlackNotificationRelay::getLagMillis) //
+            .description("Age of the oldest pending notification") //
+            .register(meterRegistry);
+
+        // ログインのスレッドプール
+        Gauge.builder("crms.login.executor.active", passwordVerificationLogic, PasswordVerificationLogic::getActiveCount) //
+            .description("Number of logins hashing a password") //
+            .register(meterRegistry);
+        Gauge.builder("crms.login.executor.queued", passwordVerificationLogic, PasswordVerificationLogic::getQueuedCount) //
+            .description("Number of logins waiting for a hashing thread") //
+            .register(meterRegistry);
+        FunctionCounter.builder("crms.login.executor.rejected", passwordVerificationLogic, PasswordVerificationLogic::getRejectedCount) //
+            .description("Number of logins rejected because the queue was full") //
+            .register(meterRegistry);
+    }
+
+}
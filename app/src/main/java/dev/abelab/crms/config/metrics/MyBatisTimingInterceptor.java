@@ -0,0 +1,70 @@
+package dev.abelab.crms.config.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * マッパーのステートメントごとの処理時間を計測
+ *
+ * カーソルで検索するステートメントは，カーソルを開くまでの時間のみを計測する。
+ */
+@Intercepts({ //
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}), //
+        @Signature(type = Executor.class, method = "query", //
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}), //
+        @Signature(type = Executor.class, method = "query", //
+            args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}), //
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class}), //
+})
+public class MyBatisTimingInterceptor implements Interceptor {
+
+    /**
+     * メトリクス名
+     */
+    public static final String METRIC_NAME = "crms.mybatis.statements";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public MyBatisTimingInterceptor(final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        final var meterRegistry = this.meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return invocation.proceed();
+        }
+
+        final var mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        final var sample = Timer.start(meterRegistry);
+        var exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            // 実行時の例外はリフレクションの例外に包まれている
+            exception = ExceptionUtil.unwrapThrowable(e).getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME) //
+                .tag("statement", mappedStatement.getId()) //
+                .tag("command", mappedStatement.getSqlCommandType().name()) //
+                .tag("exception", exception) //
+                .register(meterRegistry));
+        }
+    }
+
+}
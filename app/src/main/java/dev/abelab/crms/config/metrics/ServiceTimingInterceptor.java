@@ -0,0 +1,86 @@
+package dev.abelab.crms.config.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * サービスのメソッドの処理時間を計測
+ *
+ * 例外の種類をタグに含めるため，エラー件数も同じタイマーから取得できる。
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+    /**
+     * メトリクス名
+     */
+    public static final String METRIC_NAME = "crms.service.calls";
+
+    /**
+     * 計測対象外の戻り値の型
+     *
+     * メソッドから戻った後も応答が続くため，処理時間が接続時間を表さない。
+     */
+    static final List<Class<?>> STREAMING_RETURN_TYPES = List.of( //
+        ResponseBodyEmitter.class, //
+        StreamingResponseBody.class, //
+        BaseStream.class //
+    );
+
+    /**
+     * 計測対象（@Serviceのpublicメソッドのうち，ストリームを返さないもの）
+     */
+    public static final StaticMethodMatcherPointcut POINTCUT = new StaticMethodMatcherPointcut() {
+        @Override
+        public boolean matches(final Method method, final Class<?> targetClass) {
+            return AnnotatedElementUtils.hasAnnotation(targetClass, Service.class) //
+                && Modifier.isPublic(method.getModifiers()) //
+                && method.getDeclaringClass() != Object.class //
+                && STREAMING_RETURN_TYPES.stream().noneMatch(type -> type.isAssignableFrom(method.getReturnType()));
+        }
+    };
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public ServiceTimingInterceptor(final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var meterRegistry = this.meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return invocation.proceed();
+        }
+
+        final var sample = Timer.start(meterRegistry);
+        var exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            final var method = invocation.getMethod();
+            sample.stop(Timer.builder(METRIC_NAME) //
+                .tag("class", method.getDeclaringClass().getSimpleName()) //
+                .tag("method", method.getName()) //
+                .tag("exception", exception) //
+                .register(meterRegistry));
+        }
+    }
+
+}
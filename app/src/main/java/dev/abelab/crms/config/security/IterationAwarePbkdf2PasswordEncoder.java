@@ -0,0 +1,95 @@
+package dev.abelab.crms.config.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+/**
+ * 反復回数をハッシュに含めるPBKDF2（HMAC-SHA256）
+ *
+ * Pbkdf2PasswordEncoderのハッシュは反復回数を含まないため，"反復回数$ハッシュ"の形式で保存する。
+ * 反復回数を変更しても保存済みのハッシュを検証でき，設定と異なる反復回数のハッシュは再計算の対象になる。
+ */
+public class IterationAwarePbkdf2PasswordEncoder implements PasswordEncoder {
+
+    private static final String SEPARATOR = "$";
+
+    private static final int HASH_WIDTH = 256;
+
+    /**
+     * 新しいハッシュの反復回数
+     */
+    private final int iterations;
+
+    /**
+     * 反復回数 -> エンコーダ
+     */
+    private final Map<Integer, Pbkdf2PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    public IterationAwarePbkdf2PasswordEncoder(final int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("iterations must be positive");
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return this.iterations + SEPARATOR + this.getEncoder(this.iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        final var iterations = parseIterations(encodedPassword);
+        if (iterations <= 0) {
+            return false;
+        }
+        final var hash = encodedPassword.substring(encodedPassword.indexOf(SEPARATOR) + 1);
+        return this.getEncoder(iterations).matches(rawPassword, hash);
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return parseIterations(encodedPassword) != this.iterations;
+    }
+
+    /**
+     * 反復回数ごとのエンコーダを取得
+     *
+     * @param iterations 反復回数
+     *
+     * @return エンコーダ
+     */
+    private Pbkdf2PasswordEncoder getEncoder(final int iterations) {
+        return this.encoders.computeIfAbsent(iterations, k -> {
+            final var encoder = new Pbkdf2PasswordEncoder("", k, HASH_WIDTH);
+            encoder.setAlgorithm(Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            return encoder;
+        });
+    }
+
+    /**
+     * ハッシュから反復回数を取得
+     *
+     * @param encodedPassword ハッシュ
+     *
+     * @return 反復回数（不正な形式: -1）
+     */
+    private static int parseIterations(final String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        final var separatorIndex = encodedPassword.indexOf(SEPARATOR);
+        if (separatorIndex <= 0) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(0, separatorIndex));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package dev.abelab.crms.config.security;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import lombok.*;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.exception.BaseException;
+
+/**
+ * リクエストごとに一度だけアクセストークンを検証し，ログインユーザをSecurityContextに格納するフィルタ
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final UserLogic userLogic;
+
+    /**
+     * エラーレスポンスをRestControllerExceptionAdviceと揃えるために利用
+     */
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    /**
+     * 認証不要なリクエスト（古いトークンが付与されていてもログインできるようにする）
+     */
+    private final RequestMatcher permittedRequestMatcher;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return this.permittedRequestMatcher.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+        throws ServletException, IOException {
+        // 資格情報がなければ認証せずに通す（認可はWebSecurityConfigで判定）
+        final var credentials = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (credentials == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            final var loginUser = this.userLogic.getLoginUser(credentials);
+            final var authentication = new UsernamePasswordAuthenticationToken(loginUser, credentials, Collections.emptyList());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        } catch (final BaseException e) {
+            // 無効な資格情報はコントローラに到達する前に拒否
+            SecurityContextHolder.clearContext();
+            this.handlerExceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+}
@@ -0,0 +1,47 @@
+package dev.abelab.crms.config.security;
+
+import java.util.Collections;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import lombok.*;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.UnauthorizedException;
+
+/**
+ * STOMPのCONNECTフレームでアクセストークンを検証するインターセプタ
+ *
+ * ブラウザのWebSocketはハンドシェイクに任意のヘッダを付与できないため，HTTPではなくCONNECTフレームのヘッダで認証する。
+ */
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private final UserLogic userLogic;
+
+    @Override
+    public Message<?> preSend(final Message<?> message, final MessageChannel channel) {
+        final var accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        final var credentials = accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION);
+        if (credentials == null) {
+            throw new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+
+        // 以降のフレームはこのセッションのユーザとして扱う
+        final var loginUser = this.userLogic.getLoginUser(credentials);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(loginUser, credentials, Collections.emptyList()));
+        return message;
+    }
+
+}
@@ -2,34 +2,55 @@ package dev.abelab.crms.config.security;
 
 import java.util.Collections;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import dev.abelab.crms.config.WebSocketConfig;
 import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.UnauthorizedException;
 
 @Configuration
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true)
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
+	/**
+	 * 認証不要なAPI
+	 */
+	private static final RequestMatcher PERMITTED_REQUEST_MATCHER = new OrRequestMatcher( //
+		new AntPathRequestMatcher("/api/login"), //
+		new AntPathRequestMatcher("/api/batch/**"), //
+		new AntPathRequestMatcher(WebSocketConfig.STOMP_ENDPOINT + "/**"), // CONNECTフレームで認証
+		EndpointRequest.toAnyEndpoint() // 管理用ポートでのみ公開
+	);
+
 	@Autowired
 	UserRepository userRepository;
 
-	@Bean
-	PasswordEncoder passwordEncoder() {
-		return new Pbkdf2PasswordEncoder();
-	}
+	@Autowired
+	UserLogic userLogic;
+
+	@Autowired
+	@Qualifier("handlerExceptionResolver")
+	HandlerExceptionResolver handlerExceptionResolver;
 
 	@Override
 	public void configure(WebSecurity web) throws Exception {
@@ -45,10 +66,22 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 		// ステートレスなセッション管理
 		http = http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and();
 
+		// アクセストークンを検証し，ログインユーザをSecurityContextに格納
+		http.addFilterBefore( //
+			new JwtAuthenticationFilter(this.userLogic, this.handlerExceptionResolver, PERMITTED_REQUEST_MATCHER), //
+			UsernamePasswordAuthenticationFilter.class);
+
+		// 未認証のリクエストはコントローラに到達する前に拒否
+		http = http.exceptionHandling() //
+			.authenticationEntryPoint((request, response, e) -> this.handlerExceptionResolver.resolveException(request, response, null,
+				new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN))) //
+			.and();
+
 		// アクセス許可
 		http.authorizeRequests() //
 			.antMatchers("/api/batch/**").hasIpAddress("::1") //
-			.antMatchers("/api/**").permitAll() //
+			.requestMatchers(PERMITTED_REQUEST_MATCHER).permitAll() //
+			.antMatchers("/api/**").authenticated() //
 			.anyRequest().authenticated();
 	}
 
@@ -0,0 +1,70 @@
+package dev.abelab.crms.converter;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.api.request.ReservationCreateRequest;
+import dev.abelab.crms.api.response.ReservationResponse;
+import dev.abelab.crms.api.response.ReservationDeltaResponse;
+
+/**
+ * 予約コンバータ（実装はMapStructがビルド時に生成）
+ */
+@Mapper(componentModel = "spring", uses = UserConverter.class, injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface ReservationConverter {
+
+    /**
+     * 予約（+ユーザ）を予約レスポンスに変換
+     *
+     * @param reservation 予約（+ユーザ）
+     *
+     * @return 予約レスポンス
+     */
+    ReservationResponse toResponse(ReservationWithUserModel reservation);
+
+    /**
+     * 予約作成リクエストを予約に変換
+     *
+     * @param requestBody 予約作成リクエスト
+     *
+     * @return 予約
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Reservation toEntity(ReservationCreateRequest requestBody);
+
+    /**
+     * 予約を予約の差分レスポンスに変換
+     *
+     * @param reservation 予約（定期予約の回を含む）
+     *
+     * @param action      予約アクション
+     *
+     * @return 予約の差分レスポンス
+     */
+    @Mapping(target = "action", source = "action")
+    @Mapping(target = "untilAt", ignore = true)
+    ReservationDeltaResponse toDeltaResponse(ReservationWithUserModel reservation, ReservationActionEnum action);
+
+    /**
+     * 定期予約を予約の差分レスポンスに変換
+     *
+     * @param series 定期予約
+     *
+     * @param action 予約アクション
+     *
+     * @return 予約の差分レスポンス
+     */
+    @Mapping(target = "action", source = "action")
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "seriesId", source = "series.id")
+    ReservationDeltaResponse toSeriesDeltaResponse(ReservationSeries series, ReservationActionEnum action);
+
+}
@@ -0,0 +1,49 @@
+package dev.abelab.crms.converter;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.api.request.UserCreateRequest;
+import dev.abelab.crms.api.response.UserResponse;
+
+/**
+ * ユーザコンバータ（実装はMapStructがビルド時に生成）
+ */
+@Mapper(componentModel = "spring")
+public interface UserConverter {
+
+    /**
+     * ユーザをユーザレスポンスに変換
+     *
+     * @param user ユーザ
+     *
+     * @return ユーザレスポンス
+     */
+    UserResponse toResponse(User user);
+
+    /**
+     * ユーザ一覧をユーザレスポンス一覧に変換
+     *
+     * @param users ユーザ一覧
+     *
+     * @return ユーザレスポンス一覧
+     */
+    List<UserResponse> toResponses(List<User> users);
+
+    /**
+     * ユーザ作成リクエストをユーザに変換（パスワードはハッシュ化して別途設定する）
+     *
+     * @param requestBody ユーザ作成リクエスト
+     *
+     * @return ユーザ
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "password", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    User toEntity(UserCreateRequest requestBody);
+
+}
@@ -0,0 +1,85 @@
+package dev.abelab.crms.db.entity;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationOutbox {
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.id
+     *
+     * @mbg.generated
+     */
+    private Integer id;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.message
+     *
+     * @mbg.generated
+     */
+    private String message;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.attempts
+     *
+     * @mbg.generated
+     */
+    private Integer attempts;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.available_at
+     *
+     * @mbg.generated
+     */
+    private Date availableAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.sent_at
+     *
+     * @mbg.generated
+     */
+    private Date sentAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.failed_at
+     *
+     * @mbg.generated
+     */
+    private Date failedAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.created_at
+     *
+     * @mbg.generated
+     */
+    private Date createdAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column notification_outbox.updated_at
+     *
+     * @mbg.generated
+     */
+    private Date updatedAt;
+}
\ No newline at end of file
@@ -0,0 +1,792 @@
+package dev.abelab.crms.db.entity;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class NotificationOutboxExample {
+    /**
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    protected String orderByClause;
+
+    /**
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    protected boolean distinct;
+
+    /**
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    protected List<Criteria> oredCriteria;
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public NotificationOutboxExample() {
+        oredCriteria = new ArrayList<>();
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public void setOrderByClause(String orderByClause) {
+        this.orderByClause = orderByClause;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public String getOrderByClause() {
+        return orderByClause;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public void setDistinct(boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public List<Criteria> getOredCriteria() {
+        return oredCriteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public void or(Criteria criteria) {
+        oredCriteria.add(criteria);
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public Criteria or() {
+        Criteria criteria = createCriteriaInternal();
+        oredCriteria.add(criteria);
+        return criteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public Criteria createCriteria() {
+        Criteria criteria = createCriteriaInternal();
+        if (oredCriteria.size() == 0) {
+            oredCriteria.add(criteria);
+        }
+        return criteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    protected Criteria createCriteriaInternal() {
+        Criteria criteria = new Criteria();
+        return criteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public void clear() {
+        oredCriteria.clear();
+        orderByClause = null;
+        distinct = false;
+    }
+
+    /**
+     * This class was generated by MyBatis Generator.
+     * This class corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    protected abstract static class GeneratedCriteria {
+        protected List<Criterion> criteria;
+
+        protected GeneratedCriteria() {
+            super();
+            criteria = new ArrayList<>();
+        }
+
+        public boolean isValid() {
+            return criteria.size() > 0;
+        }
+
+        public List<Criterion> getAllCriteria() {
+            return criteria;
+        }
+
+        public List<Criterion> getCriteria() {
+            return criteria;
+        }
+
+        protected void addCriterion(String condition) {
+            if (condition == null) {
+                throw new RuntimeException("Value for condition cannot be null");
+            }
+            criteria.add(new Criterion(condition));
+        }
+
+        protected void addCriterion(String condition, Object value, String property) {
+            if (value == null) {
+                throw new RuntimeException("Value for " + property + " cannot be null");
+            }
+            criteria.add(new Criterion(condition, value));
+        }
+
+        protected void addCriterion(String condition, Object value1, Object value2, String property) {
+            if (value1 == null || value2 == null) {
+                throw new RuntimeException("Between values for " + property + " cannot be null");
+            }
+            criteria.add(new Criterion(condition, value1, value2));
+        }
+
+        public Criteria andIdIsNull() {
+            addCriterion("id is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdIsNotNull() {
+            addCriterion("id is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdEqualTo(Integer value) {
+            addCriterion("id =", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotEqualTo(Integer value) {
+            addCriterion("id <>", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdGreaterThan(Integer value) {
+            addCriterion("id >", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdGreaterThanOrEqualTo(Integer value) {
+            addCriterion("id >=", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdLessThan(Integer value) {
+            addCriterion("id <", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdLessThanOrEqualTo(Integer value) {
+            addCriterion("id <=", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdIn(List<Integer> values) {
+            addCriterion("id in", values, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotIn(List<Integer> values) {
+            addCriterion("id not in", values, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdBetween(Integer value1, Integer value2) {
+            addCriterion("id between", value1, value2, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotBetween(Integer value1, Integer value2) {
+            addCriterion("id not between", value1, value2, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageIsNull() {
+            addCriterion("message is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageIsNotNull() {
+            addCriterion("message is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageEqualTo(String value) {
+            addCriterion("message =", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageNotEqualTo(String value) {
+            addCriterion("message <>", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageGreaterThan(String value) {
+            addCriterion("message >", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageGreaterThanOrEqualTo(String value) {
+            addCriterion("message >=", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageLessThan(String value) {
+            addCriterion("message <", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageLessThanOrEqualTo(String value) {
+            addCriterion("message <=", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageLike(String value) {
+            addCriterion("message like", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageNotLike(String value) {
+            addCriterion("message not like", value, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageIn(List<String> values) {
+            addCriterion("message in", values, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageNotIn(List<String> values) {
+            addCriterion("message not in", values, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageBetween(String value1, String value2) {
+            addCriterion("message between", value1, value2, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andMessageNotBetween(String value1, String value2) {
+            addCriterion("message not between", value1, value2, "message");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsIsNull() {
+            addCriterion("attempts is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsIsNotNull() {
+            addCriterion("attempts is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsEqualTo(Integer value) {
+            addCriterion("attempts =", value, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsNotEqualTo(Integer value) {
+            addCriterion("attempts <>", value, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsGreaterThan(Integer value) {
+            addCriterion("attempts >", value, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsGreaterThanOrEqualTo(Integer value) {
+            addCriterion("attempts >=", value, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsLessThan(Integer value) {
+            addCriterion("attempts <", value, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsLessThanOrEqualTo(Integer value) {
+            addCriterion("attempts <=", value, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsIn(List<Integer> values) {
+            addCriterion("attempts in", values, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsNotIn(List<Integer> values) {
+            addCriterion("attempts not in", values, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsBetween(Integer value1, Integer value2) {
+            addCriterion("attempts between", value1, value2, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAttemptsNotBetween(Integer value1, Integer value2) {
+            addCriterion("attempts not between", value1, value2, "attempts");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtIsNull() {
+            addCriterion("available_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtIsNotNull() {
+            addCriterion("available_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtEqualTo(Date value) {
+            addCriterion("available_at =", value, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtNotEqualTo(Date value) {
+            addCriterion("available_at <>", value, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtGreaterThan(Date value) {
+            addCriterion("available_at >", value, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("available_at >=", value, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtLessThan(Date value) {
+            addCriterion("available_at <", value, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtLessThanOrEqualTo(Date value) {
+            addCriterion("available_at <=", value, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtIn(List<Date> values) {
+            addCriterion("available_at in", values, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtNotIn(List<Date> values) {
+            addCriterion("available_at not in", values, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtBetween(Date value1, Date value2) {
+            addCriterion("available_at between", value1, value2, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andAvailableAtNotBetween(Date value1, Date value2) {
+            addCriterion("available_at not between", value1, value2, "availableAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtIsNull() {
+            addCriterion("sent_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtIsNotNull() {
+            addCriterion("sent_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtEqualTo(Date value) {
+            addCriterion("sent_at =", value, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtNotEqualTo(Date value) {
+            addCriterion("sent_at <>", value, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtGreaterThan(Date value) {
+            addCriterion("sent_at >", value, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("sent_at >=", value, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtLessThan(Date value) {
+            addCriterion("sent_at <", value, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtLessThanOrEqualTo(Date value) {
+            addCriterion("sent_at <=", value, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtIn(List<Date> values) {
+            addCriterion("sent_at in", values, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtNotIn(List<Date> values) {
+            addCriterion("sent_at not in", values, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtBetween(Date value1, Date value2) {
+            addCriterion("sent_at between", value1, value2, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andSentAtNotBetween(Date value1, Date value2) {
+            addCriterion("sent_at not between", value1, value2, "sentAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtIsNull() {
+            addCriterion("failed_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtIsNotNull() {
+            addCriterion("failed_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtEqualTo(Date value) {
+            addCriterion("failed_at =", value, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtNotEqualTo(Date value) {
+            addCriterion("failed_at <>", value, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtGreaterThan(Date value) {
+            addCriterion("failed_at >", value, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("failed_at >=", value, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtLessThan(Date value) {
+            addCriterion("failed_at <", value, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtLessThanOrEqualTo(Date value) {
+            addCriterion("failed_at <=", value, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtIn(List<Date> values) {
+            addCriterion("failed_at in", values, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtNotIn(List<Date> values) {
+            addCriterion("failed_at not in", values, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtBetween(Date value1, Date value2) {
+            addCriterion("failed_at between", value1, value2, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFailedAtNotBetween(Date value1, Date value2) {
+            addCriterion("failed_at not between", value1, value2, "failedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtIsNull() {
+            addCriterion("created_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtIsNotNull() {
+            addCriterion("created_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtEqualTo(Date value) {
+            addCriterion("created_at =", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtNotEqualTo(Date value) {
+            addCriterion("created_at <>", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtGreaterThan(Date value) {
+            addCriterion("created_at >", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("created_at >=", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtLessThan(Date value) {
+            addCriterion("created_at <", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtLessThanOrEqualTo(Date value) {
+            addCriterion("created_at <=", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtIn(List<Date> values) {
+            addCriterion("created_at in", values, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtNotIn(List<Date> values) {
+            addCriterion("created_at not in", values, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtBetween(Date value1, Date value2) {
+            addCriterion("created_at between", value1, value2, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtNotBetween(Date value1, Date value2) {
+            addCriterion("created_at not between", value1, value2, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtIsNull() {
+            addCriterion("updated_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtIsNotNull() {
+            addCriterion("updated_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtEqualTo(Date value) {
+            addCriterion("updated_at =", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtNotEqualTo(Date value) {
+            addCriterion("updated_at <>", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtGreaterThan(Date value) {
+            addCriterion("updated_at >", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("updated_at >=", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtLessThan(Date value) {
+            addCriterion("updated_at <", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtLessThanOrEqualTo(Date value) {
+            addCriterion("updated_at <=", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtIn(List<Date> values) {
+            addCriterion("updated_at in", values, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtNotIn(List<Date> values) {
+            addCriterion("updated_at not in", values, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtBetween(Date value1, Date value2) {
+            addCriterion("updated_at between", value1, value2, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtNotBetween(Date value1, Date value2) {
+            addCriterion("updated_at not between", value1, value2, "updatedAt");
+            return (Criteria) this;
+        }
+    }
+
+    /**
+     * This class was generated by MyBatis Generator.
+     * This class corresponds to the database table notification_outbox
+     *
+     * @mbg.generated do_not_delete_during_merge
+     */
+    public static class Criteria extends GeneratedCriteria {
+        protected Criteria() {
+            super();
+        }
+    }
+
+    /**
+     * This class was generated by MyBatis Generator.
+     * This class corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    public static class Criterion {
+        private String condition;
+
+        private Object value;
+
+        private Object secondValue;
+
+        private boolean noValue;
+
+        private boolean singleValue;
+
+        private boolean betweenValue;
+
+        private boolean listValue;
+
+        private String typeHandler;
+
+        public String getCondition() {
+            return condition;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Object getSecondValue() {
+            return secondValue;
+        }
+
+        public boolean isNoValue() {
+            return noValue;
+        }
+
+        public boolean isSingleValue() {
+            return singleValue;
+        }
+
+        public boolean isBetweenValue() {
+            return betweenValue;
+        }
+
+        public boolean isListValue() {
+            return listValue;
+        }
+
+        public String getTypeHandler() {
+            return typeHandler;
+        }
+
+        protected Criterion(String condition) {
+            super();
+            this.condition = condition;
+            this.typeHandler = null;
+            this.noValue = true;
+        }
+
+        protected Criterion(String condition, Object value, String typeHandler) {
+            super();
+            this.condition = condition;
+            this.value = value;
+            this.typeHandler = typeHandler;
+            if (value instanceof List<?>) {
+                this.listValue = true;
+            } else {
+                this.singleValue = true;
+            }
+        }
+
+        protected Criterion(String condition, Object value) {
+            this(condition, value, null);
+        }
+
+        protected Criterion(String condition, Object value, Object secondValue, String typeHandler) {
+            super();
+            this.condition = condition;
+            this.value = value;
+            this.secondValue = secondValue;
+            this.typeHandler = typeHandler;
+            this.betweenValue = true;
+        }
+
+        protected Criterion(String condition, Object value, Object secondValue) {
+            this(condition, value, secondValue, null);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package dev.abelab.crms.db.entity;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationSeries {
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series.id
+     *
+     * @mbg.generated
+     */
+    private Integer id;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series.user_id
+     *
+     * @mbg.generated
+     */
+    private Integer userId;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series.start_at
+     *
+     * @mbg.generated
+     */
+    private Date startAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series.finish_at
+     *
+     * @mbg.generated
+     */
+    private Date finishAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series.until_at
+     *
+     * @mbg.generated
+     */
+    private Date untilAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series.created_at
+     *
+     * @mbg.generated
+     */
+    private Date createdAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series.updated_at
+     *
+     * @mbg.generated
+     */
+    private Date updatedAt;
+}
\ No newline at end of file
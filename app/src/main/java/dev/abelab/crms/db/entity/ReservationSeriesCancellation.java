@@ -0,0 +1,58 @@
+package dev.abelab.crms.db.entity;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationSeriesCancellation {
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series_cancellation.id
+     *
+     * @mbg.generated
+     */
+    private Integer id;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series_cancellation.series_id
+     *
+     * @mbg.generated
+     */
+    private Integer seriesId;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series_cancellation.occurrence_at
+     *
+     * @mbg.generated
+     */
+    private Date occurrenceAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series_cancellation.created_at
+     *
+     * @mbg.generated
+     */
+    private Date createdAt;
+
+    /**
+     *
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database column reservation_series_cancellation.updated_at
+     *
+     * @mbg.generated
+     */
+    private Date updatedAt;
+}
\ No newline at end of file
@@ -0,0 +1,722 @@
+package dev.abelab.crms.db.entity;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class ReservationSeriesExample {
+    /**
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    protected String orderByClause;
+
+    /**
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    protected boolean distinct;
+
+    /**
+     * This field was generated by MyBatis Generator.
+     * This field corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    protected List<Criteria> oredCriteria;
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public ReservationSeriesExample() {
+        oredCriteria = new ArrayList<>();
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public void setOrderByClause(String orderByClause) {
+        this.orderByClause = orderByClause;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public String getOrderByClause() {
+        return orderByClause;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public void setDistinct(boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public List<Criteria> getOredCriteria() {
+        return oredCriteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public void or(Criteria criteria) {
+        oredCriteria.add(criteria);
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public Criteria or() {
+        Criteria criteria = createCriteriaInternal();
+        oredCriteria.add(criteria);
+        return criteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public Criteria createCriteria() {
+        Criteria criteria = createCriteriaInternal();
+        if (oredCriteria.size() == 0) {
+            oredCriteria.add(criteria);
+        }
+        return criteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    protected Criteria createCriteriaInternal() {
+        Criteria criteria = new Criteria();
+        return criteria;
+    }
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public void clear() {
+        oredCriteria.clear();
+        orderByClause = null;
+        distinct = false;
+    }
+
+    /**
+     * This class was generated by MyBatis Generator.
+     * This class corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    protected abstract static class GeneratedCriteria {
+        protected List<Criterion> criteria;
+
+        protected GeneratedCriteria() {
+            super();
+            criteria = new ArrayList<>();
+        }
+
+        public boolean isValid() {
+            return criteria.size() > 0;
+        }
+
+        public List<Criterion> getAllCriteria() {
+            return criteria;
+        }
+
+        public List<Criterion> getCriteria() {
+            return criteria;
+        }
+
+        protected void addCriterion(String condition) {
+            if (condition == null) {
+                throw new RuntimeException("Value for condition cannot be null");
+            }
+            criteria.add(new Criterion(condition));
+        }
+
+        protected void addCriterion(String condition, Object value, String property) {
+            if (value == null) {
+                throw new RuntimeException("Value for " + property + " cannot be null");
+            }
+            criteria.add(new Criterion(condition, value));
+        }
+
+        protected void addCriterion(String condition, Object value1, Object value2, String property) {
+            if (value1 == null || value2 == null) {
+                throw new RuntimeException("Between values for " + property + " cannot be null");
+            }
+            criteria.add(new Criterion(condition, value1, value2));
+        }
+
+        public Criteria andIdIsNull() {
+            addCriterion("id is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdIsNotNull() {
+            addCriterion("id is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdEqualTo(Integer value) {
+            addCriterion("id =", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotEqualTo(Integer value) {
+            addCriterion("id <>", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdGreaterThan(Integer value) {
+            addCriterion("id >", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdGreaterThanOrEqualTo(Integer value) {
+            addCriterion("id >=", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdLessThan(Integer value) {
+            addCriterion("id <", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdLessThanOrEqualTo(Integer value) {
+            addCriterion("id <=", value, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdIn(List<Integer> values) {
+            addCriterion("id in", values, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotIn(List<Integer> values) {
+            addCriterion("id not in", values, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdBetween(Integer value1, Integer value2) {
+            addCriterion("id between", value1, value2, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andIdNotBetween(Integer value1, Integer value2) {
+            addCriterion("id not between", value1, value2, "id");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdIsNull() {
+            addCriterion("user_id is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdIsNotNull() {
+            addCriterion("user_id is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdEqualTo(Integer value) {
+            addCriterion("user_id =", value, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdNotEqualTo(Integer value) {
+            addCriterion("user_id <>", value, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdGreaterThan(Integer value) {
+            addCriterion("user_id >", value, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdGreaterThanOrEqualTo(Integer value) {
+            addCriterion("user_id >=", value, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdLessThan(Integer value) {
+            addCriterion("user_id <", value, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdLessThanOrEqualTo(Integer value) {
+            addCriterion("user_id <=", value, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdIn(List<Integer> values) {
+            addCriterion("user_id in", values, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdNotIn(List<Integer> values) {
+            addCriterion("user_id not in", values, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdBetween(Integer value1, Integer value2) {
+            addCriterion("user_id between", value1, value2, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andUserIdNotBetween(Integer value1, Integer value2) {
+            addCriterion("user_id not between", value1, value2, "userId");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtIsNull() {
+            addCriterion("start_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtIsNotNull() {
+            addCriterion("start_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtEqualTo(Date value) {
+            addCriterion("start_at =", value, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtNotEqualTo(Date value) {
+            addCriterion("start_at <>", value, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtGreaterThan(Date value) {
+            addCriterion("start_at >", value, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("start_at >=", value, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtLessThan(Date value) {
+            addCriterion("start_at <", value, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtLessThanOrEqualTo(Date value) {
+            addCriterion("start_at <=", value, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtIn(List<Date> values) {
+            addCriterion("start_at in", values, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtNotIn(List<Date> values) {
+            addCriterion("start_at not in", values, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtBetween(Date value1, Date value2) {
+            addCriterion("start_at between", value1, value2, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andStartAtNotBetween(Date value1, Date value2) {
+            addCriterion("start_at not between", value1, value2, "startAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtIsNull() {
+            addCriterion("finish_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtIsNotNull() {
+            addCriterion("finish_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtEqualTo(Date value) {
+            addCriterion("finish_at =", value, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtNotEqualTo(Date value) {
+            addCriterion("finish_at <>", value, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtGreaterThan(Date value) {
+            addCriterion("finish_at >", value, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("finish_at >=", value, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtLessThan(Date value) {
+            addCriterion("finish_at <", value, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtLessThanOrEqualTo(Date value) {
+            addCriterion("finish_at <=", value, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtIn(List<Date> values) {
+            addCriterion("finish_at in", values, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtNotIn(List<Date> values) {
+            addCriterion("finish_at not in", values, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtBetween(Date value1, Date value2) {
+            addCriterion("finish_at between", value1, value2, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andFinishAtNotBetween(Date value1, Date value2) {
+            addCriterion("finish_at not between", value1, value2, "finishAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtIsNull() {
+            addCriterion("until_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtIsNotNull() {
+            addCriterion("until_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtEqualTo(Date value) {
+            addCriterion("until_at =", value, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtNotEqualTo(Date value) {
+            addCriterion("until_at <>", value, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtGreaterThan(Date value) {
+            addCriterion("until_at >", value, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("until_at >=", value, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtLessThan(Date value) {
+            addCriterion("until_at <", value, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtLessThanOrEqualTo(Date value) {
+            addCriterion("until_at <=", value, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtIn(List<Date> values) {
+            addCriterion("until_at in", values, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtNotIn(List<Date> values) {
+            addCriterion("until_at not in", values, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtBetween(Date value1, Date value2) {
+            addCriterion("until_at between", value1, value2, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUntilAtNotBetween(Date value1, Date value2) {
+            addCriterion("until_at not between", value1, value2, "untilAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtIsNull() {
+            addCriterion("created_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtIsNotNull() {
+            addCriterion("created_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtEqualTo(Date value) {
+            addCriterion("created_at =", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtNotEqualTo(Date value) {
+            addCriterion("created_at <>", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtGreaterThan(Date value) {
+            addCriterion("created_at >", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("created_at >=", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtLessThan(Date value) {
+            addCriterion("created_at <", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtLessThanOrEqualTo(Date value) {
+            addCriterion("created_at <=", value, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtIn(List<Date> values) {
+            addCriterion("created_at in", values, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtNotIn(List<Date> values) {
+            addCriterion("created_at not in", values, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtBetween(Date value1, Date value2) {
+            addCriterion("created_at between", value1, value2, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andCreatedAtNotBetween(Date value1, Date value2) {
+            addCriterion("created_at not between", value1, value2, "createdAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtIsNull() {
+            addCriterion("updated_at is null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtIsNotNull() {
+            addCriterion("updated_at is not null");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtEqualTo(Date value) {
+            addCriterion("updated_at =", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtNotEqualTo(Date value) {
+            addCriterion("updated_at <>", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtGreaterThan(Date value) {
+            addCriterion("updated_at >", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtGreaterThanOrEqualTo(Date value) {
+            addCriterion("updated_at >=", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtLessThan(Date value) {
+            addCriterion("updated_at <", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtLessThanOrEqualTo(Date value) {
+            addCriterion("updated_at <=", value, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtIn(List<Date> values) {
+            addCriterion("updated_at in", values, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtNotIn(List<Date> values) {
+            addCriterion("updated_at not in", values, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtBetween(Date value1, Date value2) {
+            addCriterion("updated_at between", value1, value2, "updatedAt");
+            return (Criteria) this;
+        }
+
+        public Criteria andUpdatedAtNotBetween(Date value1, Date value2) {
+            addCriterion("updated_at not between", value1, value2, "updatedAt");
+            return (Criteria) this;
+        }
+    }
+
+    /**
+     * This class was generated by MyBatis Generator.
+     * This class corresponds to the database table reservation_series
+     *
+     * @mbg.generated do_not_delete_during_merge
+     */
+    public static class Criteria extends GeneratedCriteria {
+        protected Criteria() {
+            super();
+        }
+    }
+
+    /**
+     * This class was generated by MyBatis Generator.
+     * This class corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    public static class Criterion {
+        private String condition;
+
+        private Object value;
+
+        private Object secondValue;
+
+        private boolean noValue;
+
+        private boolean singleValue;
+
+        private boolean betweenValue;
+
+        private boolean listValue;
+
+        private String typeHandler;
+
+        public String getCondition() {
+            return condition;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Object getSecondValue() {
+            return secondValue;
+        }
+
+        public boolean isNoValue() {
+            return noValue;
+        }
+
+        public boolean isSingleValue() {
+            return singleValue;
+        }
+
+        public boolean isBetweenValue() {
+            return betweenValue;
+        }
+
+        public boolean isListValue() {
+            return listValue;
+        }
+
+        public String getTypeHandler() {
+            return typeHandler;
+        }
+
+        protected Criterion(String condition) {
+            super();
+            this.condition = condition;
+            this.typeHandler = null;
+            this.noValue = true;
+        }
+
+        protected Criterion(String condition, Object value, String typeHandler) {
+            super();
+            this.condition = condition;
+            this.value = value;
+            this.typeHandler = typeHandler;
+            if (value instanceof List<?>) {
+                this.listValue = true;
+            } else {
+                this.singleValue = true;
+            }
+        }
+
+        protected Criterion(String condition, Object value) {
+            this(condition, value, null);
+        }
+
+        protected Criterion(String condition, Object value, Object secondValue, String typeHandler) {
+            super();
+            this.condition = condition;
+            this.value = value;
+            this.secondValue = secondValue;
+            this.typeHandler = typeHandler;
+            this.betweenValue = true;
+        }
+
+        protected Criterion(String condition, Object value, Object secondValue) {
+            this(condition, value, secondValue, null);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package dev.abelab.crms.db.mapper;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import dev.abelab.crms.db.entity.NotificationOutbox;
+
+/**
+ * 通知アウトボックスカスタムマッパー（MyBatis Generatorの生成対象外）
+ */
+@Mapper
+public interface NotificationOutboxCustomMapper {
+
+    /**
+     * 送信可能な未送信の通知を排他ロックして取得（他のトランザクションがロック中の行は飛ばす）
+     *
+     * @param now   現在日時
+     *
+     * @param limit 取得件数
+     *
+     * @return 通知一覧
+     */
+    List<NotificationOutbox> selectPendingForUpdateSkipLocked(@Param("now") Date now, @Param("limit") int limit);
+
+    /**
+     * 未送信の通知数を取得
+     *
+     * @return 通知数
+     */
+    long countPending();
+
+    /**
+     * 送信を諦めた通知数を取得
+     *
+     * @return 通知数
+     */
+    long countDeadLettered();
+
+    /**
+     * 最も古い未送信の通知の作成日時を取得
+     *
+     * @return 作成日時（未送信なし: null）
+     */
+    Date selectOldestPendingCreatedAt();
+
+    /**
+     * 通知を送信用に確保し，送信試行回数を記録
+     *
+     * @param ids        通知ID一覧
+     *
+     * @param leaseUntil 確保を解除する日時
+     */
+    void claim(@Param("ids") List<Integer> ids, @Param("leaseUntil") Date leaseUntil);
+
+    /**
+     * 通知を送信済みにする
+     *
+     * @param ids    通知ID一覧
+     *
+     * @param sentAt 送信日時
+     */
+    void markSent(@Param("ids") List<Integer> ids, @Param("sentAt") Date sentAt);
+
+    /**
+     * 通知の送信失敗を記録
+     *
+     * @param ids         通知ID一覧
+     *
+     * @param availableAt 次に送信を試みる日時
+     */
+    void markFailed(@Param("ids") List<Integer> ids, @Param("availableAt") Date availableAt);
+
+    /**
+     * 通知の送信を諦める
+     *
+     * @param ids      通知ID一覧
+     *
+     * @param failedAt 送信を諦めた日時
+     */
+    void markDeadLettered(@Param("ids") List<Integer> ids, @Param("failedAt") Date failedAt);
+
+    /**
+     * 送信済みの通知を削除
+     *
+     * @param sentBefore この日時より前に送信した通知を削除
+     *
+     * @param limit      削除件数
+     *
+     * @return 削除件数
+     */
+    int deleteSentBefore(@Param("sentBefore") Date sentBefore, @Param("limit") int limit);
+
+}
@@ -0,0 +1,98 @@
+package dev.abelab.crms.db.mapper;
+
+import dev.abelab.crms.db.entity.NotificationOutbox;
+import dev.abelab.crms.db.entity.NotificationOutboxExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface NotificationOutboxMapper {
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    long countByExample(NotificationOutboxExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int deleteByExample(NotificationOutboxExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int deleteByPrimaryKey(Integer id);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int insert(NotificationOutbox record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int insertSelective(NotificationOutbox record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    List<NotificationOutbox> selectByExample(NotificationOutboxExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    NotificationOutbox selectByPrimaryKey(Integer id);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int updateByExampleSelective(@Param("record") NotificationOutbox record, @Param("example") NotificationOutboxExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int updateByExample(@Param("record") NotificationOutbox record, @Param("example") NotificationOutboxExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int updateByPrimaryKeySelective(NotificationOutbox record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table notification_outbox
+     *
+     * @mbg.generated
+     */
+    int updateByPrimaryKey(NotificationOutbox record);
+}
\ No newline at end of file
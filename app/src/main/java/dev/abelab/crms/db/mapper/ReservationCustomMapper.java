@@ -0,0 +1,90 @@
+package dev.abelab.crms.db.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+
+import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
+
+/**
+ * 予約カスタムマッパー（MyBatis Generatorの生成対象外）
+ */
+@Mapper
+public interface ReservationCustomMapper {
+
+    /**
+     * 検索条件に一致する予約（+ユーザ）一覧を取得
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約（+ユーザ）一覧
+     */
+    List<ReservationWithUserModel> selectWithUserByCondition(ReservationSearchConditionModel condition);
+
+    /**
+     * 検索条件に一致する予約（+ユーザ）をカーソルで取得
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約（+ユーザ）カーソル
+     */
+    Cursor<ReservationWithUserModel> selectCursorWithUserByCondition(ReservationSearchConditionModel condition);
+
+    /**
+     * 検索条件に一致する予約が存在するか
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約が存在するか
+     */
+    boolean existsByCondition(ReservationSearchConditionModel condition);
+
+    /**
+     * 予約IDの存在確認
+     *
+     * @param id 予約ID
+     *
+     * @return 予約IDが存在するか
+     */
+    boolean existsByPrimaryKey(Integer id);
+
+    /**
+     * IDから予約（+ユーザ）を取得
+     *
+     * @param id 予約ID
+     *
+     * @return 予約（+ユーザ）
+     */
+    ReservationWithUserModel selectWithUserByPrimaryKey(Integer id);
+
+    /**
+     * 検索条件に一致する予約一覧を取得
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約一覧
+     */
+    List<Reservation> selectByCondition(ReservationSearchConditionModel condition);
+
+    /**
+     * IDリストから予約（+ユーザ）一覧を取得
+     *
+     * @param ids 予約IDリスト
+     *
+     * @return 予約（+ユーザ）一覧
+     */
+    List<ReservationWithUserModel> selectWithUserByPrimaryKeys(List<Integer> ids);
+
+    /**
+     * 予約を一括作成（採番したIDを各予約に設定）
+     *
+     * @param reservations 予約リスト
+     *
+     * @return 作成件数
+     */
+    int insertBulk(List<Reservation> reservations);
+
+}
@@ -0,0 +1,98 @@
+package dev.abelab.crms.db.mapper;
+
+import dev.abelab.crms.db.entity.ReservationSeriesCancellation;
+import dev.abelab.crms.db.entity.ReservationSeriesCancellationExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ReservationSeriesCancellationMapper {
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    long countByExample(ReservationSeriesCancellationExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int deleteByExample(ReservationSeriesCancellationExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int deleteByPrimaryKey(Integer id);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int insert(ReservationSeriesCancellation record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int insertSelective(ReservationSeriesCancellation record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    List<ReservationSeriesCancellation> selectByExample(ReservationSeriesCancellationExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    ReservationSeriesCancellation selectByPrimaryKey(Integer id);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int updateByExampleSelective(@Param("record") ReservationSeriesCancellation record, @Param("example") ReservationSeriesCancellationExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int updateByExample(@Param("record") ReservationSeriesCancellation record, @Param("example") ReservationSeriesCancellationExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int updateByPrimaryKeySelective(ReservationSeriesCancellation record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series_cancellation
+     *
+     * @mbg.generated
+     */
+    int updateByPrimaryKey(ReservationSeriesCancellation record);
+}
\ No newline at end of file
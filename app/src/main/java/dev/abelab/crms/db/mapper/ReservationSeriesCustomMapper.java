@@ -0,0 +1,44 @@
+package dev.abelab.crms.db.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import dev.abelab.crms.db.entity.ReservationSeriesCancellation;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
+
+/**
+ * 定期予約カスタムマッパー（MyBatis Generatorの生成対象外）
+ */
+@Mapper
+public interface ReservationSeriesCustomMapper {
+
+    /**
+     * 検索条件の期間に発生しうる定期予約（+ユーザ）一覧を取得
+     *
+     * @param condition 検索条件
+     *
+     * @return 定期予約（+ユーザ）一覧
+     */
+    List<ReservationSeriesWithUserModel> selectWithUserByCondition(ReservationSearchConditionModel condition);
+
+    /**
+     * IDから定期予約（+ユーザ）を取得
+     *
+     * @param id 定期予約ID
+     *
+     * @return 定期予約（+ユーザ）
+     */
+    ReservationSeriesWithUserModel selectWithUserByPrimaryKey(Integer id);
+
+    /**
+     * 定期予約の回のキャンセルを一括作成
+     *
+     * @param cancellations キャンセルリスト
+     *
+     * @return 作成件数
+     */
+    int insertCancellations(List<ReservationSeriesCancellation> cancellations);
+
+}
@@ -0,0 +1,98 @@
+package dev.abelab.crms.db.mapper;
+
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.db.entity.ReservationSeriesExample;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ReservationSeriesMapper {
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    long countByExample(ReservationSeriesExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int deleteByExample(ReservationSeriesExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int deleteByPrimaryKey(Integer id);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int insert(ReservationSeries record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int insertSelective(ReservationSeries record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    List<ReservationSeries> selectByExample(ReservationSeriesExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    ReservationSeries selectByPrimaryKey(Integer id);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int updateByExampleSelective(@Param("record") ReservationSeries record, @Param("example") ReservationSeriesExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int updateByExample(@Param("record") ReservationSeries record, @Param("example") ReservationSeriesExample example);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int updateByPrimaryKeySelective(ReservationSeries record);
+
+    /**
+     * This method was generated by MyBatis Generator.
+     * This method corresponds to the database table reservation_series
+     *
+     * @mbg.generated
+     */
+    int updateByPrimaryKey(ReservationSeries record);
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package dev.abelab.crms.db.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * リソースバージョンカスタムマッパー（MyBatis Generatorの生成対象外）
+ */
+@Mapper
+public interface ResourceVersionCustomMapper {
+
+    /**
+     * バージョンを取得
+     *
+     * @param resource リソース名
+     *
+     * @return バージョン
+     */
+    long selectVersion(String resource);
+
+    /**
+     * バージョンを進める
+     *
+     * @param resources リソース名一覧
+     */
+    void increment(@Param("resources") List<String> resources);
+
+}
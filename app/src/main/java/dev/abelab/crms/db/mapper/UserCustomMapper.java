@@ -0,0 +1,38 @@
+package dev.abelab.crms.db.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * ユーザカスタムマッパー（MyBatis Generatorの生成対象外）
+ */
+@Mapper
+public interface UserCustomMapper {
+
+    /**
+     * ユーザ行を排他ロックしてIDを取得
+     *
+     * @param id ユーザID
+     *
+     * @return ユーザID
+     */
+    Integer selectIdByPrimaryKeyForUpdate(Integer id);
+
+    /**
+     * ユーザIDの存在確認
+     *
+     * @param id ユーザID
+     *
+     * @return ユーザIDが存在するか
+     */
+    boolean existsByPrimaryKey(Integer id);
+
+    /**
+     * メールアドレスの存在確認
+     *
+     * @param email メールアドレス
+     *
+     * @return メールアドレスが存在するか
+     */
+    boolean existsByEmail(String email);
+
+}
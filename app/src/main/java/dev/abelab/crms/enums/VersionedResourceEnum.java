@@ -0,0 +1,18 @@
+package dev.abelab.crms.enums;
+
+/**
+ * The enum versioned resource
+ */
+public enum VersionedResourceEnum {
+
+    /**
+     * 予約一覧
+     */
+    RESERVATIONS,
+
+    /**
+     * ユーザ一覧
+     */
+    USERS
+
+}
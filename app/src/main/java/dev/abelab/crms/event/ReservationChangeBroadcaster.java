@@ -0,0 +1,46 @@
+package dev.abelab.crms.event;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.event.TransactionPhase;
+
+import lombok.*;
+import dev.abelab.crms.converter.ReservationConverter;
+
+@RequiredArgsConstructor
+@Component
+public class ReservationChangeBroadcaster {
+
+    /**
+     * 予約の差分の配信先
+     */
+    public static final String RESERVATIONS_TOPIC = "/topic/reservations";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final ReservationConverter reservationConverter;
+
+    /**
+     * コミット後に予約の差分を購読者に配信
+     *
+     * @param event 予約変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        final var delta = this.reservationConverter.toDeltaResponse(event.getReservation(), event.getAction());
+        this.messagingTemplate.convertAndSend(RESERVATIONS_TOPIC, delta);
+    }
+
+    /**
+     * コミット後に定期予約の差分を購読者に配信
+     *
+     * @param event 定期予約変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationSeriesChanged(final ReservationSeriesChangedEvent event) {
+        final var delta = this.reservationConverter.toSeriesDeltaResponse(event.getSeries(), event.getAction());
+        this.messagingTemplate.convertAndSend(RESERVATIONS_TOPIC, delta);
+    }
+
+}
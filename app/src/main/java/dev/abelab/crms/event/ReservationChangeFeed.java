@@ -0,0 +1,330 @@
+package dev.abelab.crms.event;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.abelab.crms.converter.ReservationConverter;
+import dev.abelab.crms.model.ReservationChangeModel;
+import dev.abelab.crms.api.response.ReservationDeltaResponse;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * 予約の変更フィード（Server-Sent Events）
+ *
+ * 直近の変更をリングバッファに保持し，Last-Event-IDで再接続した購読者には取りこぼした変更を再送する。
+ * バッファから溢れた購読者にはresetイベントを送り，予約一覧を取得し直させる。
+ *
+ * 購読者への送信は専用のスレッドプールで行い，ロックを持ったまま送信しない。
+ * 各購読者は送信済みのシーケンスからバッファを読み進め，バッファから溢れるほど遅れた購読者は切断する。
+ */
+@Component
+public class ReservationChangeFeed {
+
+    /**
+     * 予約の差分イベント
+     */
+    public static final String CHANGE_EVENT = "change";
+
+    /**
+     * 予約一覧の再取得を促すイベント
+     */
+    public static final String RESET_EVENT = "reset";
+
+    private final ReservationConverter reservationConverter;
+
+    private final CrmsProperty.ChangeFeed changeFeedProperty;
+
+    /**
+     * 購読者への送信を行うスレッドプール
+     */
+    private final Executor executor;
+
+    /**
+     * 直近の変更（sequence % バッファサイズの位置に格納）
+     */
+    private final ReservationChangeModel[] buffer;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * 最後に発行した変更シーケンス（0: 変更なし）
+     */
+    private long lastSequence;
+
+    public ReservationChangeFeed(final ReservationConverter reservationConverter, final CrmsProperty crmsProperty) {
+        this(reservationConverter, crmsProperty, createExecutor(crmsProperty.getChangeFeed()));
+    }
+
+    ReservationChangeFeed(final ReservationConverter reservationConverter, final CrmsProperty crmsProperty, final Executor executor) {
+        this.reservationConverter = reservationConverter;
+        this.changeFeedProperty = crmsProperty.getChangeFeed();
+        this.executor = executor;
+        this.buffer = new ReservationChangeModel[this.changeFeedProperty.getBufferSize()];
+    }
+
+    /**
+     * 送信用のスレッドプールを作成
+     *
+     * 購読者ごとに待機する送信は1つまでのため，待ち行列の長さは購読者数で抑えられる。
+     *
+     * @param changeFeedProperty 変更フィードの設定
+     *
+     * @return スレッドプール
+     */
+    private static ExecutorService createExecutor(final CrmsProperty.ChangeFeed changeFeedProperty) {
+        final var threadFactory = new CustomizableThreadFactory("change-feed-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(changeFeedProperty.getSenderThreads(), changeFeedProperty.getSenderThreads(), 0L, TimeUnit.MILLISECONDS, //
+            new ArrayBlockingQueue<>(changeFeedProperty.getSenderQueueSize()), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * コミット後に予約の変更をフィードに追加
+     *
+     * @param event 予約変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        this.append(this.reservationConverter.toDeltaResponse(event.getReservation(), event.getAction()));
+    }
+
+    /**
+     * コミット後に定期予約の変更をフィードに追加
+     *
+     * @param event 定期予約変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationSeriesChanged(final ReservationSeriesChangedEvent event) {
+        this.append(this.reservationConverter.toSeriesDeltaResponse(event.getSeries(), event.getAction()));
+    }
+
+    /**
+     * 予約の差分をフィードに追加し，購読者に配信
+     *
+     * @param delta 予約の差分
+     *
+     * @return 変更シーケンス
+     */
+    public long append(final ReservationDeltaResponse delta) {
+        final long sequence;
+        final List<Subscriber> subscribers;
+        synchronized (this) {
+            sequence = ++this.lastSequence;
+            this.buffer[(int) (sequence % this.buffer.length)] = new ReservationChangeModel(sequence, delta);
+            subscribers = List.copyOf(this.subscribers);
+        }
+
+        subscribers.forEach(this::scheduleDelivery);
+        return sequence;
+    }
+
+    /**
+     * 指定したシーケンスより後の変更を取得
+     *
+     * @param sequence 変更シーケンス
+     *
+     * @return 変更一覧（バッファから溢れている: empty）
+     */
+    public synchronized Optional<List<ReservationChangeModel>> getChangesAfter(final long sequence) {
+        // 再起動前のシーケンスやバッファより古いシーケンスからは再開できない
+        final var oldestSequence = Math.max(this.lastSequence - this.buffer.length + 1, 1);
+        if (sequence > this.lastSequence || sequence + 1 < oldestSequence) {
+            return Optional.empty();
+        }
+
+        final var changes = new ArrayList<ReservationChangeModel>();
+        for (var i = sequence + 1; i <= this.lastSequence; i++) {
+            changes.add(this.buffer[(int) (i % this.buffer.length)]);
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * フィードを購読
+     *
+     * @param lastEventId 最後に受信した変更シーケンス（null: 新規購読）
+     *
+     * @return SSE Emitter
+     */
+    public SseEmitter subscribe(final Long lastEventId) {
+        final var emitter = new SseEmitter(this.changeFeedProperty.getTimeoutMillis());
+
+        final Subscriber subscriber;
+        synchronized (this) {
+            // 取りこぼした変更は送信用のスレッドで再送し，再開できなければ予約一覧を取得し直させる
+            final var resumable = lastEventId != null && this.getChangesAfter(lastEventId).isPresent();
+            subscriber = new Subscriber(emitter, resumable ? lastEventId : this.lastSequence);
+            if (!resumable) {
+                // 接続前の送信はEmitterに溜められ，接続時に書き出される
+                this.send(subscriber, SseEmitter.event() //
+                    .id(String.valueOf(this.lastSequence)) //
+                    .name(RESET_EVENT) //
+                    .data(this.lastSequence));
+            }
+            this.subscribers.add(subscriber);
+        }
+
+        emitter.onCompletion(() -> this.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> this.subscribers.remove(subscriber));
+        emitter.onError(e -> this.subscribers.remove(subscriber));
+        if (this.hasChangesAfter(subscriber.lastSequence)) {
+            this.scheduleDelivery(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * 購読者への送信を予約（送信中または送信待ちの場合は何もしない）
+     *
+     * @param subscriber 購読者
+     */
+    private void scheduleDelivery(final Subscriber subscriber) {
+        if (!subscriber.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.executor.execute(() -> this.deliver(subscriber));
+        } catch (RejectedExecutionException e) {
+            // 送信が追いつかないため切断し，再接続させる
+            this.close(subscriber);
+        }
+    }
+
+    /**
+     * 購読者が未受信の変更を送信
+     *
+     * @param subscriber 購読者
+     */
+    private void deliver(final Subscriber subscriber) {
+        while (true) {
+            final var changes = this.getChangesAfter(subscriber.lastSequence);
+            if (changes.isEmpty()) {
+                // バッファから溢れるほど遅れた購読者は切断し，再接続時にresetイベントを送る
+                this.close(subscriber);
+                return;
+            }
+
+            for (final var change : changes.get()) {
+                final var sent = this.send(subscriber, SseEmitter.event() //
+                    .id(String.valueOf(change.getSequence())) //
+                    .name(CHANGE_EVENT) //
+                    .data(change.getDelta(), MediaType.APPLICATION_JSON));
+                if (!sent) {
+                    return;
+                }
+                subscriber.lastSequence = change.getSequence();
+            }
+
+            // 送信中に追加された変更があれば続けて送信
+            subscriber.scheduled.set(false);
+            if (!this.hasChangesAfter(subscriber.lastSequence) || !subscriber.scheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 指定したシーケンスより後に変更があるか
+     *
+     * @param sequence 変更シーケンス
+     *
+     * @return 変更があるか
+     */
+    private synchronized boolean hasChangesAfter(final long sequence) {
+        return sequence < this.lastSequence;
+    }
+
+    /**
+     * イベントを送信し，切断された購読者は破棄
+     *
+     * @param subscriber 購読者
+     *
+     * @param event      イベント
+     *
+     * @return 送信できたか
+     */
+    private boolean send(final Subscriber subscriber, final SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            this.subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * 購読者を切断
+     *
+     * @param subscriber 購読者
+     */
+    private void close(final Subscriber subscriber) {
+        this.subscribers.remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    /**
+     * 購読者数を取得
+     *
+     * @return 購読者数
+     */
+    public int getSubscriberCount() {
+        return this.subscribers.size();
+    }
+
+    /**
+     * スレッドプールを停止
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (this.executor instanceof ExecutorService) {
+            ((ExecutorService) this.executor).shutdownNow();
+        }
+    }
+
+    /**
+     * 購読者
+     */
+    private static class Subscriber {
+
+        private final SseEmitter emitter;
+
+        /**
+         * 送信済みの変更シーケンス（送信用のスレッドのみが更新）
+         */
+        private volatile long lastSequence;
+
+        /**
+         * 送信中または送信待ちか
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(final SseEmitter emitter, final long lastSequence) {
+            this.emitter = emitter;
+            this.lastSequence = lastSequence;
+        }
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package dev.abelab.crms.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.*;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.enums.ReservationActionEnum;
+
+/**
+ * 予約が作成/更新/削除された
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationChangedEvent {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * 予約（定期予約の回を含む）
+     */
+    private final ReservationWithUserModel reservation;
+
+    /**
+     * 予約アクション
+     */
+    private final ReservationActionEnum action;
+
+    /**
+     * 発行順の通し番号
+     *
+     * 同じ予約への書き込みは行ロックで直列化され，コミット前に発行するため，コミット順に大きくなる。
+     */
+    private final long sequence = SEQUENCE.incrementAndGet();
+
+}
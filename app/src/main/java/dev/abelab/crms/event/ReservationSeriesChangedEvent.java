@@ -0,0 +1,37 @@
+package dev.abelab.crms.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.*;
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.enums.ReservationActionEnum;
+
+/**
+ * 定期予約が作成/更新/削除された
+ *
+ * 回ごとのイベントは発行しないため，購読者は定期予約の期間を取得し直す。
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationSeriesChangedEvent {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * 定期予約（反映後の期間）
+     */
+    private final ReservationSeries series;
+
+    /**
+     * 予約アクション
+     */
+    private final ReservationActionEnum action;
+
+    /**
+     * 発行順の通し番号
+     *
+     * 同じ定期予約への書き込みは行ロックで直列化され，コミット前に発行するため，コミット順に大きくなる。
+     */
+    private final long sequence = SEQUENCE.incrementAndGet();
+
+}
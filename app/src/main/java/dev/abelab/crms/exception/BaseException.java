@@ -4,6 +4,8 @@ import org.springframework.http.HttpStatus;
 
 /**
  * Base exception
+ *
+ * 想定内のエラー（4xxなど）を通知するための例外で，ErrorCodeで発生箇所を特定できるためスタックトレースを取得しない。
  */
 public class BaseException extends RuntimeException {
 
@@ -30,6 +32,7 @@ public class BaseException extends RuntimeException {
      * @param ErrorCode  error code
      */
     public BaseException(final HttpStatus httpStatus, final ErrorCode errroCode, final String... args) {
+        super(null, null, false, false);
         this.httpStatus = httpStatus;
         this.errorCode = errroCode;
         this.args = args;
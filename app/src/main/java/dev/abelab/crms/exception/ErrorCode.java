@@ -31,6 +31,10 @@ public enum ErrorCode {
 
     NOT_FOUND_API(1104, "exception.not_found.api"),
 
+    NOT_FOUND_RESERVATION_SERIES(1105, "exception.not_found.reservation_series"),
+
+    NOT_FOUND_RESERVATION_OCCURRENCE(1106, "exception.not_found.reservation_occurrence"),
+
     /**
      * Conflict: 1200~1299
      */
@@ -64,6 +68,16 @@ public enum ErrorCode {
 
     NOT_WITHIN_RESERVABLE_TIME_RANGE(1408, "exception.bad_request.not_within_reservable_time_range"),
 
+    INVALID_SEARCH_PERIOD(1409, "exception.bad_request.invalid_search_period"),
+
+    INVALID_PAGE_LIMIT(1410, "exception.bad_request.invalid_page_limit"),
+
+    PAST_AVAILABILITY_CANNOT_BE_GOT(1411, "exception.bad_request.past_availability_cannot_be_got"),
+
+    INVALID_RESERVATION_SERIES_PERIOD(1412, "exception.bad_request.invalid_reservation_series_period"),
+
+    INVALID_PAGE_CURSOR(1413, "exception.bad_request.invalid_page_cursor"),
+
     /**
      * Unauthorized: 1500~1599
      */
@@ -73,7 +87,14 @@ public enum ErrorCode {
 
     INVALID_ACCESS_TOKEN(1502, "exception.unauthorized.invalid_access_token"),
 
-    EXPIRED_ACCESS_TOKEN(1503, "exception.unauthorized.expired_access_token");
+    EXPIRED_ACCESS_TOKEN(1503, "exception.unauthorized.expired_access_token"),
+
+    /**
+     * Too Many Requests: 1600~1699
+     */
+    TOO_MANY_LOGIN_ATTEMPTS(1600, "exception.too_many_requests.too_many_login_attempts"),
+
+    LOGIN_IS_BUSY(1601, "exception.too_many_requests.login_is_busy");
 
     private final int code;
 
@@ -0,0 +1,106 @@
+package dev.abelab.crms.exception;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * エラーメッセージのキャッシュ（ロケールごと）
+ *
+ * エラーレスポンスのたびにメッセージを解決しないよう，ErrorCodeごとに解決済みのメッセージを保持する。
+ */
+@Component
+public class ErrorMessageCache {
+
+    /**
+     * エラーレスポンスのロケール
+     */
+    public static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+
+    private final MessageSource messageSource;
+
+    /**
+     * ロケール -> ErrorCode -> メッセージ
+     */
+    private final Map<Locale, Map<ErrorCode, String>> messages = new ConcurrentHashMap<>();
+
+    public ErrorMessageCache(final MessageSource messageSource) {
+        this.messageSource = messageSource;
+
+        // 既定のロケールは起動時に解決する（メッセージの定義漏れも起動時に検出する）
+        this.messages.put(DEFAULT_LOCALE, this.resolveMessages(DEFAULT_LOCALE));
+    }
+
+    /**
+     * エラーメッセージを取得
+     *
+     * @param exception 例外
+     *
+     * @return エラーメッセージ
+     */
+    public String getMessage(final BaseException exception) {
+        return this.getMessage(exception, DEFAULT_LOCALE);
+    }
+
+    /**
+     * エラーメッセージを取得
+     *
+     * @param exception 例外
+     *
+     * @param locale    ロケール
+     *
+     * @return エラーメッセージ
+     */
+    public String getMessage(final BaseException exception, final Locale locale) {
+        final var args = exception.getArgs();
+        // 引数つきのメッセージは例外ごとに解決する
+        if (args != null && args.length > 0) {
+            return this.messageSource.getMessage(exception.getErrorCode().getMessageKey(), args, locale);
+        }
+        return this.getMessage(exception.getErrorCode(), locale);
+    }
+
+    /**
+     * エラーメッセージを取得
+     *
+     * @param errorCode エラーコード
+     *
+     * @return エラーメッセージ
+     */
+    public String getMessage(final ErrorCode errorCode) {
+        return this.getMessage(errorCode, DEFAULT_LOCALE);
+    }
+
+    /**
+     * エラーメッセージを取得
+     *
+     * @param errorCode エラーコード
+     *
+     * @param locale    ロケール
+     *
+     * @return エラーメッセージ
+     */
+    public String getMessage(final ErrorCode errorCode, final Locale locale) {
+        return this.messages.computeIfAbsent(locale, this::resolveMessages).get(errorCode);
+    }
+
+    /**
+     * 全ErrorCodeのメッセージを解決
+     *
+     * @param locale ロケール
+     *
+     * @return ErrorCode -> メッセージ
+     */
+    private Map<ErrorCode, String> resolveMessages(final Locale locale) {
+        final var resolvedMessages = new EnumMap<ErrorCode, String>(ErrorCode.class);
+        for (final var errorCode : ErrorCode.values()) {
+            resolvedMessages.put(errorCode, this.messageSource.getMessage(errorCode.getMessageKey(), null, locale));
+        }
+        return resolvedMessages;
+    }
+
+}
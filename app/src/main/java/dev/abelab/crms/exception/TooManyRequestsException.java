@@ -0,0 +1,19 @@
+package dev.abelab.crms.exception;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * Too many requests exception
+ */
+public class TooManyRequestsException extends BaseException {
+
+    /**
+     * create too many requests exception
+     *
+     * @param ErrorCode error code
+     */
+    public TooManyRequestsException(final ErrorCode errorCode) {
+        super(TOO_MANY_REQUESTS, errorCode);
+    }
+
+}
@@ -0,0 +1,115 @@
+package dev.abelab.crms.logic;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.property.CrmsProperty;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.InternalServerErrorException;
+import dev.abelab.crms.exception.TooManyRequestsException;
+
+/**
+ * ログイン時のパスワード検証
+ *
+ * パスワードのハッシュ計算は専用のスレッドプールで行い，同時に計算する数と待ち行列の長さを制限する。
+ * ログインが集中しても他のAPIが使うCPUを奪わず，待ち行列が一杯の場合は待たずに429を返す。
+ */
+@Component
+public class PasswordVerificationLogic {
+
+    private final UserLogic userLogic;
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PasswordVerificationLogic(final UserLogic userLogic, final CrmsProperty crmsProperty) {
+        this.userLogic = userLogic;
+
+        final var loginProperty = crmsProperty.getLogin();
+        final var threads = loginProperty.getThreads() > 0 //
+            ? loginProperty.getThreads() //
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        final var threadFactory = new CustomizableThreadFactory("login-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, //
+            new ArrayBlockingQueue<>(loginProperty.getQueueSize()), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * パスワードが一致するか検証
+     *
+     * @param user     ユーザ
+     *
+     * @param password パスワード
+     */
+    public void verifyPassword(final User user, final String password) {
+        final Future<?> future;
+        try {
+            future = this.executor.submit(() -> this.userLogic.verifyPassword(user, password));
+        } catch (RejectedExecutionException e) {
+            this.rejectedCount.incrementAndGet();
+            throw new TooManyRequestsException(ErrorCode.LOGIN_IS_BUSY);
+        }
+
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new InternalServerErrorException(ErrorCode.UNEXPECTED_ERROR);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(ErrorCode.UNEXPECTED_ERROR);
+        }
+    }
+
+    /**
+     * ハッシュ計算中のログイン数を取得
+     *
+     * @return ハッシュ計算中のログイン数
+     */
+    public int getActiveCount() {
+        return this.executor.getActiveCount();
+    }
+
+    /**
+     * スレッドを待っているログイン数を取得
+     *
+     * @return 待ち行列の長さ
+     */
+    public int getQueuedCount() {
+        return this.executor.getQueue().size();
+    }
+
+    /**
+     * 待ち行列が一杯で拒否したログイン数を取得
+     *
+     * @return 拒否数
+     */
+    public long getRejectedCount() {
+        return this.rejectedCount.get();
+    }
+
+    /**
+     * スレッドプールを停止
+     */
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+}
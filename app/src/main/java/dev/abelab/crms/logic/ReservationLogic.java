@@ -1,18 +1,28 @@
 package dev.abelab.crms.logic;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Date;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.Set;
+import java.util.ArrayList;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Comparator;
+import java.util.Objects;
 
 import org.springframework.stereotype.Component;
-import org.modelmapper.ModelMapper;
 
 import lombok.*;
+import dev.abelab.crms.db.entity.User;
 import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.db.entity.ReservationSeries;
 import dev.abelab.crms.model.ReservationWithUserModel;
-import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
 import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
 import dev.abelab.crms.enums.UserRoleEnum;
 import dev.abelab.crms.util.DateTimeUtil;
 import dev.abelab.crms.exception.ErrorCode;
@@ -32,36 +42,68 @@ public class ReservationLogic {
     /**
      * 予約可能開始時刻
      */
-    private final double RESERVABLE_START_HOUR = 9.0;
+    public static final double RESERVABLE_START_HOUR = 9.0;
 
     /**
      * 予約可能終了時刻
      */
-    private final double RESERVABLE_FINISH_HOUR = 22.0;
+    public static final double RESERVABLE_FINISH_HOUR = 22.0;
 
-    private final UserRepository userRepository;
+    /**
+     * 一度に取得可能な最大件数
+     */
+    private final int MAX_PAGE_LIMIT = 1000;
+
+    /**
+     * 定期予約の回を指すカーソルの接頭辞
+     */
+    private final String SERIES_CURSOR_PREFIX = "s";
+
+    /**
+     * 定期予約の最大期間（週）
+     */
+    private final int MAX_SERIES_WEEKS = 52;
+
+    /**
+     * 予約一覧の並び順（開始時刻順，同時刻は単発の予約をID順に並べた後に定期予約の回を定期予約ID順に並べる）
+     */
+    public static final Comparator<ReservationWithUserModel> LIST_ORDER = Comparator //
+        .comparing(ReservationWithUserModel::getStartAt) //
+        .thenComparing(reservation -> reservation.getSeriesId() != null) //
+        .thenComparing(reservation -> reservation.getSeriesId() != null ? reservation.getSeriesId() : reservation.getId());
 
     private final ReservationRepository reservationRepository;
 
-    private final ModelMapper modelMapper;
+    private final ReservationSeriesRepository reservationSeriesRepository;
 
     /**
      * 編集権限があるか確認
      *
-     * @param reservationId 予約ID
+     * @param reservation 予約
      *
-     * @param userId        ユーザID
+     * @param user        ユーザ
      */
-    public void checkEditPermission(final int reservationId, final int userId) {
-        final var reservation = this.reservationRepository.selectById(reservationId);
-        final var user = this.userRepository.selectById(userId);
-
+    public void checkEditPermission(final Reservation reservation, final User user) {
         // 管理者/予約者のみ編集可能
         if (user.getRoleId() != UserRoleEnum.ADMIN.getId() && !reservation.getUserId().equals(user.getId())) {
             throw new ForbiddenException(ErrorCode.USER_HAS_NO_PERMISSION);
         }
     }
 
+    /**
+     * 定期予約の編集権限があるか確認
+     *
+     * @param series 定期予約
+     *
+     * @param user   ユーザ
+     */
+    public void checkEditPermission(final ReservationSeries series, final User user) {
+        // 管理者/予約者のみ編集可能
+        if (user.getRoleId() != UserRoleEnum.ADMIN.getId() && !series.getUserId().equals(user.getId())) {
+            throw new ForbiddenException(ErrorCode.USER_HAS_NO_PERMISSION);
+        }
+    }
+
     /**
      * 削除可能な予約かチェック
      *
@@ -75,10 +117,45 @@ public class ReservationLogic {
         }
     }
 
+    /**
+     * 空き状況を取得できる日付かチェック
+     *
+     * @param date 日付
+     */
+    public void checkAvailabilityDate(final Date date) {
+        // 過去の日付
+        if (date.before(DateTimeUtil.getStartOfDay(new Date()))) {
+            throw new BadRequestException(ErrorCode.PAST_AVAILABILITY_CANNOT_BE_GOT);
+        }
+    }
+
     /**
      * 予約時間のバリデーション
      */
     public void validateReservationTime(final Date startAt, final Date finishAt, final int userId, final int reservationId) {
+        // 予約時間単体のバリデーション
+        this.validateReservationPeriod(startAt, finishAt);
+
+        // 過去の予約は更新不可
+        if (reservationId != 0) {
+            final var reservation = this.reservationRepository.selectById(reservationId);
+            this.checkChangeableReservation(reservation);
+        }
+
+        // 同時刻はすでに予約済み
+        if (this.existsOverlapping(userId, startAt, finishAt, reservationId)) {
+            throw new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+    }
+
+    /**
+     * 予約時間単体のバリデーション（DBを参照しない）
+     *
+     * @param startAt  開始時刻
+     *
+     * @param finishAt 終了時刻
+     */
+    public void validateReservationPeriod(final Date startAt, final Date finishAt) {
         // 過去の日時
         final var now = new Date();
         if (now.after(startAt)) {
@@ -101,57 +178,345 @@ public class ReservationLogic {
         }
 
         // 予約可能範囲（09:00〜22:00）に収まっていない
-        if (DateTimeUtil.getHour(startAt) < this.RESERVABLE_START_HOUR || DateTimeUtil.getHour(finishAt) > this.RESERVABLE_FINISH_HOUR) {
+        if (DateTimeUtil.getHour(startAt) < RESERVABLE_START_HOUR || DateTimeUtil.getHour(finishAt) > RESERVABLE_FINISH_HOUR) {
             throw new BadRequestException(ErrorCode.NOT_WITHIN_RESERVABLE_TIME_RANGE);
         }
+    }
 
-        // 同時刻はすでに予約済み
-        final var reservations = this.reservationRepository.selectByUserId(userId);
-        reservations.forEach(reservation -> {
-            if (reservation.getId() == reservationId) {
-                // 過去の予約は更新不可
-                if (now.after(reservation.getFinishAt())) {
-                    throw new BadRequestException(ErrorCode.PAST_RESERVATION_CANNOT_BE_CHANGED);
-                }
-                return;
-            }
+    /**
+     * 定期予約のバリデーション
+     *
+     * 毎回の予約時間は同じ曜日・時刻なので，初回の予約時間のみをバリデーションし，
+     * 重複判定は定期予約の期間の予約を一度だけ取得してメモリ上で行う。
+     *
+     * @param series 定期予約
+     */
+    public void validateReservationSeries(final ReservationSeriesWithUserModel series) {
+        // 初回の予約時間のバリデーション
+        this.validateReservationPeriod(series.getStartAt(), series.getFinishAt());
 
-            // 開始時刻が重複
-            if (startAt.after(reservation.getStartAt()) && startAt.before(reservation.getFinishAt())) {
-                throw new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME);
-            }
-            // 終了時刻が重複
-            if (finishAt.after(reservation.getStartAt()) && finishAt.before(reservation.getFinishAt())) {
+        // 最終日が初回より前，または最大期間を超えている
+        final var maxUntilAt = DateTimeUtil.addDateTime(series.getStartAt(), Calendar.DAY_OF_MONTH, 7 * this.MAX_SERIES_WEEKS);
+        if (series.getUntilAt() == null || series.getUntilAt().before(series.getStartAt()) || series.getUntilAt().after(maxUntilAt)) {
+            throw new BadRequestException(ErrorCode.INVALID_RESERVATION_SERIES_PERIOD);
+        }
+
+        // 定期予約の期間の予約（他の定期予約の回を含む）
+        final var occurrences =
+            this.expandSeries(List.of(series), series.getStartAt(), DateTimeUtil.addDateTime(series.getUntilAt(), Calendar.DAY_OF_MONTH, 1));
+        final var from = series.getStartAt();
+        final var to = occurrences.get(occurrences.size() - 1).getFinishAt();
+        final var condition = this.buildSearchCondition(from, to, series.getUserId(), null, null);
+        final var reservations = Stream.concat( //
+            this.reservationRepository.selectByCondition(condition).stream(), //
+            this.getSeriesOccurrences(from, to, series.getUserId()).stream() //
+        ).collect(Collectors.toList());
+
+        // 同時刻はすでに予約済み
+        for (final var occurrence : occurrences) {
+            if (this.existsOverlapping(reservations, occurrence.getStartAt(), occurrence.getFinishAt(), null)) {
                 throw new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME);
             }
-            // 開始時刻，終了時刻共に重複
-            if (startAt.after(reservation.getStartAt()) && finishAt.before(reservation.getFinishAt())) {
-                throw new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+    }
+
+    /**
+     * 変更可能な予約かチェック
+     *
+     * @param reservation 予約
+     */
+    public void checkChangeableReservation(final Reservation reservation) {
+        // 過去の予約は更新不可
+        if (new Date().after(reservation.getFinishAt())) {
+            throw new BadRequestException(ErrorCode.PAST_RESERVATION_CANNOT_BE_CHANGED);
+        }
+    }
+
+    /**
+     * 予約リストの中に時間が重複する予約が存在するか（DBを参照しない）
+     *
+     * @param reservations 予約リスト
+     *
+     * @param startAt      開始時刻
+     *
+     * @param finishAt     終了時刻
+     *
+     * @param excluded     除外する予約（null: 除外なし）
+     *
+     * @return 重複する予約が存在するか
+     */
+    public boolean existsOverlapping(final List<? extends Reservation> reservations, final Date startAt, final Date finishAt,
+        final Reservation excluded) {
+        // 半開区間 [start_at, finish_at) 同士の重複判定
+        return reservations.stream() //
+            .filter(reservation -> reservation != excluded) //
+            .anyMatch(reservation -> reservation.getStartAt().before(finishAt) && startAt.before(reservation.getFinishAt()));
+    }
+
+    /**
+     * 時間が重複する予約が存在するか
+     *
+     * @param userId    ユーザID
+     *
+     * @param startAt   開始時刻
+     *
+     * @param finishAt  終了時刻
+     *
+     * @param excludeId 除外する予約ID（0: 除外なし）
+     *
+     * @return 重複する予約が存在するか
+     */
+    public boolean existsOverlapping(final int userId, final Date startAt, final Date finishAt, final int excludeId) {
+        // 半開区間 [start_at, finish_at) 同士の重複判定
+        final var condition = this.buildSearchCondition(startAt, finishAt, userId, null, null);
+        if (excludeId != 0) {
+            condition.setExcludeId(excludeId);
+        }
+        if (this.reservationRepository.existsByCondition(condition)) {
+            return true;
+        }
+
+        // 定期予約の回
+        return !this.getSeriesOccurrences(startAt, finishAt, userId).isEmpty();
+    }
+
+    /**
+     * 期間と重複する定期予約の回を取得
+     *
+     * 期間に発生しうる定期予約のみを取得し，期間内の回だけを展開する。
+     *
+     * @param from   期間の開始日時
+     *
+     * @param to     期間の終了日時
+     *
+     * @param userId ユーザID（null: 全ユーザ）
+     *
+     * @return 定期予約の回の一覧（開始時刻順）
+     */
+    public List<ReservationWithUserModel> getSeriesOccurrences(final Date from, final Date to, final Integer userId) {
+        final var condition = this.buildSearchCondition(from, to, userId, null, null);
+        final var seriesList = this.reservationSeriesRepository.selectWithUserByCondition(condition);
+        return this.expandSeries(seriesList, from, to);
+    }
+
+    /**
+     * 予約検索条件に一致する定期予約の回を取得
+     *
+     * カーソルより後の回のみを取得する。取得件数を指定した場合，単発の予約で1ページ以上埋まっていれば，その末尾より後の回は展開しない。
+     *
+     * @param condition    予約検索条件
+     *
+     * @param reservations 予約検索条件で取得した単発の予約（開始時刻順）
+     *
+     * @return 定期予約の回の一覧（LIST_ORDER順）
+     */
+    public List<ReservationWithUserModel> getSeriesOccurrences(final ReservationSearchConditionModel condition,
+        final List<ReservationWithUserModel> reservations) {
+        // 期間の開始日時とカーソルのうち遅い方から展開する
+        var from = condition.getFrom();
+        if (condition.getAfterStartAt() != null && (from == null || condition.getAfterStartAt().after(from))) {
+            from = condition.getAfterStartAt();
+        }
+        var to = condition.getTo();
+        if (condition.getLimit() != null && reservations.size() >= condition.getLimit()) {
+            final var lastStartAt = reservations.get(reservations.size() - 1).getStartAt();
+            if (to == null || lastStartAt.before(to)) {
+                to = lastStartAt;
             }
-            // 開始時刻，終了時刻共に完全一致
-            if (startAt.equals(reservation.getStartAt()) && finishAt.equals(reservation.getFinishAt())) {
-                throw new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+        if (from != null && to != null && !from.before(to)) {
+            return new ArrayList<>();
+        }
+
+        final var seriesCondition = this.buildSearchCondition(from, to, condition.getUserId(), null, null);
+        final var seriesList = this.reservationSeriesRepository.selectWithUserByCondition(seriesCondition);
+        if (seriesList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 期間を指定しなければ，定期予約の初回から最終日まで展開する
+        final var expandFrom = from != null ? from : seriesList.stream() //
+            .map(ReservationSeries::getStartAt) //
+            .min(Comparator.naturalOrder()) //
+            .get();
+        final var expandTo = to != null ? to : DateTimeUtil.addDateTime(seriesList.stream() //
+            .map(ReservationSeries::getUntilAt) //
+            .max(Comparator.naturalOrder()) //
+            .get(), Calendar.DAY_OF_MONTH, 1);
+        return this.expandSeries(seriesList, expandFrom, expandTo).stream() //
+            .filter(occurrence -> this.isAfterCursor(occurrence, condition)) //
+            .sorted(LIST_ORDER) //
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 定期予約の回がカーソルより後か
+     *
+     * @param occurrence 定期予約の回
+     *
+     * @param condition  予約検索条件
+     *
+     * @return カーソルより後か
+     */
+    private boolean isAfterCursor(final ReservationWithUserModel occurrence, final ReservationSearchConditionModel condition) {
+        if (condition.getAfterStartAt() == null) {
+            return true;
+        }
+        if (!occurrence.getStartAt().equals(condition.getAfterStartAt())) {
+            return occurrence.getStartAt().after(condition.getAfterStartAt());
+        }
+
+        // 同時刻の回は単発の予約より後に並ぶ
+        return condition.getAfterSeriesId() == null || occurrence.getSeriesId() > condition.getAfterSeriesId();
+    }
+
+    /**
+     * 定期予約を期間内の回に展開
+     *
+     * 初回から毎週同じ曜日・時刻に，最終日までに開始する回を発生させる（キャンセルした回は除く）。
+     *
+     * @param seriesList 定期予約（+ユーザ）一覧
+     *
+     * @param from       期間の開始日時
+     *
+     * @param to         期間の終了日時
+     *
+     * @return 期間と重複する回の一覧（開始時刻順）
+     */
+    public List<ReservationWithUserModel> expandSeries(final List<ReservationSeriesWithUserModel> seriesList, final Date from,
+        final Date to) {
+        // キャンセルした回（保存済みの定期予約のみ）
+        final var seriesIds = seriesList.stream() //
+            .map(ReservationSeries::getId) //
+            .filter(Objects::nonNull) //
+            .collect(Collectors.toList());
+        final var minStartAt = new Date(from.getTime() - (long) (this.MAX_RESERVABLE_HOURS * 60 * 60 * 1000));
+        final Set<String> cancellations = this.reservationSeriesRepository.selectCancellations(seriesIds, minStartAt, to).stream() //
+            .map(cancellation -> cancellation.getSeriesId() + "@" + cancellation.getOccurrenceAt().getTime()) //
+            .collect(Collectors.toSet());
+
+        final var occurrences = new ArrayList<ReservationWithUserModel>();
+        for (final var series : seriesList) {
+            // 期間の開始日時より前に終わる回は飛ばす（端数は下のループで除外）
+            final var weekMillis = 7L * 24 * 60 * 60 * 1000;
+            var week = (int) Math.max(0, (from.getTime() - series.getFinishAt().getTime()) / weekMillis);
+            while (true) {
+                final var startAt = DateTimeUtil.addDateTime(series.getStartAt(), Calendar.DAY_OF_MONTH, 7 * week);
+                if (startAt.after(series.getUntilAt()) || !startAt.before(to)) {
+                    break;
+                }
+                final var finishAt = DateTimeUtil.addDateTime(series.getFinishAt(), Calendar.DAY_OF_MONTH, 7 * week);
+                week++;
+                if (!finishAt.after(from) || cancellations.contains(series.getId() + "@" + startAt.getTime())) {
+                    continue;
+                }
+
+                final var occurrence = new ReservationWithUserModel(series.getUser());
+                occurrence.setSeriesId(series.getId());
+                occurrence.setUserId(series.getUserId());
+                occurrence.setStartAt(startAt);
+                occurrence.setFinishAt(finishAt);
+                occurrences.add(occurrence);
             }
-        });
+        }
+        occurrences.sort(Comparator.comparing(ReservationWithUserModel::getStartAt));
+        return occurrences;
     }
 
     /**
-     * 予約（+ユーザ）を取得
+     * 予約検索条件を作成
      *
-     * @param reservation 予約
+     * @param from    期間の開始日時（null: 下限なし）
+     *
+     * @param to      期間の終了日時（null: 上限なし）
+     *
+     * @param userId  ユーザID（null: 全ユーザ）
+     *
+     * @param cursor  このカーソルの次から取得する（null: 先頭から）
+     *
+     * @param limit   取得件数（null: 全件）
+     *
+     * @return 予約検索条件
+     */
+    public ReservationSearchConditionModel buildSearchCondition(final Date from, final Date to, final Integer userId,
+        final String cursor, final Integer limit) {
+        // 期間の開始日時が終了日時以降
+        if (from != null && to != null && !from.before(to)) {
+            throw new BadRequestException(ErrorCode.INVALID_SEARCH_PERIOD);
+        }
+
+        // 取得件数が範囲外
+        if (limit != null && (limit < 1 || limit > this.MAX_PAGE_LIMIT)) {
+            throw new BadRequestException(ErrorCode.INVALID_PAGE_LIMIT);
+        }
+
+        final var condition = ReservationSearchConditionModel.builder() //
+            .from(from) //
+            .to(to) //
+            .userId(userId) //
+            .build();
+
+        // 予約時間は最大予約可能時間以内なので，開始時刻の下限も絞り込める
+        if (from != null) {
+            condition.setMinStartAt(new Date(from.getTime() - (long) (this.MAX_RESERVABLE_HOURS * 60 * 60 * 1000)));
+        }
+
+        // (start_at, id) または (start_at, 定期予約ID) をキーとするカーソル（カーソルの予約が削除・変更されても位置は変わらない）
+        if (cursor != null) {
+            this.decodeCursor(cursor, condition);
+        }
+
+        // 次ページの有無を判定するため1件多く取得する
+        if (limit != null) {
+            condition.setLimit(limit + 1);
+        }
+
+        return condition;
+    }
+
+    /**
+     * 予約を次ページのカーソルに変換
+     *
+     * @param reservation ページ末尾の予約（定期予約の回を含む）
      *
-     * @return 予約（+ユーザ）
+     * @return カーソル（(start_at, id) または (start_at, s定期予約ID) を符号化した文字列）
      */
-    public ReservationWithUserModel getWithUser(final Reservation reservation) {
-        final var user = this.userRepository.selectById(reservation.getUserId());
-        final var reservationWithUserModel = this.modelMapper.map(reservation, ReservationWithUserModel.class);
-        reservationWithUserModel.setUser(user);
-        return reservationWithUserModel;
+    public String encodeCursor(final ReservationWithUserModel reservation) {
+        final var key = reservation.getSeriesId() != null ? SERIES_CURSOR_PREFIX + reservation.getSeriesId() : reservation.getId().toString();
+        final var cursor = reservation.getStartAt().getTime() + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * カーソルを復号して検索条件に設定
+     *
+     * @param cursor    カーソル
+     *
+     * @param condition 予約検索条件
+     */
+    private void decodeCursor(final String cursor, final ReservationSearchConditionModel condition) {
+        try {
+            final var keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":");
+            if (keys.length != 2) {
+                throw new BadRequestException(ErrorCode.INVALID_PAGE_CURSOR);
+            }
+            condition.setAfterStartAt(new Date(Long.parseLong(keys[0])));
+            if (keys[1].startsWith(SERIES_CURSOR_PREFIX)) {
+                condition.setAfterSeriesId(Integer.parseInt(keys[1].substring(SERIES_CURSOR_PREFIX.length())));
+            } else {
+                condition.setAfterId(Integer.parseInt(keys[1]));
+            }
+        } catch (IllegalArgumentException e) {
+            // 不正なBase64，数値
+            throw new BadRequestException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
     }
 
     /**
      * 翌日の予約一覧を取得
      *
+     * 翌日0:00〜翌々日0:00に開始する予約のみを検索する
+     *
      * @return 予約一覧
      */
     public List<ReservationWithUserModel> getNextDayReservations() {
@@ -160,21 +525,18 @@ public class ReservationLogic {
             .comparing(ReservationWithUserModel::getStartAt) //
             .thenComparing(ReservationWithUserModel::getFinishAt);
 
-        final var now = new Date();
-        return this.reservationRepository.findAll().stream() //
-            .map(this::getWithUser) //
-            // 翌日の予約のみを抽出
-            .filter(reservation -> {
-                // 過去の予約
-                if (now.after(reservation.getStartAt())) {
-                    return false;
-                }
-                // 翌日以降の予約
-                if ((reservation.getStartAt().getTime() - now.getTime()) / (1000 * 60 * 60 * 24) >= 1) {
-                    return false;
-                }
-                return true;
-            }) //
+        final var tomorrow = DateTimeUtil.getTomorrow();
+        final var dayAfterTomorrow = DateTimeUtil.addDateTime(tomorrow, Calendar.DAY_OF_MONTH, 1);
+        final var condition = ReservationSearchConditionModel.builder() //
+            .minStartAt(tomorrow) //
+            .to(dayAfterTomorrow) //
+            .build();
+        return Stream.concat( //
+            this.reservationRepository.selectWithUserByCondition(condition).stream(), //
+            this.getSeriesOccurrences(tomorrow, dayAfterTomorrow, null).stream() //
+                // 前日から続く回を除く
+                .filter(occurrence -> !occurrence.getStartAt().before(tomorrow)) //
+        ) //
             .sorted(comparator) //
             .collect(Collectors.toList());
     }
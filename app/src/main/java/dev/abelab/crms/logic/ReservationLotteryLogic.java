@@ -0,0 +1,143 @@
+package dev.abelab.crms.logic;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Component;
+
+import dev.abelab.crms.model.LotteryResultModel;
+import dev.abelab.crms.model.ReservationWithUserModel;
+
+/**
+ * 予約の抽選
+ *
+ * 部屋は同時に1件しか使えないものとし，時間が重なる予約の集まりごとに当選する予約を決める。
+ */
+@Component
+public class ReservationLotteryLogic {
+
+    /**
+     * 抽選の入力順（同じ入力とシードで同じ結果にするため）
+     */
+    private static final Comparator<ReservationWithUserModel> REQUEST_ORDER = Comparator //
+        .comparing(ReservationWithUserModel::getStartAt) //
+        .thenComparing(ReservationWithUserModel::getFinishAt) //
+        .thenComparing(ReservationWithUserModel::getId, Comparator.nullsLast(Comparator.naturalOrder())) //
+        .thenComparing(ReservationWithUserModel::getSeriesId, Comparator.nullsLast(Comparator.naturalOrder())) //
+        .thenComparing(ReservationWithUserModel::getUserId);
+
+    /**
+     * 予約を抽選
+     *
+     * 開始時刻順に走査して時間が重なる予約の集まりに分け，重なりのない予約はそのまま当選とする。
+     * 重なりがある集まりでは，ユーザごとの希望時間の合計に反比例する重みで優先順位をランダムに決め（フェアシェア），
+     * 優先順位の高い順に当選済みの予約と重ならないものを当選とする。計算量はO(n log n)。
+     *
+     * @param requests 予約一覧
+     *
+     * @param seed     乱数のシード
+     *
+     * @return 抽選結果
+     */
+    public LotteryResultModel draw(final List<ReservationWithUserModel> requests, final long seed) {
+        final var sorted = requests.stream().sorted(REQUEST_ORDER).collect(Collectors.toList());
+        final var count = sorted.size();
+
+        // ユーザごとの希望時間の合計
+        final var requestedMillis = new HashMap<Integer, Long>();
+        sorted.forEach(request -> requestedMillis.merge(request.getUserId(), this.getDurationMillis(request), Long::sum));
+
+        // 優先度（小さいほど優先）: 重み1/希望時間の合計の指数分布に従う
+        final var random = new Random(seed);
+        final var priorities = new double[count];
+        for (int i = 0; i < count; i++) {
+            priorities[i] = -Math.log(1.0 - random.nextDouble()) * requestedMillis.get(sorted.get(i).getUserId());
+        }
+
+        final var won = new boolean[count];
+        var first = 0;
+        while (first < count) {
+            // 時間が重なる予約の集まり [first, last)
+            var last = first + 1;
+            var clusterFinishAt = sorted.get(first).getFinishAt().getTime();
+            while (last < count && sorted.get(last).getStartAt().getTime() < clusterFinishAt) {
+                clusterFinishAt = Math.max(clusterFinishAt, sorted.get(last).getFinishAt().getTime());
+                last++;
+            }
+
+            if (last - first == 1) {
+                won[first] = true;
+            } else {
+                this.allocate(sorted, priorities, won, first, last);
+            }
+            first = last;
+        }
+
+        final var winners = new ArrayList<ReservationWithUserModel>();
+        final var losers = new ArrayList<ReservationWithUserModel>();
+        for (int i = 0; i < count; i++) {
+            (won[i] ? winners : losers).add(sorted.get(i));
+        }
+        return LotteryResultModel.builder() //
+            .winners(winners) //
+            .losers(losers) //
+            .build();
+    }
+
+    /**
+     * 時間が重なる予約の集まりを優先順位の高い順に割り当てる
+     *
+     * @param sorted     予約一覧（開始時刻順）
+     *
+     * @param priorities 優先度
+     *
+     * @param won        当選したか
+     *
+     * @param first      集まりの先頭
+     *
+     * @param last       集まりの末尾（含まない）
+     */
+    private void allocate(final List<ReservationWithUserModel> sorted, final double[] priorities, final boolean[] won, final int first,
+        final int last) {
+        // 当選した予約の開始時刻 -> 終了時刻（互いに重ならない）
+        final var allocated = new TreeMap<Long, Long>();
+
+        IntStream.range(first, last).boxed() //
+            .sorted(Comparator.comparingDouble((Integer i) -> priorities[i]).thenComparingInt(i -> i)) //
+            .forEach(i -> {
+                final var startAt = sorted.get(i).getStartAt().getTime();
+                final var finishAt = sorted.get(i).getFinishAt().getTime();
+
+                // 直前・直後に当選した予約と重なる
+                final var previous = allocated.floorEntry(startAt);
+                if (previous != null && previous.getValue() > startAt) {
+                    return;
+                }
+                final var next = allocated.ceilingKey(startAt);
+                if (next != null && next < finishAt) {
+                    return;
+                }
+
+                allocated.put(startAt, finishAt);
+                won[i] = true;
+            });
+    }
+
+    /**
+     * 予約時間を取得
+     *
+     * @param reservation 予約
+     *
+     * @return 予約時間 [ms]
+     */
+    private long getDurationMillis(final ReservationWithUserModel reservation) {
+        return reservation.getFinishAt().getTime() - reservation.getStartAt().getTime();
+    }
+
+}
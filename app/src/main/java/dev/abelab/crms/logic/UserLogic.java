@@ -3,11 +3,15 @@ package dev.abelab.crms.logic;
 import java.util.Date;
 
 import org.springframework.stereotype.Component;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import io.jsonwebtoken.*;
 
 import lombok.*;
 import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.cache.AccessTokenCache;
 import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.property.JwtProperty;
 import dev.abelab.crms.enums.UserRoleEnum;
@@ -26,14 +30,14 @@ public class UserLogic {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final AccessTokenCache accessTokenCache;
+
     /**
      * 管理者チェック
      *
-     * @param userId ユーザID
+     * @param user ユーザ
      */
-    public void checkAdmin(final int userId) {
-        final var user = this.userRepository.selectById(userId);
-
+    public void checkAdmin(final User user) {
         if (user.getRoleId() != UserRoleEnum.ADMIN.getId()) {
             throw new ForbiddenException(ErrorCode.USER_HAS_NO_PERMISSION);
         }
@@ -60,6 +64,20 @@ public class UserLogic {
             .compact();
     }
 
+    /**
+     * 認証済みのログインユーザを取得
+     *
+     * @return ユーザ
+     */
+    public User getLoginUser() {
+        // JwtAuthenticationFilterが格納したプリンシパル
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            throw new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+        return (User) authentication.getPrincipal();
+    }
+
     /**
      * ログインユーザを取得
      *
@@ -73,8 +91,30 @@ public class UserLogic {
             throw new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
         final var jwt = credentials.substring(7);
+        final var tokenKey = AccessTokenCache.digest(jwt);
+
+        // 検証済みのJWTなら署名の検証を省略
+        final var userId = this.accessTokenCache.getUserId(tokenKey).orElseGet(() -> this.verifyJwt(jwt, tokenKey));
+
+        // ユーザのスナップショットが新しければ取得を省略
+        return this.accessTokenCache.getUser(tokenKey).orElseGet(() -> {
+            final var generation = this.accessTokenCache.getGeneration();
+            final var user = this.userRepository.selectById(userId);
+            this.accessTokenCache.putUser(tokenKey, user, generation);
+            return user;
+        });
+    }
 
-        // JWTの有効性を検証
+    /**
+     * JWTの有効性を検証
+     *
+     * @param jwt      JWT
+     *
+     * @param tokenKey トークンのダイジェスト
+     *
+     * @return ユーザID
+     */
+    private int verifyJwt(final String jwt, final String tokenKey) {
         try {
             final var claim = Jwts.parser().setSigningKey(this.jwtProperty.getSecret().getBytes()).parseClaimsJws(jwt).getBody();
             final var userId = claim.get("id");
@@ -83,7 +123,8 @@ public class UserLogic {
                 throw new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN);
             }
 
-            return this.userRepository.selectById((int) userId);
+            this.accessTokenCache.put(tokenKey, (int) userId, claim.getExpiration());
+            return (int) userId;
         } catch (SignatureException e) {
             throw new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN);
         } catch (MalformedJwtException e) {
@@ -97,6 +138,25 @@ public class UserLogic {
         }
     }
 
+    /**
+     * ログインユーザのキャッシュを破棄
+     *
+     * 書き込みの直後とコミット後の両方で破棄する。コミット前に他のリクエストが読んだ古いユーザを残さない。
+     *
+     * @param userId ユーザID
+     */
+    public void evictLoginUser(final int userId) {
+        this.accessTokenCache.invalidateUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accessTokenCache.invalidateUser(userId);
+                }
+            });
+        }
+    }
+
     /**
      * パスワードをハッシュ化
      *
@@ -111,6 +171,8 @@ public class UserLogic {
     /**
      * パスワードが一致するか検証
      *
+     * 一致したハッシュが設定と異なるアルゴリズム/コストで計算されていれば，平文があるうちに計算し直して保存する
+     *
      * @param user     ユーザ
      *
      * @param password パスワード
@@ -119,6 +181,15 @@ public class UserLogic {
         if (!this.passwordEncoder.matches(password, user.getPassword())) {
             throw new UnauthorizedException(ErrorCode.WRONG_PASSWORD);
         }
+
+        if (this.passwordEncoder.upgradeEncoding(user.getPassword())) {
+            final var encodedPassword = this.encodePassword(password);
+            this.userRepository.updatePassword(user.getId(), encodedPassword);
+            user.setPassword(encodedPassword);
+
+            // ログインユーザのスナップショットは古いハッシュを保持している
+            this.evictLoginUser(user.getId());
+        }
     }
 
 }
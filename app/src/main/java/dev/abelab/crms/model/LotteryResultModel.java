@@ -0,0 +1,26 @@
+package dev.abelab.crms.model;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * 抽選結果
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LotteryResultModel {
+
+    /**
+     * 当選した予約（開始時刻順）
+     */
+    List<ReservationWithUserModel> winners;
+
+    /**
+     * 落選した予約（開始時刻順）
+     */
+    List<ReservationWithUserModel> losers;
+
+}
@@ -0,0 +1,24 @@
+package dev.abelab.crms.model;
+
+import lombok.*;
+import dev.abelab.crms.api.response.ReservationDeltaResponse;
+
+/**
+ * 予約の変更履歴
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationChangeModel {
+
+    /**
+     * 変更シーケンス
+     */
+    long sequence;
+
+    /**
+     * 予約の差分
+     */
+    ReservationDeltaResponse delta;
+
+}
@@ -0,0 +1,61 @@
+package dev.abelab.crms.model;
+
+import java.util.Date;
+
+import lombok.*;
+
+/**
+ * 予約検索条件
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationSearchConditionModel {
+
+    /**
+     * 期間の開始日時（null: 下限なし）
+     */
+    Date from;
+
+    /**
+     * 期間の終了日時（null: 上限なし）
+     */
+    Date to;
+
+    /**
+     * 開始時刻の下限（null: 下限なし）
+     */
+    Date minStartAt;
+
+    /**
+     * ユーザID（null: 全ユーザ）
+     */
+    Integer userId;
+
+    /**
+     * 除外する予約ID（null: 除外なし）
+     */
+    Integer excludeId;
+
+    /**
+     * カーソル予約の開始時刻（null: 先頭から）
+     */
+    Date afterStartAt;
+
+    /**
+     * カーソル予約ID（null: 先頭から，またはカーソルが定期予約の回）
+     */
+    Integer afterId;
+
+    /**
+     * カーソルの回の定期予約ID（null: 先頭から，またはカーソルが単発の予約）
+     */
+    Integer afterSeriesId;
+
+    /**
+     * 取得件数の上限（null: 上限なし）
+     */
+    Integer limit;
+
+}
@@ -0,0 +1,15 @@
+package dev.abelab.crms.model;
+
+import lombok.*;
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.ReservationSeries;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class ReservationSeriesWithUserModel extends ReservationSeries {
+
+    User user;
+
+}
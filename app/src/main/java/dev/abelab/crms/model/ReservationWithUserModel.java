@@ -12,4 +12,13 @@ public class ReservationWithUserModel extends Reservation {
 
     User user;
 
+    /**
+     * 定期予約ID（null: 単発の予約）
+     */
+    Integer seriesId;
+
+    public ReservationWithUserModel(final User user) {
+        this.user = user;
+    }
+
 }
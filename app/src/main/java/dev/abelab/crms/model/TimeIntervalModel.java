@@ -0,0 +1,26 @@
+package dev.abelab.crms.model;
+
+import java.util.Date;
+
+import lombok.*;
+
+/**
+ * 時間帯 [startAt, finishAt)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeIntervalModel {
+
+    /**
+     * 開始時刻
+     */
+    Date startAt;
+
+    /**
+     * 終了時刻
+     */
+    Date finishAt;
+
+}
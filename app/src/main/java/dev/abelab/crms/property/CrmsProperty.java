@@ -1,5 +1,8 @@
 package dev.abelab.crms.property;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -25,6 +28,41 @@ public class CrmsProperty {
      */
     Admin admin;
 
+    /**
+     * Reservation change feed
+     */
+    ChangeFeed changeFeed = new ChangeFeed();
+
+    /**
+     * User cache
+     */
+    UserCache userCache = new UserCache();
+
+    /**
+     * Reservation availability index
+     */
+    AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+
+    /**
+     * Login throttling
+     */
+    Login login = new Login();
+
+    /**
+     * Password hashing
+     */
+    Password password = new Password();
+
+    /**
+     * Error logging
+     */
+    ErrorLog errorLog = new ErrorLog();
+
+    /**
+     * Metrics
+     */
+    Metrics metrics = new Metrics();
+
     @Data
     public static class Admin {
 
@@ -55,4 +93,144 @@ public class CrmsProperty {
 
     }
 
+    @Data
+    public static class ChangeFeed {
+
+        /**
+         * Number of recent changes kept for resuming
+         */
+        int bufferSize = 1024;
+
+        /**
+         * Lifetime of a subscription [ms]
+         */
+        long timeoutMillis = 30 * 60 * 1000;
+
+        /**
+         * Number of threads sending changes to subscribers
+         */
+        int senderThreads = 2;
+
+        /**
+         * Max number of subscribers waiting for a sender thread
+         */
+        int senderQueueSize = 1000;
+
+    }
+
+    @Data
+    public static class AvailabilityIndex {
+
+        /**
+         * Interval between rebuilds from the database, which also picks up writes on other nodes [ms]
+         */
+        long rebuildIntervalMillis = 60 * 60 * 1000;
+
+    }
+
+    @Data
+    public static class UserCache {
+
+        /**
+         * Cache implementation (local)
+         */
+        String type = "local";
+
+        /**
+         * Max number of cached users
+         */
+        int maxSize = 1000;
+
+        /**
+         * Lifetime of a cached user [s]
+         */
+        long ttlSeconds = 60;
+
+    }
+
+    @Data
+    public static class Login {
+
+        /**
+         * Number of password hashing threads (0: half of the available processors)
+         */
+        int threads = 0;
+
+        /**
+         * Max number of logins waiting for a hashing thread
+         */
+        int queueSize = 32;
+
+        /**
+         * Login attempts allowed in a burst per email
+         */
+        int emailBucketSize = 10;
+
+        /**
+         * Login attempts refilled per minute per email
+         */
+        double emailRefillPerMinute = 5;
+
+        /**
+         * Login attempts allowed in a burst per IP address
+         */
+        int ipBucketSize = 50;
+
+        /**
+         * Login attempts refilled per minute per IP address
+         */
+        double ipRefillPerMinute = 30;
+
+        /**
+         * Max number of tracked emails and IP addresses
+         */
+        int maxBuckets = 10000;
+
+        /**
+         * Reverse proxies whose X-Forwarded-For header is trusted for the client IP address (empty: use the connection address)
+         */
+        List<String> trustedProxies = new ArrayList<>();
+
+    }
+
+    @Data
+    public static class Password {
+
+        /**
+         * Encoder id for new hashes (pbkdf2-sha256, bcrypt, pbkdf2)
+         */
+        String encoder = "pbkdf2-sha256";
+
+        /**
+         * PBKDF2 iterations of pbkdf2-sha256
+         */
+        int pbkdf2Iterations = 185000;
+
+        /**
+         * Log rounds of bcrypt
+         */
+        int bcryptStrength = 10;
+
+    }
+
+    @Data
+    public static class ErrorLog {
+
+        /**
+         * Max number of 4xx logs per second per error code
+         */
+        int maxClientErrorsPerSecond = 10;
+
+    }
+
+    @Data
+    public static class Metrics {
+
+        /**
+         * URI prefixes of the endpoints whose latency is recorded as a percentile histogram
+         */
+        List<String> histogramUriPrefixes = new ArrayList<>();
+
+    }
+
 }
@@ -20,4 +20,24 @@ public class JwtProperty {
      */
     String issuer;
 
+    /**
+     * Verified token cache
+     */
+    Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+
+        /**
+         * Max number of cached tokens
+         */
+        int maxSize = 10000;
+
+        /**
+         * Lifetime of the cached user snapshot [sec]
+         */
+        long userTtlSeconds = 30;
+
+    }
+
 }
@@ -20,4 +20,59 @@ public class SlackProperty {
      */
     String webhookUrl;
 
+    /**
+     * Outbox relay
+     */
+    Outbox outbox = new Outbox();
+
+    @Data
+    public static class Outbox {
+
+        /**
+         * Whether the relay polls the outbox
+         */
+        boolean enabled = true;
+
+        /**
+         * Interval between polls [ms]
+         */
+        long pollIntervalMillis = 1000;
+
+        /**
+         * Max number of notifications sent in one payload
+         */
+        int batchSize = 20;
+
+        /**
+         * Initial backoff before retrying, doubled on each attempt [ms]
+         */
+        long initialBackoffMillis = 1000;
+
+        /**
+         * Upper bound of the backoff [ms]
+         */
+        long maxBackoffMillis = 300000;
+
+        /**
+         * Number of attempts before a notification is dead-lettered
+         */
+        int maxAttempts = 10;
+
+        /**
+         * How long claimed notifications are hidden from other relays, longer than a webhook call [ms]
+         */
+        long claimTimeoutMillis = 60000;
+
+        /**
+         * How long sent notifications are kept [ms]
+         */
+        long retentionMillis = 7 * 24 * 60 * 60 * 1000L;
+
+        /**
+         * Interval between deletions of expired notifications [ms]
+         */
+        long cleanupIntervalMillis = 60 * 60 * 1000;
+
+    }
+
 }
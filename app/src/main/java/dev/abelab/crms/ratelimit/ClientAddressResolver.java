@@ -0,0 +1,59 @@
+package dev.abelab.crms.ratelimit;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.stereotype.Component;
+
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * ログイン試行回数の制限に使うクライアントのIPアドレスを求める
+ *
+ * リバースプロキシの背後では接続元が常にプロキシになるため，信頼するプロキシからの接続に限りX-Forwarded-Forを参照する。
+ * 信頼するプロキシ以外から届いたX-Forwarded-Forは偽装できるため使わない。
+ */
+@Component
+public class ClientAddressResolver {
+
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    /**
+     * 信頼するプロキシのIPアドレス
+     */
+    private final Set<String> trustedProxies;
+
+    public ClientAddressResolver(final CrmsProperty crmsProperty) {
+        this.trustedProxies = new HashSet<>(crmsProperty.getLogin().getTrustedProxies());
+    }
+
+    /**
+     * クライアントのIPアドレスを取得
+     *
+     * X-Forwarded-Forを右（接続元に近い方）からたどり，信頼するプロキシでない最初のアドレスをクライアントとする。
+     *
+     * @param request HTTPリクエスト
+     *
+     * @return IPアドレス
+     */
+    public String resolve(final HttpServletRequest request) {
+        var address = request.getRemoteAddr();
+        final var forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || !this.trustedProxies.contains(address)) {
+            return address;
+        }
+
+        final var hops = forwardedFor.split(",");
+        for (var i = hops.length - 1; i >= 0 && this.trustedProxies.contains(address); i--) {
+            final var hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            address = hop;
+        }
+        return address;
+    }
+
+}
@@ -0,0 +1,99 @@
+package dev.abelab.crms.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * エラーログの出力回数の制限（ErrorCodeごと，1秒単位）
+ *
+ * スキャナや不正なクライアントによる大量の4xxでログ出力が詰まらないよう，上限を超えた分は件数のみを次のログに含める。
+ */
+@Component
+public class ErrorLogRateLimiter {
+
+    /**
+     * ログを出力しない
+     */
+    public static final long SUPPRESSED = -1;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxPerWindow;
+
+    private final Map<ErrorCode, Window> windows = new EnumMap<>(ErrorCode.class);
+
+    public ErrorLogRateLimiter(final CrmsProperty crmsProperty) {
+        this.maxPerWindow = crmsProperty.getErrorLog().getMaxClientErrorsPerSecond();
+        for (final var errorCode : ErrorCode.values()) {
+            this.windows.put(errorCode, new Window());
+        }
+    }
+
+    /**
+     * ログを出力できるか判定
+     *
+     * @param errorCode エラーコード
+     *
+     * @return 出力できる場合は前回の出力以降に抑制した件数，出力できない場合はSUPPRESSED
+     */
+    public long tryAcquire(final ErrorCode errorCode) {
+        return this.tryAcquire(errorCode, System.nanoTime());
+    }
+
+    /**
+     * ログを出力できるか判定
+     *
+     * @param errorCode エラーコード
+     *
+     * @param now       現在時刻 [ns]
+     *
+     * @return 出力できる場合は前回の出力以降に抑制した件数，出力できない場合はSUPPRESSED
+     */
+    long tryAcquire(final ErrorCode errorCode, final long now) {
+        final var window = this.windows.get(errorCode);
+
+        // 区間が変わったら出力回数をリセット（競合した場合は1スレッドのみがリセットする）
+        final var index = Math.floorDiv(now, WINDOW_NANOS);
+        final var currentIndex = window.index.get();
+        if (index > currentIndex && window.index.compareAndSet(currentIndex, index)) {
+            window.count.set(0);
+        }
+
+        if (window.count.incrementAndGet() <= this.maxPerWindow) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+
+    /**
+     * ErrorCodeごとの出力状況
+     */
+    private static class Window {
+
+        /**
+         * 区間の番号
+         */
+        final AtomicLong index = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * 区間内の出力回数
+         */
+        final AtomicInteger count = new AtomicInteger();
+
+        /**
+         * 抑制した件数
+         */
+        final AtomicLong suppressed = new AtomicLong();
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package dev.abelab.crms.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * ログイン試行回数の制限（メールアドレス/IPアドレスごとのトークンバケット）
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final CrmsProperty.Login loginProperty;
+
+    /**
+     * "email:" or "ip:" + キー -> バケット（LRU）
+     */
+    private final Map<String, TokenBucket> buckets;
+
+    public LoginRateLimiter(final CrmsProperty crmsProperty) {
+        this.loginProperty = crmsProperty.getLogin();
+
+        final var maxSize = this.loginProperty.getMaxBuckets();
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, TokenBucket> eldest) {
+                return this.size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * ログインを試行できるか判定し，試行できる場合は両方のバケットからトークンを1つ消費
+     *
+     * @param email     メールアドレス
+     *
+     * @param ipAddress IPアドレス
+     *
+     * @return 試行できるか
+     */
+    public boolean tryAcquire(final String email, final String ipAddress) {
+        return this.tryAcquire(email, ipAddress, System.nanoTime());
+    }
+
+    /**
+     * ログインを試行できるか判定し，試行できる場合は両方のバケットからトークンを1つ消費
+     *
+     * @param email     メールアドレス
+     *
+     * @param ipAddress IPアドレス
+     *
+     * @param now       現在時刻 [ns]
+     *
+     * @return 試行できるか
+     */
+    synchronized boolean tryAcquire(final String email, final String ipAddress, final long now) {
+        final var emailBucket = this.getBucket("email:" + email.toLowerCase(Locale.ROOT), //
+            this.loginProperty.getEmailBucketSize(), this.loginProperty.getEmailRefillPerMinute(), now);
+        final var ipBucket = this.getBucket("ip:" + ipAddress, //
+            this.loginProperty.getIpBucketSize(), this.loginProperty.getIpRefillPerMinute(), now);
+        if (emailBucket.tokens < 1 || ipBucket.tokens < 1) {
+            return false;
+        }
+
+        emailBucket.tokens--;
+        ipBucket.tokens--;
+        return true;
+    }
+
+    /**
+     * @return バケット数
+     */
+    public synchronized int size() {
+        return this.buckets.size();
+    }
+
+    /**
+     * 補充済みのバケットを取得
+     *
+     * @param key             キー
+     *
+     * @param size            バケットの容量
+     *
+     * @param refillPerMinute 1分あたりの補充数
+     *
+     * @param now             現在時刻 [ns]
+     *
+     * @return バケット
+     */
+    private TokenBucket getBucket(final String key, final int size, final double refillPerMinute, final long now) {
+        final var bucket = this.buckets.computeIfAbsent(key, k -> new TokenBucket(size, now));
+        bucket.tokens = Math.min(size, bucket.tokens + (now - bucket.refilledAt) / NANOS_PER_MINUTE * refillPerMinute);
+        bucket.refilledAt = now;
+        return bucket;
+    }
+
+    /**
+     * トークンバケット
+     */
+    private static class TokenBucket {
+
+        double tokens;
+
+        long refilledAt;
+
+        TokenBucket(final double tokens, final long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+    }
+
+}
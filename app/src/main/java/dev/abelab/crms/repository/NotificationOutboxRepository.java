@@ -0,0 +1,141 @@
+package dev.abelab.crms.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import dev.abelab.crms.db.entity.NotificationOutbox;
+import dev.abelab.crms.db.mapper.NotificationOutboxMapper;
+import dev.abelab.crms.db.mapper.NotificationOutboxCustomMapper;
+
+@RequiredArgsConstructor
+@Repository
+public class NotificationOutboxRepository {
+
+    /**
+     * メッセージの最大長（notification_outbox.messageの長さ）
+     */
+    static final int MAX_MESSAGE_LENGTH = 4000;
+
+    /**
+     * 最大長を超えたメッセージの末尾
+     */
+    static final String TRUNCATED_SUFFIX = "\n…";
+
+    private final NotificationOutboxMapper notificationOutboxMapper;
+
+    private final NotificationOutboxCustomMapper notificationOutboxCustomMapper;
+
+    /**
+     * 通知を作成
+     *
+     * 最大長を超えたメッセージは切り詰め，通知を積めずに呼び出し側のトランザクションがロールバックしないようにする。
+     *
+     * @param message 送信メッセージ
+     *
+     * @return 通知ID
+     */
+    public int insert(final String message) {
+        final var notificationOutbox = NotificationOutbox.builder() //
+            .message(message.length() > MAX_MESSAGE_LENGTH //
+                ? message.substring(0, MAX_MESSAGE_LENGTH - TRUNCATED_SUFFIX.length()) + TRUNCATED_SUFFIX //
+                : message) //
+            .build();
+        return this.notificationOutboxMapper.insertSelective(notificationOutbox);
+    }
+
+    /**
+     * 送信可能な未送信の通知を排他ロックして取得
+     *
+     * @param limit 取得件数
+     *
+     * @return 通知一覧
+     */
+    public List<NotificationOutbox> selectPendingForUpdate(final int limit) {
+        return this.notificationOutboxCustomMapper.selectPendingForUpdateSkipLocked(new Date(), limit);
+    }
+
+    /**
+     * 未送信の通知数を取得
+     *
+     * @return 通知数
+     */
+    public long countPending() {
+        return this.notificationOutboxCustomMapper.countPending();
+    }
+
+    /**
+     * 送信を諦めた通知数を取得
+     *
+     * @return 通知数
+     */
+    public long countDeadLettered() {
+        return this.notificationOutboxCustomMapper.countDeadLettered();
+    }
+
+    /**
+     * 最も古い未送信の通知の作成日時を取得
+     *
+     * @return 作成日時
+     */
+    public Optional<Date> selectOldestPendingCreatedAt() {
+        return Optional.ofNullable(this.notificationOutboxCustomMapper.selectOldestPendingCreatedAt());
+    }
+
+    /**
+     * 通知を送信用に確保
+     *
+     * @param ids        通知ID一覧
+     *
+     * @param leaseUntil 確保を解除する日時
+     */
+    public void claim(final List<Integer> ids, final Date leaseUntil) {
+        this.notificationOutboxCustomMapper.claim(ids, leaseUntil);
+    }
+
+    /**
+     * 通知を送信済みにする
+     *
+     * @param ids 通知ID一覧
+     */
+    public void markSent(final List<Integer> ids) {
+        this.notificationOutboxCustomMapper.markSent(ids, new Date());
+    }
+
+    /**
+     * 通知の送信失敗を記録
+     *
+     * @param ids         通知ID一覧
+     *
+     * @param availableAt 次に送信を試みる日時
+     */
+    public void markFailed(final List<Integer> ids, final Date availableAt) {
+        this.notificationOutboxCustomMapper.markFailed(ids, availableAt);
+    }
+
+    /**
+     * 通知の送信を諦める
+     *
+     * @param ids 通知ID一覧
+     */
+    public void markDeadLettered(final List<Integer> ids) {
+        this.notificationOutboxCustomMapper.markDeadLettered(ids, new Date());
+    }
+
+    /**
+     * 送信済みの通知を削除
+     *
+     * @param sentBefore この日時より前に送信した通知を削除
+     *
+     * @param limit      削除件数
+     *
+     * @return 削除件数
+     */
+    public int deleteSentBefore(final Date sentBefore, final int limit) {
+        return this.notificationOutboxCustomMapper.deleteSentBefore(sentBefore, limit);
+    }
+
+}
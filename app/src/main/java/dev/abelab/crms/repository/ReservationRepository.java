@@ -4,11 +4,17 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
+import org.apache.ibatis.cursor.Cursor;
 
 import lombok.RequiredArgsConstructor;
 import dev.abelab.crms.db.entity.Reservation;
 import dev.abelab.crms.db.entity.ReservationExample;
 import dev.abelab.crms.db.mapper.ReservationMapper;
+import dev.abelab.crms.db.mapper.ReservationCustomMapper;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.enums.VersionedResourceEnum;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.NotFoundException;
 
@@ -18,6 +24,10 @@ public class ReservationRepository {
 
     private final ReservationMapper reservationMapper;
 
+    private final ReservationCustomMapper reservationCustomMapper;
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
     /**
      * 予約を作成
      *
@@ -26,7 +36,22 @@ public class ReservationRepository {
      * @return 予約ID
      */
     public int insert(final Reservation reservation) {
-        return this.reservationMapper.insertSelective(reservation);
+        final var count = this.reservationMapper.insertSelective(reservation);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+        return count;
+    }
+
+    /**
+     * 予約を一括作成
+     *
+     * @param reservations 予約リスト（採番したIDを設定する）
+     */
+    public void insertAll(final List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        this.reservationCustomMapper.insertBulk(reservations);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
     }
 
     /**
@@ -37,6 +62,23 @@ public class ReservationRepository {
     public void update(final Reservation reservation) {
         reservation.setUpdatedAt(null);
         this.reservationMapper.updateByPrimaryKeySelective(reservation);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+    }
+
+    /**
+     * 予約を一括更新
+     *
+     * @param reservations 予約リスト
+     */
+    public void updateAll(final List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        reservations.forEach(reservation -> {
+            reservation.setUpdatedAt(null);
+            this.reservationMapper.updateByPrimaryKeySelective(reservation);
+        });
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
     }
 
     /**
@@ -47,11 +89,27 @@ public class ReservationRepository {
     public void deleteById(final int reservationId) {
         if (this.existsById(reservationId)) {
             this.reservationMapper.deleteByPrimaryKey(reservationId);
+            this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
         } else {
             throw new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION);
         }
     }
 
+    /**
+     * 予約を一括削除
+     *
+     * @param reservationIds 予約IDリスト
+     */
+    public void deleteByIds(final List<Integer> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        final var example = new ReservationExample();
+        example.createCriteria().andIdIn(reservationIds);
+        this.reservationMapper.deleteByExample(example);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+    }
+
     /**
      * IDから予約を検索
      *
@@ -88,6 +146,78 @@ public class ReservationRepository {
         return this.reservationMapper.selectByExample(example);
     }
 
+    /**
+     * IDから予約（+ユーザ）を検索
+     *
+     * @param reservationId 予約ID
+     *
+     * @return 予約（+ユーザ）
+     */
+    public ReservationWithUserModel selectWithUserById(final int reservationId) {
+        return Optional.ofNullable(this.reservationCustomMapper.selectWithUserByPrimaryKey(reservationId)) //
+            .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION));
+    }
+
+    /**
+     * IDリストから予約（+ユーザ）一覧を検索
+     *
+     * @param reservationIds 予約IDリスト
+     *
+     * @return 予約（+ユーザ）一覧（存在しない予約は含まない）
+     */
+    public List<ReservationWithUserModel> selectWithUserByIds(final List<Integer> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return this.reservationCustomMapper.selectWithUserByPrimaryKeys(reservationIds);
+    }
+
+    /**
+     * 検索条件に一致する予約一覧を検索
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約一覧
+     */
+    public List<Reservation> selectByCondition(final ReservationSearchConditionModel condition) {
+        return this.reservationCustomMapper.selectByCondition(condition);
+    }
+
+    /**
+     * 検索条件に一致する予約（+ユーザ）一覧を検索
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約（+ユーザ）一覧
+     */
+    public List<ReservationWithUserModel> selectWithUserByCondition(final ReservationSearchConditionModel condition) {
+        return this.reservationCustomMapper.selectWithUserByCondition(condition);
+    }
+
+    /**
+     * 検索条件に一致する予約（+ユーザ）をカーソルで検索
+     *
+     * トランザクション内でのみ読み出し可能
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約（+ユーザ）カーソル
+     */
+    public Cursor<ReservationWithUserModel> selectCursorWithUserByCondition(final ReservationSearchConditionModel condition) {
+        return this.reservationCustomMapper.selectCursorWithUserByCondition(condition);
+    }
+
+    /**
+     * 検索条件に一致する予約の存在確認
+     *
+     * @param condition 検索条件
+     *
+     * @return 予約が存在するか
+     */
+    public boolean existsByCondition(final ReservationSearchConditionModel condition) {
+        return this.reservationCustomMapper.existsByCondition(condition);
+    }
+
     /**
      * 予約IDの存在確認
      *
@@ -96,12 +226,7 @@ public class ReservationRepository {
      * @return 予約IDが存在するか
      */
     public boolean existsById(final int reservationId) {
-        try {
-            this.selectById(reservationId);
-            return true;
-        } catch (NotFoundException e) {
-            return false;
-        }
+        return this.reservationCustomMapper.existsByPrimaryKey(reservationId);
     }
 
 }
@@ -0,0 +1,146 @@
+package dev.abelab.crms.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.db.entity.ReservationSeriesCancellation;
+import dev.abelab.crms.db.entity.ReservationSeriesCancellationExample;
+import dev.abelab.crms.db.mapper.ReservationSeriesMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesCustomMapper;
+import dev.abelab.crms.db.mapper.ReservationSeriesCancellationMapper;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.enums.VersionedResourceEnum;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.NotFoundException;
+
+@RequiredArgsConstructor
+@Repository
+public class ReservationSeriesRepository {
+
+    private final ReservationSeriesMapper reservationSeriesMapper;
+
+    private final ReservationSeriesCustomMapper reservationSeriesCustomMapper;
+
+    private final ReservationSeriesCancellationMapper reservationSeriesCancellationMapper;
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
+    /**
+     * 定期予約を作成
+     *
+     * @param series 定期予約
+     *
+     * @return 定期予約ID
+     */
+    public int insert(final ReservationSeries series) {
+        final var count = this.reservationSeriesMapper.insertSelective(series);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+        return count;
+    }
+
+    /**
+     * 定期予約を更新
+     *
+     * @param series 定期予約
+     */
+    public void update(final ReservationSeries series) {
+        series.setUpdatedAt(null);
+        this.reservationSeriesMapper.updateByPrimaryKeySelective(series);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+    }
+
+    /**
+     * 定期予約を削除（キャンセルした回もカスケード削除）
+     *
+     * @param seriesId 定期予約ID
+     */
+    public void deleteById(final int seriesId) {
+        if (this.reservationSeriesMapper.deleteByPrimaryKey(seriesId) == 0) {
+            throw new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION_SERIES);
+        }
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+    }
+
+    /**
+     * IDから定期予約（+ユーザ）を検索
+     *
+     * @param seriesId 定期予約ID
+     *
+     * @return 定期予約（+ユーザ）
+     */
+    public ReservationSeriesWithUserModel selectWithUserById(final int seriesId) {
+        return Optional.ofNullable(this.reservationSeriesCustomMapper.selectWithUserByPrimaryKey(seriesId)) //
+            .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION_SERIES));
+    }
+
+    /**
+     * 検索条件の期間に発生しうる定期予約（+ユーザ）一覧を検索
+     *
+     * @param condition 検索条件
+     *
+     * @return 定期予約（+ユーザ）一覧
+     */
+    public List<ReservationSeriesWithUserModel> selectWithUserByCondition(final ReservationSearchConditionModel condition) {
+        return this.reservationSeriesCustomMapper.selectWithUserByCondition(condition);
+    }
+
+    /**
+     * 定期予約の回をキャンセル
+     *
+     * @param seriesId     定期予約ID
+     *
+     * @param occurrenceAt キャンセルする回の開始時刻
+     */
+    public void insertCancellation(final int seriesId, final Date occurrenceAt) {
+        final var cancellation = ReservationSeriesCancellation.builder() //
+            .seriesId(seriesId) //
+            .occurrenceAt(occurrenceAt) //
+            .build();
+        this.reservationSeriesCancellationMapper.insertSelective(cancellation);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+    }
+
+    /**
+     * 定期予約の回を一括キャンセル
+     *
+     * @param cancellations キャンセルリスト
+     */
+    public void insertCancellations(final List<ReservationSeriesCancellation> cancellations) {
+        if (cancellations.isEmpty()) {
+            return;
+        }
+        this.reservationSeriesCustomMapper.insertCancellations(cancellations);
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+    }
+
+    /**
+     * 期間内にキャンセルした回の一覧を検索
+     *
+     * @param seriesIds 定期予約IDリスト
+     *
+     * @param from      開始時刻の下限
+     *
+     * @param to        開始時刻の上限（含まない）
+     *
+     * @return キャンセルした回の一覧
+     */
+    public List<ReservationSeriesCancellation> selectCancellations(final List<Integer> seriesIds, final Date from, final Date to) {
+        if (seriesIds.isEmpty()) {
+            return List.of();
+        }
+        final var example = new ReservationSeriesCancellationExample();
+        example.createCriteria() //
+            .andSeriesIdIn(seriesIds) //
+            .andOccurrenceAtGreaterThanOrEqualTo(from) //
+            .andOccurrenceAtLessThan(to);
+        return this.reservationSeriesCancellationMapper.selectByExample(example);
+    }
+
+}
@@ -1,14 +1,22 @@
 package dev.abelab.crms.repository;
 
+import java.sql.Connection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 import dev.abelab.crms.db.entity.User;
 import dev.abelab.crms.db.entity.UserExample;
 import dev.abelab.crms.db.mapper.UserMapper;
+import dev.abelab.crms.db.mapper.UserCustomMapper;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.cache.UserCache;
+import dev.abelab.crms.enums.VersionedResourceEnum;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.ConflictException;
 import dev.abelab.crms.exception.NotFoundException;
@@ -17,30 +25,73 @@ import dev.abelab.crms.exception.NotFoundException;
 @Repository
 public class UserRepository {
 
+    /**
+     * ユーザを書き込んだトランザクションに紐づけるリソースのキー
+     */
+    private static final Object USER_WRITTEN_KEY = new Object();
+
     private final UserMapper userMapper;
 
+    private final UserCustomMapper userCustomMapper;
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
+    private final UserCache userCache;
+
     /**
      * ユーザを作成
      *
+     * メールアドレスの重複は一意制約で検出する（事前に確認すると同時作成で競合する）
+     *
      * @param user ユーザ
      *
      * @return ユーザID
      */
     public int insert(final User user) {
-        if (this.existsByEmail(user.getEmail())) {
+        final int count;
+        try {
+            count = this.userMapper.insertSelective(user);
+        } catch (DuplicateKeyException e) {
             throw new ConflictException(ErrorCode.CONFLICT_EMAIL);
         }
-        return this.userMapper.insertSelective(user);
+        this.evictCache(user.getId());
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.USERS);
+        return count;
     }
 
     /**
      * ユーザを更新
      *
+     * メールアドレスの重複は一意制約で検出する
+     *
      * @param user ユーザ
      */
     public void update(final User user) {
         user.setUpdatedAt(null);
+        try {
+            this.userMapper.updateByPrimaryKeySelective(user);
+        } catch (DuplicateKeyException e) {
+            throw new ConflictException(ErrorCode.CONFLICT_EMAIL);
+        }
+        this.evictCache(user.getId());
+        // 予約一覧は予約者を含む
+        this.resourceVersionRegistry.bump(VersionedResourceEnum.USERS, VersionedResourceEnum.RESERVATIONS);
+    }
+
+    /**
+     * パスワードのハッシュのみを更新（レスポンスに含まれないため，ETagは変えない）
+     *
+     * @param userId   ユーザID
+     *
+     * @param password パスワードのハッシュ
+     */
+    public void updatePassword(final int userId, final String password) {
+        final var user = User.builder() //
+            .id(userId) //
+            .password(password) //
+            .build();
         this.userMapper.updateByPrimaryKeySelective(user);
+        this.evictCache(userId);
     }
 
     /**
@@ -51,11 +102,24 @@ public class UserRepository {
     public void deleteById(final int userId) {
         if (this.existsById(userId)) {
             this.userMapper.deleteByPrimaryKey(userId);
+            this.evictCache(userId);
+            // 予約はカスケード削除される
+            this.resourceVersionRegistry.bump(VersionedResourceEnum.USERS, VersionedResourceEnum.RESERVATIONS);
         } else {
             throw new NotFoundException(ErrorCode.NOT_FOUND_USER);
         }
     }
 
+    /**
+     * ユーザを排他ロック（トランザクション終了まで保持）
+     *
+     * @param userId ユーザID
+     */
+    public void lockById(final int userId) {
+        Optional.ofNullable(this.userCustomMapper.selectIdByPrimaryKeyForUpdate(userId)) //
+            .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND_USER));
+    }
+
     /**
      * IDからユーザを検索
      *
@@ -64,8 +128,16 @@ public class UserRepository {
      * @return ユーザ
      */
     public User selectById(final int userId) {
-        return Optional.ofNullable(this.userMapper.selectByPrimaryKey(userId)) //
+        final var cachedUser = this.userCache.get(userId);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+
+        final var generation = this.userCache.getGeneration();
+        final var user = Optional.ofNullable(this.userMapper.selectByPrimaryKey(userId)) //
             .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND_USER));
+        this.putCache(user, generation);
+        return user;
     }
 
     /**
@@ -76,10 +148,18 @@ public class UserRepository {
      * @return ユーザ
      */
     public User selectByEmail(final String email) {
+        final var cachedUser = this.userCache.getByEmail(email);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+
+        final var generation = this.userCache.getGeneration();
         final var example = new UserExample();
         example.createCriteria().andEmailEqualTo(email);
-        return this.userMapper.selectByExample(example).stream().findFirst() //
+        final var user = this.userMapper.selectByExample(example).stream().findFirst() //
             .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND_USER));
+        this.putCache(user, generation);
+        return user;
     }
 
     /**
@@ -101,12 +181,10 @@ public class UserRepository {
      * @return ユーザIDが存在するか
      */
     public boolean existsById(final int userId) {
-        try {
-            this.selectById(userId);
+        if (this.userCache.get(userId).isPresent()) {
             return true;
-        } catch (NotFoundException e) {
-            return false;
         }
+        return this.userCustomMapper.existsByPrimaryKey(userId);
     }
 
     /**
@@ -117,11 +195,57 @@ public class UserRepository {
      * @return emailが存在するか
      */
     public boolean existsByEmail(final String email) {
-        try {
-            this.selectByEmail(email);
+        if (this.userCache.getByEmail(email).isPresent()) {
             return true;
-        } catch (NotFoundException e) {
-            return false;
+        }
+        return this.userCustomMapper.existsByEmail(email);
+    }
+
+    /**
+     * ユーザをキャッシュに登録
+     *
+     * トランザクションの外か，READ COMMITTEDのトランザクションで読んだユーザのみ登録する。
+     * REPEATABLE READでは他のトランザクションのコミットより前のスナップショットを読むことがあり，破棄の後に古いユーザを登録してしまう。
+     * ユーザを書き込んだトランザクションでは未コミットのユーザを読むため登録しない。
+     *
+     * @param user       ユーザ
+     *
+     * @param generation 読み込み前に取得した世代
+     */
+    private void putCache(final User user, final long generation) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !Integer.valueOf(Connection.TRANSACTION_READ_COMMITTED).equals(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.hasResource(USER_WRITTEN_KEY)) {
+            this.userCache.put(user, generation);
+        }
+    }
+
+    /**
+     * キャッシュからユーザを破棄
+     *
+     * 書き込みの直後とトランザクション終了後の両方で破棄する。コミット前に読まれた古いユーザや，ロールバックされたユーザを残さない。
+     *
+     * @param userId ユーザID
+     */
+    private void evictCache(final Integer userId) {
+        if (userId == null) {
+            return;
+        }
+        this.userCache.evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (!TransactionSynchronizationManager.hasResource(USER_WRITTEN_KEY)) {
+                TransactionSynchronizationManager.bindResource(USER_WRITTEN_KEY, Boolean.TRUE);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(USER_WRITTEN_KEY);
+                    userCache.evict(userId);
+                }
+            });
         }
     }
 
@@ -1,13 +1,16 @@
 package dev.abelab.crms.service;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.*;
 import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.api.request.LoginRequest;
 import dev.abelab.crms.api.response.AccessTokenResponse;
+import dev.abelab.crms.ratelimit.LoginRateLimiter;
 import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.logic.PasswordVerificationLogic;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.TooManyRequestsException;
 
 @RequiredArgsConstructor
 @Service
@@ -15,22 +18,34 @@ public class AuthService {
 
     private final UserLogic userLogic;
 
+    private final PasswordVerificationLogic passwordVerificationLogic;
+
     private final UserRepository userRepository;
 
+    private final LoginRateLimiter loginRateLimiter;
+
     /**
      * ログイン処理
      *
+     * パスワード検証を待つ間にDBコネクションを保持しないよう，トランザクションは張らない
+     *
      * @param requestBody ログインリクエスト
      *
+     * @param ipAddress   IPアドレス
+     *
      * @return アクセストークンレスポンス
      */
-    @Transactional
-    public AccessTokenResponse login(final LoginRequest requestBody) {
+    public AccessTokenResponse login(final LoginRequest requestBody, final String ipAddress) {
+        // 試行回数をチェック
+        if (!this.loginRateLimiter.tryAcquire(requestBody.getEmail(), ipAddress)) {
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+
         // ユーザ情報を取得
         final var user = this.userRepository.selectByEmail(requestBody.getEmail());
 
         // パスワードチェック
-        this.userLogic.verifyPassword(user, requestBody.getPassword());
+        this.passwordVerificationLogic.verifyPassword(user, requestBody.getPassword());
 
         // JWTを発行
         final var jwt = this.userLogic.generateJwt(user);
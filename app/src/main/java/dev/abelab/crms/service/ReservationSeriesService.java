@@ -0,0 +1,154 @@
+package dev.abelab.crms.service;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.*;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
+import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
+import dev.abelab.crms.repository.NotificationOutboxRepository;
+import dev.abelab.crms.api.request.ReservationSeriesCreateRequest;
+import dev.abelab.crms.api.request.ReservationSeriesCancelRequest;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.logic.ReservationLogic;
+import dev.abelab.crms.client.SlackClient;
+import dev.abelab.crms.event.ReservationChangedEvent;
+import dev.abelab.crms.event.ReservationSeriesChangedEvent;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.NotFoundException;
+
+@RequiredArgsConstructor
+@Service
+public class ReservationSeriesService {
+
+    private final UserLogic userLogic;
+
+    private final ReservationLogic reservationLogic;
+
+    private final UserRepository userRepository;
+
+    private final ReservationSeriesRepository reservationSeriesRepository;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    private final SlackClient slackClient;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 定期予約を作成
+     *
+     * @param requestBody 定期予約作成リクエスト
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void createReservationSeries(final ReservationSeriesCreateRequest requestBody) {
+        // ログインユーザを取得
+        final var loginUser = this.userLogic.getLoginUser();
+
+        // 同一ユーザの予約操作を直列化
+        this.userRepository.lockById(loginUser.getId());
+
+        // 定期予約のバリデーション
+        final var series = new ReservationSeriesWithUserModel(loginUser);
+        series.setUserId(loginUser.getId());
+        series.setStartAt(requestBody.getStartAt());
+        series.setFinishAt(requestBody.getFinishAt());
+        series.setUntilAt(requestBody.getUntilAt());
+        this.reservationLogic.validateReservationSeries(series);
+
+        // 定期予約の作成（回は保存せず，取得時に展開する）
+        this.reservationSeriesRepository.insert(series);
+
+        // 同じトランザクションでSlack通知を積む
+        final var message = this.slackClient.buildEditReservationSeriesMessage(series, ReservationActionEnum.REGISTERED);
+        this.notificationOutboxRepository.insert(message);
+
+        // コミット後に購読者へ差分を配信
+        this.eventPublisher.publishEvent(new ReservationSeriesChangedEvent(series, ReservationActionEnum.REGISTERED));
+    }
+
+    /**
+     * 定期予約を削除
+     *
+     * @param seriesId 定期予約ID
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void deleteReservationSeries(final int seriesId) {
+        // ログインユーザを取得
+        final var loginUser = this.userLogic.getLoginUser();
+
+        // 権限をチェック
+        final var series = this.reservationSeriesRepository.selectWithUserById(seriesId);
+        this.reservationLogic.checkEditPermission(series, loginUser);
+
+        // 同一ユーザの予約操作を直列化
+        this.userRepository.lockById(series.getUserId());
+
+        // 開始済みの定期予約は，過去の回を残して終了する
+        final var now = new Date();
+        final ReservationActionEnum action;
+        if (now.after(series.getStartAt())) {
+            series.setUntilAt(now);
+            this.reservationSeriesRepository.update(series);
+            action = ReservationActionEnum.CHANGED;
+        } else {
+            this.reservationSeriesRepository.deleteById(seriesId);
+            action = ReservationActionEnum.DELETED;
+        }
+
+        // 同じトランザクションでSlack通知を積む
+        final var message = this.slackClient.buildEditReservationSeriesMessage(series, ReservationActionEnum.DELETED);
+        this.notificationOutboxRepository.insert(message);
+
+        // コミット後に購読者へ差分を配信
+        this.eventPublisher.publishEvent(new ReservationSeriesChangedEvent(series, action));
+    }
+
+    /**
+     * 定期予約の回をキャンセル
+     *
+     * @param seriesId    定期予約ID
+     *
+     * @param requestBody 定期予約の回のキャンセルリクエスト
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void cancelReservationOccurrence(final int seriesId, final ReservationSeriesCancelRequest requestBody) {
+        // ログインユーザを取得
+        final var loginUser = this.userLogic.getLoginUser();
+
+        // 権限をチェック
+        final var series = this.reservationSeriesRepository.selectWithUserById(seriesId);
+        this.reservationLogic.checkEditPermission(series, loginUser);
+
+        // 同一ユーザの予約操作を直列化
+        this.userRepository.lockById(series.getUserId());
+
+        // キャンセルされていない回かチェック
+        final var startAt = requestBody.getStartAt();
+        final var occurrence = this.reservationLogic.expandSeries(List.of(series), startAt, new Date(startAt.getTime() + 1)).stream() //
+            .filter(candidate -> candidate.getStartAt().equals(startAt)) //
+            .findFirst() //
+            .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION_OCCURRENCE));
+
+        // 削除可能な予約かチェック
+        this.reservationLogic.checkDeletableReservation(occurrence);
+
+        // キャンセルした回のみを保存
+        this.reservationSeriesRepository.insertCancellation(seriesId, startAt);
+
+        // 同じトランザクションでSlack通知を積む
+        final var message = this.slackClient.buildEditReservationMessage(occurrence, ReservationActionEnum.DELETED);
+        this.notificationOutboxRepository.insert(message);
+
+        // コミット後に購読者へ差分を配信
+        this.eventPublisher.publishEvent(new ReservationChangedEvent(occurrence, ReservationActionEnum.DELETED));
+    }
+
+}
@@ -1,152 +1,650 @@
 package dev.abelab.crms.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-import org.modelmapper.ModelMapper;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.*;
+import dev.abelab.crms.db.entity.User;
 import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.db.entity.ReservationSeriesCancellation;
+import dev.abelab.crms.model.ReservationWithUserModel;
 import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.enums.VersionedResourceEnum;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.cache.ReservationAvailabilityIndex;
+import dev.abelab.crms.exception.ErrorMessageCache;
+import dev.abelab.crms.converter.ReservationConverter;
 import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
+import dev.abelab.crms.repository.NotificationOutboxRepository;
 import dev.abelab.crms.api.request.ReservationCreateRequest;
 import dev.abelab.crms.api.request.ReservationUpdateRequest;
-import dev.abelab.crms.api.response.ReservationResponse;
+import dev.abelab.crms.api.request.ReservationBulkRequest;
+import dev.abelab.crms.api.request.ReservationBulkItemRequest;
 import dev.abelab.crms.api.response.ReservationsResponse;
-import dev.abelab.crms.api.response.UserResponse;
+import dev.abelab.crms.api.response.AvailabilityResponse;
+import dev.abelab.crms.api.response.TimeIntervalResponse;
+import dev.abelab.crms.api.response.ReservationBulkResponse;
+import dev.abelab.crms.api.response.ReservationBulkItemResponse;
+import dev.abelab.crms.api.response.ErrorResponse;
 import dev.abelab.crms.logic.UserLogic;
 import dev.abelab.crms.logic.ReservationLogic;
+import dev.abelab.crms.logic.ReservationLotteryLogic;
 import dev.abelab.crms.client.SlackClient;
+import dev.abelab.crms.util.DateTimeUtil;
+import dev.abelab.crms.event.ReservationChangedEvent;
+import dev.abelab.crms.event.ReservationChangeFeed;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.BaseException;
+import dev.abelab.crms.exception.BadRequestException;
+import dev.abelab.crms.exception.ConflictException;
+import dev.abelab.crms.exception.NotFoundException;
 
 @RequiredArgsConstructor
 @Service
 public class ReservationService {
 
-    private final ModelMapper modelMapper;
+    private final ReservationConverter reservationConverter;
+
+    private final ObjectMapper objectMapper;
 
     private final UserLogic userLogic;
 
     private final ReservationLogic reservationLogic;
 
+    private final ReservationLotteryLogic reservationLotteryLogic;
+
     private final UserRepository userRepository;
 
     private final ReservationRepository reservationRepository;
 
+    private final ReservationSeriesRepository reservationSeriesRepository;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
     private final SlackClient slackClient;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReservationChangeFeed reservationChangeFeed;
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
+    private final ReservationAvailabilityIndex reservationAvailabilityIndex;
+
+    private final ErrorMessageCache errorMessageCache;
+
+    /**
+     * 予約一覧のETagを取得
+     *
+     * @return ETag
+     */
+    public String getReservationsETag() {
+        return this.resourceVersionRegistry.getETag(VersionedResourceEnum.RESERVATIONS);
+    }
+
     /**
      * 予約一覧を取得
      *
-     * @param credentials 資格情報
+     * @param from    期間の開始日時
+     *
+     * @param to      期間の終了日時
+     *
+     * @param userId  ユーザID
+     *
+     * @param cursor  このカーソルの次から取得する
+     *
+     * @param limit   取得件数
      *
      * @return 予約一覧レスポンス
      */
     @Transactional
-    public ReservationsResponse getReservations(final String credentials) {
-        // ログインユーザを取得
-        this.userLogic.getLoginUser(credentials);
+    public ReservationsResponse getReservations(final Date from, final Date to, final Integer userId,
+        final String cursor, final Integer limit) {
+        // 検索条件に一致する予約を予約者と結合して取得
+        final var condition = this.reservationLogic.buildSearchCondition(from, to, userId, cursor, limit);
+        final var reservations = this.reservationRepository.selectWithUserByCondition(condition);
 
-        final var reservations = this.reservationRepository.findAll();
-        final var reservationResponses = reservations.stream().map(reservation -> {
-            // 予約者を取得
-            final var user = this.userRepository.selectById(reservation.getUserId());
-            final var reservationResponse = this.modelMapper.map(reservation, ReservationResponse.class);
-            reservationResponse.setUser(this.modelMapper.map(user, UserResponse.class));
-            return reservationResponse;
-        }).collect(Collectors.toList());
+        // カーソルより後の定期予約の回を展開して重ねる
+        reservations.addAll(this.reservationLogic.getSeriesOccurrences(condition, reservations));
+        reservations.sort(ReservationLogic.LIST_ORDER);
 
-        return new ReservationsResponse(reservationResponses);
+        // 取得件数を超えた分は次ページが存在する
+        final var hasNext = limit != null && reservations.size() > limit;
+        final var page = hasNext ? reservations.subList(0, limit) : reservations;
+        final var reservationResponses = page.stream() //
+            .map(this.reservationConverter::toResponse) //
+            .collect(Collectors.toList());
+
+        return ReservationsResponse.builder() //
+            .reservations(reservationResponses) //
+            .nextCursor(hasNext ? this.reservationLogic.encodeCursor(page.get(page.size() - 1)) : null) //
+            .build();
     }
 
     /**
-     * 予約を作成
+     * 予約一覧をNDJSON形式で出力
+     *
+     * @param from         期間の開始日時
+     *
+     * @param to           期間の終了日時
+     *
+     * @param userId       ユーザID
+     *
+     * @param outputStream 出力先
+     */
+    @Transactional(readOnly = true)
+    public void exportReservations(final Date from, final Date to, final Integer userId,
+        final OutputStream outputStream) throws IOException {
+        // 1行読むごとに書き出し，結果全体をメモリに載せない（定期予約の回は展開して，単発の予約の間に差し込む）
+        final var condition = this.reservationLogic.buildSearchCondition(from, to, userId, null, null);
+        final var occurrences = this.reservationLogic.getSeriesOccurrences(condition, List.of()).iterator();
+        var occurrence = occurrences.hasNext() ? occurrences.next() : null;
+        try (final var cursor = this.reservationRepository.selectCursorWithUserByCondition(condition)) {
+            for (final var reservation : cursor) {
+                while (occurrence != null && ReservationLogic.LIST_ORDER.compare(occurrence, reservation) < 0) {
+                    this.writeLine(outputStream, occurrence);
+                    occurrence = occurrences.hasNext() ? occurrences.next() : null;
+                }
+                this.writeLine(outputStream, reservation);
+            }
+        }
+        while (occurrence != null) {
+            this.writeLine(outputStream, occurrence);
+            occurrence = occurrences.hasNext() ? occurrences.next() : null;
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * 予約をNDJSONの1行として出力
      *
-     * @param credentials 資格情報
+     * @param outputStream 出力先
+     *
+     * @param reservation  予約
+     */
+    private void writeLine(final OutputStream outputStream, final ReservationWithUserModel reservation) throws IOException {
+        outputStream.write(this.objectMapper.writeValueAsBytes(this.reservationConverter.toResponse(reservation)));
+        outputStream.write('\n');
+    }
+
+    /**
+     * 空き状況を取得
+     *
+     * @param date 日付
+     *
+     * @return 空き状況レスポンス
+     */
+    public AvailabilityResponse getAvailability(final Date date) {
+        // 過去の日付かチェック
+        this.reservationLogic.checkAvailabilityDate(date);
+
+        // 予約状況のインデックスから求める（定期予約の回を含み，DBを参照しない）
+        final var freeIntervals = this.reservationAvailabilityIndex.getFreeIntervals(date).stream() //
+            .map(interval -> new TimeIntervalResponse(interval.getStartAt(), interval.getFinishAt())) //
+            .collect(Collectors.toList());
+
+        return new AvailabilityResponse(freeIntervals);
+    }
+
+    /**
+     * 予約の変更フィードを購読
+     *
+     * @param lastEventId 最後に受信した変更シーケンス
+     *
+     * @return SSE Emitter
+     */
+    public SseEmitter subscribeReservationChanges(final Long lastEventId) {
+        return this.reservationChangeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * 予約を作成
      *
      * @param requestBody 予約作成リクエスト
      */
-    @Transactional
-    public void createReservation(final String credentials, final ReservationCreateRequest requestBody) {
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void createReservation(final ReservationCreateRequest requestBody) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
+        final var loginUser = this.userLogic.getLoginUser();
+
+        // 同一ユーザの予約操作を直列化（READ COMMITTEDなので，ロック取得後は先行した予約が見える）
+        this.userRepository.lockById(loginUser.getId());
 
         // 開始時刻と終了時刻のバリデーション
         this.reservationLogic.validateReservationTime(requestBody.getStartAt(), requestBody.getFinishAt(), loginUser.getId(), 0);
 
         // 予約の作成
-        final var reservation = this.modelMapper.map(requestBody, Reservation.class);
+        final var reservation = this.reservationConverter.toEntity(requestBody);
         reservation.setUserId(loginUser.getId());
         this.reservationRepository.insert(reservation);
 
-        // Slackに通知
-        this.slackClient.sendEditReservationNotification(this.reservationLogic.getWithUser(reservation), ReservationActionEnum.REGISTERED);
+        // 同じトランザクションでSlack通知を積む
+        final var reservationWithUser = this.reservationRepository.selectWithUserById(reservation.getId());
+        final var message = this.slackClient.buildEditReservationMessage(reservationWithUser, ReservationActionEnum.REGISTERED);
+        this.notificationOutboxRepository.insert(message);
+
+        // コミット後に購読者へ差分を配信
+        this.eventPublisher.publishEvent(new ReservationChangedEvent(reservationWithUser, ReservationActionEnum.REGISTERED));
     }
 
     /**
      * 予約を更新
      *
-     * @param credentials 資格情報
-     *
      * @param requestBody 予約更新リクエスト
      */
-    @Transactional
-    public void updateReservation(final String credentials, final int reservationId, final ReservationUpdateRequest requestBody) {
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void updateReservation(final int reservationId, final ReservationUpdateRequest requestBody) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
+        final var loginUser = this.userLogic.getLoginUser();
 
         // 権限をチェック
-        this.reservationLogic.checkEditPermission(reservationId, loginUser.getId());
+        final var reservation = this.reservationRepository.selectById(reservationId);
+        this.reservationLogic.checkEditPermission(reservation, loginUser);
+
+        // 同一ユーザの予約操作を直列化
+        this.userRepository.lockById(reservation.getUserId());
 
         // 開始時刻と終了時刻のバリデーション
-        final var userId = this.reservationRepository.selectById(reservationId).getUserId();
-        this.reservationLogic.validateReservationTime(requestBody.getStartAt(), requestBody.getFinishAt(), userId, reservationId);
+        this.reservationLogic.validateReservationTime(requestBody.getStartAt(), requestBody.getFinishAt(), reservation.getUserId(),
+            reservationId);
 
-        final var reservation = this.reservationRepository.selectById(reservationId);
         reservation.setStartAt(requestBody.getStartAt());
         reservation.setFinishAt(requestBody.getFinishAt());
         this.reservationRepository.update(reservation);
 
-        // Slackに通知
-        this.slackClient.sendEditReservationNotification(this.reservationLogic.getWithUser(reservation), ReservationActionEnum.CHANGED);
+        // 同じトランザクションでSlack通知を積む
+        final var reservationWithUser = this.reservationRepository.selectWithUserById(reservationId);
+        final var message = this.slackClient.buildEditReservationMessage(reservationWithUser, ReservationActionEnum.CHANGED);
+        this.notificationOutboxRepository.insert(message);
+
+        // コミット後に購読者へ差分を配信
+        this.eventPublisher.publishEvent(new ReservationChangedEvent(reservationWithUser, ReservationActionEnum.CHANGED));
     }
 
     /**
      * 予約を削除
      *
-     * @param credentials   資格情報
-     *
      * @param reservationId 予約ID
      */
     @Transactional
-    public void deleteReservation(final String credentials, final int reservationId) {
+    public void deleteReservation(final int reservationId) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
+        final var loginUser = this.userLogic.getLoginUser();
 
         // 権限をチェック
-        this.reservationLogic.checkEditPermission(reservationId, loginUser.getId());
+        final var reservation = this.reservationRepository.selectWithUserById(reservationId);
+        this.reservationLogic.checkEditPermission(reservation, loginUser);
 
         // 削除可能な予約かチェック
-        final var reservation = this.reservationRepository.selectById(reservationId);
         this.reservationLogic.checkDeletableReservation(reservation);
 
         this.reservationRepository.deleteById(reservationId);
 
-        // Slackに通知
-        this.slackClient.sendEditReservationNotification(this.reservationLogic.getWithUser(reservation), ReservationActionEnum.DELETED);
+        // 同じトランザクションでSlack通知を積む
+        final var message = this.slackClient.buildEditReservationMessage(reservation, ReservationActionEnum.DELETED);
+        this.notificationOutboxRepository.insert(message);
+
+        // コミット後に購読者へ差分を配信
+        this.eventPublisher.publishEvent(new ReservationChangedEvent(reservation, ReservationActionEnum.DELETED));
+    }
+
+    /**
+     * 予約を一括操作
+     *
+     * 予約者ごとに対象期間の予約を一度だけ取得し，一括操作内の重複も含めてメモリ上でバリデーションする。
+     * 失敗した項目は適用せず，成功した項目をまとめて書き込み，Slack通知も1件にまとめる。
+     *
+     * @param requestBody 予約一括操作リクエスト
+     *
+     * @return 予約一括操作レスポンス
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ReservationBulkResponse bulkReservations(final ReservationBulkRequest requestBody) {
+        // ログインユーザを取得
+        final var loginUser = this.userLogic.getLoginUser();
+        final var items = requestBody.getItems();
+
+        // 項目数をチェック
+        if (items == null || items.isEmpty() || items.size() > ReservationBulkRequest.MAX_ITEMS || items.contains(null)) {
+            throw new BadRequestException(ErrorCode.VALIDATION_ERROR);
+        }
+
+        // 変更/削除する予約の予約者と，ログインユーザの予約操作を直列化（デッドロックしないようID順にロック）
+        final var targetIds = items.stream() //
+            .map(ReservationBulkItemRequest::getId) //
+            .filter(Objects::nonNull) //
+            .distinct() //
+            .collect(Collectors.toList());
+        final var userIds = new TreeSet<Integer>();
+        userIds.add(loginUser.getId());
+        this.reservationRepository.selectWithUserByIds(targetIds).forEach(target -> userIds.add(target.getUserId()));
+        userIds.forEach(this.userRepository::lockById);
+
+        // ロック取得後の状態を取得し直す（予約者は変わらない）
+        final var targets = this.reservationRepository.selectWithUserByIds(targetIds).stream() //
+            .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+        final var reservationsByUser = this.selectReservationsByUser(items, targets.values(), userIds);
+
+        // 先頭から順にメモリ上で適用
+        final var results = new ArrayList<ReservationBulkItemResponse>();
+        final var created = new ArrayList<Reservation>();
+        final var createdResults = new ArrayList<ReservationBulkItemResponse>();
+        final var changed = new LinkedHashMap<Integer, ReservationWithUserModel>();
+        final var deleted = new LinkedHashMap<Integer, ReservationWithUserModel>();
+        for (var index = 0; index < items.size(); index++) {
+            final var item = items.get(index);
+            final var result = ReservationBulkItemResponse.builder().index(index).id(item.getId()).build();
+            results.add(result);
+
+            try {
+                if (item.getAction() == null) {
+                    throw new BadRequestException(ErrorCode.VALIDATION_ERROR);
+                }
+                switch (item.getAction()) {
+                    case REGISTERED:
+                        final var reservation = this.applyBulkCreate(item, loginUser, reservationsByUser);
+                        created.add(reservation);
+                        createdResults.add(result);
+                        result.setStatus(HttpStatus.CREATED.value());
+                        break;
+                    case CHANGED:
+                        final var changedReservation = this.applyBulkUpdate(item, loginUser, targets, reservationsByUser);
+                        changed.put(changedReservation.getId(), changedReservation);
+                        result.setStatus(HttpStatus.OK.value());
+                        break;
+                    case DELETED:
+                        final var deletedReservation = this.applyBulkDelete(item, loginUser, targets, reservationsByUser);
+                        changed.remove(deletedReservation.getId());
+                        deleted.put(deletedReservation.getId(), deletedReservation);
+                        result.setStatus(HttpStatus.OK.value());
+                        break;
+                    default:
+                        throw new BadRequestException(ErrorCode.VALIDATION_ERROR);
+                }
+            } catch (final BaseException e) {
+                result.setStatus(e.getHttpStatus().value());
+                result.setError(this.buildErrorResponse(e));
+            }
+        }
+
+        // まとめて書き込む
+        this.reservationRepository.deleteByIds(new ArrayList<>(deleted.keySet()));
+        this.reservationRepository.updateAll(new ArrayList<>(changed.values()));
+        this.reservationRepository.insertAll(created);
+        for (var i = 0; i < created.size(); i++) {
+            createdResults.get(i).setId(created.get(i).getId());
+        }
+
+        // 同じトランザクションでSlack通知を1件だけ積む
+        final var notifications = new EnumMap<ReservationActionEnum, List<ReservationWithUserModel>>(ReservationActionEnum.class);
+        notifications.put(ReservationActionEnum.REGISTERED, created.stream() //
+            .map(reservation -> this.toReservationWithUser(reservation, loginUser)) //
+            .collect(Collectors.toList()));
+        notifications.put(ReservationActionEnum.CHANGED, new ArrayList<>(changed.values()));
+        notifications.put(ReservationActionEnum.DELETED, new ArrayList<>(deleted.values()));
+        if (notifications.values().stream().anyMatch(reservations -> !reservations.isEmpty())) {
+            this.notificationOutboxRepository.insert(this.slackClient.buildBulkReservationMessage(notifications));
+        }
+
+        // コミット後に購読者へ差分を配信
+        notifications.forEach((action, reservations) -> reservations
+            .forEach(reservation -> this.eventPublisher.publishEvent(new ReservationChangedEvent(reservation, action))));
+
+        return new ReservationBulkResponse(results);
     }
 
     /**
      * 予約の抽選
+     *
+     * 翌日の予約のうち時間が重なるものを抽選し，落選した予約を削除（定期予約の回はキャンセル）する。
+     * 同じ日は何度実行しても同じ結果になるよう，乱数のシードは翌日の日付から決める。
      */
     @Transactional
     public void lotteryReservations() {
+        this.lotteryReservations(DateTimeUtil.getTomorrow().getTime());
+    }
+
+    /**
+     * 乱数のシードを指定して予約を抽選（テスト用，呼び出し側のトランザクションで実行する）
+     *
+     * @param seed 乱数のシード
+     */
+    void lotteryReservations(final long seed) {
         // 翌日の予約一覧を取得
         final var reservations = this.reservationLogic.getNextDayReservations();
+        final var result = this.reservationLotteryLogic.draw(reservations, seed);
+
+        // 落選した予約をまとめて書き戻す
+        final var losers = result.getLosers();
+        this.reservationRepository.deleteByIds(losers.stream() //
+            .filter(reservation -> reservation.getSeriesId() == null) //
+            .map(ReservationWithUserModel::getId) //
+            .collect(Collectors.toList()));
+        this.reservationSeriesRepository.insertCancellations(losers.stream() //
+            .filter(reservation -> reservation.getSeriesId() != null) //
+            .map(reservation -> ReservationSeriesCancellation.builder() //
+                .seriesId(reservation.getSeriesId()) //
+                .occurrenceAt(reservation.getStartAt()) //
+                .build()) //
+            .collect(Collectors.toList()));
+
+        // 同じトランザクションでSlack通知を積む
+        this.notificationOutboxRepository.insert(this.slackClient.buildLotteryResultMessage(result.getWinners(), losers));
+
+        // コミット後に購読者へ差分を配信（キャンセルした定期予約の回を含む）
+        losers.forEach(reservation -> this.eventPublisher.publishEvent(new ReservationChangedEvent(reservation, ReservationActionEnum.DELETED)));
+    }
+
+    /**
+     * 一括操作の対象期間と重なる予約を予約者ごとに取得
+     *
+     * @param items    操作リスト
+     *
+     * @param targets  変更/削除する予約
+     *
+     * @param userIds  予約者IDリスト
+     *
+     * @return 予約者ID -> 予約リスト（変更/削除する予約はtargetsと同じインスタンス）
+     */
+    private Map<Integer, List<Reservation>> selectReservationsByUser(final List<ReservationBulkItemRequest> items,
+        final Collection<ReservationWithUserModel> targets, final Collection<Integer> userIds) {
+        // 対象期間（時刻が逆転している項目はバリデーションで弾くため含めない）
+        final var periods = Stream.concat( //
+            items.stream() //
+                .filter(item -> item.getStartAt() != null && item.getFinishAt() != null) //
+                .filter(item -> item.getStartAt().before(item.getFinishAt())) //
+                .map(item -> new Date[] {item.getStartAt(), item.getFinishAt()}), //
+            targets.stream().map(target -> new Date[] {target.getStartAt(), target.getFinishAt()}) //
+        ).collect(Collectors.toList());
+
+        final var reservationsByUser = new LinkedHashMap<Integer, List<Reservation>>();
+        userIds.forEach(userId -> reservationsByUser.put(userId, new ArrayList<>()));
+        if (periods.isEmpty()) {
+            return reservationsByUser;
+        }
+
+        final var from = periods.stream().map(period -> period[0]).min(Date::compareTo).get();
+        final var to = periods.stream().map(period -> period[1]).max(Date::compareTo).get();
+        final var userId = userIds.size() == 1 ? userIds.iterator().next() : null;
+        final var condition = this.reservationLogic.buildSearchCondition(from, to, userId, null, null);
+
+        final var targetsById = targets.stream().collect(Collectors.toMap(Reservation::getId, Function.identity()));
+        this.reservationRepository.selectByCondition(condition).stream() //
+            .filter(reservation -> reservationsByUser.containsKey(reservation.getUserId())) //
+            .forEach(reservation -> reservationsByUser.get(reservation.getUserId())
+                .add(targetsById.getOrDefault(reservation.getId(), reservation)));
+
+        // 定期予約の回も重複判定の対象
+        this.reservationLogic.getSeriesOccurrences(from, to, userId).stream() //
+            .filter(occurrence -> reservationsByUser.containsKey(occurrence.getUserId())) //
+            .forEach(occurrence -> reservationsByUser.get(occurrence.getUserId()).add(occurrence));
+        return reservationsByUser;
+    }
 
-        // Slackに通知
-        this.slackClient.sendLotteryResult(reservations);
+    /**
+     * 一括操作の予約作成をメモリ上で適用
+     *
+     * @param item               操作
+     *
+     * @param loginUser          ログインユーザ
+     *
+     * @param reservationsByUser 予約者ID -> 予約リスト
+     *
+     * @return 作成する予約
+     */
+    private Reservation applyBulkCreate(final ReservationBulkItemRequest item, final User loginUser,
+        final Map<Integer, List<Reservation>> reservationsByUser) {
+        if (item.getStartAt() == null || item.getFinishAt() == null) {
+            throw new BadRequestException(ErrorCode.VALIDATION_ERROR);
+        }
+        this.reservationLogic.validateReservationPeriod(item.getStartAt(), item.getFinishAt());
+
+        // 同時刻はすでに予約済み（一括操作内の予約を含む）
+        final var reservations = reservationsByUser.get(loginUser.getId());
+        if (this.reservationLogic.existsOverlapping(reservations, item.getStartAt(), item.getFinishAt(), null)) {
+            throw new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+
+        final var reservation = Reservation.builder() //
+            .userId(loginUser.getId()) //
+            .startAt(item.getStartAt()) //
+            .finishAt(item.getFinishAt()) //
+            .build();
+        reservations.add(reservation);
+        return reservation;
+    }
+
+    /**
+     * 一括操作の予約更新をメモリ上で適用
+     *
+     * @param item               操作
+     *
+     * @param loginUser          ログインユーザ
+     *
+     * @param targets            予約ID -> 変更/削除する予約
+     *
+     * @param reservationsByUser 予約者ID -> 予約リスト
+     *
+     * @return 更新する予約
+     */
+    private ReservationWithUserModel applyBulkUpdate(final ReservationBulkItemRequest item, final User loginUser,
+        final Map<Integer, ReservationWithUserModel> targets, final Map<Integer, List<Reservation>> reservationsByUser) {
+        if (item.getStartAt() == null || item.getFinishAt() == null) {
+            throw new BadRequestException(ErrorCode.VALIDATION_ERROR);
+        }
+        final var reservation = this.getBulkTarget(item, targets);
+        this.reservationLogic.checkEditPermission(reservation, loginUser);
+        this.reservationLogic.validateReservationPeriod(item.getStartAt(), item.getFinishAt());
+        this.reservationLogic.checkChangeableReservation(reservation);
+
+        // 同時刻はすでに予約済み（一括操作内の予約を含む）
+        final var reservations = reservationsByUser.get(reservation.getUserId());
+        if (this.reservationLogic.existsOverlapping(reservations, item.getStartAt(), item.getFinishAt(), reservation)) {
+            throw new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+
+        reservation.setStartAt(item.getStartAt());
+        reservation.setFinishAt(item.getFinishAt());
+        return reservation;
+    }
+
+    /**
+     * 一括操作の予約削除をメモリ上で適用
+     *
+     * @param item               操作
+     *
+     * @param loginUser          ログインユーザ
+     *
+     * @param targets            予約ID -> 変更/削除する予約
+     *
+     * @param reservationsByUser 予約者ID -> 予約リスト
+     *
+     * @return 削除する予約
+     */
+    private ReservationWithUserModel applyBulkDelete(final ReservationBulkItemRequest item, final User loginUser,
+        final Map<Integer, ReservationWithUserModel> targets, final Map<Integer, List<Reservation>> reservationsByUser) {
+        final var reservation = this.getBulkTarget(item, targets);
+        this.reservationLogic.checkEditPermission(reservation, loginUser);
+        this.reservationLogic.checkDeletableReservation(reservation);
+
+        // 以降の操作からは存在しない予約として扱う
+        targets.remove(reservation.getId());
+        reservationsByUser.get(reservation.getUserId()).removeIf(other -> other == reservation);
+        return reservation;
+    }
+
+    /**
+     * 一括操作の対象の予約を取得
+     *
+     * @param item    操作
+     *
+     * @param targets 予約ID -> 変更/削除する予約
+     *
+     * @return 予約
+     */
+    private ReservationWithUserModel getBulkTarget(final ReservationBulkItemRequest item,
+        final Map<Integer, ReservationWithUserModel> targets) {
+        if (item.getId() == null) {
+            throw new BadRequestException(ErrorCode.VALIDATION_ERROR);
+        }
+        final var reservation = targets.get(item.getId());
+        if (reservation == null) {
+            throw new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION);
+        }
+        return reservation;
+    }
+
+    /**
+     * 予約に予約者を結合
+     *
+     * @param reservation 予約
+     *
+     * @param user        予約者
+     *
+     * @return 予約（+ユーザ）
+     */
+    private ReservationWithUserModel toReservationWithUser(final Reservation reservation, final User user) {
+        final var reservationWithUser = new ReservationWithUserModel(user);
+        reservationWithUser.setId(reservation.getId());
+        reservationWithUser.setUserId(reservation.getUserId());
+        reservationWithUser.setStartAt(reservation.getStartAt());
+        reservationWithUser.setFinishAt(reservation.getFinishAt());
+        return reservationWithUser;
+    }
+
+    /**
+     * 例外からエラー情報レスポンスを作成
+     *
+     * @param exception 例外
+     *
+     * @return エラー情報レスポンス
+     */
+    private ErrorResponse buildErrorResponse(final BaseException exception) {
+        final var errorCode = exception.getErrorCode();
+        final var message = this.errorMessageCache.getMessage(exception);
+        return ErrorResponse.builder().message(message).code(errorCode.getCode()).build();
     }
 
 }
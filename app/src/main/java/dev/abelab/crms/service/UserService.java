@@ -1,10 +1,7 @@
 package dev.abelab.crms.service;
 
-import java.util.stream.Collectors;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.modelmapper.ModelMapper;
 
 import lombok.*;
 import dev.abelab.crms.db.entity.User;
@@ -15,15 +12,19 @@ import dev.abelab.crms.api.request.UserCreateRequest;
 import dev.abelab.crms.api.request.UserUpdateRequest;
 import dev.abelab.crms.api.request.LoginUserUpdateRequest;
 import dev.abelab.crms.api.request.LoginUserPasswordUpdateRequest;
+import dev.abelab.crms.converter.UserConverter;
 import dev.abelab.crms.logic.UserLogic;
 import dev.abelab.crms.logic.UserRoleLogic;
 import dev.abelab.crms.util.AuthUtil;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.cache.ReservationAvailabilityIndex;
+import dev.abelab.crms.enums.VersionedResourceEnum;
 
 @RequiredArgsConstructor
 @Service
 public class UserService {
 
-    private final ModelMapper modelMapper;
+    private final UserConverter userConverter;
 
     private final UserLogic userLogic;
 
@@ -31,23 +32,29 @@ public class UserService {
 
     private final UserRepository userRepository;
 
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
+    private final ReservationAvailabilityIndex reservationAvailabilityIndex;
+
     /**
-     * ユーザ一覧を取得
+     * ユーザ一覧のETagを取得
      *
-     * @param credentials 資格情報
+     * @return ETag
+     */
+    public String getUsersETag() {
+        return this.resourceVersionRegistry.getETag(VersionedResourceEnum.USERS);
+    }
+
+    /**
+     * ユーザ一覧を取得
      *
      * @return ユーザ一覧レスポンス
      */
     @Transactional
-    public UsersResponse getUsers(final String credentials) {
-        // ログインユーザを取得
-        this.userLogic.getLoginUser(credentials);
-
+    public UsersResponse getUsers() {
         // ユーザの取得
         final var users = this.userRepository.findAll();
-        final var userResponses = users.stream() //
-            .map(user -> this.modelMapper.map(user, UserResponse.class)) //
-            .collect(Collectors.toList());
+        final var userResponses = this.userConverter.toResponses(users);
 
         return new UsersResponse(userResponses);
     }
@@ -55,17 +62,15 @@ public class UserService {
     /**
      * ユーザを作成
      *
-     * @param credentials 資格情報
-     *
      * @param requestBody ユーザ作成リクエスト
      */
     @Transactional
-    public void createUser(final UserCreateRequest requestBody, final String credentials) {
+    public void createUser(final UserCreateRequest requestBody) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
+        final var loginUser = this.userLogic.getLoginUser();
 
         // 管理者かチェック
-        this.userLogic.checkAdmin(loginUser.getId());
+        this.userLogic.checkAdmin(loginUser);
 
         // 作成するアカウントのロールの有効性をチェック
         this.userRoleLogic.checkForValidRoleId(requestBody.getRoleId());
@@ -74,7 +79,7 @@ public class UserService {
         AuthUtil.validatePassword(requestBody.getPassword());
 
         // ユーザの作成
-        final var user = this.modelMapper.map(requestBody, User.class);
+        final var user = this.userConverter.toEntity(requestBody);
         user.setPassword(this.userLogic.encodePassword(requestBody.getPassword()));
         this.userRepository.insert(user);
     }
@@ -82,19 +87,17 @@ public class UserService {
     /**
      * ユーザを更新
      *
-     * @param credentials 資格情報
-     *
      * @param userId      ユーザID
      *
      * @param requestBody ユーザ更新リクエスト
      */
     @Transactional
-    public void updateUser(final int userId, final UserUpdateRequest requestBody, final String credentials) {
+    public void updateUser(final int userId, final UserUpdateRequest requestBody) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
+        final var loginUser = this.userLogic.getLoginUser();
 
         // 管理者かチェック
-        this.userLogic.checkAdmin(loginUser.getId());
+        this.userLogic.checkAdmin(loginUser);
 
         // 作成するアカウントのロールの有効性をチェック
         this.userRoleLogic.checkForValidRoleId(requestBody.getRoleId());
@@ -106,74 +109,72 @@ public class UserService {
         user.setRoleId(requestBody.getRoleId());
         user.setAdmissionYear(requestBody.getAdmissionYear());
         this.userRepository.update(user);
+        this.userLogic.evictLoginUser(userId);
     }
 
     /**
      * ユーザを削除
      *
-     * @param credentials 資格情報
-     *
-     * @param userId      ユーザID
+     * @param userId ユーザID
      */
     @Transactional
-    public void deleteUser(final int userId, final String credentials) {
+    public void deleteUser(final int userId) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
+        final var loginUser = this.userLogic.getLoginUser();
 
         // 管理者かチェック
-        this.userLogic.checkAdmin(loginUser.getId());
+        this.userLogic.checkAdmin(loginUser);
 
         this.userRepository.deleteById(userId);
+        this.userLogic.evictLoginUser(userId);
+
+        // 予約はカスケード削除されるため，空き状況からも削除
+        this.reservationAvailabilityIndex.removeByUserId(userId);
     }
 
     /**
      * ログインユーザ詳細を取得
      *
-     * @param credentials 資格情報
-     *
      * @return ユーザ詳細レスポンス
      */
     @Transactional
-    public UserResponse getLoginUser(final String credentials) {
+    public UserResponse getLoginUser() {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
-
-        // ユーザの取得
-        final var user = userRepository.selectById(loginUser.getId());
+        final var loginUser = this.userLogic.getLoginUser();
 
-        return this.modelMapper.map(user, UserResponse.class);
+        return this.userConverter.toResponse(loginUser);
     }
 
     /**
      * ログインユーザを更新
      *
-     * @param credentials 資格情報
-     *
      * @return ユーザ詳細レスポンス
      */
     @Transactional
-    public void updateLoginUser(final LoginUserUpdateRequest requestBody, final String credentials) {
+    public void updateLoginUser(final LoginUserUpdateRequest requestBody) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
-
-        // ログインユーザの更新
-        loginUser.setFirstName(requestBody.getFirstName());
-        loginUser.setLastName(requestBody.getLastName());
-        loginUser.setEmail(requestBody.getEmail());
-        this.userRepository.update(loginUser);
+        final var loginUser = this.userLogic.getLoginUser();
+
+        // ログインユーザの更新（スナップショットのパスワードやロールは古い可能性があるため，変更する項目のみ書き込む）
+        final var user = User.builder() //
+            .id(loginUser.getId()) //
+            .firstName(requestBody.getFirstName()) //
+            .lastName(requestBody.getLastName()) //
+            .email(requestBody.getEmail()) //
+            .build();
+        this.userRepository.update(user);
+        this.userLogic.evictLoginUser(loginUser.getId());
     }
 
     /**
      * ログインユーザのパスワードを更新
      *
-     * @param credentials 資格情報
-     *
      * @return ユーザ詳細レスポンス
      */
     @Transactional
-    public void updateLoginPasswordUser(final LoginUserPasswordUpdateRequest requestBody, final String credentials) {
+    public void updateLoginPasswordUser(final LoginUserPasswordUpdateRequest requestBody) {
         // ログインユーザを取得
-        final var loginUser = this.userLogic.getLoginUser(credentials);
+        final var loginUser = this.userLogic.getLoginUser();
 
         // パスワードチェック
         this.userLogic.verifyPassword(loginUser, requestBody.getCurrentPassword());
@@ -184,6 +185,7 @@ public class UserService {
         // ログインユーザの更新
         loginUser.setPassword(this.userLogic.encodePassword(requestBody.getNewPassword()));
         this.userRepository.update(loginUser);
+        this.userLogic.evictLoginUser(loginUser.getId());
     }
 
 }
@@ -0,0 +1,24 @@
+package dev.abelab.crms.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+public class ConditionalRequestUtil {
+
+    /**
+     * If-None-MatchのETagが一致するか（一致すれば304を返す）
+     *
+     * @param webRequest リクエスト
+     *
+     * @param eTag       現在のETag
+     *
+     * @return 変更されていないか
+     */
+    public static boolean checkNotModified(final ServletWebRequest webRequest, final String eTag) {
+        // ブラウザにキャッシュさせ，毎回ETagで再検証させる
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return webRequest.checkNotModified(eTag);
+    }
+
+}
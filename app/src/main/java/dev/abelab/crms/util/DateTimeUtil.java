@@ -17,12 +17,7 @@ public class DateTimeUtil {
      * return 今日の日時
      */
     public static Date getToday() {
-        final var calendar = Calendar.getInstance();
-        calendar.setTime(new Date());
-        calendar.set(Calendar.HOUR_OF_DAY, 0);
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.SECOND, 0);
-        return calendar.getTime();
+        return getStartOfDay(new Date());
     }
 
     /**
@@ -49,6 +44,23 @@ public class DateTimeUtil {
         return calendar.getTime();
     }
 
+    /**
+     * 日付の0:00を取得
+     *
+     * @param date 日時
+     *
+     * @return 日付の0:00
+     */
+    public static Date getStartOfDay(final Date date) {
+        final var calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar.getTime();
+    }
+
     /**
      * 指定した日時を取得
      *
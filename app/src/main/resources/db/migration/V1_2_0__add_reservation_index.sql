@@ -0,0 +1,2 @@
+ALTER TABLE `reservation` ADD INDEX `idx_start_at_finish_at` (`start_at`, `finish_at`);
+ALTER TABLE `reservation` ADD INDEX `idx_user_id_start_at` (`user_id`, `start_at`);
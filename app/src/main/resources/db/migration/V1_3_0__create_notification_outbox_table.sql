@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS `notification_outbox` (
+  `id` INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `message` VARCHAR(4000) NOT NULL,
+  `attempts` INT UNSIGNED NOT NULL DEFAULT 0,
+  `available_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `sent_at` DATETIME,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  INDEX `idx_sent_at_available_at` (`sent_at`, `available_at`)
+);
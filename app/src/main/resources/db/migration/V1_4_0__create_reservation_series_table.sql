@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS `reservation_series` (
+  `id` INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `user_id` INT UNSIGNED,
+  `start_at` DATETIME NOT NULL,
+  `finish_at` DATETIME NOT NULL,
+  `until_at` DATETIME NOT NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  INDEX `idx_until_at_start_at` (`until_at`, `start_at`),
+  INDEX `idx_user_id_until_at` (`user_id`, `until_at`),
+  CONSTRAINT `fk_reservation_series_user_id`
+    FOREIGN KEY (`user_id`)
+    REFERENCES `user` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE NO ACTION
+);
+
+CREATE TABLE IF NOT EXISTS `reservation_series_cancellation` (
+  `id` INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `series_id` INT UNSIGNED NOT NULL,
+  `occurrence_at` DATETIME NOT NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_series_id_occurrence_at` (`series_id`, `occurrence_at`),
+  CONSTRAINT `fk_reservation_series_cancellation_series_id`
+    FOREIGN KEY (`series_id`)
+    REFERENCES `reservation_series` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE NO ACTION
+);
@@ -0,0 +1,3 @@
+ALTER TABLE `notification_outbox` ADD COLUMN `failed_at` DATETIME AFTER `sent_at`;
+ALTER TABLE `notification_outbox` DROP INDEX `idx_sent_at_available_at`;
+ALTER TABLE `notification_outbox` ADD INDEX `idx_sent_at_failed_at_available_at` (`sent_at`, `failed_at`, `available_at`);
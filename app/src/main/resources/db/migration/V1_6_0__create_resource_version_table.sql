@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS `resource_version` (
+  `resource` VARCHAR(32) NOT NULL,
+  `version` BIGINT UNSIGNED NOT NULL DEFAULT 0,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`resource`)
+);
+
+INSERT INTO `resource_version` (`resource`) VALUES ('RESERVATIONS'), ('USERS');
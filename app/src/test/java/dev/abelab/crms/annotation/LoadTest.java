@@ -0,0 +1,15 @@
+package dev.abelab.crms.annotation;
+
+import java.lang.annotation.*;
+
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Load Test Interface
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("LoadTest")
+@Inherited
+public @interface LoadTest {
+}
@@ -5,10 +5,13 @@ import static org.assertj.core.api.Assertions.*;
 import java.util.Date;
 import java.util.Optional;
 
+import javax.servlet.Filter;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpHeaders;
@@ -63,6 +66,10 @@ public abstract class AbstractRestController_IT {
 	@Autowired
 	WebApplicationContext webApplicationContext;
 
+	@Autowired
+	@Qualifier("springSecurityFilterChain")
+	Filter springSecurityFilterChain;
+
 	/**
 	 * Transaction Manager
 	 */
@@ -153,6 +160,19 @@ public abstract class AbstractRestController_IT {
 		return MockMvcRequestBuilders.delete(path);
 	}
 
+	/**
+	 * Execute request without asserting the result
+	 *
+	 * @param request HTTP request builder
+	 *
+	 * @return MVC result
+	 *
+	 * @throws Exception exception
+	 */
+	public MvcResult perform(final MockHttpServletRequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn();
+	}
+
 	/**
 	 * Execute request
 	 *
@@ -263,6 +283,7 @@ public abstract class AbstractRestController_IT {
 	void setup() {
 		this.mockMvc = MockMvcBuilders //
 			.webAppContextSetup(this.webApplicationContext) //
+			.addFilters(this.springSecurityFilterChain) //
 			.build();
 	}
 
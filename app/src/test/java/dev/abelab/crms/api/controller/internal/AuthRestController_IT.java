@@ -14,15 +14,19 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import dev.abelab.crms.api.controller.AbstractRestController_IT;
 import dev.abelab.crms.db.entity.UserSample;
 import dev.abelab.crms.api.request.LoginRequest;
 import dev.abelab.crms.api.response.AccessTokenResponse;
 import dev.abelab.crms.enums.UserRoleEnum;
+import dev.abelab.crms.property.CrmsProperty;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.NotFoundException;
 import dev.abelab.crms.exception.UnauthorizedException;
+import dev.abelab.crms.exception.TooManyRequestsException;
 
 /**
  * AuthRestController Integration Test
@@ -33,6 +37,11 @@ public class AuthRestController_IT extends AbstractRestController_IT {
 	static final String BASE_PATH = "/api";
 	static final String LOGIN_PATH = BASE_PATH + "/login";
 
+	static final String RATE_LIMITED_IP_ADDRESS = "192.0.2.1";
+
+	@Autowired
+	CrmsProperty crmsProperty;
+
 	/**
 	 * ログインAPIのテスト
 	 */
@@ -102,6 +111,45 @@ public class AuthRestController_IT extends AbstractRestController_IT {
 			execute(request, new UnauthorizedException(ErrorCode.WRONG_PASSWORD));
 		}
 
+		@Test
+		void 異_試行回数の上限を超えた() throws Exception {
+			// setup
+			createLoginUser(UserRoleEnum.MEMBER);
+
+			// login request body
+			final var requestBody = LoginRequest.builder() //
+				.email(LOGIN_USER_EMAIL) //
+				.password(LOGIN_USER_PASSWORD + "dummy") //
+				.build();
+
+			// 他のテストと試行回数を共有しないIPアドレスから上限まで試行
+			for (int i = 0; i < crmsProperty.getLogin().getIpBucketSize(); i++) {
+				requestBody.setEmail("rate_limit" + i + "@abelab.dev");
+				execute(postRequest(LOGIN_PATH, requestBody).with(remoteAddress(RATE_LIMITED_IP_ADDRESS)),
+					new NotFoundException(ErrorCode.NOT_FOUND_USER));
+			}
+
+			// test
+			requestBody.setEmail(LOGIN_USER_EMAIL);
+			requestBody.setPassword(LOGIN_USER_PASSWORD);
+			final var request = postRequest(LOGIN_PATH, requestBody).with(remoteAddress(RATE_LIMITED_IP_ADDRESS));
+			execute(request, new TooManyRequestsException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS));
+		}
+
+	}
+
+	/**
+	 * リクエストの送信元IPアドレスを設定
+	 *
+	 * @param ipAddress IPアドレス
+	 *
+	 * @return リクエストの後処理
+	 */
+	static RequestPostProcessor remoteAddress(final String ipAddress) {
+		return request -> {
+			request.setRemoteAddr(ipAddress);
+			return request;
+		};
 	}
 
 }
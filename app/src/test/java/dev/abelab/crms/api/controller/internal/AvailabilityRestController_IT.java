@@ -0,0 +1,118 @@
+package dev.abelab.crms.api.controller.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.text.SimpleDateFormat;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import dev.abelab.crms.api.controller.AbstractRestController_IT;
+import dev.abelab.crms.db.entity.ReservationSample;
+import dev.abelab.crms.enums.UserRoleEnum;
+import dev.abelab.crms.cache.ReservationAvailabilityIndex;
+import dev.abelab.crms.api.response.AvailabilityResponse;
+import dev.abelab.crms.api.response.TimeIntervalResponse;
+import dev.abelab.crms.util.DateTimeUtil;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.BadRequestException;
+import dev.abelab.crms.exception.UnauthorizedException;
+
+/**
+ * AvailabilityRestController Integration Test
+ */
+public class AvailabilityRestController_IT extends AbstractRestController_IT {
+
+	// API PATH
+	static final String BASE_PATH = "/api/availability";
+	static final String GET_AVAILABILITY_PATH = BASE_PATH;
+
+	static final Date TOMORROW = DateTimeUtil.getStartOfDay(DateTimeUtil.getTomorrow());
+
+	/**
+	 * 他のテストの予約と重ならない日付
+	 */
+	static final Date NEXT_MONTH = DateTimeUtil.getStartOfDay(DateTimeUtil.addDateTime(TOMORROW, Calendar.MONTH, 1));
+
+	static final Date YESTERDAY = DateTimeUtil.getStartOfDay(DateTimeUtil.getYesterday());
+
+	static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("yyyy-MM-dd");
+
+	@Autowired
+	ReservationAvailabilityIndex reservationAvailabilityIndex;
+
+	/**
+	 * 空き状況取得APIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class GetAvailabilityTest extends AbstractRestControllerInitialization_IT {
+
+		@Test
+		void 正_予約のない時間帯を取得() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			// 予約のコミット時に反映されるが，テストはロールバックされるため直接反映する
+			final var reservationId = Integer.MAX_VALUE;
+			reservationAvailabilityIndex.put(ReservationSample.builder() //
+				.id(reservationId) //
+				.userId(loginUser.getId()) //
+				.startAt(DateTimeUtil.editDateTimeHourAndMinute(NEXT_MONTH, 12, 0)) //
+				.finishAt(DateTimeUtil.editDateTimeHourAndMinute(NEXT_MONTH, 13, 30)) //
+				.build());
+
+			try {
+				// test
+				final var request = getRequest(GET_AVAILABILITY_PATH);
+				request.header(HttpHeaders.AUTHORIZATION, credentials);
+				request.param("date", DATE_FORMATTER.format(NEXT_MONTH));
+				final var response = execute(request, HttpStatus.OK, AvailabilityResponse.class);
+
+				// verify
+				assertThat(response.getFreeIntervals()) //
+					.extracting(TimeIntervalResponse::getStartAt, TimeIntervalResponse::getFinishAt) //
+					.containsExactly( //
+						tuple(DateTimeUtil.editDateTimeHourAndMinute(NEXT_MONTH, 9, 0),
+							DateTimeUtil.editDateTimeHourAndMinute(NEXT_MONTH, 12, 0)), //
+						tuple(DateTimeUtil.editDateTimeHourAndMinute(NEXT_MONTH, 13, 30),
+							DateTimeUtil.editDateTimeHourAndMinute(NEXT_MONTH, 22, 0)));
+			} finally {
+				reservationAvailabilityIndex.remove(reservationId);
+			}
+		}
+
+		@Test
+		void 異_過去の日付() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// test
+			final var request = getRequest(GET_AVAILABILITY_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.param("date", DATE_FORMATTER.format(YESTERDAY));
+			execute(request, new BadRequestException(ErrorCode.PAST_AVAILABILITY_CANNOT_BE_GOT));
+		}
+
+		@Test
+		void 異_無効な認証ヘッダ() throws Exception {
+			// test
+			final var request = getRequest(GET_AVAILABILITY_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, "");
+			request.param("date", DATE_FORMATTER.format(TOMORROW));
+			execute(request, new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN));
+		}
+
+	}
+
+}
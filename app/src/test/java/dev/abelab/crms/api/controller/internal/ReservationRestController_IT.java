@@ -7,9 +7,15 @@ import static org.junit.jupiter.params.provider.Arguments.*;
 
 import java.util.Date;
 import java.util.Calendar;
+import java.util.List;
+import java.util.ArrayList;
+import java.text.SimpleDateFormat;
 import java.util.stream.Stream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -18,17 +24,29 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import dev.abelab.crms.api.controller.AbstractRestController_IT;
+import dev.abelab.crms.db.entity.User;
 import dev.abelab.crms.db.entity.UserSample;
 import dev.abelab.crms.db.entity.ReservationSample;
 import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.event.ReservationChangeFeed;
+import dev.abelab.crms.cache.ReservationAvailabilityIndex;
 import dev.abelab.crms.enums.UserRoleEnum;
+import dev.abelab.crms.enums.ReservationActionEnum;
 import dev.abelab.crms.api.request.ReservationCreateRequest;
 import dev.abelab.crms.api.request.ReservationUpdateRequest;
+import dev.abelab.crms.api.request.ReservationBulkRequest;
+import dev.abelab.crms.api.request.ReservationBulkItemRequest;
 import dev.abelab.crms.api.response.ReservationResponse;
 import dev.abelab.crms.api.response.ReservationsResponse;
+import dev.abelab.crms.api.response.ReservationDeltaResponse;
+import dev.abelab.crms.api.response.ReservationBulkResponse;
+import dev.abelab.crms.api.response.ReservationBulkItemResponse;
+import dev.abelab.crms.util.ConvertUtil;
 import dev.abelab.crms.util.DateTimeUtil;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.BaseException;
@@ -36,6 +54,7 @@ import dev.abelab.crms.exception.BadRequestException;
 import dev.abelab.crms.exception.ConflictException;
 import dev.abelab.crms.exception.NotFoundException;
 import dev.abelab.crms.exception.ForbiddenException;
+import dev.abelab.crms.exception.UnauthorizedException;
 
 /**
  * ReservationRestController Integration Test
@@ -45,7 +64,10 @@ public class ReservationRestController_IT extends AbstractRestController_IT {
 	// API PATH
 	static final String BASE_PATH = "/api/reservations";
 	static final String GET_RESERVATIONS_PATH = BASE_PATH;
+	static final String EXPORT_RESERVATIONS_PATH = BASE_PATH + "/export";
+	static final String GET_RESERVATION_CHANGES_PATH = BASE_PATH + "/changes";
 	static final String CREATE_RESERVATION_PATH = BASE_PATH;
+	static final String BULK_RESERVATIONS_PATH = BASE_PATH + "/bulk";
 	static final String UPDATE_RESERVATION_PATH = BASE_PATH + "/%d";
 	static final String DELETE_RESERVATION_PATH = BASE_PATH + "/%d";
 
@@ -53,12 +75,32 @@ public class ReservationRestController_IT extends AbstractRestController_IT {
 
 	static final Date YESTERDAY = DateTimeUtil.getYesterday();
 
+	static final SimpleDateFormat DATE_TIME_FORMATTER = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+
 	@Autowired
 	UserRepository userRepository;
 
 	@Autowired
 	ReservationRepository reservationRepository;
 
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	ReservationChangeFeed reservationChangeFeed;
+
+	@Autowired
+	ReservationAvailabilityIndex reservationAvailabilityIndex;
+
+	/**
+	 * 現在のセッションで発行されたSELECT文の数を取得
+	 *
+	 * @return SELECT文の数
+	 */
+	long countSelectStatements() {
+		return jdbcTemplate.queryForObject("SHOW SESSION STATUS LIKE 'Com_select'", (rs, rowNum) -> rs.getLong("Value"));
+	}
+
 	/**
 	 * 予約一覧取得APIのテスト
 	 */
@@ -98,6 +140,349 @@ public class ReservationRestController_IT extends AbstractRestController_IT {
 				arguments(UserRoleEnum.MEMBER));
 		}
 
+		@Test
+		void 正_期間と重複する予約一覧を取得() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var reservations = List.of( //
+				// 期間前
+				ReservationSample.builder().id(1).userId(loginUser.getId()) //
+					.startAt(DateTimeUtil.editDateTime(YESTERDAY, Calendar.HOUR_OF_DAY, 10)) //
+					.finishAt(DateTimeUtil.editDateTime(YESTERDAY, Calendar.HOUR_OF_DAY, 12)) //
+					.build(),
+				// 期間の開始日時をまたぐ
+				ReservationSample.builder().id(2).userId(loginUser.getId()) //
+					.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 9)) //
+					.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 11)) //
+					.build(),
+				// 期間内
+				ReservationSample.builder().id(3).userId(loginUser.getId()) //
+					.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12)) //
+					.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 13)) //
+					.build(),
+				// 期間の終了日時に終了時刻が一致
+				ReservationSample.builder().id(4).userId(loginUser.getId()) //
+					.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14)) //
+					.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 15)) //
+					.build(),
+				// 期間の終了日時に開始時刻が一致
+				ReservationSample.builder().id(5).userId(loginUser.getId()) //
+					.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 15)) //
+					.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 16)) //
+					.build());
+			reservations.forEach(reservationRepository::insert);
+
+			// test
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.param("from", DATE_TIME_FORMATTER.format(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 10)));
+			request.param("to", DATE_TIME_FORMATTER.format(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 15)));
+			request.param("user_id", String.valueOf(loginUser.getId()));
+			final var response = execute(request, HttpStatus.OK, ReservationsResponse.class);
+
+			// verify
+			assertThat(response.getReservations()) //
+				.extracting(ReservationResponse::getId) //
+				.containsExactly(2, 3, 4);
+		}
+
+		@Test
+		void 異_認証ヘッダがない() throws Exception {
+			// test
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			execute(request, new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN));
+		}
+
+		@Test
+		void 異_無効なアクセストークン() throws Exception {
+			// test
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_STR);
+			execute(request, new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN));
+		}
+
+		@Test
+		void 異_期間の開始日時が終了日時以降() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// test
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.param("from", DATE_TIME_FORMATTER.format(TOMORROW));
+			request.param("to", DATE_TIME_FORMATTER.format(YESTERDAY));
+			execute(request, new BadRequestException(ErrorCode.INVALID_SEARCH_PERIOD));
+		}
+
+		@Test
+		void 正_予約一覧をページ単位で取得() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup: 開始時刻が同じ予約を含める
+			final var startHours = List.of(10, 10, 11, 12, 13);
+			for (int i = 0; i < startHours.size(); i++) {
+				reservationRepository.insert(ReservationSample.builder() //
+					.id(i + 1) //
+					.userId(loginUser.getId()) //
+					.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, startHours.get(i))) //
+					.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, startHours.get(i) + 1)) //
+					.build());
+			}
+
+			// test
+			final var fetchedIds = new ArrayList<Integer>();
+			String cursor = null;
+			do {
+				final var request = getRequest(GET_RESERVATIONS_PATH);
+				request.header(HttpHeaders.AUTHORIZATION, credentials);
+				request.param("limit", "2");
+				if (cursor != null) {
+					request.param("cursor", cursor);
+				}
+				final var response = execute(request, HttpStatus.OK, ReservationsResponse.class);
+				assertThat(response.getReservations().size()).isLessThanOrEqualTo(2);
+				response.getReservations().forEach(reservation -> fetchedIds.add(reservation.getId()));
+				cursor = response.getNextCursor();
+			} while (cursor != null);
+
+			// verify
+			assertThat(fetchedIds).containsExactly(1, 2, 3, 4, 5);
+		}
+
+		@Test
+		void 異_無効な取得件数() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// test
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.param("limit", "0");
+			execute(request, new BadRequestException(ErrorCode.INVALID_PAGE_LIMIT));
+		}
+
+		@Test
+		void 正_予約数に関わらず発行するクエリ数が一定() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// 予約者の異なる予約を1件作成して計測
+			insertReservationsOfDistinctUsers(0, 1);
+			final var queriesWithFewReservations = countSelectStatementsOfGetReservations(credentials);
+
+			// 予約者の異なる予約を50件追加して再計測
+			insertReservationsOfDistinctUsers(1, 50);
+			final var queriesWithManyReservations = countSelectStatementsOfGetReservations(credentials);
+
+			// verify
+			assertThat(queriesWithManyReservations).isEqualTo(queriesWithFewReservations);
+		}
+
+		/**
+		 * 予約者の異なる予約を作成
+		 *
+		 * @param offset 連番の開始値
+		 *
+		 * @param count  作成件数
+		 */
+		void insertReservationsOfDistinctUsers(final int offset, final int count) {
+			for (int i = offset; i < offset + count; i++) {
+				final var user = UserSample.builder().id(null).email(String.format("user%d@abelab.dev", i)).build();
+				userRepository.insert(user);
+				reservationRepository.insert(ReservationSample.builder().id(null).userId(user.getId()).build());
+			}
+		}
+
+		@Test
+		void 正_変更がなければ304を返す() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var firstRequest = getRequest(GET_RESERVATIONS_PATH);
+			firstRequest.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var eTag = execute(firstRequest, HttpStatus.OK).getResponse().getHeader(HttpHeaders.ETAG);
+
+			// test
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+			final var result = execute(request, HttpStatus.NOT_MODIFIED);
+
+			// verify
+			assertThat(eTag).isNotNull();
+			assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+			assertThat(result.getResponse().getContentAsString()).isEmpty();
+		}
+
+		@Test
+		void 正_変更されたら200を返す() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var firstRequest = getRequest(GET_RESERVATIONS_PATH);
+			firstRequest.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var eTag = execute(firstRequest, HttpStatus.OK).getResponse().getHeader(HttpHeaders.ETAG);
+
+			reservationRepository.insert(ReservationSample.builder().userId(loginUser.getId()).build());
+
+			// test
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+			final var response = execute(request, HttpStatus.OK, ReservationsResponse.class);
+
+			// verify
+			assertThat(response.getReservations().size()).isEqualTo(1);
+		}
+
+		/**
+		 * 予約一覧取得APIで発行されたSELECT文の数を計測
+		 *
+		 * @param credentials 資格情報
+		 *
+		 * @return SELECT文の数
+		 */
+		long countSelectStatementsOfGetReservations(final String credentials) throws Exception {
+			final var request = getRequest(GET_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+
+			// SHOW STATUSはCom_selectに計上されない
+			final var before = countSelectStatements();
+			execute(request, HttpStatus.OK);
+			return countSelectStatements() - before;
+		}
+
+	}
+
+	/**
+	 * 予約一覧エクスポートAPIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class ExportReservationsTest extends AbstractRestControllerInitialization_IT {
+
+		@Test
+		void 正_予約一覧をNDJSONで出力() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			for (int i = 0; i < 3; i++) {
+				reservationRepository.insert(ReservationSample.builder() //
+					.id(i + 1) //
+					.userId(loginUser.getId()) //
+					.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 10 + i)) //
+					.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 11 + i)) //
+					.build());
+			}
+
+			// test
+			final var request = getRequest(EXPORT_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.accept(MediaType.APPLICATION_NDJSON);
+			final var result = execute(request, HttpStatus.OK);
+
+			// verify
+			assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+			final var lines = result.getResponse().getContentAsString().split("\n");
+			assertThat(lines) //
+				.extracting(line -> ConvertUtil.convertJsonToObject(line, ReservationResponse.class)) //
+				.extracting(ReservationResponse::getId, reservation -> reservation.getUser().getId()) //
+				.containsExactly( //
+					tuple(1, loginUser.getId()), //
+					tuple(2, loginUser.getId()), //
+					tuple(3, loginUser.getId()));
+		}
+
+		@Test
+		void 異_無効な期間はJSONでエラーを返す() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// test
+			final var request = getRequest(EXPORT_RESERVATIONS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.accept(MediaType.APPLICATION_NDJSON);
+			request.param("from", DATE_TIME_FORMATTER.format(TOMORROW));
+			request.param("to", DATE_TIME_FORMATTER.format(YESTERDAY));
+			execute(request, new BadRequestException(ErrorCode.INVALID_SEARCH_PERIOD));
+		}
+
+	}
+
+	/**
+	 * 予約変更フィードAPIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class GetReservationChangesTest extends AbstractRestControllerInitialization_IT {
+
+		@Test
+		void 正_新規購読はresetイベントから始まる() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// test
+			final var request = getRequest(GET_RESERVATION_CHANGES_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.accept(MediaType.TEXT_EVENT_STREAM);
+			final var result = execute(request, HttpStatus.OK);
+
+			// verify
+			assertThat(result.getRequest().isAsyncStarted()).isTrue();
+			assertThat(result.getResponse().getContentAsString()).contains("event:" + ReservationChangeFeed.RESET_EVENT);
+		}
+
+		@Test
+		void 正_Last_Event_IDから再開() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var delta = ReservationDeltaResponse.builder() //
+				.action(ReservationActionEnum.REGISTERED) //
+				.id(SAMPLE_INT) //
+				.userId(loginUser.getId()) //
+				.build();
+			final var receivedSequence = reservationChangeFeed.append(delta);
+			final var missedSequence = reservationChangeFeed.append(delta);
+
+			// test
+			final var request = getRequest(GET_RESERVATION_CHANGES_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.header("Last-Event-ID", receivedSequence);
+			request.accept(MediaType.TEXT_EVENT_STREAM);
+			final var result = execute(request, HttpStatus.OK);
+
+			// verify
+			final var content = result.getResponse().getContentAsString();
+			assertThat(content).contains("id:" + missedSequence, "event:" + ReservationChangeFeed.CHANGE_EVENT);
+			assertThat(content).doesNotContain("id:" + receivedSequence + "\n", "event:" + ReservationChangeFeed.RESET_EVENT);
+		}
+
+		@Test
+		void 異_認証ヘッダがない() throws Exception {
+			// test
+			final var request = getRequest(GET_RESERVATION_CHANGES_PATH);
+			execute(request, new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN));
+		}
+
 	}
 
 	/**
@@ -211,8 +596,155 @@ public class ReservationRestController_IT extends AbstractRestController_IT {
 				// 終了時刻が重複
 				arguments(11, 13),
 				// 開始時刻，終了時刻共に重複
-				arguments(13, 14));
+				arguments(13, 14),
+				// 開始時刻，終了時刻共に完全一致
+				arguments(12, 14),
+				// 開始時刻が一致
+				arguments(12, 13),
+				arguments(12, 15),
+				// 終了時刻が一致
+				arguments(11, 14),
+				// 既存の予約を包含
+				arguments(11, 15));
+		}
+
+		@ParameterizedTest
+		@MethodSource
+		void 正_隣接する予約は作成可能(final int startHour, final int finishHour) throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// 12~14時が既に予約済み
+			final var reservation = ReservationSample.builder() //
+				.userId(loginUser.getId()) //
+				.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12)) //
+				.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14)) //
+				.build();
+			reservationRepository.insert(reservation);
+
+			// request body
+			final var requestBody = ReservationCreateRequest.builder() //
+				.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, startHour)) //
+				.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, finishHour)) //
+				.build();
+
+			// test
+			final var request = postRequest(CREATE_RESERVATION_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, HttpStatus.CREATED);
+
+			// verify
+			assertThat(reservationRepository.selectByUserId(loginUser.getId()).size()).isEqualTo(2);
+		}
+
+		Stream<Arguments> 正_隣接する予約は作成可能() {
+			return Stream.of(
+				// 終了時刻が既存の予約の開始時刻
+				arguments(10, 12),
+				// 開始時刻が既存の予約の終了時刻
+				arguments(14, 16),
+				// 重複しない
+				arguments(9, 11),
+				arguments(15, 17));
+		}
+
+		@Test
+		void 正_他ユーザの予約とは重複可能() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// 他ユーザが12~14時を予約済み
+			final var otherUser = UserSample.builder().id(null).email("other@abelab.dev").build();
+			userRepository.insert(otherUser);
+			final var reservation = ReservationSample.builder() //
+				.userId(otherUser.getId()) //
+				.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12)) //
+				.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14)) //
+				.build();
+			reservationRepository.insert(reservation);
+
+			// request body
+			final var requestBody = ReservationCreateRequest.builder() //
+				.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12)) //
+				.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14)) //
+				.build();
+
+			// test
+			final var request = postRequest(CREATE_RESERVATION_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, HttpStatus.CREATED);
+		}
+
+	}
 
+	/**
+	 * 予約作成APIの同時実行テスト（各リクエストが個別にコミットされるようにトランザクション外で実行）
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class ConcurrentCreateReservationsTest {
+
+		User loginUser;
+
+		@AfterEach
+		void after() {
+			// コミット済みのデータを削除（予約はカスケード削除）
+			if (loginUser != null) {
+				userRepository.deleteById(loginUser.getId());
+				reservationAvailabilityIndex.removeByUserId(loginUser.getId());
+				loginUser = null;
+			}
+		}
+
+		@Test
+		void 正_同時に予約を作成しても重複しない() throws Exception {
+			final var requestCount = 300;
+			final var threadCount = 16;
+
+			// login user
+			loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// 9~22時の間で互いに重複する予約リクエストを作成
+			final List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int i = 0; i < requestCount; i++) {
+				final var startHour = 9 + i % 12;
+				final var finishHour = startHour + 1 + i % 2;
+				final var requestBody = ReservationCreateRequest.builder() //
+					.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, startHour)) //
+					.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, finishHour)) //
+					.build();
+				tasks.add(() -> {
+					final var request = postRequest(CREATE_RESERVATION_PATH, requestBody);
+					request.header(HttpHeaders.AUTHORIZATION, credentials);
+					return perform(request).getResponse().getStatus();
+				});
+			}
+
+			// test
+			final List<Integer> statuses = new ArrayList<>();
+			final var executor = Executors.newFixedThreadPool(threadCount);
+			try {
+				for (final var future : executor.invokeAll(tasks)) {
+					statuses.add(future.get());
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			// verify
+			assertThat(statuses).containsOnly(HttpStatus.CREATED.value(), HttpStatus.CONFLICT.value());
+			final var reservations = reservationRepository.selectByUserId(loginUser.getId());
+			assertThat(reservations.size()).isEqualTo((int) statuses.stream().filter(status -> status == HttpStatus.CREATED.value()).count());
+			for (int i = 0; i < reservations.size(); i++) {
+				for (int j = i + 1; j < reservations.size(); j++) {
+					final var a = reservations.get(i);
+					final var b = reservations.get(j);
+					assertThat(a.getStartAt().before(b.getFinishAt()) && a.getFinishAt().after(b.getStartAt())).isFalse();
+				}
+			}
 		}
 
 	}
@@ -348,6 +880,202 @@ public class ReservationRestController_IT extends AbstractRestController_IT {
 
 	}
 
+	/**
+	 * 予約一括操作APIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class BulkReservationsTest extends AbstractRestControllerInitialization_IT {
+
+		/**
+		 * 明日の指定時刻を取得
+		 */
+		Date tomorrowAt(final int hour) {
+			return DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, hour, 0);
+		}
+
+		@Test
+		void 正_作成更新削除をまとめて適用() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var changedReservation = ReservationSample.builder().id(null).userId(loginUser.getId()) //
+				.startAt(tomorrowAt(10)).finishAt(tomorrowAt(11)).build();
+			final var deletedReservation = ReservationSample.builder().id(null).userId(loginUser.getId()) //
+				.startAt(tomorrowAt(12)).finishAt(tomorrowAt(13)).build();
+			reservationRepository.insert(changedReservation);
+			reservationRepository.insert(deletedReservation);
+
+			// request body
+			// 削除で空いた時間帯に予約を移動し，移動で空いた時間帯に予約を作成する
+			final var requestBody = new ReservationBulkRequest(List.of( //
+				new ReservationBulkItemRequest(ReservationActionEnum.DELETED, deletedReservation.getId(), null, null), //
+				new ReservationBulkItemRequest(ReservationActionEnum.CHANGED, changedReservation.getId(), tomorrowAt(12), tomorrowAt(13)), //
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(10), tomorrowAt(11)) //
+			));
+
+			// test
+			final var request = postRequest(BULK_RESERVATIONS_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var response = execute(request, HttpStatus.OK, ReservationBulkResponse.class);
+
+			// verify
+			assertThat(response.getResults()) //
+				.extracting(ReservationBulkItemResponse::getIndex, ReservationBulkItemResponse::getStatus,
+					ReservationBulkItemResponse::getError) //
+				.containsExactly( //
+					tuple(0, HttpStatus.OK.value(), null), //
+					tuple(1, HttpStatus.OK.value(), null), //
+					tuple(2, HttpStatus.CREATED.value(), null));
+			final var createdId = response.getResults().get(2).getId();
+			assertThat(createdId).isNotNull();
+
+			assertThat(reservationRepository.existsById(deletedReservation.getId())).isFalse();
+			assertThat(reservationRepository.selectById(changedReservation.getId()).getStartAt()).isEqualTo(tomorrowAt(12));
+			assertThat(reservationRepository.selectById(createdId).getStartAt()).isEqualTo(tomorrowAt(10));
+		}
+
+		@Test
+		void 正_失敗した項目のみ適用しない() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var reservation = ReservationSample.builder().id(null).userId(loginUser.getId()) //
+				.startAt(tomorrowAt(10)).finishAt(tomorrowAt(12)).build();
+			reservationRepository.insert(reservation);
+
+			// request body
+			final var requestBody = new ReservationBulkRequest(List.of( //
+				// 成功
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(13), tomorrowAt(15)), //
+				// 一括操作内の予約と重複
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(14), tomorrowAt(16)), //
+				// 既存の予約と重複
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(11), tomorrowAt(13)), //
+				// 時刻が無効
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(18), tomorrowAt(17)), //
+				// 時刻が未指定
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, null, null), //
+				// 予約が存在しない
+				new ReservationBulkItemRequest(ReservationActionEnum.DELETED, reservation.getId() + 1, null, null) //
+			));
+
+			// test
+			final var request = postRequest(BULK_RESERVATIONS_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var response = execute(request, HttpStatus.OK, ReservationBulkResponse.class);
+
+			// verify
+			assertThat(response.getResults()) //
+				.extracting(ReservationBulkItemResponse::getStatus,
+					result -> result.getError() == null ? null : result.getError().getCode()) //
+				.containsExactly( //
+					tuple(HttpStatus.CREATED.value(), null), //
+					tuple(HttpStatus.CONFLICT.value(), ErrorCode.CONFLICT_RESERVATION_TIME.getCode()), //
+					tuple(HttpStatus.CONFLICT.value(), ErrorCode.CONFLICT_RESERVATION_TIME.getCode()), //
+					tuple(HttpStatus.BAD_REQUEST.value(), ErrorCode.INVALID_RESERVATION_TIME.getCode()), //
+					tuple(HttpStatus.BAD_REQUEST.value(), ErrorCode.VALIDATION_ERROR.getCode()), //
+					tuple(HttpStatus.NOT_FOUND.value(), ErrorCode.NOT_FOUND_RESERVATION.getCode()));
+			assertThat(reservationRepository.selectByUserId(loginUser.getId()).size()).isEqualTo(2);
+		}
+
+		@Test
+		void 正_他ユーザの予約は操作できない() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var otherUser = UserSample.builder().id(null).email("other@abelab.dev").build();
+			userRepository.insert(otherUser);
+			final var reservation = ReservationSample.builder().id(null).userId(otherUser.getId()) //
+				.startAt(tomorrowAt(10)).finishAt(tomorrowAt(12)).build();
+			reservationRepository.insert(reservation);
+
+			// request body
+			final var requestBody = new ReservationBulkRequest(List.of( //
+				new ReservationBulkItemRequest(ReservationActionEnum.CHANGED, reservation.getId(), tomorrowAt(13), tomorrowAt(14)), //
+				new ReservationBulkItemRequest(ReservationActionEnum.DELETED, reservation.getId(), null, null), //
+				// 他ユーザの予約とは重複可能
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(10), tomorrowAt(12)) //
+			));
+
+			// test
+			final var request = postRequest(BULK_RESERVATIONS_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var response = execute(request, HttpStatus.OK, ReservationBulkResponse.class);
+
+			// verify
+			assertThat(response.getResults()) //
+				.extracting(ReservationBulkItemResponse::getStatus) //
+				.containsExactly(HttpStatus.FORBIDDEN.value(), HttpStatus.FORBIDDEN.value(), HttpStatus.CREATED.value());
+			assertThat(reservationRepository.selectById(reservation.getId()).getStartAt()).isEqualTo(tomorrowAt(10));
+		}
+
+		@Test
+		void 正_SELECT文の数は項目数に依存しない() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// request body
+			// 毎日10~11時の予約を作成
+			final var items = new ArrayList<ReservationBulkItemRequest>();
+			for (int i = 0; i < 50; i++) {
+				final var day = DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, i);
+				items.add(new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null,
+					DateTimeUtil.editDateTimeHourAndMinute(day, 10, 0), DateTimeUtil.editDateTimeHourAndMinute(day, 11, 0)));
+			}
+
+			// test
+			final var request = postRequest(BULK_RESERVATIONS_PATH, new ReservationBulkRequest(items));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var before = countSelectStatements();
+			final var response = execute(request, HttpStatus.OK, ReservationBulkResponse.class);
+			final var selectCount = countSelectStatements() - before;
+
+			// verify
+			assertThat(response.getResults()).allMatch(result -> result.getStatus() == HttpStatus.CREATED.value());
+			assertThat(reservationRepository.selectByUserId(loginUser.getId()).size()).isEqualTo(items.size());
+			assertThat(selectCount).isLessThan(10);
+		}
+
+		@Test
+		void 異_項目数が上限を超える() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// request body
+			final var items = new ArrayList<ReservationBulkItemRequest>();
+			for (int i = 0; i <= ReservationBulkRequest.MAX_ITEMS; i++) {
+				items.add(new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(10), tomorrowAt(11)));
+			}
+
+			// test
+			final var request = postRequest(BULK_RESERVATIONS_PATH, new ReservationBulkRequest(items));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new BadRequestException(ErrorCode.VALIDATION_ERROR));
+		}
+
+		@Test
+		void 異_無効な認証ヘッダ() throws Exception {
+			// request body
+			final var requestBody = new ReservationBulkRequest(List.of( //
+				new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, tomorrowAt(10), tomorrowAt(11))));
+
+			// test
+			final var request = postRequest(BULK_RESERVATIONS_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, "");
+			execute(request, new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN));
+		}
+
+	}
+
 	/**
 	 * 予約削除APIのテスト
 	 */
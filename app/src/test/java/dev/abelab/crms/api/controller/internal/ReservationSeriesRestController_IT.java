@@ -0,0 +1,395 @@
+package dev.abelab.crms.api.controller.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.text.SimpleDateFormat;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import dev.abelab.crms.api.controller.AbstractRestController_IT;
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.db.entity.ReservationSample;
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.enums.UserRoleEnum;
+import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
+import dev.abelab.crms.api.request.ReservationCreateRequest;
+import dev.abelab.crms.api.request.ReservationSeriesCreateRequest;
+import dev.abelab.crms.api.request.ReservationSeriesCancelRequest;
+import dev.abelab.crms.api.response.ReservationResponse;
+import dev.abelab.crms.api.response.ReservationsResponse;
+import dev.abelab.crms.util.DateTimeUtil;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.BadRequestException;
+import dev.abelab.crms.exception.ConflictException;
+import dev.abelab.crms.exception.ForbiddenException;
+import dev.abelab.crms.exception.NotFoundException;
+import dev.abelab.crms.exception.UnauthorizedException;
+
+/**
+ * ReservationSeriesRestController Integration Test
+ */
+public class ReservationSeriesRestController_IT extends AbstractRestController_IT {
+
+	// API PATH
+	static final String BASE_PATH = "/api/reservation-series";
+	static final String CREATE_RESERVATION_SERIES_PATH = BASE_PATH;
+	static final String DELETE_RESERVATION_SERIES_PATH = BASE_PATH + "/%d";
+	static final String CANCEL_RESERVATION_OCCURRENCE_PATH = BASE_PATH + "/%d/cancellations";
+	static final String GET_RESERVATIONS_PATH = "/api/reservations";
+	static final String CREATE_RESERVATION_PATH = "/api/reservations";
+
+	static final Date TOMORROW = DateTimeUtil.getStartOfDay(DateTimeUtil.getTomorrow());
+
+	static final SimpleDateFormat DATE_TIME_FORMATTER = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	ReservationRepository reservationRepository;
+
+	@Autowired
+	ReservationSeriesRepository reservationSeriesRepository;
+
+	/**
+	 * 明日からn日後のh時を取得
+	 */
+	static Date at(final int days, final int hour) {
+		return DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, days), hour, 0);
+	}
+
+	/**
+	 * 明日から毎週10:00~12:00の定期予約を作成
+	 *
+	 * @param user  予約者
+	 *
+	 * @param weeks 回数
+	 *
+	 * @return 定期予約
+	 */
+	ReservationSeries insertSeries(final User user, final int weeks) {
+		final var series = ReservationSeries.builder() //
+			.userId(user.getId()) //
+			.startAt(at(0, 10)) //
+			.finishAt(at(0, 12)) //
+			.untilAt(at(7 * (weeks - 1), 10)) //
+			.build();
+		reservationSeriesRepository.insert(series);
+		return series;
+	}
+
+	/**
+	 * 期間内のユーザの予約一覧を取得
+	 *
+	 * @param credentials 認証情報
+	 *
+	 * @param user        予約者
+	 *
+	 * @return 予約一覧レスポンス
+	 */
+	ReservationsResponse getReservations(final String credentials, final User user) throws Exception {
+		final var request = getRequest(GET_RESERVATIONS_PATH);
+		request.header(HttpHeaders.AUTHORIZATION, credentials);
+		request.param("from", DATE_TIME_FORMATTER.format(at(0, 0)));
+		request.param("to", DATE_TIME_FORMATTER.format(at(35, 0)));
+		request.param("user_id", String.valueOf(user.getId()));
+		return execute(request, HttpStatus.OK, ReservationsResponse.class);
+	}
+
+	/**
+	 * 定期予約作成APIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class CreateReservationSeriesTest extends AbstractRestControllerInitialization_IT {
+
+		@Test
+		void 正_定期予約を作成() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// request body
+			final var requestBody = ReservationSeriesCreateRequest.builder() //
+				.startAt(at(0, 10)) //
+				.finishAt(at(0, 12)) //
+				.untilAt(at(14, 10)) //
+				.build();
+
+			// test
+			final var request = postRequest(CREATE_RESERVATION_SERIES_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, HttpStatus.CREATED);
+
+			// verify
+			// 回は保存されず，取得時に展開される
+			assertThat(reservationRepository.selectByUserId(loginUser.getId())).isEmpty();
+			final var response = getReservations(credentials, loginUser);
+			assertThat(response.getReservations()) //
+				.extracting(ReservationResponse::getId, ReservationResponse::getStartAt, ReservationResponse::getFinishAt) //
+				.containsExactly( //
+					tuple(null, at(0, 10), at(0, 12)), //
+					tuple(null, at(7, 10), at(7, 12)), //
+					tuple(null, at(14, 10), at(14, 12)));
+			assertThat(response.getReservations()).allMatch(reservation -> reservation.getSeriesId() != null);
+		}
+
+		@Test
+		void 異_いずれかの回が予約と重複() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			reservationRepository.insert(ReservationSample.builder() //
+				.userId(loginUser.getId()) //
+				.startAt(at(14, 11)) //
+				.finishAt(at(14, 13)) //
+				.build());
+
+			// request body
+			final var requestBody = ReservationSeriesCreateRequest.builder() //
+				.startAt(at(0, 10)) //
+				.finishAt(at(0, 12)) //
+				.untilAt(at(28, 10)) //
+				.build();
+
+			// test
+			final var request = postRequest(CREATE_RESERVATION_SERIES_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME));
+		}
+
+		@Test
+		void 異_定期予約の期間が無効() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// request body
+			final var requestBody = ReservationSeriesCreateRequest.builder() //
+				.startAt(at(7, 10)) //
+				.finishAt(at(7, 12)) //
+				.untilAt(at(0, 10)) //
+				.build();
+
+			// test
+			final var request = postRequest(CREATE_RESERVATION_SERIES_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new BadRequestException(ErrorCode.INVALID_RESERVATION_SERIES_PERIOD));
+		}
+
+		@Test
+		void 異_定期予約の回と重複する予約は作成できない() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			insertSeries(loginUser, 4);
+
+			// request body
+			final var requestBody = ReservationCreateRequest.builder() //
+				.startAt(at(21, 11)) //
+				.finishAt(at(21, 13)) //
+				.build();
+
+			// test
+			final var request = postRequest(CREATE_RESERVATION_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new ConflictException(ErrorCode.CONFLICT_RESERVATION_TIME));
+		}
+
+		@Test
+		void 異_無効な認証ヘッダ() throws Exception {
+			// request body
+			final var requestBody = ReservationSeriesCreateRequest.builder() //
+				.startAt(at(0, 10)) //
+				.finishAt(at(0, 12)) //
+				.untilAt(at(14, 10)) //
+				.build();
+
+			// test
+			final var request = postRequest(CREATE_RESERVATION_SERIES_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, "");
+			execute(request, new UnauthorizedException(ErrorCode.INVALID_ACCESS_TOKEN));
+		}
+
+	}
+
+	/**
+	 * 予約一覧取得APIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class GetReservationsTest extends AbstractRestControllerInitialization_IT {
+
+		@Test
+		void 正_ページングしても定期予約の回を含める() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			insertSeries(loginUser, 3);
+			reservationRepository.insert(ReservationSample.builder() //
+				.userId(loginUser.getId()) //
+				.startAt(at(3, 10)) //
+				.finishAt(at(3, 12)) //
+				.build());
+
+			// test
+			final var startAts = new ArrayList<Date>();
+			String cursor = null;
+			do {
+				final var request = getRequest(GET_RESERVATIONS_PATH);
+				request.header(HttpHeaders.AUTHORIZATION, credentials);
+				request.param("user_id", String.valueOf(loginUser.getId()));
+				request.param("limit", "2");
+				if (cursor != null) {
+					request.param("cursor", cursor);
+				}
+				final var response = execute(request, HttpStatus.OK, ReservationsResponse.class);
+				response.getReservations().forEach(reservation -> startAts.add(reservation.getStartAt()));
+				cursor = response.getNextCursor();
+			} while (cursor != null);
+
+			// verify
+			assertThat(startAts).containsExactly(at(0, 10), at(3, 10), at(7, 10), at(14, 10));
+		}
+
+	}
+
+	/**
+	 * 定期予約の回のキャンセルAPIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class CancelReservationOccurrenceTest extends AbstractRestControllerInitialization_IT {
+
+		@Test
+		void 正_回をキャンセル() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var series = insertSeries(loginUser, 3);
+
+			// test
+			final var request = postRequest(String.format(CANCEL_RESERVATION_OCCURRENCE_PATH, series.getId()),
+				new ReservationSeriesCancelRequest(at(7, 10)));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, HttpStatus.CREATED);
+
+			// verify
+			assertThat(getReservations(credentials, loginUser).getReservations()) //
+				.extracting(ReservationResponse::getStartAt) //
+				.containsExactly(at(0, 10), at(14, 10));
+		}
+
+		@Test
+		void 異_存在しない回() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var series = insertSeries(loginUser, 3);
+
+			// test
+			final var request = postRequest(String.format(CANCEL_RESERVATION_OCCURRENCE_PATH, series.getId()),
+				new ReservationSeriesCancelRequest(at(8, 10)));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION_OCCURRENCE));
+		}
+
+		@Test
+		void 異_キャンセル済みの回() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var series = insertSeries(loginUser, 3);
+			reservationSeriesRepository.insertCancellation(series.getId(), at(7, 10));
+
+			// test
+			final var request = postRequest(String.format(CANCEL_RESERVATION_OCCURRENCE_PATH, series.getId()),
+				new ReservationSeriesCancelRequest(at(7, 10)));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION_OCCURRENCE));
+		}
+
+		@Test
+		void 異_他ユーザの定期予約() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var otherUser = UserSample.builder().id(null).email("other@abelab.dev").build();
+			userRepository.insert(otherUser);
+			final var series = insertSeries(otherUser, 3);
+
+			// test
+			final var request = postRequest(String.format(CANCEL_RESERVATION_OCCURRENCE_PATH, series.getId()),
+				new ReservationSeriesCancelRequest(at(7, 10)));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new ForbiddenException(ErrorCode.USER_HAS_NO_PERMISSION));
+		}
+
+	}
+
+	/**
+	 * 定期予約削除APIのテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class DeleteReservationSeriesTest extends AbstractRestControllerInitialization_IT {
+
+		@Test
+		void 正_定期予約を削除() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// setup
+			final var series = insertSeries(loginUser, 3);
+
+			// test
+			final var request = deleteRequest(String.format(DELETE_RESERVATION_SERIES_PATH, series.getId()));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, HttpStatus.OK);
+
+			// verify
+			assertThat(getReservations(credentials, loginUser).getReservations()).isEmpty();
+		}
+
+		@Test
+		void 異_存在しない定期予約() throws Exception {
+			// login user
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// test
+			final var request = deleteRequest(String.format(DELETE_RESERVATION_SERIES_PATH, SAMPLE_INT));
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new NotFoundException(ErrorCode.NOT_FOUND_RESERVATION_SERIES));
+		}
+
+	}
+
+}
@@ -5,9 +5,13 @@ import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
 import static org.junit.jupiter.params.provider.Arguments.*;
 
 import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -106,6 +110,50 @@ public class UserRestController_IT extends AbstractRestController_IT {
 				arguments(UserRoleEnum.MEMBER));
 		}
 
+		@Test
+		void 正_変更がなければ304を返す() throws Exception {
+			// setup
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			final var firstRequest = getRequest(GET_USERS_PATH);
+			firstRequest.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var eTag = execute(firstRequest, HttpStatus.OK).getResponse().getHeader(HttpHeaders.ETAG);
+
+			// test
+			final var request = getRequest(GET_USERS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+			final var result = execute(request, HttpStatus.NOT_MODIFIED);
+
+			// verify
+			assertThat(eTag).isNotNull();
+			assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+			assertThat(result.getResponse().getContentAsString()).isEmpty();
+		}
+
+		@Test
+		void 正_変更されたら200を返す() throws Exception {
+			// setup
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			final var firstRequest = getRequest(GET_USERS_PATH);
+			firstRequest.header(HttpHeaders.AUTHORIZATION, credentials);
+			final var eTag = execute(firstRequest, HttpStatus.OK).getResponse().getHeader(HttpHeaders.ETAG);
+
+			userRepository.insert(UserSample.builder().email("email1").build());
+
+			// test
+			final var request = getRequest(GET_USERS_PATH);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+			final var response = execute(request, HttpStatus.OK, UsersResponse.class);
+
+			// verify
+			assertThat(response.getUsers().size()).isEqualTo(2);
+		}
+
 		@Test
 		void 異_無効な認証ヘッダ() throws Exception {
 			// test
@@ -254,6 +302,69 @@ public class UserRestController_IT extends AbstractRestController_IT {
 
 	}
 
+	/**
+	 * ユーザ作成APIの同時実行テスト（各リクエストが個別にコミットされるようにトランザクション外で実行）
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class ConcurrentCreateUserTest {
+
+		static final String CONCURRENT_USER_EMAIL = "concurrent_user@abelab.dev";
+
+		User loginUser;
+
+		@AfterEach
+		void after() {
+			// コミット済みのデータを削除
+			if (userRepository.existsByEmail(CONCURRENT_USER_EMAIL)) {
+				userRepository.deleteById(userRepository.selectByEmail(CONCURRENT_USER_EMAIL).getId());
+			}
+			if (loginUser != null) {
+				userRepository.deleteById(loginUser.getId());
+				loginUser = null;
+			}
+		}
+
+		@Test
+		void 正_同じメールアドレスで同時に作成しても1件のみ作成() throws Exception {
+			final var requestCount = 50;
+			final var threadCount = 16;
+
+			// login user
+			loginUser = createLoginUser(UserRoleEnum.ADMIN);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// 同じメールアドレスのユーザ作成リクエストを作成
+			final var user = UserSample.builder().email(CONCURRENT_USER_EMAIL).password(LOGIN_USER_PASSWORD).build();
+			final var requestBody = modelMapper.map(user, UserCreateRequest.class);
+			final List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int i = 0; i < requestCount; i++) {
+				tasks.add(() -> {
+					final var request = postRequest(CREATE_USER_PATH, requestBody);
+					request.header(HttpHeaders.AUTHORIZATION, credentials);
+					return perform(request).getResponse().getStatus();
+				});
+			}
+
+			// test
+			final List<Integer> statuses = new ArrayList<>();
+			final var executor = Executors.newFixedThreadPool(threadCount);
+			try {
+				for (final var future : executor.invokeAll(tasks)) {
+					statuses.add(future.get());
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			// verify
+			assertThat(statuses).containsOnly(HttpStatus.CREATED.value(), HttpStatus.CONFLICT.value());
+			assertThat(statuses.stream().filter(status -> status == HttpStatus.CREATED.value()).count()).isEqualTo(1);
+			assertThat(userRepository.selectByEmail(CONCURRENT_USER_EMAIL).getFirstName()).isEqualTo(user.getFirstName());
+		}
+
+	}
+
 	/**
 	 * ユーザ更新APIのテスト
 	 */
@@ -378,10 +489,10 @@ public class UserRestController_IT extends AbstractRestController_IT {
 			userRepository.insert(user);
 
 			user.setEmail(loginUser.getEmail());
-			final var requestBody = modelMapper.map(user, UserCreateRequest.class);
+			final var requestBody = modelMapper.map(user, UserUpdateRequest.class);
 
 			// test
-			final var request = postRequest(CREATE_USER_PATH, requestBody);
+			final var request = putRequest(String.format(UPDATE_USER_PATH, user.getId()), requestBody);
 			request.header(HttpHeaders.AUTHORIZATION, credentials);
 			execute(request, new ConflictException(ErrorCode.CONFLICT_EMAIL));
 		}
@@ -561,6 +672,53 @@ public class UserRestController_IT extends AbstractRestController_IT {
 				arguments(UserRoleEnum.MEMBER));
 		}
 
+		@Test
+		void 正_キャッシュ済みのログインユーザで古いパスワードを書き戻さない() throws Exception {
+			// setup
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			// ログインユーザのスナップショットをキャッシュしてから，パスワードだけを更新
+			final var getRequest = getRequest(GET_LOGIN_USER_PATH);
+			getRequest.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(getRequest, HttpStatus.OK);
+			userRepository.updatePassword(loginUser.getId(), "rehashed");
+
+			loginUser.setFirstName(loginUser.getFirstName() + "xxx");
+			final var requestBody = modelMapper.map(loginUser, LoginUserUpdateRequest.class);
+
+			// test
+			final var request = putRequest(UPDATE_LOGIN_USER_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, HttpStatus.OK);
+
+			// verify
+			final var updatedUser = userRepository.selectById(loginUser.getId());
+			assertThat(updatedUser.getFirstName()).isEqualTo(loginUser.getFirstName());
+			assertThat(updatedUser.getPassword()).isEqualTo("rehashed");
+		}
+
+		@Test
+		void 異_更新後のメールアドレスが既に存在する() throws Exception {
+			// setup
+			final var loginUser = createLoginUser(UserRoleEnum.MEMBER);
+			final var credentials = getLoginUserCredentials(loginUser);
+
+			final var user = UserSample.builder().email("other_user@abelab.dev").password(LOGIN_USER_PASSWORD).build();
+			userRepository.insert(user);
+
+			loginUser.setEmail(user.getEmail());
+			final var requestBody = modelMapper.map(loginUser, LoginUserUpdateRequest.class);
+
+			// test
+			final var request = putRequest(UPDATE_LOGIN_USER_PATH, requestBody);
+			request.header(HttpHeaders.AUTHORIZATION, credentials);
+			execute(request, new ConflictException(ErrorCode.CONFLICT_EMAIL));
+
+			// verify
+			assertThat(userRepository.selectById(loginUser.getId()).getEmail()).isEqualTo(LOGIN_USER_EMAIL);
+		}
+
 		@Test
 		void 異_無効な認証ヘッダ() throws Exception {
 			// setup
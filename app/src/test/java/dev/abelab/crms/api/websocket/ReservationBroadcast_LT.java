@@ -0,0 +1,169 @@
+package dev.abelab.crms.api.websocket;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.service.ReservationService;
+import dev.abelab.crms.event.ReservationChangeBroadcaster;
+import dev.abelab.crms.config.WebSocketConfig;
+import dev.abelab.crms.api.request.ReservationCreateRequest;
+import dev.abelab.crms.api.response.ReservationDeltaResponse;
+import dev.abelab.crms.annotation.LoadTest;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * 予約の差分配信の負荷テスト（1ノードに数千の購読者を接続）
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ExtendWith(SpringExtension.class)
+@LoadTest
+public class ReservationBroadcast_LT {
+
+	static final int SUBSCRIBER_COUNT = 3000;
+	static final int CHANGE_COUNT = 5;
+	static final long TIMEOUT_SECONDS = 120;
+	static final Date TOMORROW = DateTimeUtil.getTomorrow();
+
+	@LocalServerPort
+	int port;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	UserLogic userLogic;
+
+	@Autowired
+	ReservationService reservationService;
+
+	@Autowired
+	SimpUserRegistry simpUserRegistry;
+
+	WebSocketStompClient stompClient;
+
+	List<StompSession> sessions;
+
+	User loginUser;
+
+	@BeforeEach
+	void setup() {
+		this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+		this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+		this.sessions = new ArrayList<>();
+
+		// 購読者として接続するユーザ（コミットされる）
+		this.loginUser = UserSample.builder() //
+			.email("load_test@abelab.dev") //
+			.password(this.userLogic.encodePassword("f4BabxEr7xA6")) //
+			.build();
+		this.userRepository.insert(this.loginUser);
+	}
+
+	@AfterEach
+	void teardown() {
+		this.sessions.stream().filter(StompSession::isConnected).forEach(StompSession::disconnect);
+		SecurityContextHolder.clearContext();
+
+		// コミット済みのデータを削除（予約はカスケード削除）
+		this.userRepository.deleteById(this.loginUser.getId());
+	}
+
+	@Test
+	void 正_全購読者に差分を配信() throws Exception {
+		final var credentials = "Bearer " + this.userLogic.generateJwt(this.loginUser);
+		final var connectHeaders = new StompHeaders();
+		connectHeaders.add(HttpHeaders.AUTHORIZATION, credentials);
+		final var url = "ws://localhost:" + this.port + WebSocketConfig.STOMP_ENDPOINT;
+
+		final var received = new CountDownLatch(SUBSCRIBER_COUNT * CHANGE_COUNT);
+		final var frameHandler = new StompFrameHandler() {
+			@Override
+			public Type getPayloadType(final StompHeaders headers) {
+				return ReservationDeltaResponse.class;
+			}
+
+			@Override
+			public void handleFrame(final StompHeaders headers, final Object payload) {
+				received.countDown();
+			}
+		};
+
+		// 購読者を接続
+		for (int i = 0; i < SUBSCRIBER_COUNT; i++) {
+			final var session = this.stompClient.connect(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {}) //
+				.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			session.subscribe(ReservationChangeBroadcaster.RESERVATIONS_TOPIC, frameHandler);
+			this.sessions.add(session);
+		}
+		this.waitUntilSubscribed(SUBSCRIBER_COUNT);
+
+		// 予約を作成（コミットごとに差分が配信される）
+		SecurityContextHolder.getContext()
+			.setAuthentication(new UsernamePasswordAuthenticationToken(this.loginUser, credentials, Collections.emptyList()));
+		final var startedAt = System.nanoTime();
+		for (int i = 0; i < CHANGE_COUNT; i++) {
+			final var requestBody = ReservationCreateRequest.builder() //
+				.startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 10 + i)) //
+				.finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 11 + i)) //
+				.build();
+			this.reservationService.createReservation(requestBody);
+		}
+
+		// verify
+		assertThat(received.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+		final var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		System.out.printf("Delivered %d deltas to %d subscribers in %d ms%n", CHANGE_COUNT, SUBSCRIBER_COUNT, elapsedMillis);
+	}
+
+	/**
+	 * 全セッションの購読がブローカーに登録されるまで待機
+	 *
+	 * @param count 購読数
+	 */
+	void waitUntilSubscribed(final int count) throws InterruptedException {
+		final var deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+		while (System.currentTimeMillis() < deadline) {
+			final var subscriptions = this.simpUserRegistry
+				.findSubscriptions(subscription -> subscription.getDestination().equals(ReservationChangeBroadcaster.RESERVATIONS_TOPIC));
+			if (subscriptions.size() >= count) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		fail("Subscriptions were not registered in time");
+	}
+
+}
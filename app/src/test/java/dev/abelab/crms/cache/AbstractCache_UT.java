@@ -0,0 +1,14 @@
+package dev.abelab.crms.cache;
+
+import dev.abelab.crms.annotation.UnitTest;
+
+/**
+ * Abstract Cache Unit Test
+ */
+@UnitTest
+public abstract class AbstractCache_UT {
+
+    static final int SAMPLE_INT = 1;
+    static final String SAMPLE_STR = "SAMPLE";
+
+}
@@ -0,0 +1,175 @@
+package dev.abelab.crms.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.property.JwtProperty;
+
+/**
+ * AccessTokenCache Unit Test
+ */
+public class AccessTokenCache_UT extends AbstractCache_UT {
+
+    static final int MAX_SIZE = 2;
+
+    static final Date EXPIRES_AT = new Date(System.currentTimeMillis() + 60 * 60 * 1000);
+
+    AccessTokenCache accessTokenCache;
+
+    @BeforeEach
+    void setup() {
+        final var jwtProperty = new JwtProperty();
+        jwtProperty.getCache().setMaxSize(MAX_SIZE);
+        this.accessTokenCache = new AccessTokenCache(jwtProperty);
+    }
+
+    /**
+     * Test for get user id
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class GetUserIdTest {
+
+        @Test
+        void 正_検証済みトークンのユーザIDを取得() {
+            // test
+            assertThat(accessTokenCache.getUserId(SAMPLE_STR)).isEmpty();
+            accessTokenCache.put(SAMPLE_STR, SAMPLE_INT, EXPIRES_AT);
+
+            // verify
+            assertThat(accessTokenCache.getUserId(SAMPLE_STR)).contains(SAMPLE_INT);
+            assertThat(accessTokenCache.getHitCount()).isEqualTo(1);
+            assertThat(accessTokenCache.getMissCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 正_期限切れのトークンは破棄() {
+            // test
+            accessTokenCache.put(SAMPLE_STR, SAMPLE_INT, new Date(System.currentTimeMillis() - 1));
+
+            // verify
+            assertThat(accessTokenCache.getUserId(SAMPLE_STR)).isEmpty();
+            assertThat(accessTokenCache.size()).isEqualTo(0);
+        }
+
+        @Test
+        void 正_最大エントリ数を超えると最も古いトークンを破棄() {
+            // test
+            accessTokenCache.put("token1", 1, EXPIRES_AT);
+            accessTokenCache.put("token2", 2, EXPIRES_AT);
+            accessTokenCache.getUserId("token1");
+            accessTokenCache.put("token3", 3, EXPIRES_AT);
+
+            // verify
+            assertThat(accessTokenCache.size()).isEqualTo(MAX_SIZE);
+            assertThat(accessTokenCache.getUserId("token1")).contains(1);
+            assertThat(accessTokenCache.getUserId("token2")).isEmpty();
+            assertThat(accessTokenCache.getUserId("token3")).contains(3);
+        }
+
+    }
+
+    /**
+     * Test for get user
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class GetUserTest {
+
+        @Test
+        void 正_ユーザのスナップショットを取得() {
+            // setup
+            final var user = UserSample.builder().id(SAMPLE_INT).build();
+
+            // test
+            accessTokenCache.put(SAMPLE_STR, SAMPLE_INT, EXPIRES_AT);
+            assertThat(accessTokenCache.getUser(SAMPLE_STR)).isEmpty();
+            accessTokenCache.putUser(SAMPLE_STR, user, accessTokenCache.getGeneration());
+
+            // verify
+            final var cachedUser = accessTokenCache.getUser(SAMPLE_STR);
+            assertThat(cachedUser).isPresent();
+            assertThat(cachedUser.get()).isEqualTo(user);
+            assertThat(accessTokenCache.getUserHitCount()).isEqualTo(1);
+            assertThat(accessTokenCache.getUserMissCount()).isEqualTo(1);
+
+            // 取得したユーザを変更してもキャッシュには影響しない
+            cachedUser.get().setEmail("changed@abelab.dev");
+            assertThat(accessTokenCache.getUser(SAMPLE_STR).get().getEmail()).isEqualTo(user.getEmail());
+        }
+
+        @Test
+        void 正_別ユーザのスナップショットは登録しない() {
+            // test
+            accessTokenCache.put(SAMPLE_STR, SAMPLE_INT, EXPIRES_AT);
+            accessTokenCache.putUser(SAMPLE_STR, UserSample.builder().id(SAMPLE_INT + 1).build(), accessTokenCache.getGeneration());
+
+            // verify
+            assertThat(accessTokenCache.getUser(SAMPLE_STR)).isEmpty();
+        }
+
+        @Test
+        void 異_読み込み中に破棄されたユーザは登録しない() {
+            // setup
+            accessTokenCache.put(SAMPLE_STR, SAMPLE_INT, EXPIRES_AT);
+            final var generation = accessTokenCache.getGeneration();
+
+            // test
+            accessTokenCache.invalidateUser(SAMPLE_INT + 1);
+            accessTokenCache.putUser(SAMPLE_STR, UserSample.builder().id(SAMPLE_INT).build(), generation);
+
+            // verify
+            assertThat(accessTokenCache.getUser(SAMPLE_STR)).isEmpty();
+        }
+
+    }
+
+    /**
+     * Test for digest
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class DigestTest {
+
+        @Test
+        void 正_同じトークンは同じダイジェスト() {
+            // verify
+            assertThat(AccessTokenCache.digest(SAMPLE_STR)).isEqualTo(AccessTokenCache.digest(SAMPLE_STR));
+            assertThat(AccessTokenCache.digest(SAMPLE_STR)).isNotEqualTo(AccessTokenCache.digest(SAMPLE_STR + 1));
+            assertThat(AccessTokenCache.digest(SAMPLE_STR)).doesNotContain(SAMPLE_STR);
+        }
+
+    }
+
+    /**
+     * Test for invalidate user
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class InvalidateUserTest {
+
+        @Test
+        void 正_ユーザのトークンを全て破棄() {
+            // setup
+            accessTokenCache.put("token1", SAMPLE_INT, EXPIRES_AT);
+            accessTokenCache.put("token2", SAMPLE_INT + 1, EXPIRES_AT);
+
+            // test
+            accessTokenCache.invalidateUser(SAMPLE_INT);
+
+            // verify
+            assertThat(accessTokenCache.getUserId("token1")).isEmpty();
+            assertThat(accessTokenCache.getUserId("token2")).contains(SAMPLE_INT + 1);
+        }
+
+    }
+
+}
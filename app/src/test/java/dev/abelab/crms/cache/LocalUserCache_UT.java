@@ -0,0 +1,175 @@
+package dev.abelab.crms.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * LocalUserCache Unit Test
+ */
+public class LocalUserCache_UT extends AbstractCache_UT {
+
+    static final int MAX_SIZE = 2;
+
+    LocalUserCache userCache;
+
+    @BeforeEach
+    void setup() {
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getUserCache().setMaxSize(MAX_SIZE);
+        this.userCache = new LocalUserCache(crmsProperty);
+    }
+
+    /**
+     * Test for get
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class GetTest {
+
+        @Test
+        void 正_IDとメールアドレスからユーザを取得() {
+            // setup
+            final var user = UserSample.builder().id(SAMPLE_INT).build();
+
+            // test
+            assertThat(userCache.get(SAMPLE_INT)).isEmpty();
+            userCache.put(user, userCache.getGeneration());
+
+            // verify
+            assertThat(userCache.get(SAMPLE_INT)).contains(user);
+            assertThat(userCache.getByEmail(user.getEmail())).contains(user);
+            assertThat(userCache.getHitCount()).isEqualTo(2);
+            assertThat(userCache.getMissCount()).isEqualTo(1);
+            assertThat(userCache.getHitRatio()).isEqualTo(2.0 / 3);
+            assertThat(userCache.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 正_取得したユーザを変更してもキャッシュには影響しない() {
+            // setup
+            final var user = UserSample.builder().id(SAMPLE_INT).build();
+            userCache.put(user, userCache.getGeneration());
+
+            // test
+            userCache.get(SAMPLE_INT).get().setEmail("changed@abelab.dev");
+
+            // verify
+            assertThat(userCache.get(SAMPLE_INT).get().getEmail()).isEqualTo(user.getEmail());
+            assertThat(userCache.getByEmail("changed@abelab.dev")).isEmpty();
+        }
+
+        @Test
+        void 正_最大エントリ数を超えると最も古いユーザを破棄() {
+            // setup
+            final var user1 = UserSample.builder().id(1).email("email1").build();
+            final var user2 = UserSample.builder().id(2).email("email2").build();
+            final var user3 = UserSample.builder().id(3).email("email3").build();
+
+            // test
+            userCache.put(user1, userCache.getGeneration());
+            userCache.put(user2, userCache.getGeneration());
+            userCache.get(1);
+            userCache.put(user3, userCache.getGeneration());
+
+            // verify
+            assertThat(userCache.size()).isEqualTo(MAX_SIZE);
+            assertThat(userCache.get(1)).contains(user1);
+            assertThat(userCache.get(2)).isEmpty();
+            assertThat(userCache.getByEmail("email2")).isEmpty();
+            assertThat(userCache.get(3)).contains(user3);
+        }
+
+    }
+
+    /**
+     * Test for ttl
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class TtlTest {
+
+        @Test
+        void 正_有効期間を過ぎたユーザは取得しない() {
+            // setup
+            final var crmsProperty = new CrmsProperty();
+            crmsProperty.getUserCache().setTtlSeconds(0);
+            final var expiringUserCache = new LocalUserCache(crmsProperty);
+            final var user = UserSample.builder().id(SAMPLE_INT).build();
+            expiringUserCache.put(user, expiringUserCache.getGeneration());
+
+            // test
+            final var result = expiringUserCache.get(SAMPLE_INT);
+
+            // verify
+            assertThat(result).isEmpty();
+            assertThat(expiringUserCache.getByEmail(user.getEmail())).isEmpty();
+            assertThat(expiringUserCache.size()).isEqualTo(0);
+        }
+
+    }
+
+    /**
+     * Test for evict
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class EvictTest {
+
+        @Test
+        void 正_IDとメールアドレスの両方から破棄() {
+            // setup
+            final var user = UserSample.builder().id(SAMPLE_INT).build();
+            userCache.put(user, userCache.getGeneration());
+
+            // test
+            userCache.evict(SAMPLE_INT);
+
+            // verify
+            assertThat(userCache.get(SAMPLE_INT)).isEmpty();
+            assertThat(userCache.getByEmail(user.getEmail())).isEmpty();
+            assertThat(userCache.size()).isEqualTo(0);
+        }
+
+        @Test
+        void 正_読み込み中に破棄されたユーザは登録しない() {
+            // setup
+            final var staleUser = UserSample.builder().id(SAMPLE_INT).build();
+
+            // test
+            // 読み込みを始めた後に更新され，破棄される
+            final var generation = userCache.getGeneration();
+            userCache.evict(SAMPLE_INT);
+            userCache.put(staleUser, generation);
+
+            // verify
+            assertThat(userCache.get(SAMPLE_INT)).isEmpty();
+            assertThat(userCache.getByEmail(staleUser.getEmail())).isEmpty();
+        }
+
+        @Test
+        void 正_メールアドレスを変更したら古いメールアドレスでは取得できない() {
+            // setup
+            final var user = UserSample.builder().id(SAMPLE_INT).email("before@abelab.dev").build();
+            final var updatedUser = UserSample.builder().id(SAMPLE_INT).email("after@abelab.dev").build();
+            userCache.put(user, userCache.getGeneration());
+
+            // test
+            userCache.evict(SAMPLE_INT);
+            userCache.put(updatedUser, userCache.getGeneration());
+
+            // verify
+            assertThat(userCache.getByEmail("before@abelab.dev")).isEmpty();
+            assertThat(userCache.getByEmail("after@abelab.dev")).contains(updatedUser);
+        }
+
+    }
+
+}
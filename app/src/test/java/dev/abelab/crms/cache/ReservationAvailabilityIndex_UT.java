@@ -0,0 +1,436 @@
+package dev.abelab.crms.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import mockit.Delegate;
+import mockit.Expectations;
+import mockit.Injectable;
+
+import dev.abelab.crms.db.entity.Reservation;
+import dev.abelab.crms.db.entity.ReservationSample;
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.db.entity.ReservationSeriesCancellation;
+import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.event.ReservationChangedEvent;
+import dev.abelab.crms.event.ReservationSeriesChangedEvent;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.model.TimeIntervalModel;
+import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * ReservationAvailabilityIndex Unit Test
+ */
+public class ReservationAvailabilityIndex_UT extends AbstractCache_UT {
+
+    static final Date TOMORROW = DateTimeUtil.getStartOfDay(DateTimeUtil.getTomorrow());
+
+    @Injectable
+    ReservationRepository reservationRepository;
+
+    @Injectable
+    ReservationSeriesRepository reservationSeriesRepository;
+
+    ReservationAvailabilityIndex reservationAvailabilityIndex;
+
+    @BeforeEach
+    void setup() {
+        this.reservationAvailabilityIndex = new ReservationAvailabilityIndex(this.reservationRepository, this.reservationSeriesRepository);
+    }
+
+    /**
+     * 明日の指定時刻を取得
+     */
+    static Date at(final int hour, final int minute) {
+        return DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, hour, minute);
+    }
+
+    /**
+     * 予約を作成
+     */
+    static Reservation reservation(final int id, final int startHour, final int startMinute, final int finishHour,
+        final int finishMinute) {
+        return ReservationSample.builder() //
+            .id(id) //
+            .userId(SAMPLE_INT) //
+            .startAt(at(startHour, startMinute)) //
+            .finishAt(at(finishHour, finishMinute)) //
+            .build();
+    }
+
+    /**
+     * 先週から毎週続く定期予約を作成
+     */
+    static ReservationSeries series(final int id, final int startHour, final int finishHour) {
+        return ReservationSeries.builder() //
+            .id(id) //
+            .userId(SAMPLE_INT) //
+            .startAt(DateTimeUtil.addDateTime(at(startHour, 0), Calendar.DAY_OF_MONTH, -7)) //
+            .finishAt(DateTimeUtil.addDateTime(at(finishHour, 0), Calendar.DAY_OF_MONTH, -7)) //
+            .untilAt(DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 28)) //
+            .build();
+    }
+
+    /**
+     * 予約のイベントを作成
+     */
+    static ReservationChangedEvent event(final Reservation reservation, final ReservationActionEnum action) {
+        final var model = new ReservationWithUserModel();
+        model.setId(reservation.getId());
+        model.setUserId(reservation.getUserId());
+        model.setStartAt(reservation.getStartAt());
+        model.setFinishAt(reservation.getFinishAt());
+        return new ReservationChangedEvent(model, action);
+    }
+
+    /**
+     * 時間帯を作成
+     */
+    static TimeIntervalModel interval(final int startHour, final int startMinute, final int finishHour, final int finishMinute) {
+        return new TimeIntervalModel(at(startHour, startMinute), at(finishHour, finishMinute));
+    }
+
+    /**
+     * Test for get free intervals
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class GetFreeIntervalsTest {
+
+        @Test
+        void 正_予約がなければ予約可能時間帯全体() {
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+        }
+
+        @Test
+        void 正_予約のない時間帯を取得() {
+            // setup
+            reservationAvailabilityIndex.put(reservation(1, 9, 0, 10, 0));
+            reservationAvailabilityIndex.put(reservation(2, 12, 0, 13, 30));
+            reservationAvailabilityIndex.put(reservation(3, 13, 0, 14, 0));
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(10, 0, 12, 0), interval(14, 0, 22, 0));
+        }
+
+        @Test
+        void 正_枠の途中から始まる予約は枠全体を占有() {
+            // setup
+            reservationAvailabilityIndex.put(reservation(1, 10, 5, 10, 50));
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 10, 0), interval(11, 0, 22, 0));
+        }
+
+        @Test
+        void 正_他の日の予約は影響しない() {
+            // setup
+            final var dayAfterTomorrow = DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 1);
+            reservationAvailabilityIndex.put(ReservationSample.builder() //
+                .id(1) //
+                .startAt(DateTimeUtil.editDateTimeHourAndMinute(dayAfterTomorrow, 10, 0)) //
+                .finishAt(DateTimeUtil.editDateTimeHourAndMinute(dayAfterTomorrow, 11, 0)) //
+                .build());
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+        }
+
+    }
+
+    /**
+     * Test for put / remove
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class UpdateTest {
+
+        @Test
+        void 正_予約を更新すると元の時間帯は空く() {
+            // setup
+            reservationAvailabilityIndex.put(reservation(1, 10, 0, 11, 0));
+
+            // test
+            reservationAvailabilityIndex.put(reservation(1, 15, 0, 16, 0));
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 15, 0), interval(16, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 正_重複する予約の片方を削除しても残りは占有したまま() {
+            // setup
+            reservationAvailabilityIndex.put(reservation(1, 10, 0, 12, 0));
+            reservationAvailabilityIndex.put(reservation(2, 11, 0, 13, 0));
+
+            // test
+            reservationAvailabilityIndex.remove(1);
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 11, 0), interval(13, 0, 22, 0));
+        }
+
+        @Test
+        void 正_ユーザの予約を全て削除() {
+            // setup
+            reservationAvailabilityIndex.put(reservation(1, 10, 0, 11, 0));
+            reservationAvailabilityIndex.put(reservation(2, 15, 0, 16, 0));
+
+            // test
+            reservationAvailabilityIndex.removeByUserId(SAMPLE_INT);
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.size()).isEqualTo(0);
+        }
+
+    }
+
+    /**
+     * Test for events
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class EventTest {
+
+        @Test
+        void 正_後から届いた古いイベントは反映しない() {
+            // setup
+            final var registered = event(reservation(1, 10, 0, 11, 0), ReservationActionEnum.REGISTERED);
+            final var changed = event(reservation(1, 15, 0, 16, 0), ReservationActionEnum.CHANGED);
+
+            // test
+            reservationAvailabilityIndex.onReservationChanged(changed);
+            reservationAvailabilityIndex.onReservationChanged(registered);
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 15, 0), interval(16, 0, 22, 0));
+        }
+
+        @Test
+        void 正_削除後に届いた古いイベントで予約を戻さない() {
+            // setup
+            final var registered = event(reservation(1, 10, 0, 11, 0), ReservationActionEnum.REGISTERED);
+            final var deleted = event(reservation(1, 10, 0, 11, 0), ReservationActionEnum.DELETED);
+
+            // test
+            reservationAvailabilityIndex.onReservationChanged(deleted);
+            reservationAvailabilityIndex.onReservationChanged(registered);
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.size()).isEqualTo(0);
+        }
+
+    }
+
+    /**
+     * Test for series
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class SeriesTest {
+
+        @Test
+        void 正_定期予約の回は毎週占有() {
+            // setup
+            reservationAvailabilityIndex.putSeries(series(1, 10, 11));
+            final var nextWeek = DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 7);
+            final var dayAfterTomorrow = DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 1);
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 10, 0), interval(11, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(nextWeek)).hasSize(2);
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(dayAfterTomorrow)).hasSize(1);
+        }
+
+        @Test
+        void 正_最終日より後には回がない() {
+            // setup
+            final var series = series(1, 10, 11);
+            series.setUntilAt(DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, -1));
+            reservationAvailabilityIndex.putSeries(series);
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+        }
+
+        @Test
+        void 正_キャンセルした回は空く() {
+            // setup
+            reservationAvailabilityIndex.putSeries(series(1, 10, 11));
+            final var occurrence = new ReservationWithUserModel();
+            occurrence.setSeriesId(1);
+            occurrence.setUserId(SAMPLE_INT);
+            occurrence.setStartAt(at(10, 0));
+            occurrence.setFinishAt(at(11, 0));
+
+            // test
+            reservationAvailabilityIndex.onReservationChanged(new ReservationChangedEvent(occurrence, ReservationActionEnum.DELETED));
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 7)))
+                .hasSize(2);
+        }
+
+        @Test
+        void 正_定期予約の変更イベントを反映() {
+            // setup
+            final var series = series(1, 10, 11);
+            reservationAvailabilityIndex.onReservationSeriesChanged(new ReservationSeriesChangedEvent(series, ReservationActionEnum.REGISTERED));
+
+            // test
+            reservationAvailabilityIndex.onReservationSeriesChanged(new ReservationSeriesChangedEvent(series, ReservationActionEnum.DELETED));
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+        }
+
+        @Test
+        void 正_ユーザの定期予約も削除() {
+            // setup
+            reservationAvailabilityIndex.putSeries(series(1, 10, 11));
+
+            // test
+            reservationAvailabilityIndex.removeByUserId(SAMPLE_INT);
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+        }
+
+    }
+
+    /**
+     * Test for rebuild
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class RebuildTest {
+
+        @Test
+        void 正_DBの予約から構築() {
+            // setup
+            final var reservation = new ReservationWithUserModel();
+            reservation.setId(1);
+            reservation.setUserId(SAMPLE_INT);
+            reservation.setStartAt(at(10, 0));
+            reservation.setFinishAt(at(11, 0));
+            reservationAvailabilityIndex.put(reservation(2, 15, 0, 16, 0));
+
+            new Expectations() {
+                {
+                    reservationRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(reservation);
+                }
+            };
+
+            // test
+            reservationAvailabilityIndex.rebuild();
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 10, 0), interval(11, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 正_構築中に届いたイベントは構築後に反映() {
+            // setup
+            final var snapshot = new ReservationWithUserModel();
+            snapshot.setId(1);
+            snapshot.setUserId(SAMPLE_INT);
+            snapshot.setStartAt(at(10, 0));
+            snapshot.setFinishAt(at(11, 0));
+            final var registered = event(reservation(2, 15, 0, 16, 0), ReservationActionEnum.REGISTERED);
+
+            new Expectations() {
+                {
+                    reservationRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = new Delegate<List<ReservationWithUserModel>>() {
+                        @SuppressWarnings("unused")
+                        List<ReservationWithUserModel> delegate(final ReservationSearchConditionModel condition) {
+                            // 読み込み中にコミットされた予約
+                            reservationAvailabilityIndex.onReservationChanged(registered);
+                            return List.of(snapshot);
+                        }
+                    };
+                }
+            };
+
+            // test
+            reservationAvailabilityIndex.rebuild();
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 10, 0), interval(11, 0, 15, 0), interval(16, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.size()).isEqualTo(2);
+        }
+
+        @Test
+        void 正_DBの定期予約とキャンセルした回から構築() {
+            // setup
+            final var series = new ReservationSeriesWithUserModel();
+            final var source = series(1, 10, 11);
+            series.setId(source.getId());
+            series.setUserId(source.getUserId());
+            series.setStartAt(source.getStartAt());
+            series.setFinishAt(source.getFinishAt());
+            series.setUntilAt(source.getUntilAt());
+            final var nextWeek = DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 7);
+            final var cancellation = ReservationSeriesCancellation.builder() //
+                .seriesId(1) //
+                .occurrenceAt(at(10, 0)) //
+                .build();
+
+            new Expectations() {
+                {
+                    reservationSeriesRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(series);
+
+                    reservationSeriesRepository.selectCancellations(List.of(1), (Date) any, (Date) any);
+                    result = List.of(cancellation);
+                }
+            };
+
+            // test
+            reservationAvailabilityIndex.rebuild();
+
+            // verify
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(TOMORROW)) //
+                .containsExactly(interval(9, 0, 22, 0));
+            assertThat(reservationAvailabilityIndex.getFreeIntervals(nextWeek)) //
+                .containsExactly(interval(9, 0, 10, 0), interval(11, 0, 22, 0));
+        }
+
+    }
+
+}
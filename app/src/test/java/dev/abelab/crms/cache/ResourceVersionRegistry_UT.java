@@ -0,0 +1,106 @@
+package dev.abelab.crms.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import mockit.Expectations;
+import mockit.Injectable;
+import mockit.Tested;
+import mockit.Verifications;
+
+import dev.abelab.crms.db.mapper.ResourceVersionCustomMapper;
+import dev.abelab.crms.enums.VersionedResourceEnum;
+
+/**
+ * ResourceVersionRegistry Unit Test
+ */
+public class ResourceVersionRegistry_UT extends AbstractCache_UT {
+
+    @Injectable
+    ResourceVersionCustomMapper resourceVersionCustomMapper;
+
+    @Tested
+    ResourceVersionRegistry resourceVersionRegistry;
+
+    /**
+     * Test for get ETag
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class GetETagTest {
+
+        @Test
+        void 正_DBのバージョンから作成() {
+            // setup
+            new Expectations() {
+                {
+                    resourceVersionCustomMapper.selectVersion(VersionedResourceEnum.RESERVATIONS.name());
+                    result = 3L;
+                }
+            };
+
+            // verify
+            assertThat(resourceVersionRegistry.getETag(VersionedResourceEnum.RESERVATIONS)).isEqualTo("3");
+        }
+
+    }
+
+    /**
+     * Test for bump
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class BumpTest {
+
+        @Test
+        void 正_トランザクション外ではすぐにバージョンを進める() {
+            // test
+            resourceVersionRegistry.bump(VersionedResourceEnum.USERS, VersionedResourceEnum.RESERVATIONS);
+
+            // verify
+            new Verifications() {
+                {
+                    resourceVersionCustomMapper.increment(List.of("RESERVATIONS", "USERS"));
+                    times = 1;
+                }
+            };
+        }
+
+        @Test
+        void 正_トランザクション中はリソースごとに1回だけ進める() {
+            // setup
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // test
+                resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+                resourceVersionRegistry.bump(VersionedResourceEnum.RESERVATIONS);
+                resourceVersionRegistry.bump(VersionedResourceEnum.USERS, VersionedResourceEnum.RESERVATIONS);
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // verify
+            new Verifications() {
+                {
+                    resourceVersionCustomMapper.increment(List.of("RESERVATIONS"));
+                    times = 1;
+                    resourceVersionCustomMapper.increment(List.of("USERS"));
+                    times = 1;
+                }
+            };
+            assertThat(TransactionSynchronizationManager.hasResource(resourceVersionRegistry)).isFalse();
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package dev.abelab.crms.client;
+
+import dev.abelab.crms.annotation.UnitTest;
+
+/**
+ * Abstract Client Unit Test
+ */
+@UnitTest
+public abstract class AbstractClient_UT {
+
+    static final int SAMPLE_INT = 1;
+    static final String SAMPLE_STR = "SAMPLE";
+
+}
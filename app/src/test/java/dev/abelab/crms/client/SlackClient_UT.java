@@ -0,0 +1,85 @@
+package dev.abelab.crms.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.property.SlackProperty;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * SlackClient Unit Test
+ */
+public class SlackClient_UT extends AbstractClient_UT {
+
+    SlackClient slackClient;
+
+    @BeforeEach
+    void setup() {
+        this.slackClient = new SlackClient(new SlackProperty(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * 予約を作成
+     */
+    List<ReservationWithUserModel> buildReservations(final int count) {
+        final var startAt = DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.getTomorrow(), 10, 0);
+        return IntStream.range(0, count).mapToObj(i -> {
+            final var reservation = new ReservationWithUserModel(UserSample.builder().build());
+            reservation.setId(i + 1);
+            reservation.setStartAt(startAt);
+            reservation.setFinishAt(DateTimeUtil.addDateTime(startAt, Calendar.HOUR_OF_DAY, 2));
+            return reservation;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Test for build lottery result message
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class BuildLotteryResultMessageTest {
+
+        @Test
+        void 正_多すぎる予約は件数のみ() {
+            // setup
+            final var winners = buildReservations(SlackClient.MAX_BULK_MESSAGE_LINES + 5);
+            final var losers = buildReservations(1000);
+
+            // test
+            final var message = slackClient.buildLotteryResultMessage(winners, losers);
+
+            // verify
+            assertThat(message.split("\n")).hasSize(2 + SlackClient.MAX_BULK_MESSAGE_LINES * 2 + 2);
+            assertThat(message).contains("ほか5件\n").endsWith("ほか" + (1000 - SlackClient.MAX_BULK_MESSAGE_LINES) + "件\n");
+        }
+
+        @Test
+        void 正_少ない予約は全て列挙() {
+            // setup
+            final var winners = buildReservations(2);
+            final var losers = buildReservations(1);
+
+            // test
+            final var message = slackClient.buildLotteryResultMessage(winners, losers);
+
+            // verify
+            assertThat(message.split("\n")).hasSize(5);
+            assertThat(message).doesNotContain("ほか");
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package dev.abelab.crms.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import dev.abelab.crms.db.entity.NotificationOutboxExample;
+import dev.abelab.crms.db.mapper.NotificationOutboxMapper;
+import dev.abelab.crms.repository.NotificationOutboxRepository;
+import dev.abelab.crms.property.SlackProperty;
+import dev.abelab.crms.annotation.IntegrationTest;
+
+/**
+ * SlackNotificationRelay Integration Test
+ */
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@IntegrationTest
+public class SlackNotificationRelay_IT {
+
+	static final String MESSAGE_PREFIX = "SlackNotificationRelay_IT-";
+
+	@Autowired
+	NotificationOutboxRepository notificationOutboxRepository;
+
+	@Autowired
+	NotificationOutboxMapper notificationOutboxMapper;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	/**
+	 * 送信したメッセージを記録するSlackクライアント
+	 */
+	class RecordingSlackClient extends SlackClient {
+
+		final List<String> sentMessages = new CopyOnWriteArrayList<>();
+
+		RecordingSlackClient() {
+			super(new SlackProperty(), new SimpleMeterRegistry());
+		}
+
+		@Override
+		public void sendMessage(final String message) {
+			// 送信中に他のリレーが通知を取り出せるよう，Webhookの呼び出しに時間をかける
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			this.sentMessages.addAll(Arrays.asList(message.split("\n")));
+		}
+
+	}
+
+	/**
+	 * 並行して送信するテスト
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class ConcurrentRelayTest {
+
+		@AfterEach
+		void after() {
+			// コミット済みのデータを削除
+			final var example = new NotificationOutboxExample();
+			example.createCriteria().andMessageLike(MESSAGE_PREFIX + "%");
+			notificationOutboxMapper.deleteByExample(example);
+		}
+
+		@Test
+		void 正_2つのリレーが同じ通知を重複して送信しない() throws Exception {
+			final var notificationCount = 100;
+
+			// setup
+			for (int i = 0; i < notificationCount; i++) {
+				notificationOutboxRepository.insert(MESSAGE_PREFIX + i);
+			}
+			final var slackProperty = new SlackProperty();
+			slackProperty.getOutbox().setBatchSize(5);
+			final var slackClient = new RecordingSlackClient();
+			final List<Callable<Void>> tasks = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				final var relay = new SlackNotificationRelay(notificationOutboxRepository, slackClient, slackProperty, transactionManager);
+				tasks.add(() -> {
+					relay.relay();
+					return null;
+				});
+			}
+
+			// test
+			final var executor = Executors.newFixedThreadPool(tasks.size());
+			try {
+				for (final var future : executor.invokeAll(tasks)) {
+					future.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			// verify
+			final var sentMessages = slackClient.sentMessages.stream() //
+				.filter(message -> message.startsWith(MESSAGE_PREFIX)) //
+				.collect(Collectors.toList());
+			assertThat(sentMessages).doesNotHaveDuplicates();
+			assertThat(sentMessages).hasSize(notificationCount);
+		}
+
+	}
+
+}
@@ -0,0 +1,441 @@
+package dev.abelab.crms.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mockit.Expectations;
+import mockit.Injectable;
+import mockit.Verifications;
+
+import dev.abelab.crms.db.entity.NotificationOutbox;
+import dev.abelab.crms.repository.NotificationOutboxRepository;
+import dev.abelab.crms.property.SlackProperty;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.InternalServerErrorException;
+
+/**
+ * SlackNotificationRelay Unit Test
+ */
+public class SlackNotificationRelay_UT extends AbstractClient_UT {
+
+    @Injectable
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Injectable
+    SlackClient slackClient;
+
+    @Injectable
+    PlatformTransactionManager transactionManager;
+
+    SlackProperty slackProperty;
+
+    SlackNotificationRelay slackNotificationRelay;
+
+    @BeforeEach
+    void setup() {
+        this.slackProperty = new SlackProperty();
+        this.slackProperty.getOutbox().setBatchSize(2);
+        this.slackNotificationRelay = new SlackNotificationRelay(notificationOutboxRepository, slackClient, slackProperty, transactionManager);
+    }
+
+    /**
+     * 通知を作成
+     */
+    NotificationOutbox buildNotification(final int id, final String message) {
+        return buildNotification(id, message, 0);
+    }
+
+    /**
+     * 通知を作成
+     */
+    NotificationOutbox buildNotification(final int id, final String message, final int attempts) {
+        return NotificationOutbox.builder() //
+            .id(id) //
+            .message(message) //
+            .attempts(attempts) //
+            .build();
+    }
+
+    /**
+     * Test for relay
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class RelayTest {
+
+        @Test
+        void 正_未送信の通知をまとめて送信() {
+            // setup
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    returns( //
+                        List.of(buildNotification(1, "message1"), buildNotification(2, "message2")), //
+                        List.of(buildNotification(3, "message3")) //
+                    );
+                }
+            };
+
+            // test
+            slackNotificationRelay.relay();
+
+            // verify
+            new Verifications() {
+                {
+                    notificationOutboxRepository.claim(List.of(1, 2), (Date) any);
+                    times = 1;
+                    notificationOutboxRepository.claim(List.of(3), (Date) any);
+                    times = 1;
+                    slackClient.sendMessage("message1\nmessage2");
+                    times = 1;
+                    slackClient.sendMessage("message3");
+                    times = 1;
+                    notificationOutboxRepository.markSent(List.of(1, 2));
+                    times = 1;
+                    notificationOutboxRepository.markSent(List.of(3));
+                    times = 1;
+                }
+            };
+            assertThat(slackNotificationRelay.getSentCount()).isEqualTo(3);
+        }
+
+        @Test
+        void 異_送信に失敗したら再送を遅らせる() {
+            // setup
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    result = List.of(buildNotification(SAMPLE_INT, SAMPLE_STR));
+
+                    slackClient.sendMessage(anyString);
+                    result = new InternalServerErrorException(ErrorCode.FAILED_TO_SEND_SLACK);
+                }
+            };
+
+            // test
+            final var now = new Date();
+            slackNotificationRelay.relay();
+
+            // verify
+            new Verifications() {
+                {
+                    Date availableAt;
+                    notificationOutboxRepository.markFailed(List.of(SAMPLE_INT), availableAt = withCapture());
+                    times = 1;
+                    assertThat(availableAt).isAfter(now);
+
+                    notificationOutboxRepository.markSent((List<Integer>) any);
+                    times = 0;
+                }
+            };
+            assertThat(slackNotificationRelay.getSentCount()).isEqualTo(0);
+            assertThat(slackNotificationRelay.getFailedCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 異_まとめて送信できなければ1件ずつ送信() {
+            // setup
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    result = List.of(buildNotification(1, "message1"), buildNotification(2, "message2"));
+
+                    slackClient.sendMessage("message1\nmessage2");
+                    result = new InternalServerErrorException(ErrorCode.FAILED_TO_SEND_SLACK);
+
+                    slackClient.sendMessage("message2");
+                    result = new InternalServerErrorException(ErrorCode.FAILED_TO_SEND_SLACK);
+                }
+            };
+
+            // test
+            slackNotificationRelay.relay();
+
+            // verify
+            new Verifications() {
+                {
+                    slackClient.sendMessage("message1");
+                    times = 1;
+                    notificationOutboxRepository.markSent(List.of(1));
+                    times = 1;
+                    notificationOutboxRepository.markFailed(List.of(2), (Date) any);
+                    times = 1;
+                }
+            };
+            assertThat(slackNotificationRelay.getSentCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 異_最大試行回数に達したら送信を諦める() {
+            // setup
+            final var maxAttempts = slackProperty.getOutbox().getMaxAttempts();
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    result = List.of(buildNotification(SAMPLE_INT, SAMPLE_STR, maxAttempts - 1));
+
+                    slackClient.sendMessage(anyString);
+                    result = new InternalServerErrorException(ErrorCode.FAILED_TO_SEND_SLACK);
+                }
+            };
+
+            // test
+            slackNotificationRelay.relay();
+
+            // verify
+            new Verifications() {
+                {
+                    notificationOutboxRepository.markDeadLettered(List.of(SAMPLE_INT));
+                    times = 1;
+                    notificationOutboxRepository.markFailed((List<Integer>) any, (Date) any);
+                    times = 0;
+                }
+            };
+        }
+
+        @Test
+        void 正_無効な場合は送信しない() {
+            // setup
+            slackProperty.getOutbox().setEnabled(false);
+
+            // test
+            slackNotificationRelay.relay();
+
+            // verify
+            new Verifications() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    times = 0;
+                }
+            };
+        }
+
+        @Test
+        void 正_滞留数と遅延を記録() {
+            // setup
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    result = List.of();
+
+                    notificationOutboxRepository.countPending();
+                    result = 3L;
+
+                    notificationOutboxRepository.selectOldestPendingCreatedAt();
+                    result = Optional.of(new Date(System.currentTimeMillis() - 60 * 1000));
+                }
+            };
+
+            // test
+            slackNotificationRelay.relay();
+
+            // verify
+            assertThat(slackNotificationRelay.getBacklog()).isEqualTo(3);
+            assertThat(slackNotificationRelay.getLagMillis()).isGreaterThanOrEqualTo(60 * 1000);
+        }
+
+    }
+
+    /**
+     * Test for delete expired
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class DeleteExpiredTest {
+
+        @Test
+        void 正_保持期間を過ぎた通知を分けて削除() {
+            // setup
+            new Expectations() {
+                {
+                    notificationOutboxRepository.deleteSentBefore((Date) any, anyInt);
+                    returns(SlackNotificationRelay.DELETE_BATCH_SIZE, 3);
+                }
+            };
+
+            // test
+            final var now = new Date();
+            slackNotificationRelay.deleteExpired();
+
+            // verify
+            new Verifications() {
+                {
+                    Date sentBefore;
+                    notificationOutboxRepository.deleteSentBefore(sentBefore = withCapture(), SlackNotificationRelay.DELETE_BATCH_SIZE);
+                    times = 2;
+                    assertThat(sentBefore).isBefore(now);
+                }
+            };
+        }
+
+    }
+
+    /**
+     * Test for relay to a stub webhook
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class WebhookTest {
+
+        /**
+         * スタブWebhookが受け取ったリクエストボディ
+         */
+        List<String> receivedBodies;
+
+        /**
+         * スタブWebhookが返すステータス（空なら200）
+         */
+        Queue<Integer> responseStatuses;
+
+        HttpServer webhookServer;
+
+        SlackNotificationRelay webhookRelay;
+
+        @BeforeEach
+        void setup() throws IOException {
+            this.receivedBodies = new CopyOnWriteArrayList<>();
+            this.responseStatuses = new ConcurrentLinkedQueue<>();
+            this.webhookServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            this.webhookServer.createContext("/webhook", this::handle);
+            this.webhookServer.start();
+
+            final var webhookProperty = new SlackProperty();
+            webhookProperty.setEnabled(true);
+            webhookProperty.setWebhookUrl("http://localhost:" + this.webhookServer.getAddress().getPort() + "/webhook");
+            webhookProperty.getOutbox().setBatchSize(2);
+            webhookProperty.getOutbox().setInitialBackoffMillis(1000);
+            final var webhookClient = new SlackClient(webhookProperty, new SimpleMeterRegistry());
+            this.webhookRelay = new SlackNotificationRelay(notificationOutboxRepository, webhookClient, webhookProperty, transactionManager);
+        }
+
+        @AfterEach
+        void teardown() {
+            this.webhookServer.stop(0);
+        }
+
+        /**
+         * リクエストボディを記録し，指定したステータスを返す
+         */
+        void handle(final HttpExchange exchange) throws IOException {
+            try {
+                this.receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                final var status = Optional.ofNullable(this.responseStatuses.poll()).orElse(200);
+                final var body = (status == 200 ? "ok" : "error").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(status, body.length);
+                exchange.getResponseBody().write(body);
+            } finally {
+                exchange.close();
+            }
+        }
+
+        @Test
+        void 正_バッチごとに1回のリクエストで送信() {
+            // setup
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    returns( //
+                        List.of(buildNotification(1, "message1"), buildNotification(2, "message2")), //
+                        List.of(buildNotification(3, "message3")) //
+                    );
+                }
+            };
+
+            // test
+            webhookRelay.relay();
+
+            // verify
+            assertThat(receivedBodies).hasSize(2);
+            assertThat(receivedBodies.get(0)).contains("message1\\nmessage2");
+            assertThat(receivedBodies.get(1)).contains("message3");
+            new Verifications() {
+                {
+                    notificationOutboxRepository.markSent(List.of(1, 2));
+                    times = 1;
+                    notificationOutboxRepository.markSent(List.of(3));
+                    times = 1;
+                }
+            };
+        }
+
+        @Test
+        void 異_200以外の応答なら1件ずつ送り直す() {
+            // setup
+            responseStatuses.addAll(List.of(500, 200, 500));
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    result = List.of(buildNotification(1, "message1"), buildNotification(2, "message2"));
+                }
+            };
+
+            // test
+            webhookRelay.relay();
+
+            // verify
+            assertThat(receivedBodies).hasSize(3);
+            assertThat(receivedBodies.get(1)).contains("message1").doesNotContain("message2");
+            assertThat(receivedBodies.get(2)).contains("message2").doesNotContain("message1");
+            new Verifications() {
+                {
+                    notificationOutboxRepository.markSent(List.of(1));
+                    times = 1;
+                    notificationOutboxRepository.markFailed(List.of(2), (Date) any);
+                    times = 1;
+                }
+            };
+            assertThat(webhookRelay.getFailedCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 異_再送までの待機時間は試行回数ごとに倍になる() {
+            // setup
+            final var attempts = 2;
+            responseStatuses.add(503);
+            new Expectations() {
+                {
+                    notificationOutboxRepository.selectPendingForUpdate(anyInt);
+                    result = List.of(buildNotification(SAMPLE_INT, SAMPLE_STR, attempts));
+                }
+            };
+
+            // test
+            final var startedAt = System.currentTimeMillis();
+            webhookRelay.relay();
+            final var finishedAt = System.currentTimeMillis();
+
+            // verify
+            final var backoffMillis = 1000L << attempts;
+            new Verifications() {
+                {
+                    Date availableAt;
+                    notificationOutboxRepository.markFailed(List.of(SAMPLE_INT), availableAt = withCapture());
+                    times = 1;
+                    assertThat(availableAt.getTime()).isBetween(startedAt + backoffMillis, finishedAt + backoffMillis);
+                }
+            };
+            assertThat(receivedBodies).hasSize(1);
+        }
+
+    }
+
+}
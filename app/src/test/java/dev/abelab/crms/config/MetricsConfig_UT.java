@@ -0,0 +1,148 @@
+package dev.abelab.crms.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import dev.abelab.crms.annotation.UnitTest;
+import dev.abelab.crms.config.metrics.ServiceTimingInterceptor;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.NotFoundException;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * MetricsConfig Unit Test
+ */
+@UnitTest
+public class MetricsConfig_UT {
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /**
+     * Test for service timing advisor
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class ServiceTimingAdvisorTest {
+
+        SampleService sampleService;
+
+        @BeforeEach
+        void setup() {
+            final var beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+            final var proxyFactory = new ProxyFactory(new SampleService());
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvisor(MetricsConfig.serviceTimingAdvisor(beanFactory.getBeanProvider(MeterRegistry.class)));
+            this.sampleService = (SampleService) proxyFactory.getProxy();
+        }
+
+        @Test
+        void 正_メソッドごとに処理時間を計測() {
+            // test
+            sampleService.get();
+            sampleService.get();
+
+            // verify
+            final var timer = meterRegistry.get(ServiceTimingInterceptor.METRIC_NAME) //
+                .tags("class", SampleService.class.getSimpleName(), "method", "get", "exception", "none") //
+                .timer();
+            assertThat(timer.count()).isEqualTo(2);
+        }
+
+        @Test
+        void 正_例外の種類ごとに計測() {
+            // test
+            assertThrows(NotFoundException.class, () -> sampleService.fail());
+
+            // verify
+            final var timer = meterRegistry.get(ServiceTimingInterceptor.METRIC_NAME) //
+                .tags("method", "fail", "exception", NotFoundException.class.getSimpleName()) //
+                .timer();
+            assertThat(timer.count()).isEqualTo(1);
+        }
+
+        @Test
+        void 正_エミッタを返すメソッドは計測しない() {
+            // test
+            sampleService.subscribe();
+
+            // verify
+            assertThat(meterRegistry.find(ServiceTimingInterceptor.METRIC_NAME).tags("method", "subscribe").timer()).isNull();
+        }
+
+    }
+
+    /**
+     * Test for http server requests histogram filter
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class HttpServerRequestsHistogramFilterTest {
+
+        @BeforeEach
+        void setup() {
+            final var crmsProperty = new CrmsProperty();
+            crmsProperty.getMetrics().setHistogramUriPrefixes(List.of("/api/reservations"));
+            meterRegistry.config().meterFilter(new MetricsConfig().httpServerRequestsHistogramFilter(crmsProperty));
+        }
+
+        @Test
+        void 正_指定したエンドポイントのみヒストグラムを記録() {
+            // test
+            final var reservationTimer = Timer.builder(MetricsConfig.HTTP_SERVER_REQUESTS) //
+                .tag("uri", "/api/reservations/{reservation_id}") //
+                .register(meterRegistry);
+            final var userTimer = Timer.builder(MetricsConfig.HTTP_SERVER_REQUESTS) //
+                .tag("uri", "/api/users") //
+                .register(meterRegistry);
+            reservationTimer.record(() -> {
+            });
+            userTimer.record(() -> {
+            });
+
+            // verify
+            assertThat(reservationTimer.takeSnapshot().histogramCounts()).isNotEmpty();
+            assertThat(userTimer.takeSnapshot().histogramCounts()).isEmpty();
+        }
+
+    }
+
+    @Service
+    static class SampleService {
+
+        public int get() {
+            return 1;
+        }
+
+        public void fail() {
+            throw new NotFoundException(ErrorCode.NOT_FOUND_USER);
+        }
+
+        public SseEmitter subscribe() {
+            return new SseEmitter();
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package dev.abelab.crms.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import dev.abelab.crms.annotation.UnitTest;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * PasswordEncoderConfig Unit Test
+ */
+@UnitTest
+public class PasswordEncoderConfig_UT {
+
+    static final String PASSWORD = "f4BabxEr7xA6";
+
+    /**
+     * 設定からエンコーダを作成
+     */
+    static PasswordEncoder createPasswordEncoder(final String encoder, final int pbkdf2Iterations, final int bcryptStrength) {
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getPassword().setEncoder(encoder);
+        crmsProperty.getPassword().setPbkdf2Iterations(pbkdf2Iterations);
+        crmsProperty.getPassword().setBcryptStrength(bcryptStrength);
+        return new PasswordEncoderConfig(crmsProperty).passwordEncoder();
+    }
+
+    /**
+     * Test for password encoder
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class PasswordEncoderTest {
+
+        @Test
+        void 正_設定したアルゴリズムの接頭辞を付けてハッシュを計算() {
+            final var passwordEncoder = createPasswordEncoder(PasswordEncoderConfig.PBKDF2_SHA256_ID, 1000, 4);
+
+            // test
+            final var encodedPassword = passwordEncoder.encode(PASSWORD);
+
+            // verify
+            assertThat(encodedPassword).startsWith("{pbkdf2-sha256}1000$");
+            assertThat(passwordEncoder.matches(PASSWORD, encodedPassword)).isTrue();
+            assertThat(passwordEncoder.matches(PASSWORD + "dummy", encodedPassword)).isFalse();
+            assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isFalse();
+        }
+
+        @Test
+        void 正_接頭辞のない従来のハッシュを検証し再計算の対象にする() {
+            final var passwordEncoder = createPasswordEncoder(PasswordEncoderConfig.PBKDF2_SHA256_ID, 1000, 4);
+            final var legacyPassword = new Pbkdf2PasswordEncoder().encode(PASSWORD);
+
+            // verify
+            assertThat(passwordEncoder.matches(PASSWORD, legacyPassword)).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(legacyPassword)).isTrue();
+        }
+
+        @Test
+        void 正_反復回数を変更しても保存済みのハッシュを検証し再計算の対象にする() {
+            final var encodedPassword = createPasswordEncoder(PasswordEncoderConfig.PBKDF2_SHA256_ID, 1000, 4).encode(PASSWORD);
+            final var passwordEncoder = createPasswordEncoder(PasswordEncoderConfig.PBKDF2_SHA256_ID, 2000, 4);
+
+            // verify
+            assertThat(passwordEncoder.matches(PASSWORD, encodedPassword)).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD))).isFalse();
+        }
+
+        @Test
+        void 正_アルゴリズムを変更しても保存済みのハッシュを検証し再計算の対象にする() {
+            final var encodedPassword = createPasswordEncoder(PasswordEncoderConfig.PBKDF2_SHA256_ID, 1000, 4).encode(PASSWORD);
+            final var passwordEncoder = createPasswordEncoder(PasswordEncoderConfig.BCRYPT_ID, 1000, 4);
+
+            // verify
+            assertThat(passwordEncoder.matches(PASSWORD, encodedPassword)).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isTrue();
+            assertThat(passwordEncoder.encode(PASSWORD)).startsWith("{bcrypt}");
+        }
+
+        @Test
+        void 異_不正な形式のハッシュは一致しない() {
+            final var passwordEncoder = createPasswordEncoder(PasswordEncoderConfig.PBKDF2_SHA256_ID, 1000, 4);
+
+            // verify
+            assertThat(passwordEncoder.matches(PASSWORD, "{pbkdf2-sha256}abc$0123")).isFalse();
+            assertThat(passwordEncoder.matches(PASSWORD, "{pbkdf2-sha256}0123")).isFalse();
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package dev.abelab.crms.event;
+
+import dev.abelab.crms.annotation.UnitTest;
+
+/**
+ * Abstract Event Unit Test
+ */
+@UnitTest
+public abstract class AbstractEvent_UT {
+
+    static final int SAMPLE_INT = 1;
+    static final String SAMPLE_STR = "SAMPLE";
+
+}
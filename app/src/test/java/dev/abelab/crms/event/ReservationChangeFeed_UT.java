@@ -0,0 +1,283 @@
+package dev.abelab.crms.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import mockit.Expectations;
+import mockit.Injectable;
+
+import dev.abelab.crms.db.entity.ReservationSeries;
+import dev.abelab.crms.converter.ReservationConverter;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.model.ReservationChangeModel;
+import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.api.response.ReservationDeltaResponse;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * ReservationChangeFeed Unit Test
+ */
+public class ReservationChangeFeed_UT extends AbstractEvent_UT {
+
+    static final int BUFFER_SIZE = 3;
+
+    @Injectable
+    ReservationConverter reservationConverter;
+
+    ReservationChangeFeed reservationChangeFeed;
+
+    /**
+     * 送信待ちのタスク（テストから実行する）
+     */
+    List<Runnable> pendingTasks;
+
+    @BeforeEach
+    void setup() {
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getChangeFeed().setBufferSize(BUFFER_SIZE);
+        this.pendingTasks = new ArrayList<>();
+        this.reservationChangeFeed = new ReservationChangeFeed(reservationConverter, crmsProperty, this.pendingTasks::add);
+    }
+
+    /**
+     * 送信待ちのタスクを実行
+     */
+    void runPendingTasks() {
+        while (!this.pendingTasks.isEmpty()) {
+            this.pendingTasks.remove(0).run();
+        }
+    }
+
+    /**
+     * 変更を追加
+     *
+     * @param count 追加数
+     */
+    void appendChanges(final int count) {
+        for (int i = 0; i < count; i++) {
+            final var delta = ReservationDeltaResponse.builder() //
+                .action(ReservationActionEnum.REGISTERED) //
+                .id(i + 1) //
+                .userId(SAMPLE_INT) //
+                .build();
+            reservationChangeFeed.append(delta);
+        }
+    }
+
+    /**
+     * Test for get changes after
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class GetChangesAfterTest {
+
+        @Test
+        void 正_取りこぼした変更を取得() {
+            // setup
+            appendChanges(3);
+
+            // test
+            final var changes = reservationChangeFeed.getChangesAfter(1);
+
+            // verify
+            assertThat(changes).isPresent();
+            assertThat(changes.get()).extracting(ReservationChangeModel::getSequence).containsExactly(2L, 3L);
+            assertThat(changes.get()).extracting(change -> change.getDelta().getId()).containsExactly(2, 3);
+        }
+
+        @Test
+        void 正_最新の変更まで受信済み() {
+            // setup
+            appendChanges(3);
+
+            // test
+            final var changes = reservationChangeFeed.getChangesAfter(3);
+
+            // verify
+            assertThat(changes).isPresent();
+            assertThat(changes.get()).isEmpty();
+        }
+
+        @Test
+        void 正_バッファに残っている最も古い変更から再開() {
+            // setup
+            appendChanges(5);
+
+            // test
+            final var changes = reservationChangeFeed.getChangesAfter(2);
+
+            // verify
+            assertThat(changes).isPresent();
+            assertThat(changes.get()).extracting(ReservationChangeModel::getSequence).containsExactly(3L, 4L, 5L);
+        }
+
+        @Test
+        void 異_バッファから溢れた変更からは再開できない() {
+            // setup
+            appendChanges(5);
+
+            // test
+            final var changes = reservationChangeFeed.getChangesAfter(1);
+
+            // verify
+            assertThat(changes).isEmpty();
+        }
+
+        @Test
+        void 異_発行していないシーケンスからは再開できない() {
+            // setup
+            appendChanges(1);
+
+            // test
+            final var changes = reservationChangeFeed.getChangesAfter(SAMPLE_INT + 1);
+
+            // verify
+            assertThat(changes).isEmpty();
+        }
+
+    }
+
+    /**
+     * Test for subscribe
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class SubscribeTest {
+
+        @Test
+        void 正_購読者を登録() {
+            // test
+            reservationChangeFeed.subscribe(null);
+            reservationChangeFeed.subscribe(0L);
+
+            // verify
+            assertThat(reservationChangeFeed.getSubscriberCount()).isEqualTo(2);
+        }
+
+    }
+
+    /**
+     * Test for delivery
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class DeliveryTest {
+
+        @Test
+        void 正_追加時には送信せずスレッドプールで送信() {
+            // setup
+            reservationChangeFeed.subscribe(0L);
+
+            // test
+            appendChanges(2);
+
+            // verify
+            assertThat(pendingTasks).hasSize(1);
+            runPendingTasks();
+            assertThat(reservationChangeFeed.getSubscriberCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 正_バッファから溢れるほど遅れた購読者は切断() {
+            // setup
+            reservationChangeFeed.subscribe(0L);
+
+            // test
+            appendChanges(BUFFER_SIZE + 2);
+            runPendingTasks();
+
+            // verify
+            assertThat(reservationChangeFeed.getSubscriberCount()).isEqualTo(0);
+        }
+
+        @Test
+        void 異_送信が追いつかない購読者は切断() {
+            // setup
+            final var crmsProperty = new CrmsProperty();
+            reservationChangeFeed = new ReservationChangeFeed(reservationConverter, crmsProperty, task -> {
+                throw new RejectedExecutionException();
+            });
+            reservationChangeFeed.subscribe(0L);
+
+            // test
+            appendChanges(1);
+
+            // verify
+            assertThat(reservationChangeFeed.getSubscriberCount()).isEqualTo(0);
+        }
+
+    }
+
+    /**
+     * Test for reservation events
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class ReservationEventTest {
+
+        @Test
+        void 正_定期予約の変更をフィードに追加() {
+            // setup
+            final var series = ReservationSeries.builder().id(SAMPLE_INT).userId(SAMPLE_INT).build();
+            final var delta = ReservationDeltaResponse.builder() //
+                .action(ReservationActionEnum.REGISTERED) //
+                .seriesId(SAMPLE_INT) //
+                .userId(SAMPLE_INT) //
+                .build();
+
+            new Expectations() {
+                {
+                    reservationConverter.toSeriesDeltaResponse(series, ReservationActionEnum.REGISTERED);
+                    result = delta;
+                }
+            };
+
+            // test
+            reservationChangeFeed.onReservationSeriesChanged(new ReservationSeriesChangedEvent(series, ReservationActionEnum.REGISTERED));
+
+            // verify
+            final var changes = reservationChangeFeed.getChangesAfter(0);
+            assertThat(changes).isPresent();
+            assertThat(changes.get()).extracting(change -> change.getDelta().getSeriesId()).containsExactly(SAMPLE_INT);
+        }
+
+        @Test
+        void 正_定期予約の回のキャンセルをフィードに追加() {
+            // setup
+            final var occurrence = new ReservationWithUserModel();
+            occurrence.setSeriesId(SAMPLE_INT);
+            occurrence.setUserId(SAMPLE_INT);
+            final var delta = ReservationDeltaResponse.builder() //
+                .action(ReservationActionEnum.DELETED) //
+                .seriesId(SAMPLE_INT) //
+                .userId(SAMPLE_INT) //
+                .build();
+
+            new Expectations() {
+                {
+                    reservationConverter.toDeltaResponse(occurrence, ReservationActionEnum.DELETED);
+                    result = delta;
+                }
+            };
+
+            // test
+            reservationChangeFeed.onReservationChanged(new ReservationChangedEvent(occurrence, ReservationActionEnum.DELETED));
+
+            // verify
+            final var changes = reservationChangeFeed.getChangesAfter(0);
+            assertThat(changes).isPresent();
+            assertThat(changes.get()).extracting(change -> change.getDelta().getAction()).containsExactly(ReservationActionEnum.DELETED);
+            assertThat(changes.get()).extracting(change -> change.getDelta().getSeriesId()).containsExactly(SAMPLE_INT);
+        }
+
+    }
+
+}
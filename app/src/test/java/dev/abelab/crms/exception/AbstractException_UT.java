@@ -0,0 +1,14 @@
+package dev.abelab.crms.exception;
+
+import dev.abelab.crms.annotation.UnitTest;
+
+/**
+ * Abstract Exception Unit Test
+ */
+@UnitTest
+public abstract class AbstractException_UT {
+
+    static final int SAMPLE_INT = 1;
+    static final String SAMPLE_STR = "SAMPLE";
+
+}
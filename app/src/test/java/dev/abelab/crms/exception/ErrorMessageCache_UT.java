@@ -0,0 +1,72 @@
+package dev.abelab.crms.exception;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+
+/**
+ * ErrorMessageCache Unit Test
+ */
+public class ErrorMessageCache_UT extends AbstractException_UT {
+
+    StaticMessageSource messageSource;
+
+    ErrorMessageCache errorMessageCache;
+
+    @BeforeEach
+    void setup() {
+        this.messageSource = new StaticMessageSource();
+        for (final var errorCode : ErrorCode.values()) {
+            this.messageSource.addMessage(errorCode.getMessageKey(), Locale.ENGLISH, errorCode.name());
+        }
+        this.errorMessageCache = new ErrorMessageCache(this.messageSource);
+    }
+
+    /**
+     * Test for get message
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class GetMessageTest {
+
+        @Test
+        void 正_起動時に解決したメッセージを返す() {
+            // setup
+            messageSource.addMessage(ErrorCode.NOT_FOUND_USER.getMessageKey(), Locale.ENGLISH, SAMPLE_STR);
+
+            // verify
+            assertThat(errorMessageCache.getMessage(new NotFoundException(ErrorCode.NOT_FOUND_USER))) //
+                .isEqualTo(ErrorCode.NOT_FOUND_USER.name());
+        }
+
+        @Test
+        void 正_ロケールごとにメッセージを解決() {
+            // setup
+            messageSource.addMessage(ErrorCode.NOT_FOUND_USER.getMessageKey(), Locale.JAPANESE, SAMPLE_STR);
+
+            // verify
+            assertThat(errorMessageCache.getMessage(ErrorCode.NOT_FOUND_USER, Locale.JAPANESE)).isEqualTo(SAMPLE_STR);
+            assertThat(errorMessageCache.getMessage(ErrorCode.NOT_FOUND_USER)).isEqualTo(ErrorCode.NOT_FOUND_USER.name());
+        }
+
+        @Test
+        void 正_引数つきのメッセージは例外ごとに解決() {
+            // setup
+            messageSource.addMessage(ErrorCode.NOT_FOUND_USER.getMessageKey(), Locale.ENGLISH, "User {0} does not exists.");
+            final var exception = new BaseException(HttpStatus.NOT_FOUND, ErrorCode.NOT_FOUND_USER, SAMPLE_STR);
+
+            // verify
+            assertThat(errorMessageCache.getMessage(exception)).isEqualTo("User " + SAMPLE_STR + " does not exists.");
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package dev.abelab.crms.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import mockit.Delegate;
+import mockit.Expectations;
+import mockit.Injectable;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.property.CrmsProperty;
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.exception.TooManyRequestsException;
+import dev.abelab.crms.exception.UnauthorizedException;
+
+public class PasswordVerificationLogic_UT extends AbstractLogic_UT {
+
+    @Injectable
+    UserLogic userLogic;
+
+    PasswordVerificationLogic passwordVerificationLogic;
+
+    @BeforeEach
+    void setup() {
+        // 1スレッドで計算し，1件まで待たせる
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getLogin().setThreads(1);
+        crmsProperty.getLogin().setQueueSize(1);
+        this.passwordVerificationLogic = new PasswordVerificationLogic(this.userLogic, crmsProperty);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.passwordVerificationLogic.shutdown();
+    }
+
+    /**
+     * Test for verify password
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class VerifyPasswordTest {
+
+        @Test
+        void 正_パスワードが一致() {
+            final var user = UserSample.builder().build();
+
+            // verify
+            assertDoesNotThrow(() -> passwordVerificationLogic.verifyPassword(user, SAMPLE_STR));
+        }
+
+        @Test
+        void 異_パスワードが間違っている() {
+            final var user = UserSample.builder().build();
+
+            new Expectations() {
+                {
+                    userLogic.verifyPassword(user, anyString);
+                    result = new UnauthorizedException(ErrorCode.WRONG_PASSWORD);
+                }
+            };
+
+            // verify
+            final var exception = assertThrows(UnauthorizedException.class, () -> passwordVerificationLogic.verifyPassword(user, SAMPLE_STR));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.WRONG_PASSWORD);
+        }
+
+        @Test
+        void 異_待ち行列が一杯なら待たずに拒否() throws Exception {
+            final var user = UserSample.builder().build();
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+
+            new Expectations() {
+                {
+                    userLogic.verifyPassword(user, anyString);
+                    result = new Delegate<Void>() {
+                        @SuppressWarnings("unused")
+                        void verifyPassword(final User user, final String password) throws InterruptedException {
+                            started.countDown();
+                            release.await();
+                        }
+                    };
+                }
+            };
+
+            // ログインを要求するスレッド
+            final var clients = Executors.newFixedThreadPool(3);
+
+            // 計算中の1件
+            final var running = CompletableFuture.runAsync(() -> passwordVerificationLogic.verifyPassword(user, SAMPLE_STR), clients);
+            started.await();
+
+            // 待ち行列に入る1件と拒否される1件
+            final var second = CompletableFuture.runAsync(() -> passwordVerificationLogic.verifyPassword(user, SAMPLE_STR), clients);
+            final var third = CompletableFuture.runAsync(() -> passwordVerificationLogic.verifyPassword(user, SAMPLE_STR), clients);
+
+            // verify
+            final var rejected = assertThrows(CompletionException.class, () -> CompletableFuture.anyOf(second, third).join());
+            assertThat(rejected.getCause()).isInstanceOf(TooManyRequestsException.class);
+            assertThat(((TooManyRequestsException) rejected.getCause()).getErrorCode()).isEqualTo(ErrorCode.LOGIN_IS_BUSY);
+
+            // 待っていた分は計算される
+            release.countDown();
+            running.join();
+            CompletableFuture.allOf(second, third).handle((result, e) -> null).join();
+            assertThat(Stream.of(second, third).filter(CompletableFuture::isCompletedExceptionally).count()).isEqualTo(1);
+            clients.shutdown();
+        }
+
+    }
+
+}
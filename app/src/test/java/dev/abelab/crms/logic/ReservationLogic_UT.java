@@ -3,6 +3,7 @@ package dev.abelab.crms.logic;
 import java.util.Date;
 import java.util.Calendar;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
@@ -14,20 +15,25 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import mockit.Expectations;
+import mockit.Verifications;
 import mockit.Injectable;
 import mockit.Tested;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.modelmapper.ModelMapper;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import dev.abelab.crms.db.entity.User;
 import dev.abelab.crms.db.entity.UserSample;
 import dev.abelab.crms.db.entity.Reservation;
 import dev.abelab.crms.db.entity.ReservationSample;
+import dev.abelab.crms.db.entity.ReservationSeriesCancellation;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.model.ReservationSeriesWithUserModel;
+import dev.abelab.crms.model.ReservationSearchConditionModel;
 import dev.abelab.crms.enums.UserRoleEnum;
-import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.repository.ReservationSeriesRepository;
 import dev.abelab.crms.util.DateTimeUtil;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.BaseException;
@@ -41,14 +47,11 @@ public class ReservationLogic_UT extends AbstractLogic_UT {
 
     static final Date YESTERDAY = DateTimeUtil.getYesterday();
 
-    @Injectable
-    UserRepository userRepository;
-
     @Injectable
     ReservationRepository reservationRepository;
 
-    @Tested
-    ModelMapper modelMapper;
+    @Injectable
+    ReservationSeriesRepository reservationSeriesRepository;
 
     @Tested
     ReservationLogic reservationLogic;
@@ -63,19 +66,8 @@ public class ReservationLogic_UT extends AbstractLogic_UT {
         @ParameterizedTest
         @MethodSource
         void 正_編集権限がある(final Reservation reservation, final User user) {
-            new Expectations() {
-                {
-                    reservationRepository.selectById(anyInt);
-                    result = reservation;
-                }
-                {
-                    userRepository.selectById(anyInt);
-                    result = user;
-                }
-            };
-
             // verify
-            assertDoesNotThrow(() -> reservationLogic.checkEditPermission(reservation.getId(), user.getId()));
+            assertDoesNotThrow(() -> reservationLogic.checkEditPermission(reservation, user));
         }
 
         Stream<Arguments> 正_編集権限がある() {
@@ -97,20 +89,9 @@ public class ReservationLogic_UT extends AbstractLogic_UT {
         @ParameterizedTest
         @MethodSource
         void 異_編集権限がない(final Reservation reservation, final User user) {
-            new Expectations() {
-                {
-                    reservationRepository.selectById(anyInt);
-                    result = reservation;
-                }
-                {
-                    userRepository.selectById(anyInt);
-                    result = user;
-                }
-            };
-
             // verify
             final var exception =
-                assertThrows(ForbiddenException.class, () -> reservationLogic.checkEditPermission(reservation.getId(), user.getId()));
+                assertThrows(ForbiddenException.class, () -> reservationLogic.checkEditPermission(reservation, user));
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.USER_HAS_NO_PERMISSION);
         }
 
@@ -176,10 +157,10 @@ public class ReservationLogic_UT extends AbstractLogic_UT {
 
             // test & verify
             if (exception == null) {
-                assertDoesNotThrow(() -> reservationLogic.validateReservationTime(startAt, finishAt, SAMPLE_INT, SAMPLE_INT));
+                assertDoesNotThrow(() -> reservationLogic.validateReservationTime(startAt, finishAt, SAMPLE_INT, 0));
             } else {
                 final var occurredException = assertThrows(exception.getClass(),
-                    () -> reservationLogic.validateReservationTime(startAt, finishAt, SAMPLE_INT, SAMPLE_INT));
+                    () -> reservationLogic.validateReservationTime(startAt, finishAt, SAMPLE_INT, 0));
                 assertThat(occurredException.getErrorCode()).isEqualTo(exception.getErrorCode());
 
             }
@@ -208,64 +189,536 @@ public class ReservationLogic_UT extends AbstractLogic_UT {
             );
         }
 
-        @ParameterizedTest
-        @MethodSource
-        void 異_同時刻は既に予約済み(final int startHour, final int finishHour) {
+        @Test
+        void 異_同時刻は既に予約済み() {
+            new Expectations() {
+                {
+                    reservationRepository.existsByCondition((ReservationSearchConditionModel) any);
+                    result = true;
+                }
+            };
+
+            // verify
+            final var startAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12);
+            final var finishAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14);
+            final var exception =
+                assertThrows(ConflictException.class, () -> reservationLogic.validateReservationTime(startAt, finishAt, SAMPLE_INT, 0));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+
+        @Test
+        void 異_過去の予約は更新不可() {
             final var reservation = ReservationSample.builder() //
-                .userId(SAMPLE_INT) //
-                .startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12)) //
-                .finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14)) //
+                .id(SAMPLE_INT) //
+                .startAt(DateTimeUtil.editDateTime(YESTERDAY, Calendar.HOUR_OF_DAY, 12)) //
+                .finishAt(DateTimeUtil.editDateTime(YESTERDAY, Calendar.HOUR_OF_DAY, 14)) //
                 .build();
 
             new Expectations() {
                 {
-                    reservationRepository.selectByUserId(anyInt);
-                    result = List.of(reservation);
+                    reservationRepository.selectById(anyInt);
+                    result = reservation;
+                }
+            };
+
+            // verify
+            final var startAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12);
+            final var finishAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14);
+            final var exception = assertThrows(BadRequestException.class,
+                () -> reservationLogic.validateReservationTime(startAt, finishAt, SAMPLE_INT, reservation.getId()));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PAST_RESERVATION_CANNOT_BE_CHANGED);
+        }
+
+    }
+
+    /**
+     * Test for exists overlapping
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class ExistsOverlappingTest {
+
+        @ParameterizedTest
+        @MethodSource
+        void 正_重複判定の検索条件(final int excludeId, final Integer expectedExcludeId) {
+            final var startAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12);
+            final var finishAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14);
+
+            new Expectations() {
+                {
+                    reservationRepository.existsByCondition((ReservationSearchConditionModel) any);
+                    result = true;
                 }
             };
 
+            // test
+            assertThat(reservationLogic.existsOverlapping(SAMPLE_INT, startAt, finishAt, excludeId)).isTrue();
+
             // verify
+            new Verifications() {
+                {
+                    ReservationSearchConditionModel condition;
+                    reservationRepository.existsByCondition(condition = withCapture());
+                    // start_at < finishAt and finish_at > startAt
+                    assertThat(condition.getUserId()).isEqualTo(SAMPLE_INT);
+                    assertThat(condition.getFrom()).isEqualTo(startAt);
+                    assertThat(condition.getTo()).isEqualTo(finishAt);
+                    assertThat(condition.getMinStartAt()).isBefore(startAt);
+                    assertThat(condition.getExcludeId()).isEqualTo(expectedExcludeId);
+                    assertThat(condition.getLimit()).isNull();
+                }
+            };
+        }
+
+        Stream<Arguments> 正_重複判定の検索条件() {
+            return Stream.of(
+                // 予約作成時
+                arguments(0, null),
+                // 予約更新時は自身を除外
+                arguments(SAMPLE_INT, SAMPLE_INT));
+        }
+
+        @ParameterizedTest
+        @MethodSource
+        void 正_予約リストとの重複判定(final int startHour, final int finishHour, final boolean excludesSelf, final boolean expected) {
+            // setup
+            final var reservations = List.of( //
+                ReservationSample.builder() //
+                    .startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 10)) //
+                    .finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12)) //
+                    .build(), //
+                ReservationSample.builder() //
+                    .startAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14)) //
+                    .finishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 16)) //
+                    .build() //
+            );
             final var startAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, startHour);
             final var finishAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, finishHour);
-            final var exception =
-                assertThrows(ConflictException.class, () -> reservationLogic.validateReservationTime(startAt, finishAt, SAMPLE_INT, 0));
-            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONFLICT_RESERVATION_TIME);
+            final var excluded = excludesSelf ? reservations.get(0) : null;
+
+            // test
+            assertThat(reservationLogic.existsOverlapping(reservations, startAt, finishAt, excluded)).isEqualTo(expected);
+
+            // verify
+            new Verifications() {
+                {
+                    reservationRepository.existsByCondition((ReservationSearchConditionModel) any);
+                    times = 0;
+                }
+            };
+        }
+
+        @Test
+        void 正_定期予約の回と重複() {
+            final var startAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 12);
+            final var finishAt = DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 14);
+
+            // 毎週13:00~15:00の定期予約
+            final var series = new ReservationSeriesWithUserModel(UserSample.builder().build());
+            series.setId(SAMPLE_INT);
+            series.setUserId(SAMPLE_INT);
+            series.setStartAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 13));
+            series.setFinishAt(DateTimeUtil.editDateTime(TOMORROW, Calendar.HOUR_OF_DAY, 15));
+            series.setUntilAt(DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 28));
+
+            new Expectations() {
+                {
+                    reservationRepository.existsByCondition((ReservationSearchConditionModel) any);
+                    result = false;
+                    reservationSeriesRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(series);
+                }
+            };
+
+            // test
+            assertThat(reservationLogic.existsOverlapping(SAMPLE_INT, startAt, finishAt, 0)).isTrue();
         }
 
-        Stream<Arguments> 異_同時刻は既に予約済み() {
+        Stream<Arguments> 正_予約リストとの重複判定() {
             return Stream.of(
-                // 開始時刻が重複
-                arguments(13, 15),
-                // 終了時刻が重複
-                arguments(11, 13),
-                // 開始時刻，終了時刻共に重複
-                arguments(13, 14));
+                // 重複
+                arguments(11, 13, false, true), //
+                arguments(9, 17, false, true), //
+                // 隣接する予約とは重複しない
+                arguments(12, 14, false, false), //
+                arguments(16, 18, false, false), //
+                // 自身は除外
+                arguments(11, 13, true, false), //
+                arguments(11, 15, true, true));
         }
 
     }
 
     /**
-     * Test for get with user
+     * Test for expand series
      */
     @Nested
     @TestInstance(PER_CLASS)
-    class GetWithUserTest {
+    class ExpandSeriesTest {
+
+        final Date BASE_DAY = DateTimeUtil.getStartOfDay(TOMORROW);
+
+        /**
+         * 基準日からn日後のh時を取得
+         */
+        Date at(final int days, final int hour) {
+            return DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.addDateTime(BASE_DAY, Calendar.DAY_OF_MONTH, days), hour, 0);
+        }
+
+        /**
+         * 毎週10:00~12:00の定期予約を作成
+         */
+        ReservationSeriesWithUserModel buildSeries(final Date untilAt) {
+            final var series = new ReservationSeriesWithUserModel(UserSample.builder().build());
+            series.setId(SAMPLE_INT);
+            series.setUserId(SAMPLE_INT);
+            series.setStartAt(at(0, 10));
+            series.setFinishAt(at(0, 12));
+            series.setUntilAt(untilAt);
+            return series;
+        }
 
         @Test
-        void 正_予約からユーザを取得() {
-            final var user = UserSample.builder().build();
-            final var reservation = ReservationSample.builder().userId(SAMPLE_INT).build();
+        void 正_期間内の回のみ展開() {
+            final var series = buildSeries(at(28, 10));
+
+            // test
+            final var occurrences = reservationLogic.expandSeries(List.of(series), at(7, 0), at(21, 0));
+
+            // verify
+            assertThat(occurrences) //
+                .extracting(ReservationWithUserModel::getStartAt, ReservationWithUserModel::getFinishAt, ReservationWithUserModel::getSeriesId) //
+                .containsExactly( //
+                    tuple(at(7, 10), at(7, 12), SAMPLE_INT), //
+                    tuple(at(14, 10), at(14, 12), SAMPLE_INT));
+            assertThat(occurrences).allMatch(occurrence -> occurrence.getId() == null);
+        }
+
+        @Test
+        void 正_期間の境界と重なる回を含む() {
+            final var series = buildSeries(at(28, 10));
+
+            // test
+            final var occurrences = reservationLogic.expandSeries(List.of(series), at(7, 11), at(14, 11));
+
+            // verify
+            assertThat(occurrences).extracting(ReservationWithUserModel::getStartAt).containsExactly(at(7, 10), at(14, 10));
+        }
+
+        @Test
+        void 正_最終日より後の回は展開しない() {
+            final var series = buildSeries(at(7, 10));
+
+            // test
+            final var occurrences = reservationLogic.expandSeries(List.of(series), at(0, 0), at(28, 0));
+
+            // verify
+            assertThat(occurrences).extracting(ReservationWithUserModel::getStartAt).containsExactly(at(0, 10), at(7, 10));
+        }
+
+        @Test
+        void 正_キャンセルした回は展開しない() {
+            final var series = buildSeries(at(28, 10));
+
+            new Expectations() {
+                {
+                    reservationSeriesRepository.selectCancellations(List.of(SAMPLE_INT), (Date) any, (Date) any);
+                    result = List.of(ReservationSeriesCancellation.builder().seriesId(SAMPLE_INT).occurrenceAt(at(7, 10)).build());
+                }
+            };
+
+            // test
+            final var occurrences = reservationLogic.expandSeries(List.of(series), at(0, 0), at(28, 0));
+
+            // verify
+            assertThat(occurrences).extracting(ReservationWithUserModel::getStartAt).containsExactly(at(0, 10), at(14, 10), at(21, 10));
+        }
+
+        @Test
+        void 正_カーソルより後の回のみ取得() {
+            final var series = buildSeries(at(21, 10));
+            final var condition = ReservationSearchConditionModel.builder() //
+                .afterStartAt(at(7, 10)) //
+                .afterSeriesId(SAMPLE_INT) //
+                .build();
+
+            new Expectations() {
+                {
+                    reservationSeriesRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(series);
+                }
+            };
+
+            // test
+            final var occurrences = reservationLogic.getSeriesOccurrences(condition, List.of());
+
+            // verify
+            assertThat(occurrences).extracting(ReservationWithUserModel::getStartAt).containsExactly(at(14, 10), at(21, 10));
+        }
+
+        @Test
+        void 正_1ページ分の予約より後の回は展開しない() {
+            final var series = buildSeries(at(21, 10));
+            final var condition = ReservationSearchConditionModel.builder().limit(2).build();
+            final var reservations = List.of(buildReservation(at(3, 10)), buildReservation(at(7, 10)));
 
             new Expectations() {
                 {
-                    userRepository.selectById(anyInt);
-                    result = user;
+                    reservationSeriesRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(series);
                 }
             };
 
+            // test
+            final var occurrences = reservationLogic.getSeriesOccurrences(condition, reservations);
+
             // verify
-            final var reservationWithUser = reservationLogic.getWithUser(reservation);
-            assertThat(reservationWithUser.getUser()).isEqualTo(user);
+            // 同時刻の回は単発の予約より後に並ぶため，末尾の予約と同時刻の回も展開しない
+            assertThat(occurrences).extracting(ReservationWithUserModel::getStartAt).containsExactly(at(0, 10));
+        }
+
+        /**
+         * 単発の予約を作成
+         */
+        ReservationWithUserModel buildReservation(final Date startAt) {
+            final var reservation = new ReservationWithUserModel(UserSample.builder().build());
+            reservation.setId(SAMPLE_INT);
+            reservation.setStartAt(startAt);
+            reservation.setFinishAt(DateTimeUtil.addDateTime(startAt, Calendar.HOUR_OF_DAY, 1));
+            return reservation;
+        }
+
+    }
+
+    /**
+     * Test for validate reservation series
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class ValidateReservationSeriesTest {
+
+        final Date BASE_DAY = DateTimeUtil.getStartOfDay(TOMORROW);
+
+        /**
+         * 基準日からn日後のh時を取得
+         */
+        Date at(final int days, final int hour) {
+            return DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.addDateTime(BASE_DAY, Calendar.DAY_OF_MONTH, days), hour, 0);
+        }
+
+        /**
+         * 毎週10:00~12:00の定期予約を作成
+         */
+        ReservationSeriesWithUserModel buildSeries(final Date untilAt) {
+            final var series = new ReservationSeriesWithUserModel(UserSample.builder().build());
+            series.setUserId(SAMPLE_INT);
+            series.setStartAt(at(0, 10));
+            series.setFinishAt(at(0, 12));
+            series.setUntilAt(untilAt);
+            return series;
+        }
+
+        @Test
+        void 正_重複する予約がない() {
+            final var series = buildSeries(at(28, 10));
+
+            new Expectations() {
+                {
+                    reservationRepository.selectByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(ReservationSample.builder().startAt(at(14, 12)).finishAt(at(14, 14)).build());
+                }
+            };
+
+            // test & verify
+            assertDoesNotThrow(() -> reservationLogic.validateReservationSeries(series));
+
+            // 定期予約の期間の予約を一度だけ取得する
+            new Verifications() {
+                {
+                    ReservationSearchConditionModel condition;
+                    reservationRepository.selectByCondition(condition = withCapture());
+                    times = 1;
+                    assertThat(condition.getUserId()).isEqualTo(SAMPLE_INT);
+                    assertThat(condition.getFrom()).isEqualTo(at(0, 10));
+                    assertThat(condition.getTo()).isEqualTo(at(28, 12));
+                }
+            };
+        }
+
+        @ParameterizedTest
+        @MethodSource
+        void 異_定期予約の期間が無効(final int untilDays) {
+            final var series = buildSeries(at(untilDays, 10));
+
+            // test & verify
+            final var exception = assertThrows(BadRequestException.class, () -> reservationLogic.validateReservationSeries(series));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_RESERVATION_SERIES_PERIOD);
+        }
+
+        Stream<Arguments> 異_定期予約の期間が無効() {
+            return Stream.of(
+                // 最終日が初回より前
+                arguments(-1), //
+                // 最大期間を超えている
+                arguments(7 * 52 + 1));
+        }
+
+        @Test
+        void 異_いずれかの回が予約と重複() {
+            final var series = buildSeries(at(28, 10));
+
+            new Expectations() {
+                {
+                    reservationRepository.selectByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(ReservationSample.builder().startAt(at(21, 11)).finishAt(at(21, 13)).build());
+                }
+            };
+
+            // test & verify
+            final var exception = assertThrows(ConflictException.class, () -> reservationLogic.validateReservationSeries(series));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+
+        @Test
+        void 異_いずれかの回が他の定期予約の回と重複() {
+            final var series = buildSeries(at(28, 10));
+
+            // 2週目から始まる毎週11:00~13:00の定期予約
+            final var otherSeries = new ReservationSeriesWithUserModel(UserSample.builder().build());
+            otherSeries.setId(SAMPLE_INT);
+            otherSeries.setUserId(SAMPLE_INT);
+            otherSeries.setStartAt(at(7, 11));
+            otherSeries.setFinishAt(at(7, 13));
+            otherSeries.setUntilAt(at(7, 11));
+
+            new Expectations() {
+                {
+                    reservationSeriesRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(otherSeries);
+                }
+            };
+
+            // test & verify
+            final var exception = assertThrows(ConflictException.class, () -> reservationLogic.validateReservationSeries(series));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONFLICT_RESERVATION_TIME);
+        }
+
+    }
+
+    /**
+     * Test for build search condition
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class BuildSearchConditionTest {
+
+        @Test
+        void 正_予約検索条件を作成() {
+            final var from = DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 0, 0);
+            final var to = DateTimeUtil.addDateTime(from, Calendar.DAY_OF_MONTH, 7);
+            final var afterReservation = new ReservationWithUserModel();
+            afterReservation.setId(SAMPLE_INT);
+            afterReservation.setStartAt(TOMORROW);
+            final var cursor = reservationLogic.encodeCursor(afterReservation);
+
+            // verify
+            final var condition = reservationLogic.buildSearchCondition(from, to, SAMPLE_INT, cursor, 10);
+            assertThat(condition.getFrom()).isEqualTo(from);
+            assertThat(condition.getTo()).isEqualTo(to);
+            assertThat(condition.getMinStartAt()).isEqualTo(DateTimeUtil.addDateTime(from, Calendar.HOUR_OF_DAY, -12));
+            assertThat(condition.getUserId()).isEqualTo(SAMPLE_INT);
+            assertThat(condition.getAfterStartAt()).isEqualTo(afterReservation.getStartAt());
+            assertThat(condition.getAfterId()).isEqualTo(afterReservation.getId());
+            assertThat(condition.getLimit()).isEqualTo(11);
+        }
+
+        @Test
+        void 正_カーソルの予約が削除されていても次ページを取得できる() {
+            // setup
+            final var afterReservation = new ReservationWithUserModel();
+            afterReservation.setId(SAMPLE_INT);
+            afterReservation.setStartAt(TOMORROW);
+            final var cursor = reservationLogic.encodeCursor(afterReservation);
+
+            // test
+            final var condition = reservationLogic.buildSearchCondition(null, null, null, cursor, 10);
+
+            // verify
+            assertThat(condition.getAfterStartAt()).isEqualTo(afterReservation.getStartAt());
+            assertThat(condition.getAfterId()).isEqualTo(afterReservation.getId());
+            new Verifications() {
+                {
+                    reservationRepository.selectById(anyInt);
+                    times = 0;
+                }
+            };
+        }
+
+        @Test
+        void 正_定期予約の回をカーソルにできる() {
+            // setup
+            final var afterOccurrence = new ReservationWithUserModel();
+            afterOccurrence.setSeriesId(SAMPLE_INT);
+            afterOccurrence.setStartAt(TOMORROW);
+            final var cursor = reservationLogic.encodeCursor(afterOccurrence);
+
+            // test
+            final var condition = reservationLogic.buildSearchCondition(null, null, null, cursor, 10);
+
+            // verify
+            assertThat(condition.getAfterStartAt()).isEqualTo(TOMORROW);
+            assertThat(condition.getAfterId()).isNull();
+            assertThat(condition.getAfterSeriesId()).isEqualTo(SAMPLE_INT);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "invalid", "MTIzNDU", "YWJjOjE", "!!!"})
+        void 異_無効なカーソル(final String cursor) {
+            // verify
+            final var exception =
+                assertThrows(BadRequestException.class, () -> reservationLogic.buildSearchCondition(null, null, null, cursor, 10));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+
+        @Test
+        void 正_条件を指定しない場合は全件() {
+            // verify
+            final var condition = reservationLogic.buildSearchCondition(null, null, null, null, null);
+            assertThat(condition).hasAllNullFieldsOrProperties();
+        }
+
+        @ParameterizedTest
+        @MethodSource
+        void 異_無効な期間(final Date from, final Date to) {
+            // verify
+            final var exception =
+                assertThrows(BadRequestException.class, () -> reservationLogic.buildSearchCondition(from, to, null, null, null));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_SEARCH_PERIOD);
+        }
+
+        Stream<Arguments> 異_無効な期間() {
+            return Stream.of(
+                // 開始日時と終了日時が同じ
+                arguments(TOMORROW, TOMORROW),
+                // 開始日時よりも前に終了日時が設定されている
+                arguments(TOMORROW, YESTERDAY));
+        }
+
+        @ParameterizedTest
+        @MethodSource
+        void 異_無効な取得件数(final int limit) {
+            // verify
+            final var exception =
+                assertThrows(BadRequestException.class, () -> reservationLogic.buildSearchCondition(null, null, null, null, limit));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_PAGE_LIMIT);
+        }
+
+        Stream<Arguments> 異_無効な取得件数() {
+            return Stream.of(
+                // 0件
+                arguments(0),
+                // 上限超過
+                arguments(1001));
         }
 
     }
@@ -277,42 +730,94 @@ public class ReservationLogic_UT extends AbstractLogic_UT {
     @TestInstance(PER_CLASS)
     class GetNextDayReservationsTest {
 
+        final Date DAY_AFTER_TOMORROW = DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 1);
+
+        /**
+         * 予約（+ユーザ）を作成
+         */
+        ReservationWithUserModel buildReservation(final User user, final Integer id, final Date startAt, final Date finishAt) {
+            final var reservation = new ReservationWithUserModel(user);
+            reservation.setId(id);
+            reservation.setUserId(user.getId());
+            reservation.setStartAt(startAt);
+            reservation.setFinishAt(finishAt);
+            return reservation;
+        }
+
         @Test
         void 正_翌日の予約一覧を取得() {
             final var user = UserSample.builder().build();
 
-            // 予約一覧
-            final var dayAfterTOMORROW = DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, 1);
-            final List<Reservation> reservations = List.of( //
-                // 過去の予約
-                ReservationSample.builder().id(1).userId(user.getId()).startAt(YESTERDAY).finishAt(YESTERDAY).build(), //
-                ReservationSample.builder().id(2).userId(user.getId()).startAt(YESTERDAY).finishAt(YESTERDAY).build(), //
-                // 翌日の予約
-                ReservationSample.builder().id(3).userId(user.getId()).startAt(TOMORROW).finishAt(TOMORROW).build(), //
-                ReservationSample.builder().id(4).userId(user.getId()).startAt(TOMORROW).finishAt(TOMORROW).build(), //
-                // 翌日以降の予約
-                ReservationSample.builder().id(5).userId(user.getId()).startAt(dayAfterTOMORROW).finishAt(TOMORROW).build(), //
-                ReservationSample.builder().id(6).userId(user.getId()).startAt(dayAfterTOMORROW).finishAt(TOMORROW).build() //
+            // 翌日に開始する予約
+            final var reservations = List.of( //
+                buildReservation(user, 1, DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 13, 0),
+                    DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 15, 0)), //
+                buildReservation(user, 2, DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 9, 0),
+                    DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 11, 0)) //
             );
 
+            // 翌日の10:00~12:00から毎週の定期予約
+            final var series = new ReservationSeriesWithUserModel(user);
+            series.setId(SAMPLE_INT);
+            series.setUserId(user.getId());
+            series.setStartAt(DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 10, 0));
+            series.setFinishAt(DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 12, 0));
+            series.setUntilAt(DateTimeUtil.addDateTime(series.getStartAt(), Calendar.DAY_OF_MONTH, 28));
+
             new Expectations() {
                 {
-                    reservationRepository.findAll();
+                    reservationRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
                     result = reservations;
                 }
                 {
-                    userRepository.selectById(anyInt);
-                    result = user;
+                    reservationSeriesRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(series);
                 }
             };
 
             // verify
             assertThat(reservationLogic.getNextDayReservations()) //
-                .extracting("id", "user") //
-                .containsExactlyInAnyOrder( //
-                    tuple(reservations.get(2).getId(), user), //
-                    tuple(reservations.get(3).getId(), user) //
+                .extracting(ReservationWithUserModel::getId, ReservationWithUserModel::getSeriesId, ReservationWithUserModel::getStartAt) //
+                .containsExactly( //
+                    tuple(2, null, DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 9, 0)), //
+                    tuple(null, SAMPLE_INT, DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 10, 0)), //
+                    tuple(1, null, DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 13, 0)) //
                 );
+
+            // 翌日に開始する予約のみを検索する
+            new Verifications() {
+                {
+                    ReservationSearchConditionModel condition;
+                    reservationRepository.selectWithUserByCondition(condition = withCapture());
+                    times = 1;
+                    assertThat(condition.getMinStartAt()).isEqualTo(TOMORROW);
+                    assertThat(condition.getTo()).isEqualTo(DAY_AFTER_TOMORROW);
+                    assertThat(condition.getUserId()).isNull();
+                }
+            };
+        }
+
+        @Test
+        void 正_前日から続く定期予約の回を除く() {
+            final var user = UserSample.builder().build();
+
+            // 本日22:00~翌日1:00から毎週の定期予約
+            final var series = new ReservationSeriesWithUserModel(user);
+            series.setId(SAMPLE_INT);
+            series.setUserId(user.getId());
+            series.setStartAt(DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.getToday(), 22, 0));
+            series.setFinishAt(DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, 1, 0));
+            series.setUntilAt(DateTimeUtil.addDateTime(series.getStartAt(), Calendar.DAY_OF_MONTH, 28));
+
+            new Expectations() {
+                {
+                    reservationSeriesRepository.selectWithUserByCondition((ReservationSearchConditionModel) any);
+                    result = List.of(series);
+                }
+            };
+
+            // verify
+            assertThat(reservationLogic.getNextDayReservations()).isEmpty();
         }
 
     }
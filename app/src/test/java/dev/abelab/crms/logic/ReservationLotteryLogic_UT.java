@@ -0,0 +1,156 @@
+package dev.abelab.crms.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import mockit.Tested;
+
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.model.LotteryResultModel;
+import dev.abelab.crms.model.ReservationWithUserModel;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * ReservationLotteryLogic Unit Test
+ */
+public class ReservationLotteryLogic_UT extends AbstractLogic_UT {
+
+    static final Date TOMORROW = DateTimeUtil.getTomorrow();
+
+    /**
+     * シードを変えて抽選する回数
+     */
+    static final int DRAW_COUNT = 1000;
+
+    @Tested
+    ReservationLotteryLogic reservationLotteryLogic;
+
+    /**
+     * 翌日のh時を取得
+     */
+    static Date at(final int hour) {
+        return DateTimeUtil.editDateTimeHourAndMinute(TOMORROW, hour, 0);
+    }
+
+    /**
+     * 予約を作成
+     */
+    static ReservationWithUserModel buildReservation(final int id, final int userId, final int startHour, final int finishHour) {
+        final var reservation = new ReservationWithUserModel(UserSample.builder().id(userId).build());
+        reservation.setId(id);
+        reservation.setUserId(userId);
+        reservation.setStartAt(at(startHour));
+        reservation.setFinishAt(at(finishHour));
+        return reservation;
+    }
+
+    /**
+     * 当選した予約が互いに重ならず，落選した予約はいずれかの当選した予約と重なることを検証
+     */
+    static void assertAllocated(final List<ReservationWithUserModel> requests, final LotteryResultModel result) {
+        final var winners = result.getWinners();
+        final var losers = result.getLosers();
+        assertThat(winners.size() + losers.size()).isEqualTo(requests.size());
+        assertThat(winners).doesNotContainAnyElementsOf(losers);
+
+        for (int i = 0; i < winners.size(); i++) {
+            for (int j = i + 1; j < winners.size(); j++) {
+                assertThat(overlaps(winners.get(i), winners.get(j))).isFalse();
+            }
+        }
+        losers.forEach(loser -> assertThat(winners).anyMatch(winner -> overlaps(winner, loser)));
+    }
+
+    static boolean overlaps(final ReservationWithUserModel a, final ReservationWithUserModel b) {
+        return a.getStartAt().before(b.getFinishAt()) && b.getStartAt().before(a.getFinishAt());
+    }
+
+    /**
+     * 予約抽選のテスト
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class DrawTest {
+
+        @Test
+        void 正_重ならない予約は全て当選() {
+            final var requests = List.of( //
+                buildReservation(1, 1, 9, 11), //
+                buildReservation(2, 2, 11, 13), //
+                buildReservation(3, 3, 14, 15) //
+            );
+
+            // test
+            final var result = reservationLotteryLogic.draw(requests, SAMPLE_INT);
+
+            // verify
+            assertThat(result.getWinners()).extracting(ReservationWithUserModel::getId).containsExactly(1, 2, 3);
+            assertThat(result.getLosers()).isEmpty();
+        }
+
+        @Test
+        void 正_重なる予約は当選した予約と重ならないもののみ当選() {
+            final var requests = List.of( //
+                buildReservation(1, 1, 10, 12), //
+                buildReservation(2, 2, 11, 13), //
+                buildReservation(3, 3, 12, 14), //
+                buildReservation(4, 4, 9, 22), //
+                buildReservation(5, 1, 18, 20), //
+                buildReservation(6, 2, 19, 21) //
+            );
+
+            // verify
+            LongStream.range(0, DRAW_COUNT).forEach(seed -> assertAllocated(requests, reservationLotteryLogic.draw(requests, seed)));
+        }
+
+        @Test
+        void 正_同じシードなら入力順によらず同じ結果() {
+            final var requests = new ArrayList<>(List.of( //
+                buildReservation(1, 1, 10, 12), //
+                buildReservation(2, 2, 11, 13), //
+                buildReservation(3, 3, 12, 14), //
+                buildReservation(4, 4, 11, 12) //
+            ));
+            final var expected = reservationLotteryLogic.draw(requests, SAMPLE_INT);
+
+            // test
+            Collections.reverse(requests);
+            final var result = reservationLotteryLogic.draw(requests, SAMPLE_INT);
+
+            // verify
+            assertThat(result.getWinners()).containsExactlyElementsOf(expected.getWinners());
+            assertThat(result.getLosers()).containsExactlyElementsOf(expected.getLosers());
+        }
+
+        @Test
+        void 正_希望時間の少ないユーザを優先() {
+            // ユーザ1は1時間，ユーザ2は合計6時間を希望
+            final var requests = List.of( //
+                buildReservation(1, 1, 10, 11), //
+                buildReservation(2, 2, 10, 11), //
+                buildReservation(3, 2, 12, 17) //
+            );
+
+            // test
+            final var wins = LongStream.range(0, DRAW_COUNT) //
+                .filter(seed -> reservationLotteryLogic.draw(requests, seed).getWinners().stream()
+                    .anyMatch(reservation -> reservation.getId() == 1)) //
+                .count();
+
+            // verify
+            // 重みは6:1なので，ユーザ1はおよそ6/7の確率で当選する
+            assertThat(wins).isBetween(780L, 930L);
+        }
+
+    }
+
+}
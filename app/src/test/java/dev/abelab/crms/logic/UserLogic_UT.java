@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
 import static org.junit.jupiter.params.provider.Arguments.*;
 import static org.mockito.ArgumentMatchers.*;
 
+import java.util.Collections;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Nested;
@@ -17,10 +19,16 @@ import org.junit.jupiter.params.provider.MethodSource;
 import mockit.Expectations;
 import mockit.Injectable;
 import mockit.Tested;
+import mockit.Verifications;
 
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.cache.AccessTokenCache;
 import dev.abelab.crms.enums.UserRoleEnum;
 import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.property.JwtProperty;
@@ -41,6 +49,9 @@ public class UserLogic_UT extends AbstractLogic_UT {
     @Injectable
     PasswordEncoder passwordEncoder;
 
+    @Injectable
+    AccessTokenCache accessTokenCache;
+
     @Tested
     UserLogic userLogic;
 
@@ -56,15 +67,8 @@ public class UserLogic_UT extends AbstractLogic_UT {
             // setup
             final var user = UserSample.builder().roleId(UserRoleEnum.ADMIN.getId()).build();
 
-            new Expectations() {
-                {
-                    userRepository.selectById(anyInt);
-                    result = user;
-                }
-            };
-
             // verify
-            assertDoesNotThrow(() -> userLogic.checkAdmin(user.getId()));
+            assertDoesNotThrow(() -> userLogic.checkAdmin(user));
         }
 
         @Test
@@ -72,15 +76,8 @@ public class UserLogic_UT extends AbstractLogic_UT {
             // setup
             final var user = UserSample.builder().roleId(UserRoleEnum.MEMBER.getId()).build();
 
-            new Expectations() {
-                {
-                    userRepository.selectById(anyInt);
-                    result = user;
-                }
-            };
-
             // verify
-            final var exception = assertThrows(ForbiddenException.class, () -> userLogic.checkAdmin(user.getId()));
+            final var exception = assertThrows(ForbiddenException.class, () -> userLogic.checkAdmin(user));
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.USER_HAS_NO_PERMISSION);
         }
 
@@ -149,6 +146,57 @@ public class UserLogic_UT extends AbstractLogic_UT {
             assertThat(loginUser.getId()).isEqualTo(user.getId());
         }
 
+        @Test
+        void 正_検証済みの資格情報はキャッシュから取得() {
+            // setup
+            final var user = UserSample.builder().roleId(UserRoleEnum.ADMIN.getId()).build();
+
+            new Expectations() {
+                {
+                    accessTokenCache.getUserId(anyString);
+                    result = Optional.of(user.getId());
+                }
+                {
+                    accessTokenCache.getUser(anyString);
+                    result = Optional.of(user);
+                }
+                {
+                    jwtProperty.getSecret();
+                    times = 0;
+                }
+                {
+                    userRepository.selectById(anyInt);
+                    times = 0;
+                }
+            };
+
+            // verify
+            final var loginUser = userLogic.getLoginUser("Bearer " + SAMPLE_STR);
+            assertThat(loginUser.getId()).isEqualTo(user.getId());
+        }
+
+        @Test
+        void 正_SecurityContextからログインユーザを取得() {
+            // setup
+            final var user = UserSample.builder().build();
+            SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, SAMPLE_STR, Collections.emptyList()));
+
+            // verify
+            try {
+                assertThat(userLogic.getLoginUser()).isEqualTo(user);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+        @Test
+        void 異_SecurityContextが未認証() {
+            // verify
+            final var exception = assertThrows(UnauthorizedException.class, () -> userLogic.getLoginUser());
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+
         @ParameterizedTest
         @MethodSource
         void 異_不正な認証の種類(final String credentials, final BaseException exception) {
@@ -215,6 +263,48 @@ public class UserLogic_UT extends AbstractLogic_UT {
 
             // verify
             assertDoesNotThrow(() -> userLogic.verifyPassword(user, anyString()));
+            new Verifications() {
+                {
+                    userRepository.updatePassword(anyInt, anyString);
+                    times = 0;
+                }
+            };
+        }
+
+        @Test
+        void 正_設定と異なる形式のハッシュは計算し直して保存() {
+            final var user = UserSample.builder().roleId(UserRoleEnum.ADMIN.getId()).password("legacy").build();
+
+            new Expectations() {
+                {
+                    passwordEncoder.matches(SAMPLE_STR, "legacy");
+                    result = true;
+                }
+                {
+                    passwordEncoder.upgradeEncoding("legacy");
+                    result = true;
+                }
+                {
+                    passwordEncoder.encode(SAMPLE_STR);
+                    result = "upgraded";
+                }
+            };
+
+            // test
+            userLogic.verifyPassword(user, SAMPLE_STR);
+
+            // verify
+            new Verifications() {
+                {
+                    userRepository.updatePassword(user.getId(), "upgraded");
+                    times = 1;
+                }
+                {
+                    accessTokenCache.invalidateUser(user.getId());
+                    times = 1;
+                }
+            };
+            assertThat(user.getPassword()).isEqualTo("upgraded");
         }
 
         @Test
@@ -236,4 +326,41 @@ public class UserLogic_UT extends AbstractLogic_UT {
 
     }
 
+    /**
+     * Test for evict login user
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class EvictLoginUserTest {
+
+        @Test
+        void 正_コミット後にも破棄() {
+            // setup
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // test
+                userLogic.evictLoginUser(SAMPLE_INT);
+                new Verifications() {
+                    {
+                        accessTokenCache.invalidateUser(SAMPLE_INT);
+                        times = 1;
+                    }
+                };
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // verify
+            new Verifications() {
+                {
+                    accessTokenCache.invalidateUser(SAMPLE_INT);
+                    times = 2;
+                }
+            };
+        }
+
+    }
+
 }
@@ -0,0 +1,14 @@
+package dev.abelab.crms.ratelimit;
+
+import dev.abelab.crms.annotation.UnitTest;
+
+/**
+ * Abstract Rate Limit Unit Test
+ */
+@UnitTest
+public abstract class AbstractRateLimit_UT {
+
+    static final int SAMPLE_INT = 1;
+    static final String SAMPLE_STR = "SAMPLE";
+
+}
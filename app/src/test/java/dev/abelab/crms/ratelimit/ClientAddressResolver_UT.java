@@ -0,0 +1,85 @@
+package dev.abelab.crms.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * ClientAddressResolver Unit Test
+ */
+public class ClientAddressResolver_UT extends AbstractRateLimit_UT {
+
+    static final String PROXY_ADDRESS = "10.0.0.1";
+
+    static final String CLIENT_ADDRESS = "192.0.2.1";
+
+    ClientAddressResolver clientAddressResolver;
+
+    @BeforeEach
+    void setup() {
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getLogin().setTrustedProxies(List.of(PROXY_ADDRESS));
+        this.clientAddressResolver = new ClientAddressResolver(crmsProperty);
+    }
+
+    /**
+     * リクエストを作成
+     */
+    static MockHttpServletRequest request(final String remoteAddress, final String forwardedFor) {
+        final var request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        if (forwardedFor != null) {
+            request.addHeader(ClientAddressResolver.FORWARDED_FOR_HEADER, forwardedFor);
+        }
+        return request;
+    }
+
+    /**
+     * Test for resolve
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class ResolveTest {
+
+        @Test
+        void 正_信頼するプロキシからはX_Forwarded_Forのクライアントを使う() {
+            // verify
+            assertThat(clientAddressResolver.resolve(request(PROXY_ADDRESS, CLIENT_ADDRESS))).isEqualTo(CLIENT_ADDRESS);
+        }
+
+        @Test
+        void 正_クライアントが付けたX_Forwarded_Forは無視する() {
+            // verify
+            assertThat(clientAddressResolver.resolve(request(PROXY_ADDRESS, "198.51.100.1, " + CLIENT_ADDRESS))).isEqualTo(CLIENT_ADDRESS);
+        }
+
+        @Test
+        void 正_複数の信頼するプロキシを経由() {
+            // verify
+            assertThat(clientAddressResolver.resolve(request(PROXY_ADDRESS, CLIENT_ADDRESS + ", " + PROXY_ADDRESS))).isEqualTo(CLIENT_ADDRESS);
+        }
+
+        @Test
+        void 異_信頼しない接続元のX_Forwarded_Forは使わない() {
+            // verify
+            assertThat(clientAddressResolver.resolve(request(CLIENT_ADDRESS, "198.51.100.1"))).isEqualTo(CLIENT_ADDRESS);
+        }
+
+        @Test
+        void 正_X_Forwarded_Forがなければ接続元を使う() {
+            // verify
+            assertThat(clientAddressResolver.resolve(request(PROXY_ADDRESS, null))).isEqualTo(PROXY_ADDRESS);
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package dev.abelab.crms.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import dev.abelab.crms.exception.ErrorCode;
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * ErrorLogRateLimiter Unit Test
+ */
+public class ErrorLogRateLimiter_UT extends AbstractRateLimit_UT {
+
+    static final int MAX_PER_SECOND = 3;
+
+    static final long NOW = 0L;
+
+    ErrorLogRateLimiter errorLogRateLimiter;
+
+    @BeforeEach
+    void setup() {
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getErrorLog().setMaxClientErrorsPerSecond(MAX_PER_SECOND);
+        this.errorLogRateLimiter = new ErrorLogRateLimiter(crmsProperty);
+    }
+
+    /**
+     * Test for try acquire
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class TryAcquireTest {
+
+        @Test
+        void 正_ErrorCodeごとに出力回数を制限() {
+            // test
+            for (int i = 0; i < MAX_PER_SECOND; i++) {
+                assertThat(errorLogRateLimiter.tryAcquire(ErrorCode.NOT_FOUND_API, NOW)).isEqualTo(0);
+            }
+
+            // verify
+            assertThat(errorLogRateLimiter.tryAcquire(ErrorCode.NOT_FOUND_API, NOW)).isEqualTo(ErrorLogRateLimiter.SUPPRESSED);
+            assertThat(errorLogRateLimiter.tryAcquire(ErrorCode.NOT_FOUND_USER, NOW)).isEqualTo(0);
+        }
+
+        @Test
+        void 正_次の区間で抑制した件数を返す() {
+            // setup
+            final var suppressedCount = 5;
+            for (int i = 0; i < MAX_PER_SECOND + suppressedCount; i++) {
+                errorLogRateLimiter.tryAcquire(ErrorCode.NOT_FOUND_API, NOW);
+            }
+            final var oneSecondLater = NOW + TimeUnit.SECONDS.toNanos(1);
+
+            // verify
+            assertThat(errorLogRateLimiter.tryAcquire(ErrorCode.NOT_FOUND_API, oneSecondLater)).isEqualTo(suppressedCount);
+            assertThat(errorLogRateLimiter.tryAcquire(ErrorCode.NOT_FOUND_API, oneSecondLater)).isEqualTo(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package dev.abelab.crms.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import dev.abelab.crms.property.CrmsProperty;
+
+/**
+ * LoginRateLimiter Unit Test
+ */
+public class LoginRateLimiter_UT extends AbstractRateLimit_UT {
+
+    static final int EMAIL_BUCKET_SIZE = 3;
+
+    static final int IP_BUCKET_SIZE = 5;
+
+    static final int MAX_BUCKETS = 4;
+
+    static final String EMAIL = "user@abelab.dev";
+
+    static final String IP_ADDRESS = "192.0.2.1";
+
+    static final long NOW = 0L;
+
+    LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setup() {
+        final var crmsProperty = new CrmsProperty();
+        crmsProperty.getLogin().setEmailBucketSize(EMAIL_BUCKET_SIZE);
+        crmsProperty.getLogin().setEmailRefillPerMinute(1);
+        crmsProperty.getLogin().setIpBucketSize(IP_BUCKET_SIZE);
+        crmsProperty.getLogin().setIpRefillPerMinute(1);
+        crmsProperty.getLogin().setMaxBuckets(MAX_BUCKETS);
+        this.loginRateLimiter = new LoginRateLimiter(crmsProperty);
+    }
+
+    /**
+     * Test for try acquire
+     */
+    @Nested
+    @TestInstance(PER_CLASS)
+    class TryAcquireTest {
+
+        @Test
+        void 正_メールアドレスごとに試行回数を制限() {
+            // test
+            for (int i = 0; i < EMAIL_BUCKET_SIZE; i++) {
+                assertThat(loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, NOW)).isTrue();
+            }
+
+            // verify
+            // 大文字小文字を区別しない
+            assertThat(loginRateLimiter.tryAcquire(EMAIL.toUpperCase(), IP_ADDRESS, NOW)).isFalse();
+            assertThat(loginRateLimiter.tryAcquire("other@abelab.dev", IP_ADDRESS, NOW)).isTrue();
+        }
+
+        @Test
+        void 正_IPアドレスごとに試行回数を制限() {
+            // test
+            for (int i = 0; i < IP_BUCKET_SIZE; i++) {
+                assertThat(loginRateLimiter.tryAcquire("user" + i + "@abelab.dev", IP_ADDRESS, NOW)).isTrue();
+            }
+
+            // verify
+            assertThat(loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, NOW)).isFalse();
+            assertThat(loginRateLimiter.tryAcquire(EMAIL, "192.0.2.2", NOW)).isTrue();
+        }
+
+        @Test
+        void 正_拒否した試行はトークンを消費しない() {
+            // setup
+            for (int i = 0; i < EMAIL_BUCKET_SIZE; i++) {
+                loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, NOW);
+            }
+
+            // test
+            assertThat(loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, NOW)).isFalse();
+
+            // verify
+            // IPアドレスのバケットには残りがある
+            assertThat(loginRateLimiter.tryAcquire("other@abelab.dev", IP_ADDRESS, NOW)).isTrue();
+            assertThat(loginRateLimiter.tryAcquire("another@abelab.dev", IP_ADDRESS, NOW)).isTrue();
+        }
+
+        @Test
+        void 正_時間経過でトークンを補充() {
+            // setup
+            for (int i = 0; i < EMAIL_BUCKET_SIZE; i++) {
+                loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, NOW);
+            }
+            final var halfMinuteLater = NOW + TimeUnit.SECONDS.toNanos(30);
+            final var oneMinuteLater = NOW + TimeUnit.MINUTES.toNanos(1);
+
+            // verify
+            assertThat(loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, halfMinuteLater)).isFalse();
+            assertThat(loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, oneMinuteLater)).isTrue();
+            assertThat(loginRateLimiter.tryAcquire(EMAIL, IP_ADDRESS, oneMinuteLater)).isFalse();
+        }
+
+        @Test
+        void 正_最大バケット数を超えると最も古いバケットを破棄() {
+            // test
+            for (int i = 0; i < MAX_BUCKETS; i++) {
+                loginRateLimiter.tryAcquire("user" + i + "@abelab.dev", IP_ADDRESS, NOW);
+            }
+
+            // verify
+            assertThat(loginRateLimiter.size()).isEqualTo(MAX_BUCKETS);
+        }
+
+    }
+
+}
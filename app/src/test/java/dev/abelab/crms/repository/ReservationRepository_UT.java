@@ -12,9 +12,11 @@ import mockit.Expectations;
 import mockit.Injectable;
 import mockit.Tested;
 
+import dev.abelab.crms.cache.ResourceVersionRegistry;
 import dev.abelab.crms.db.entity.Reservation;
 import dev.abelab.crms.db.entity.ReservationSample;
 import dev.abelab.crms.db.mapper.ReservationMapper;
+import dev.abelab.crms.db.mapper.ReservationCustomMapper;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.BaseException;
 import dev.abelab.crms.exception.NotFoundException;
@@ -28,6 +30,12 @@ class ReservationRepository_UT extends AbstractRepository_UT {
 	@Injectable
 	ReservationMapper reservationMapper;
 
+	@Injectable
+	ReservationCustomMapper reservationCustomMapper;
+
+	@Injectable
+	ResourceVersionRegistry resourceVersionRegistry;
+
 	@Tested
 	ReservationRepository reservationRepository;
 
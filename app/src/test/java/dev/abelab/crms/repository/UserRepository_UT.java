@@ -5,16 +5,26 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.*;
 import static org.mockito.ArgumentMatchers.*;
 
+import java.sql.Connection;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import mockit.Expectations;
 import mockit.Injectable;
 import mockit.Tested;
+import mockit.Verifications;
 
+import dev.abelab.crms.cache.LocalUserCache;
+import dev.abelab.crms.cache.ResourceVersionRegistry;
+import dev.abelab.crms.cache.UserCache;
 import dev.abelab.crms.db.entity.User;
 import dev.abelab.crms.db.entity.UserSample;
 import dev.abelab.crms.db.mapper.UserMapper;
+import dev.abelab.crms.db.mapper.UserCustomMapper;
+import dev.abelab.crms.property.CrmsProperty;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.BaseException;
 import dev.abelab.crms.exception.NotFoundException;
@@ -28,6 +38,15 @@ class UserRepository_UT extends AbstractRepository_UT {
 	@Injectable
 	UserMapper userMapper;
 
+	@Injectable
+	UserCustomMapper userCustomMapper;
+
+	@Injectable
+	ResourceVersionRegistry resourceVersionRegistry;
+
+	@Injectable
+	UserCache userCache;
+
 	@Tested
 	UserRepository userRepository;
 
@@ -65,6 +84,62 @@ class UserRepository_UT extends AbstractRepository_UT {
 			assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONFLICT_EMAIL);
 		}
 
+		@Test
+		void 異_一意制約違反はメールアドレスの競合() throws Exception {
+			// setup
+			new Expectations() {
+				{
+					userMapper.insertSelective(user);
+					result = new DuplicateKeyException(SAMPLE_STR);
+				}
+			};
+
+			// test
+			final var exception = assertThrows(ConflictException.class, () -> userRepository.insert(user));
+
+			// verify
+			assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONFLICT_EMAIL);
+			// 事前に存在確認しない
+			new Verifications() {
+				{
+					userCustomMapper.existsByEmail(anyString);
+					times = 0;
+				}
+			};
+		}
+
+	}
+
+	/**
+	 * Test for update user
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class UpdateUserTest {
+
+		@Test
+		void 異_一意制約違反はメールアドレスの競合() throws Exception {
+			// setup
+			new Expectations() {
+				{
+					userMapper.updateByPrimaryKeySelective(user);
+					result = new DuplicateKeyException(SAMPLE_STR);
+				}
+			};
+
+			// test
+			final var exception = assertThrows(ConflictException.class, () -> userRepository.update(user));
+
+			// verify
+			assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONFLICT_EMAIL);
+			new Verifications() {
+				{
+					userCache.evict(anyInt);
+					times = 0;
+				}
+			};
+		}
+
 	}
 
 	/**
@@ -101,4 +176,157 @@ class UserRepository_UT extends AbstractRepository_UT {
 
 	}
 
+	/**
+	 * Test for exists user
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class ExistsUserTest {
+
+		@Test
+		void 正_存在しないユーザは例外を投げずにfalseを返す() throws Exception {
+			// setup
+			new Expectations() {
+				{
+					userCustomMapper.existsByPrimaryKey(anyInt);
+					result = false;
+
+					userCustomMapper.existsByEmail(anyString);
+					result = false;
+				}
+			};
+
+			// verify
+			assertThat(userRepository.existsById(user.getId())).isFalse();
+			assertThat(userRepository.existsByEmail(user.getEmail())).isFalse();
+			new Verifications() {
+				{
+					userMapper.selectByPrimaryKey(anyInt);
+					times = 0;
+				}
+			};
+		}
+
+		@Test
+		void 正_キャッシュにあればDBを参照しない() throws Exception {
+			// setup
+			final var cachedUserRepository =
+				new UserRepository(userMapper, userCustomMapper, resourceVersionRegistry, new LocalUserCache(new CrmsProperty()));
+			new Expectations() {
+				{
+					userMapper.selectByPrimaryKey(user.getId());
+					result = user;
+				}
+			};
+			cachedUserRepository.selectById(user.getId());
+
+			// verify
+			assertThat(cachedUserRepository.existsById(user.getId())).isTrue();
+			assertThat(cachedUserRepository.existsByEmail(user.getEmail())).isTrue();
+			new Verifications() {
+				{
+					userCustomMapper.existsByPrimaryKey(anyInt);
+					times = 0;
+
+					userCustomMapper.existsByEmail(anyString);
+					times = 0;
+				}
+			};
+		}
+
+	}
+
+	/**
+	 * Test for user cache
+	 */
+	@Nested
+	@TestInstance(PER_CLASS)
+	class UserCacheTest {
+
+		@Test
+		void 正_2回目以降はキャッシュから取得() throws Exception {
+			// setup
+			final var cachedUserRepository =
+				new UserRepository(userMapper, userCustomMapper, resourceVersionRegistry, new LocalUserCache(new CrmsProperty()));
+			new Expectations() {
+				{
+					userMapper.selectByPrimaryKey(user.getId());
+					result = user;
+				}
+			};
+
+			// test
+			cachedUserRepository.selectById(user.getId());
+			final var result = cachedUserRepository.selectById(user.getId());
+
+			// verify
+			assertThat(result).isEqualTo(user);
+			new Verifications() {
+				{
+					userMapper.selectByPrimaryKey(user.getId());
+					times = 1;
+				}
+			};
+		}
+
+		@Test
+		void 正_更新後に古いユーザを返さない() throws Exception {
+			// setup
+			final var cachedUserRepository =
+				new UserRepository(userMapper, userCustomMapper, resourceVersionRegistry, new LocalUserCache(new CrmsProperty()));
+			final var oldUser = UserSample.builder().email("old@abelab.dev").build();
+			final var updatedUser = UserSample.builder().email("updated@abelab.dev").build();
+			new Expectations() {
+				{
+					userMapper.selectByPrimaryKey(user.getId());
+					result = oldUser;
+					result = updatedUser;
+				}
+			};
+
+			// test
+			cachedUserRepository.selectById(user.getId());
+			cachedUserRepository.update(updatedUser);
+
+			// verify
+			assertThat(cachedUserRepository.selectById(user.getId()).getEmail()).isEqualTo(updatedUser.getEmail());
+			assertThat(cachedUserRepository.selectById(user.getId()).getEmail()).isEqualTo(updatedUser.getEmail());
+			// 古いメールアドレスはキャッシュに残らない
+			assertThrows(NotFoundException.class, () -> cachedUserRepository.selectByEmail(oldUser.getEmail()));
+		}
+
+		@Test
+		void 正_REPEATABLE_READのトランザクションで読んだユーザはキャッシュしない() throws Exception {
+			// setup
+			final var cachedUserRepository =
+				new UserRepository(userMapper, userCustomMapper, resourceVersionRegistry, new LocalUserCache(new CrmsProperty()));
+			new Expectations() {
+				{
+					userMapper.selectByPrimaryKey(user.getId());
+					result = user;
+				}
+			};
+
+			// test
+			TransactionSynchronizationManager.setActualTransactionActive(true);
+			TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(Connection.TRANSACTION_REPEATABLE_READ);
+			try {
+				cachedUserRepository.selectById(user.getId());
+				cachedUserRepository.selectById(user.getId());
+			} finally {
+				TransactionSynchronizationManager.setActualTransactionActive(false);
+				TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
+			}
+
+			// verify
+			new Verifications() {
+				{
+					userMapper.selectByPrimaryKey(user.getId());
+					times = 2;
+				}
+			};
+		}
+
+	}
+
 }
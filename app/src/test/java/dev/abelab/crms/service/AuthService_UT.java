@@ -17,15 +17,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 import mockit.Expectations;
 import mockit.Injectable;
 import mockit.Tested;
+import mockit.Verifications;
 
+import dev.abelab.crms.db.entity.User;
 import dev.abelab.crms.db.entity.UserSample;
 import dev.abelab.crms.api.request.LoginRequest;
 import dev.abelab.crms.enums.UserRoleEnum;
+import dev.abelab.crms.ratelimit.LoginRateLimiter;
 import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.logic.PasswordVerificationLogic;
 import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.exception.ErrorCode;
 import dev.abelab.crms.exception.NotFoundException;
 import dev.abelab.crms.exception.UnauthorizedException;
+import dev.abelab.crms.exception.TooManyRequestsException;
 
 /**
  * AuthService Unit Test
@@ -35,9 +40,15 @@ class AuthService_UT extends AbstractService_UT {
     @Injectable
     UserLogic userLogic;
 
+    @Injectable
+    PasswordVerificationLogic passwordVerificationLogic;
+
     @Injectable
     UserRepository userRepository;
 
+    @Injectable
+    LoginRateLimiter loginRateLimiter;
+
     @Tested
     AuthService authService;
 
@@ -59,18 +70,22 @@ class AuthService_UT extends AbstractService_UT {
                 .build();
 
             new Expectations() {
+                {
+                    loginRateLimiter.tryAcquire(user.getEmail(), anyString);
+                    result = true;
+                }
                 {
                     userRepository.selectByEmail(anyString);
                     result = user;
                 }
                 {
-                    userLogic.verifyPassword(user, anyString);
+                    passwordVerificationLogic.verifyPassword(user, anyString);
                     result = null;
                 }
             };
 
             // verify
-            assertDoesNotThrow(() -> authService.login(requestBody));
+            assertDoesNotThrow(() -> authService.login(requestBody, SAMPLE_STR));
 
         }
 
@@ -92,6 +107,10 @@ class AuthService_UT extends AbstractService_UT {
                 .build();
 
             new Expectations() {
+                {
+                    loginRateLimiter.tryAcquire(user.getEmail(), anyString);
+                    result = true;
+                }
                 {
                     userRepository.selectByEmail(anyString);
                     result = new NotFoundException(ErrorCode.NOT_FOUND_USER);
@@ -99,7 +118,7 @@ class AuthService_UT extends AbstractService_UT {
             };
 
             // verify
-            final var exception = assertThrows(NotFoundException.class, () -> authService.login(requestBody));
+            final var exception = assertThrows(NotFoundException.class, () -> authService.login(requestBody, SAMPLE_STR));
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_USER);
 
         }
@@ -114,20 +133,53 @@ class AuthService_UT extends AbstractService_UT {
                 .build();
 
             new Expectations() {
+                {
+                    loginRateLimiter.tryAcquire(user.getEmail(), anyString);
+                    result = true;
+                }
                 {
                     userRepository.selectByEmail(anyString);
                     result = user;
                 }
                 {
-                    userLogic.verifyPassword(user, anyString);
+                    passwordVerificationLogic.verifyPassword(user, anyString);
                     result = new UnauthorizedException(ErrorCode.WRONG_PASSWORD);
                 }
             };
 
             // verify
-            final var exception = assertThrows(UnauthorizedException.class, () -> authService.login(requestBody));
+            final var exception = assertThrows(UnauthorizedException.class, () -> authService.login(requestBody, SAMPLE_STR));
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.WRONG_PASSWORD);
         }
 
+        @Test
+        void 異_試行回数の上限を超えた() {
+            // setup
+            final var user = UserSample.builder().roleId(UserRoleEnum.MEMBER.getId()).build();
+            final var requestBody = LoginRequest.builder() //
+                .email(user.getEmail()) //
+                .password(user.getPassword()) //
+                .build();
+
+            new Expectations() {
+                {
+                    loginRateLimiter.tryAcquire(user.getEmail(), anyString);
+                    result = false;
+                }
+            };
+
+            // verify
+            final var exception = assertThrows(TooManyRequestsException.class, () -> authService.login(requestBody, SAMPLE_STR));
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+
+            // パスワードを検証しない
+            new Verifications() {
+                {
+                    passwordVerificationLogic.verifyPassword((User) any, anyString);
+                    times = 0;
+                }
+            };
+        }
+
     }
 }
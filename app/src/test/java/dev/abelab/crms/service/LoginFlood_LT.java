@@ -0,0 +1,149 @@
+package dev.abelab.crms.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.api.request.LoginRequest;
+import dev.abelab.crms.annotation.LoadTest;
+import dev.abelab.crms.util.DateTimeUtil;
+import dev.abelab.crms.exception.TooManyRequestsException;
+
+/**
+ * ログイン集中時の負荷テスト（予約一覧取得のレイテンシが悪化しないこと）
+ *
+ * 試行回数の制限を外し，パスワードのハッシュ計算を専用スレッドプールで制限する効果だけを確認する。
+ */
+@SpringBootTest(properties = { //
+		"crms.login.email-bucket-size=1000000", //
+		"crms.login.ip-bucket-size=1000000", //
+})
+@ExtendWith(SpringExtension.class)
+@LoadTest
+public class LoginFlood_LT {
+
+	static final int REQUEST_COUNT = 500;
+	static final int FLOOD_THREADS = Runtime.getRuntime().availableProcessors() * 4;
+	static final String PASSWORD = "f4BabxEr7xA6";
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	UserLogic userLogic;
+
+	@Autowired
+	AuthService authService;
+
+	@Autowired
+	ReservationService reservationService;
+
+	User user;
+
+	@BeforeEach
+	void setup() {
+		// ログインするユーザ（コミットされる）
+		this.user = UserSample.builder() //
+			.email("load_test_login@abelab.dev") //
+			.password(this.userLogic.encodePassword(PASSWORD)) //
+			.build();
+		this.userRepository.insert(this.user);
+	}
+
+	@AfterEach
+	void teardown() {
+		// コミット済みのデータを削除
+		this.userRepository.deleteById(this.user.getId());
+	}
+
+	@Test
+	void 正_ログインが集中しても予約一覧取得のp99レイテンシが変わらない() throws Exception {
+		// ウォームアップ
+		this.measureReservationLatencies();
+
+		// 平常時
+		final var baselineP99 = this.getP99(this.measureReservationLatencies());
+
+		// ログインが集中している間
+		final var flooding = new AtomicBoolean(true);
+		final var succeeded = new AtomicLong();
+		final var rejected = new AtomicLong();
+		final var flooders = Executors.newFixedThreadPool(FLOOD_THREADS);
+		for (int i = 0; i < FLOOD_THREADS; i++) {
+			final var ipAddress = "192.0.2." + (i % 250 + 1);
+			flooders.execute(() -> {
+				final var requestBody = new LoginRequest(this.user.getEmail(), PASSWORD);
+				while (flooding.get()) {
+					try {
+						this.authService.login(requestBody, ipAddress);
+						succeeded.incrementAndGet();
+					} catch (TooManyRequestsException e) {
+						rejected.incrementAndGet();
+					}
+				}
+			});
+		}
+		final var floodP99 = this.getP99(this.measureReservationLatencies());
+		flooding.set(false);
+		flooders.shutdown();
+		flooders.awaitTermination(1, TimeUnit.MINUTES);
+
+		// verify
+		System.out.printf("Reservation p99: baseline %.2f ms, during login flood %.2f ms (logins: %d succeeded, %d rejected)%n",
+			baselineP99 / 1e6, floodP99 / 1e6, succeeded.get(), rejected.get());
+		assertThat(succeeded.get()).isPositive();
+		assertThat(rejected.get()).isPositive();
+		assertThat(floodP99).isLessThan(baselineP99 * 3 + TimeUnit.MILLISECONDS.toNanos(20));
+	}
+
+	/**
+	 * 予約一覧取得のレイテンシを計測
+	 *
+	 * @return レイテンシ [ns]
+	 */
+	List<Long> measureReservationLatencies() {
+		final var from = DateTimeUtil.getTomorrow();
+		final var to = DateTimeUtil.addDateTime(from, Calendar.DAY_OF_MONTH, 7);
+
+		final var latencies = new ArrayList<Long>();
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			final var startedAt = System.nanoTime();
+			this.reservationService.getReservations(from, to, null, null, null);
+			latencies.add(System.nanoTime() - startedAt);
+		}
+		return latencies;
+	}
+
+	/**
+	 * p99を取得
+	 *
+	 * @param latencies レイテンシ [ns]
+	 *
+	 * @return p99 [ns]
+	 */
+	long getP99(final List<Long> latencies) {
+		final var sorted = new ArrayList<>(latencies);
+		Collections.sort(sorted);
+		return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+	}
+
+}
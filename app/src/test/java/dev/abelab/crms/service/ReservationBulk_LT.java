@@ -0,0 +1,135 @@
+package dev.abelab.crms.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.logic.UserLogic;
+import dev.abelab.crms.enums.ReservationActionEnum;
+import dev.abelab.crms.api.request.ReservationCreateRequest;
+import dev.abelab.crms.api.request.ReservationBulkRequest;
+import dev.abelab.crms.api.request.ReservationBulkItemRequest;
+import dev.abelab.crms.annotation.LoadTest;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * 予約の一括操作の負荷テスト（単体の予約作成を繰り返す場合と比較）
+ */
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@LoadTest
+public class ReservationBulk_LT {
+
+	static final int RESERVATION_COUNT = ReservationBulkRequest.MAX_ITEMS;
+	static final Date TOMORROW = DateTimeUtil.getTomorrow();
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	ReservationRepository reservationRepository;
+
+	@Autowired
+	UserLogic userLogic;
+
+	@Autowired
+	ReservationService reservationService;
+
+	User singleUser;
+
+	User bulkUser;
+
+	@BeforeEach
+	void setup() {
+		// 予約者（コミットされる）
+		this.singleUser = UserSample.builder().email("load_test_single@abelab.dev").build();
+		this.bulkUser = UserSample.builder().email("load_test_bulk@abelab.dev").build();
+		this.userRepository.insert(this.singleUser);
+		this.userRepository.insert(this.bulkUser);
+	}
+
+	@AfterEach
+	void teardown() {
+		SecurityContextHolder.clearContext();
+
+		// コミット済みのデータを削除（予約はカスケード削除）
+		this.userRepository.deleteById(this.singleUser.getId());
+		this.userRepository.deleteById(this.bulkUser.getId());
+	}
+
+	@Test
+	void 正_一括操作は単体の予約作成の繰り返しより速い() {
+		// 単体の予約作成を繰り返す
+		this.login(this.singleUser);
+		final var singleStartedAt = System.nanoTime();
+		for (int i = 0; i < RESERVATION_COUNT; i++) {
+			final var requestBody = ReservationCreateRequest.builder() //
+				.startAt(this.getStartAt(i)) //
+				.finishAt(this.getFinishAt(i)) //
+				.build();
+			this.reservationService.createReservation(requestBody);
+		}
+		final var singleElapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - singleStartedAt);
+
+		// まとめて予約作成
+		this.login(this.bulkUser);
+		final var items = new ArrayList<ReservationBulkItemRequest>();
+		for (int i = 0; i < RESERVATION_COUNT; i++) {
+			items.add(new ReservationBulkItemRequest(ReservationActionEnum.REGISTERED, null, this.getStartAt(i), this.getFinishAt(i)));
+		}
+		final var bulkStartedAt = System.nanoTime();
+		final var response = this.reservationService.bulkReservations(new ReservationBulkRequest(items));
+		final var bulkElapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - bulkStartedAt);
+
+		// verify
+		assertThat(response.getResults()).allMatch(result -> result.getStatus() == HttpStatus.CREATED.value());
+		assertThat(this.reservationRepository.selectByUserId(this.bulkUser.getId()).size()).isEqualTo(RESERVATION_COUNT);
+		assertThat(bulkElapsedMillis).isLessThan(singleElapsedMillis);
+		System.out.printf("Created %d reservations: single %d ms, bulk %d ms%n", RESERVATION_COUNT, singleElapsedMillis, bulkElapsedMillis);
+	}
+
+	/**
+	 * ログインユーザを設定
+	 *
+	 * @param user ユーザ
+	 */
+	void login(final User user) {
+		final var credentials = "Bearer " + this.userLogic.generateJwt(user);
+		SecurityContextHolder.getContext()
+			.setAuthentication(new UsernamePasswordAuthenticationToken(user, credentials, Collections.emptyList()));
+	}
+
+	/**
+	 * i日後の開始時刻を取得
+	 */
+	Date getStartAt(final int i) {
+		return DateTimeUtil.editDateTime(DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, i), Calendar.HOUR_OF_DAY, 10);
+	}
+
+	/**
+	 * i日後の終了時刻を取得
+	 */
+	Date getFinishAt(final int i) {
+		return DateTimeUtil.editDateTime(DateTimeUtil.addDateTime(TOMORROW, Calendar.DAY_OF_MONTH, i), Calendar.HOUR_OF_DAY, 11);
+	}
+
+}
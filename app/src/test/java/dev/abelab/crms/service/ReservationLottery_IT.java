@@ -0,0 +1,101 @@
+package dev.abelab.crms.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Calendar;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.abelab.crms.db.entity.User;
+import dev.abelab.crms.db.entity.UserSample;
+import dev.abelab.crms.db.entity.ReservationSample;
+import dev.abelab.crms.db.entity.NotificationOutboxExample;
+import dev.abelab.crms.db.mapper.NotificationOutboxMapper;
+import dev.abelab.crms.repository.UserRepository;
+import dev.abelab.crms.repository.ReservationRepository;
+import dev.abelab.crms.annotation.IntegrationTest;
+import dev.abelab.crms.util.DateTimeUtil;
+
+/**
+ * 予約の抽選の結合テスト（通知アウトボックスのメッセージ列に収まらないほど大きな抽選）
+ */
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@IntegrationTest
+public class ReservationLottery_IT {
+
+	static final int RESERVATION_COUNT = 500;
+
+	static final long SEED = 1L;
+
+	static final String LOTTERY_MESSAGE_PREFIX = "【明日の予約】";
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	ReservationRepository reservationRepository;
+
+	@Autowired
+	NotificationOutboxMapper notificationOutboxMapper;
+
+	@Autowired
+	ReservationService reservationService;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	User user;
+
+	@BeforeEach
+	void setup() {
+		// 予約者（コミットされる）
+		this.user = UserSample.builder().id(null).email("lottery_test@abelab.dev").build();
+		this.userRepository.insert(this.user);
+	}
+
+	@AfterEach
+	void teardown() {
+		// コミット済みのデータを削除（予約はカスケード削除）
+		this.userRepository.deleteById(this.user.getId());
+		final var example = new NotificationOutboxExample();
+		example.createCriteria().andMessageLike(LOTTERY_MESSAGE_PREFIX + "%");
+		this.notificationOutboxMapper.deleteByExample(example);
+	}
+
+	@Test
+	void 正_通知が長くなる抽選もロールバックしない() {
+		// setup: 明日の同じ時間帯に予約が集中する
+		final var startAt = DateTimeUtil.editDateTimeHourAndMinute(DateTimeUtil.getTomorrow(), 10, 0);
+		for (int i = 0; i < RESERVATION_COUNT; i++) {
+			this.reservationRepository.insert(ReservationSample.builder() //
+				.id(null) //
+				.userId(this.user.getId()) //
+				.startAt(startAt) //
+				.finishAt(DateTimeUtil.addDateTime(startAt, Calendar.HOUR_OF_DAY, 2)) //
+				.build());
+		}
+
+		// test
+		new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> this.reservationService.lotteryReservations(SEED));
+
+		// verify
+		// 落選した予約は削除される
+		assertThat(this.reservationRepository.selectByUserId(this.user.getId()).size()).isLessThan(RESERVATION_COUNT);
+		// 通知は切り詰められて積まれる
+		final var example = new NotificationOutboxExample();
+		example.createCriteria().andMessageLike(LOTTERY_MESSAGE_PREFIX + "%");
+		final var notifications = this.notificationOutboxMapper.selectByExample(example);
+		assertThat(notifications).hasSize(1);
+		assertThat(notifications.get(0).getMessage()).hasSizeLessThanOrEqualTo(4000).contains("ほか");
+	}
+
+}
@@ -3,7 +3,6 @@ package dev.abelab.crms.service;
 import mockit.Injectable;
 import mockit.Tested;
 
-import dev.abelab.crms.repository.UserRepository;
 import dev.abelab.crms.repository.ReservationRepository;
 import dev.abelab.crms.logic.UserLogic;
 import dev.abelab.crms.logic.ReservationLogic;
@@ -19,9 +18,6 @@ class ReservationService_UT extends AbstractService_UT {
     @Injectable
     ReservationLogic reservationLogic;
 
-    @Injectable
-    UserRepository userRepository;
-
     @Injectable
     ReservationRepository reservationRepository;
 